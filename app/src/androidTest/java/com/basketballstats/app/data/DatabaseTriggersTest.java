@@ -0,0 +1,270 @@
+package com.basketballstats.app.data;
+
+import static org.junit.Assert.assertEquals;
+
+import android.content.ContentValues;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Trigger-maintained tables (counters, player_game_stats, team_fouls, season rollups,
+ * checkpoints) must match the rebuild* repair queries after any write sequence
+ */
+@RunWith(AndroidJUnit4.class)
+public class DatabaseTriggersTest {
+
+    private static final String[] EVENT_TYPES = {
+        "2P", "2M", "3P", "FOUL", "1P", "1M", "DR", "AST", "3M", "OR", "STL", "TO", "BLK", "FOUL"
+    };
+
+    private TestDatabase database;
+    private int lakers;
+    private int warriors;
+    private int bulls;
+    private int[] lakersPlayers;
+    private int[] warriorsPlayers;
+    private int[] bullsPlayers;
+
+    @Before
+    public void setUp() {
+        ModelCache.invalidateAll();
+        database = new TestDatabase();
+
+        lakers = database.insertTeam("Lakers");
+        warriors = database.insertTeam("Warriors");
+        bulls = database.insertTeam("Bulls");
+        lakersPlayers = roster(lakers);
+        warriorsPlayers = roster(warriors);
+        bullsPlayers = roster(bulls);
+    }
+
+    @After
+    public void tearDown() {
+        database.close();
+    }
+
+    // ========== MAINTAINED vs REBUILT ==========
+
+    @Test
+    public void insertsMatchRebuild() {
+        int game = database.insertGame(lakers, warriors);
+        recordGame(game, "Lakers", "Warriors", lakersPlayers, warriorsPlayers, 80);
+
+        assertMatchesRebuild();
+    }
+
+    @Test
+    public void deletesAndEditsMatchRebuild() {
+        int game = database.insertGame(lakers, warriors);
+        int[] eventIds = recordGame(game, "Lakers", "Warriors", lakersPlayers, warriorsPlayers, 80);
+
+        for (int i = 0; i < eventIds.length; i += 5) {
+            database.deleteEvent(eventIds[i]);
+        }
+
+        ContentValues retype = new ContentValues();
+        retype.put(DatabaseHelper.EVENTS_COLUMN_EVENT_TYPE, "3P");
+        database.updateEvent(eventIds[1], retype);
+
+        ContentValues moveQuarter = new ContentValues();
+        moveQuarter.put(DatabaseHelper.EVENTS_COLUMN_QUARTER, 4);
+        database.updateEvent(eventIds[3], moveQuarter);
+
+        ContentValues otherPlayer = new ContentValues();
+        otherPlayer.put(DatabaseHelper.EVENTS_COLUMN_PLAYER_ID, lakersPlayers[4]);
+        database.updateEvent(eventIds[2], otherPlayer);
+
+        assertMatchesRebuild();
+    }
+
+    @Test
+    public void statusChangesMatchRebuild() {
+        int first = database.insertGame(lakers, warriors);
+        int[] firstEvents = recordGame(first, "Lakers", "Warriors", lakersPlayers, warriorsPlayers, 60);
+        int second = database.insertGame(bulls, lakers);
+        recordGame(second, "home", "Lakers", bullsPlayers, lakersPlayers, 40);
+
+        finish(first, 31, 24);
+        finish(second, 18, 22);
+        assertMatchesRebuild();
+
+        // Post-game edits and score corrections while done
+        ContentValues retype = new ContentValues();
+        retype.put(DatabaseHelper.EVENTS_COLUMN_EVENT_TYPE, "2P");
+        database.updateEvent(firstEvents[1], retype);
+        database.deleteEvent(firstEvents[2]);
+        database.insertEvent(first, 500, lakersPlayers[0], "Lakers", "home", 4, "3P");
+        ContentValues score = new ContentValues();
+        score.put(DatabaseHelper.GAMES_COLUMN_HOME_SCORE, 20);
+        database.updateGame(first, score);
+        assertMatchesRebuild();
+
+        // Reopen, then finish again
+        ContentValues reopen = new ContentValues();
+        reopen.put(DatabaseHelper.GAMES_COLUMN_STATUS, "in_progress");
+        database.updateGame(second, reopen);
+        assertMatchesRebuild();
+        finish(second, 25, 22);
+        assertMatchesRebuild();
+
+        // Deleting a done game cascades its events
+        database.deleteGame(first);
+        assertMatchesRebuild();
+    }
+
+    @Test
+    public void renamedTeamsKeepTheirSide() {
+        int game = database.insertGame(lakers, warriors);
+        recordGame(game, "Lakers", "Warriors", lakersPlayers, warriorsPlayers, 60);
+        List<String> homeLines = homeQuarterLines(game);
+
+        // Rebuilds must not re-derive the side from the (new) team names
+        database.renameTeam(lakers, "Clippers");
+        assertMatchesRebuild();
+        assertEquals(homeLines, homeQuarterLines(game));
+    }
+
+    // ========== CHECKPOINTS ==========
+
+    @Test
+    public void eventWritesDropCheckpointsFromTheirSequence() {
+        int game = database.insertGame(lakers, warriors);
+        int[] eventIds = recordGame(game, "Lakers", "Warriors", lakersPlayers, warriorsPlayers, 100);
+        GameReplay replay = new GameReplay(database.helper, game);
+        replay.stateAtPosition(100);
+        assertEquals("[25, 50, 75, 100]", checkpointSequences(game).toString());
+
+        // Appending past the last checkpoint keeps them all
+        database.insertEvent(game, 101, lakersPlayers[0], "Lakers", "home", 4, "2P");
+        assertEquals("[25, 50, 75, 100]", checkpointSequences(game).toString());
+
+        database.deleteEvent(eventIds[59]);
+        assertEquals("[25, 50]", checkpointSequences(game).toString());
+
+        ContentValues retype = new ContentValues();
+        retype.put(DatabaseHelper.EVENTS_COLUMN_EVENT_TYPE, "1P");
+        database.updateEvent(eventIds[29], retype);
+        assertEquals("[25]", checkpointSequences(game).toString());
+
+        // Edits that do not change replayed columns leave checkpoints alone
+        ContentValues touch = new ContentValues();
+        touch.put(DatabaseHelper.COLUMN_SYNC_STATUS, "synced");
+        database.updateEvent(eventIds[0], touch);
+        assertEquals("[25]", checkpointSequences(game).toString());
+
+        database.deleteEvent(eventIds[0]);
+        assertEquals(0, database.count("SELECT COUNT(*) FROM " + DatabaseHelper.TABLE_GAME_STATE_CHECKPOINTS));
+    }
+
+    // ========== HELPERS ==========
+
+    private int[] roster(int teamId) {
+        int[] players = new int[5];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = database.insertPlayer(teamId, i + 1);
+        }
+        return players;
+    }
+
+    /**
+     * Alternating home/away events with sequences 1..count; a few team events without a player
+     */
+    private int[] recordGame(int gameId, String homeSide, String awaySide, int[] homePlayers, int[] awayPlayers, int count) {
+        int[] eventIds = new int[count];
+        for (int i = 0; i < count; i++) {
+            boolean home = i % 2 == 0;
+            int[] players = home ? homePlayers : awayPlayers;
+            Integer playerId = i % 11 == 10 ? null : players[i % players.length];
+            eventIds[i] = database.insertEvent(gameId, i + 1, playerId, home ? homeSide : awaySide,
+                                               home ? "home" : "away", 1 + i * 4 / count,
+                                               EVENT_TYPES[i % EVENT_TYPES.length]);
+        }
+        return eventIds;
+    }
+
+    private void finish(int gameId, int homeScore, int awayScore) {
+        ContentValues values = new ContentValues();
+        values.put(DatabaseHelper.GAMES_COLUMN_HOME_SCORE, homeScore);
+        values.put(DatabaseHelper.GAMES_COLUMN_AWAY_SCORE, awayScore);
+        values.put(DatabaseHelper.GAMES_COLUMN_STATUS, "done");
+        database.updateGame(gameId, values);
+    }
+
+    private List<String> homeQuarterLines(int gameId) {
+        return database.snapshot("SELECT " + DatabaseHelper.TEAM_FOULS_COLUMN_QUARTER + ", " +
+                                 DatabaseHelper.TEAM_FOULS_COLUMN_FOUL_COUNT + ", " + DatabaseHelper.TEAM_FOULS_COLUMN_POINTS +
+                                 " FROM " + DatabaseHelper.TABLE_TEAM_FOULS + " WHERE " +
+                                 DatabaseHelper.TEAM_FOULS_COLUMN_GAME_ID + " = " + gameId + " AND " +
+                                 DatabaseHelper.TEAM_FOULS_COLUMN_TEAM_SIDE + " = 'home'");
+    }
+
+    private List<Integer> checkpointSequences(int gameId) {
+        List<Integer> sequences = new ArrayList<>();
+        for (String row : database.snapshot("SELECT " + DatabaseHelper.CHECKPOINTS_COLUMN_EVENT_SEQUENCE + " FROM " +
+                                            DatabaseHelper.TABLE_GAME_STATE_CHECKPOINTS + " WHERE " +
+                                            DatabaseHelper.CHECKPOINTS_COLUMN_GAME_ID + " = " + gameId)) {
+            sequences.add(Integer.parseInt(row));
+        }
+        Collections.sort(sequences);
+        return sequences;
+    }
+
+    /**
+     * Snapshot every maintained table, run the repair queries, and compare
+     * (triggers keep all-zero rows after deletes; the rebuilds omit them)
+     */
+    private void assertMatchesRebuild() {
+        String[] queries = maintainedTableQueries();
+        List<?>[] maintained = new List<?>[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            maintained[i] = database.snapshot(queries[i]);
+        }
+
+        database.helper.rebuildCounters();
+        database.helper.rebuildTeamQuarterStats(null);
+        database.helper.rebuildPlayerGameStats(null);
+        database.helper.rebuildSeasonStats();
+
+        for (int i = 0; i < queries.length; i++) {
+            assertEquals(queries[i], database.snapshot(queries[i]), maintained[i]);
+        }
+    }
+
+    private static String[] maintainedTableQueries() {
+        String[] statColumns = {
+            DatabaseHelper.PLAYER_STATS_COLUMN_POINTS, DatabaseHelper.PLAYER_STATS_COLUMN_FGM_1,
+            DatabaseHelper.PLAYER_STATS_COLUMN_FGA_1, DatabaseHelper.PLAYER_STATS_COLUMN_FGM_2,
+            DatabaseHelper.PLAYER_STATS_COLUMN_FGA_2, DatabaseHelper.PLAYER_STATS_COLUMN_FGM_3,
+            DatabaseHelper.PLAYER_STATS_COLUMN_FGA_3, DatabaseHelper.PLAYER_STATS_COLUMN_OFFENSIVE_REBOUNDS,
+            DatabaseHelper.PLAYER_STATS_COLUMN_DEFENSIVE_REBOUNDS, DatabaseHelper.PLAYER_STATS_COLUMN_ASSISTS,
+            DatabaseHelper.PLAYER_STATS_COLUMN_STEALS, DatabaseHelper.PLAYER_STATS_COLUMN_BLOCKS,
+            DatabaseHelper.PLAYER_STATS_COLUMN_TURNOVERS, DatabaseHelper.PLAYER_STATS_COLUMN_FOULS
+        };
+        StringBuilder nonZeroLine = new StringBuilder();
+        for (String column : statColumns) {
+            if (nonZeroLine.length() > 0) nonZeroLine.append(" OR ");
+            nonZeroLine.append(column).append(" != 0");
+        }
+
+        return new String[]{
+            "SELECT " + DatabaseHelper.COUNTERS_COLUMN_COUNTER_KEY + ", " + DatabaseHelper.COUNTERS_COLUMN_COUNTER_VALUE +
+                " FROM " + DatabaseHelper.TABLE_COUNTERS + " WHERE " + DatabaseHelper.COUNTERS_COLUMN_COUNTER_VALUE + " != 0",
+            "SELECT * FROM " + DatabaseHelper.TABLE_PLAYER_GAME_STATS + " WHERE " + nonZeroLine,
+            "SELECT " + DatabaseHelper.TEAM_FOULS_COLUMN_GAME_ID + ", " + DatabaseHelper.TEAM_FOULS_COLUMN_TEAM_SIDE + ", " +
+                DatabaseHelper.TEAM_FOULS_COLUMN_QUARTER + ", " + DatabaseHelper.TEAM_FOULS_COLUMN_FOUL_COUNT + ", " +
+                DatabaseHelper.TEAM_FOULS_COLUMN_POINTS + " FROM " + DatabaseHelper.TABLE_TEAM_FOULS + " WHERE " +
+                DatabaseHelper.TEAM_FOULS_COLUMN_FOUL_COUNT + " != 0 OR " + DatabaseHelper.TEAM_FOULS_COLUMN_POINTS + " != 0",
+            "SELECT * FROM " + DatabaseHelper.TABLE_PLAYER_SEASON_STATS,
+            "SELECT * FROM " + DatabaseHelper.TABLE_TEAM_SEASON_STATS
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package com.basketballstats.app.data;
+
+import static org.junit.Assert.assertEquals;
+
+import android.content.ContentValues;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.basketballstats.app.models.GameState;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * GameReplay seeks - a warm seek (from stored checkpoints) must equal a cold one
+ * (from the first event), including after event writes invalidate checkpoints
+ */
+@RunWith(AndroidJUnit4.class)
+public class GameReplayTest {
+
+    private static final int EVENT_COUNT = 130;
+    private static final String[] EVENT_TYPES = {"2P", "FOUL", "3P", "2M", "1P", "DR", "FOUL", "1M"};
+
+    private TestDatabase database;
+    private int lakers;
+    private int gameId;
+    private int[] eventIds;
+
+    @Before
+    public void setUp() {
+        ModelCache.invalidateAll();
+        database = new TestDatabase();
+
+        lakers = database.insertTeam("Lakers");
+        int warriors = database.insertTeam("Warriors");
+        int[] lakersPlayers = {database.insertPlayer(lakers, 3), database.insertPlayer(lakers, 23)};
+        int[] warriorsPlayers = {database.insertPlayer(warriors, 11), database.insertPlayer(warriors, 30)};
+        gameId = database.insertGame(lakers, warriors);
+
+        // Sequences with gaps, as left by deleted events
+        eventIds = new int[EVENT_COUNT];
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            boolean home = i % 3 != 0;
+            int playerId = home ? lakersPlayers[i % 2] : warriorsPlayers[i % 2];
+            eventIds[i] = database.insertEvent(gameId, i * 2 + 1, playerId, home ? "Lakers" : "Warriors",
+                                               home ? "home" : "away", 1 + i * 4 / EVENT_COUNT,
+                                               EVENT_TYPES[i % EVENT_TYPES.length]);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        database.close();
+    }
+
+    @Test
+    public void warmSeekMatchesColdSeek() {
+        GameReplay replay = new GameReplay(database.helper, gameId);
+        for (int position = 0; position <= EVENT_COUNT; position += 7) {
+            GameState cold = coldStateAtPosition(position);
+            assertSameState(cold, replay.stateAtPosition(position));
+            assertSameState(cold, replay.stateAtPosition(position));
+        }
+    }
+
+    @Test
+    public void sequenceSeekMatchesPositionSeek() {
+        GameReplay replay = new GameReplay(database.helper, gameId);
+        replay.stateAtPosition(EVENT_COUNT);
+
+        for (int i = 0; i < EVENT_COUNT; i += 9) {
+            GameState bySequence = replay.stateAtSequence(i * 2 + 1);
+            assertSameState(replay.stateAtPosition(i + 1), bySequence);
+            // A deleted (gap) sequence seeks to the last event before it
+            assertSameState(bySequence, replay.stateAtSequence(i * 2 + 2));
+        }
+    }
+
+    @Test
+    public void seeksStayCorrectAfterEventWrites() {
+        GameReplay replay = new GameReplay(database.helper, gameId);
+        replay.stateAtPosition(EVENT_COUNT);
+
+        database.deleteEvent(eventIds[40]);
+        ContentValues retype = new ContentValues();
+        retype.put(DatabaseHelper.EVENTS_COLUMN_EVENT_TYPE, "3P");
+        database.updateEvent(eventIds[70], retype);
+        database.insertEvent(gameId, 2 * 90 + 2, null, "Warriors", "away", 3, "FOUL");
+
+        for (int position = 0; position < EVENT_COUNT; position += 11) {
+            assertSameState(coldStateAtPosition(position), replay.stateAtPosition(position));
+        }
+    }
+
+    @Test
+    public void renamingATeamKeepsEventSides() {
+        GameState before = coldStateAtPosition(EVENT_COUNT);
+
+        database.renameTeam(lakers, "Clippers");
+
+        assertSameState(before, coldStateAtPosition(EVENT_COUNT));
+    }
+
+    // ========== HELPERS ==========
+
+
+    private GameState coldStateAtPosition(int position) {
+        database.helper.clearGameStateCheckpoints();
+        GameState state = new GameReplay(database.helper, gameId).stateAtPosition(position);
+        database.helper.clearGameStateCheckpoints();
+        return state;
+    }
+
+    private static void assertSameState(GameState expected, GameState actual) {
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expected.getEventSequence(), actual.getEventSequence());
+        assertEquals(expected.getLineScore().formatLine("home"), actual.getLineScore().formatLine("home"));
+        assertEquals(expected.getLineScore().formatLine("away"), actual.getLineScore().formatLine("away"));
+        assertEquals(expected.getTeamFouls("home"), actual.getTeamFouls("home"));
+        assertEquals(expected.getTeamFouls("away"), actual.getTeamFouls("away"));
+        for (String side : new String[]{"home", "away"}) {
+            assertEquals(expected.getPlayerIds(side).size(), actual.getPlayerIds(side).size());
+            for (Integer playerId : expected.getPlayerIds(side)) {
+                assertEquals(expected.getPlayerPoints(playerId), actual.getPlayerPoints(playerId));
+                assertEquals(expected.getPlayerFouls(playerId), actual.getPlayerFouls(playerId));
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.basketballstats.app.data;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * TestDatabase - In-memory DatabaseHelper with raw-row fixtures for instrumented tests
+ *
+ * Rows are written with plain inserts/updates/deletes so only the schema's
+ * triggers (not the model save paths) maintain the derived tables.
+ */
+final class TestDatabase {
+
+    final DatabaseHelper helper = new DatabaseHelper(ApplicationProvider.getApplicationContext(), null);
+    final SQLiteDatabase db = helper.getWritableDatabase();
+
+    void close() {
+        helper.close();
+    }
+
+    // ========== FIXTURES ==========
+
+    int insertTeam(String name) {
+        ContentValues values = new ContentValues();
+        values.put(DatabaseHelper.TEAMS_COLUMN_NAME, name);
+        return (int) db.insertOrThrow(DatabaseHelper.TABLE_TEAMS, null, values);
+    }
+
+    int insertPlayer(int teamId, int jerseyNumber) {
+        ContentValues values = new ContentValues();
+        values.put(DatabaseHelper.TEAM_PLAYERS_COLUMN_TEAM_ID, teamId);
+        values.put(DatabaseHelper.TEAM_PLAYERS_COLUMN_JERSEY_NUMBER, jerseyNumber);
+        values.put(DatabaseHelper.TEAM_PLAYERS_COLUMN_NAME, "Player " + jerseyNumber);
+        return (int) db.insertOrThrow(DatabaseHelper.TABLE_TEAM_PLAYERS, null, values);
+    }
+
+    void renameTeam(int teamId, String name) {
+        ContentValues values = new ContentValues();
+        values.put(DatabaseHelper.TEAMS_COLUMN_NAME, name);
+        db.update(DatabaseHelper.TABLE_TEAMS, values, DatabaseHelper.COLUMN_ID + " = ?",
+                  new String[]{String.valueOf(teamId)});
+    }
+
+    int insertGame(int homeTeamId, int awayTeamId) {
+        ContentValues values = new ContentValues();
+        values.put(DatabaseHelper.GAMES_COLUMN_DATE, "2026-01-15");
+        values.put(DatabaseHelper.GAMES_COLUMN_TIME, "19:00");
+        values.put(DatabaseHelper.GAMES_COLUMN_HOME_TEAM_ID, homeTeamId);
+        values.put(DatabaseHelper.GAMES_COLUMN_AWAY_TEAM_ID, awayTeamId);
+        values.put(DatabaseHelper.GAMES_COLUMN_STATUS, "in_progress");
+        return (int) db.insertOrThrow(DatabaseHelper.TABLE_GAMES, null, values);
+    }
+
+    int insertEvent(int gameId, int sequence, Integer playerId, String teamSide, String side, int quarter, String eventType) {
+        ContentValues values = new ContentValues();
+        values.put(DatabaseHelper.EVENTS_COLUMN_GAME_ID, gameId);
+        values.put(DatabaseHelper.EVENTS_COLUMN_PLAYER_ID, playerId);
+        values.put(DatabaseHelper.EVENTS_COLUMN_TEAM_SIDE, teamSide);
+        values.put(DatabaseHelper.EVENTS_COLUMN_SIDE, side);
+        values.put(DatabaseHelper.EVENTS_COLUMN_QUARTER, quarter);
+        values.put(DatabaseHelper.EVENTS_COLUMN_GAME_TIME_SECONDS, 600 - sequence % 600);
+        values.put(DatabaseHelper.EVENTS_COLUMN_EVENT_TYPE, eventType);
+        values.put(DatabaseHelper.EVENTS_COLUMN_POINTS_VALUE, pointsOf(eventType));
+        values.put(DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE, sequence);
+        return (int) db.insertOrThrow(DatabaseHelper.TABLE_EVENTS, null, values);
+    }
+
+    void updateEvent(int eventId, ContentValues values) {
+        if (values.containsKey(DatabaseHelper.EVENTS_COLUMN_EVENT_TYPE)) {
+            values.put(DatabaseHelper.EVENTS_COLUMN_POINTS_VALUE,
+                       pointsOf(values.getAsString(DatabaseHelper.EVENTS_COLUMN_EVENT_TYPE)));
+        }
+        db.update(DatabaseHelper.TABLE_EVENTS, values, DatabaseHelper.COLUMN_ID + " = ?",
+                  new String[]{String.valueOf(eventId)});
+    }
+
+    void deleteEvent(int eventId) {
+        db.delete(DatabaseHelper.TABLE_EVENTS, DatabaseHelper.COLUMN_ID + " = ?",
+                  new String[]{String.valueOf(eventId)});
+    }
+
+    void updateGame(int gameId, ContentValues values) {
+        db.update(DatabaseHelper.TABLE_GAMES, values, DatabaseHelper.COLUMN_ID + " = ?",
+                  new String[]{String.valueOf(gameId)});
+    }
+
+    void deleteGame(int gameId) {
+        db.delete(DatabaseHelper.TABLE_GAMES, DatabaseHelper.COLUMN_ID + " = ?",
+                  new String[]{String.valueOf(gameId)});
+    }
+
+    private static int pointsOf(String eventType) {
+        switch (eventType) {
+            case "1P": return 1;
+            case "2P": return 2;
+            case "3P": return 3;
+            default: return 0;
+        }
+    }
+
+    // ========== SNAPSHOTS ==========
+
+    /**
+     * Query result as sorted "a|b|c" rows, for order-independent comparison
+     */
+    List<String> snapshot(String sql) {
+        List<String> rows = new ArrayList<>();
+        Cursor cursor = db.rawQuery(sql, null);
+        try {
+            while (cursor.moveToNext()) {
+                StringBuilder row = new StringBuilder();
+                for (int i = 0; i < cursor.getColumnCount(); i++) {
+                    if (i > 0) row.append('|');
+                    row.append(cursor.getString(i));
+                }
+                rows.add(row.toString());
+            }
+        } finally {
+            cursor.close();
+        }
+        Collections.sort(rows);
+        return rows;
+    }
+
+    long count(String sql) {
+        Cursor cursor = db.rawQuery(sql, null);
+        try {
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0;
+        } finally {
+            cursor.close();
+        }
+    }
+}
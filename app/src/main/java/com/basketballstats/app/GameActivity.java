@@ -20,8 +20,21 @@ import com.basketballstats.app.models.GamePlayer;
 import com.basketballstats.app.sync.SyncManager;
 import com.basketballstats.app.models.Game;
 import com.basketballstats.app.models.Event;
+import com.basketballstats.app.models.LineScore;
 import com.basketballstats.app.data.DatabaseController;
+import com.basketballstats.app.data.EventJournal;
+import com.basketballstats.app.data.EventSequenceAllocator;
+import com.basketballstats.app.data.GameAction;
+import com.basketballstats.app.data.GameBundle;
+import com.basketballstats.app.data.GameHistory;
+import com.basketballstats.app.data.GameMutation;
+import com.basketballstats.app.data.StintTracker;
+import com.basketballstats.app.utils.DisplayRefreshScheduler;
+import com.basketballstats.app.utils.GameClock;
+import com.basketballstats.app.utils.LiveEventFeedBuffer;
+import com.basketballstats.app.utils.AppLog;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -39,6 +52,7 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
     
     // Database and Game State
     private DatabaseController dbController;
+    private EventJournal eventJournal; // Write-behind journal for live event recording
     private Game currentGame; // SQLite game object with persistent state
     
     // ✅ ARCHITECTURE NOTE: Two-model system for performance and data consistency
@@ -47,7 +61,7 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
     // - Events use Player.getId() which returns the original TeamPlayer.id for database linkage
     private List<Player> teamAPlayers, teamBPlayers;
     private Player selectedPlayer = null;
-    private int eventSequenceCounter = 1; // For tracking event order
+    // Event order comes from EventSequenceAllocator (shared with Event.save())
     
     // Dual Mode Support (Setup Mode vs Game Mode)
     private boolean isInSetupMode = true; // Start in setup mode
@@ -78,16 +92,33 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
     private Button btnViewLog;
     private Button btnAllowEvents; // Override toggle for events when timer stopped
     private Button btnUndo; // New undo button
+    private Button btnRedo; // Redo button (multi-level undo/redo)
     
     // Game Management
-    private Handler clockHandler = new Handler();
-    private Runnable clockRunnable;
+    private final GameClock gameClock = new GameClock(); // ✅ NEW: Monotonic drift-free clock
+    
+    // ✅ NEW: Frame-coalesced display refresh - update*() calls mark regions dirty, rendered once per frame
+    private final DisplayRefreshScheduler displayRefresh = new DisplayRefreshScheduler(this::renderDirtyRegions);
     private List<Button> teamAPlayerButtons, teamBPlayerButtons;
     private boolean allowEventsOverride = false; // Override to allow events when timer stopped
     
     // Event Tracking (SQLite-backed)
-    private List<Event> gameEvents = new ArrayList<>(); // SQLite Event objects for current game
-    private List<String> recentEvents;  // Last 5 events for live feed (derived from gameEvents)
+    private List<Event> gameEvents = new ArrayList<>(); // Newest GameBundle.RECENT_EVENT_LIMIT events + this session's
+    private int loadedEventCount = 0; // Events stored for the game at load (gameEvents may hold fewer)
+    // ✅ NEW: Ring buffer of recent formatted events - written by record/undo, DB only read on cold load
+    private static final int LIVE_FEED_DISPLAY_COUNT = 4;
+    private static final int LIVE_FEED_BUFFER_SIZE = 16;
+    private final LiveEventFeedBuffer liveEventFeed = new LiveEventFeedBuffer(LIVE_FEED_BUFFER_SIZE);
+    
+    // ✅ NEW: Multi-level undo/redo history (each action carries its inverse delta)
+    private final GameHistory gameHistory = new GameHistory();
+    
+    // ✅ NEW: On-court stints - clock time per player and five-man lineup (minutes played, lineup stats)
+    private final StintTracker stints = new StintTracker();
+    private boolean scoreCheckRunning = false;
+    
+    // ✅ NEW: games.updated_at of the state held in memory - onResume skips the reload while unchanged
+    private String loadedGameVersion;
     
     // Derived game state (from currentGame)
     
@@ -98,8 +129,7 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
     private int currentQuarter;
     private int gameTimeSeconds;
     private boolean isClockRunning;
-    private int teamAFouls;
-    private int teamBFouls;
+    private LineScore lineScore = new LineScore(); // ✅ NEW: Team fouls/points per quarter (mirror of team_fouls rows)
     
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -131,48 +161,41 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
         updateAllDisplays();
         
         // ✅ SUCCESS: UI updates work! Now let's debug the real scoring logic
-        android.util.Log.d("GameActivity", "✅ UI SYSTEM VERIFIED: setText() calls work correctly!");
-        android.util.Log.d("GameActivity", String.format("📱 Initial XML values: TeamA='%s', TeamB='%s'", 
-            tvTeamAScore != null ? tvTeamAScore.getText().toString() : "NULL",
-            tvTeamBScore != null ? tvTeamBScore.getText().toString() : "NULL"));
+        AppLog.d("GameActivity", "✅ UI SYSTEM VERIFIED: setText() calls work correctly!");
+        AppLog.d("GameActivity", "📱 Initial XML values: TeamA='%s', TeamB='%s'", 
+            tvTeamAScore != null ? tvTeamAScore.getText().toString() : "NULL", tvTeamBScore != null ? tvTeamBScore.getText().toString() : "NULL");
             
         // Check current database values
         if (currentGame != null) {
-            android.util.Log.d("GameActivity", String.format("🏀 Database scores: HOME=%d, AWAY=%d", 
-                currentGame.getHomeScore(), currentGame.getAwayScore()));
+            AppLog.d("GameActivity", "🏀 Database scores: HOME=%d, AWAY=%d", 
+                currentGame.getHomeScore(), currentGame.getAwayScore());
         }
     }
     
     private void getGameDataFromIntent() {
         // Initialize database controller
         dbController = DatabaseController.getInstance(this);
+        eventJournal = EventJournal.getInstance(this);
         
         try {
             // Get game ID from intent
             int gameId = getIntent().getIntExtra("gameId", -1);
+            GameBundle bundle = null;
             
             if (gameId > 0) {
-                // Load game from SQLite database
-                currentGame = Game.findById(dbController.getDatabaseHelper(), gameId);
+                // ✅ NEW: Game, teams, rosters, game players, team fouls and recent events in one read transaction
+                bundle = GameBundle.load(dbController.getDatabaseHelper(), gameId);
                 
-                if (currentGame == null) {
+                if (bundle == null) {
                     Toast.makeText(this, "Error: Game not found in database", Toast.LENGTH_LONG).show();
                     finish();
                     return;
                 }
                 
-                // Load teams with rosters
-                currentGame.loadTeams(dbController.getDatabaseHelper());
+                currentGame = bundle.getGame();
                 teamA = currentGame.getHomeTeam();
                 teamB = currentGame.getAwayTeam();
                 
-                if (teamA != null) {
-                    teamA.loadPlayers(dbController.getDatabaseHelper());
-                }
-                if (teamB != null) {
-                    teamB.loadPlayers(dbController.getDatabaseHelper());
-                }
-                
             } else {
                 // Fallback: Try to get team names from intent (backward compatibility)
                 String homeTeamName = getIntent().getStringExtra("homeTeam");
@@ -217,22 +240,25 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             teamAPlayers = new ArrayList<>();
             teamBPlayers = new ArrayList<>();
             
-            // ✅ NEW: Load existing game players from database for state restoration
-            loadGamePlayers();
-            
-            // Load existing game events from database
-            loadGameEvents();
-            
-            // Update event sequence counter
-            updateEventSequenceCounter();
+            // ✅ NEW: Restore game players and recent events from the bundle (new games have neither)
+            if (bundle != null) {
+                applyGamePlayers(bundle.getGamePlayers());
+                applyGameEvents(bundle.getRecentEvents(), bundle.getEventCount());
+                loadedGameVersion = bundle.getVersion();
+            }
             
             // ✅ FIX: Initialize derived game state from currentGame object
             if (currentGame != null) {
                 this.gameId = currentGame.getId();
                 this.currentQuarter = currentGame.getCurrentQuarter();
-                this.gameTimeSeconds = currentGame.getGameClockSeconds();
-                this.isClockRunning = currentGame.isClockRunning();
+                restoreGameClockFromGame();
+            }
+            
+            // ✅ NEW: Team fouls/points per quarter from the team_fouls rows
+            if (bundle != null) {
+                applyLineScore(bundle);
             }
+            restartStints(); // Loaded lineups at the restored clock
             
             // Initialize team names from loaded team objects
             if (teamA != null) {
@@ -256,12 +282,12 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             String playerInfo = String.format("(TeamA: %d players, TeamB: %d players)", teamAPlayers.size(), teamBPlayers.size());
             Toast.makeText(this, "Loaded game: " + teamA.getName() + " vs " + teamB.getName() + " - " + modeInfo + " " + playerInfo, Toast.LENGTH_LONG).show();
             
-            android.util.Log.d("GameActivity", String.format("Game initialized - ID: %d, Quarter: %d, Clock: %d, Mode: %s, Navigation: %s", 
-                this.gameId, this.currentQuarter, this.gameTimeSeconds, modeInfo, navigationMode));
+            AppLog.d("GameActivity", "Game initialized - ID: %d, Quarter: %d, Clock: %d, Mode: %s", 
+                this.gameId, this.currentQuarter, this.gameTimeSeconds, modeInfo);
             
         } catch (Exception e) {
             Toast.makeText(this, "Database error loading game: " + e.getMessage(), Toast.LENGTH_LONG).show();
-            android.util.Log.e("GameActivity", "Error loading game data", e);
+            AppLog.e("GameActivity", "Error loading game data", e);
             finish();
         }
     }
@@ -280,15 +306,15 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
         btnGameToggle = findViewById(R.id.btnGameToggle);
         
         // ✅ CRITICAL DEBUG: Check if TextViews were actually found
-        android.util.Log.d("GameActivity", "🔍 FINDVIEWBYID RESULTS:");
-        android.util.Log.d("GameActivity", String.format("tvTeamAScore = %s", tvTeamAScore != null ? "FOUND" : "NULL"));
-        android.util.Log.d("GameActivity", String.format("tvTeamBScore = %s", tvTeamBScore != null ? "FOUND" : "NULL"));
+        AppLog.d("GameActivity", "🔍 FINDVIEWBYID RESULTS:");
+        AppLog.d("GameActivity", "tvTeamAScore = %s", tvTeamAScore != null ? "FOUND" : "NULL");
+        AppLog.d("GameActivity", "tvTeamBScore = %s", tvTeamBScore != null ? "FOUND" : "NULL");
         
         if (tvTeamAScore != null) {
-            android.util.Log.d("GameActivity", String.format("tvTeamAScore current text: '%s'", tvTeamAScore.getText().toString()));
+            AppLog.d("GameActivity", "tvTeamAScore current text: '%s'", tvTeamAScore.getText().toString());
         }
         if (tvTeamBScore != null) {
-            android.util.Log.d("GameActivity", String.format("tvTeamBScore current text: '%s'", tvTeamBScore.getText().toString()));
+            AppLog.d("GameActivity", "tvTeamBScore current text: '%s'", tvTeamBScore.getText().toString());
         }
         
         // Team panel components
@@ -323,6 +349,7 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
         btnViewLog = findViewById(R.id.btnViewLog);
         btnAllowEvents = findViewById(R.id.btnAllowEvents);
         btnUndo = findViewById(R.id.btnUndo);
+        btnRedo = findViewById(R.id.btnRedo);
     }
     
     private void initializeGameState() {
@@ -336,58 +363,34 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
         teamAPlayerButtons = new ArrayList<>();
         teamBPlayerButtons = new ArrayList<>();
         
-        // Initialize event tracking
-        recentEvents = new ArrayList<>();
-        
         // ✅ FIX: Don't clear game events! They were just loaded from database in getGameDataFromIntent()
-        // Events are already loaded via loadGameEvents() - keep them!
-    }
-    
-    /**
-     * Load existing game events from SQLite database
-     */
-    private void loadGameEvents() {
-        try {
-            if (currentGame != null && currentGame.getId() > 0) {
-                gameEvents = Event.findByGameId(dbController.getDatabaseHelper(), currentGame.getId());
-                
-                // Update recent events for live feed
-                updateRecentEventsFeed();
-                
-                android.util.Log.d("GameActivity", "Loaded " + gameEvents.size() + " events from database");
-            }
-        } catch (Exception e) {
-            android.util.Log.e("GameActivity", "Error loading game events", e);
-            gameEvents = new ArrayList<>();
-        }
+        // Events are already loaded via applyGameEvents() - keep them!
     }
     
     /**
-     * Update the event sequence counter based on existing events
+     * Use recently loaded game events (chronological, from GameBundle) as the in-memory log
      */
-    private void updateEventSequenceCounter() {
-        eventSequenceCounter = 1;
-        if (!gameEvents.isEmpty()) {
-            int maxSequence = 0;
-            for (Event event : gameEvents) {
-                if (event.getEventSequence() > maxSequence) {
-                    maxSequence = event.getEventSequence();
-                }
-            }
-            eventSequenceCounter = maxSequence + 1;
-        }
+    private void applyGameEvents(List<Event> recentEvents, int eventCount) {
+        // ✅ FIX: Keep in-memory log chronological (append = newest)
+        gameEvents = new ArrayList<>(recentEvents);
+        loadedEventCount = eventCount;
+        
+        // Undo history only covers actions recorded since this load
+        gameHistory.clear();
+        
+        // Cold load: seed live feed ring buffer from the loaded events (no extra query)
+        seedLiveEventFeed();
+        
+        AppLog.d("GameActivity", "Loaded %s of %s events from database", gameEvents.size(), loadedEventCount);
     }
     
     /**
-     * ✅ NEW: Load existing game players from database for state restoration
+     * ✅ NEW: Restore game players loaded from database (GameBundle, rosters already attached)
      * Converts GamePlayer database records back to in-memory Player objects
      */
-    private void loadGamePlayers() {
+    private void applyGamePlayers(List<GamePlayer> gamePlayers) {
         try {
             if (currentGame != null && currentGame.getId() > 0) {
-                // Load GamePlayer records for this game
-                List<GamePlayer> gamePlayers = GamePlayer.findByGameId(dbController.getDatabaseHelper(), currentGame.getId());
-                
                 // Convert to Player objects and populate team lists
                 for (GamePlayer gamePlayer : gamePlayers) {
                     if (gamePlayer.getTeamPlayer() != null) {
@@ -408,14 +411,14 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
                     }
                 }
                 
-                android.util.Log.d("GameActivity", String.format("Loaded %d game players from database (TeamA: %d, TeamB: %d)", 
-                    gamePlayers.size(), teamAPlayers.size(), teamBPlayers.size()));
+                AppLog.d("GameActivity", "Loaded %d game players from database (TeamA: %d, TeamB: %d)", 
+                    gamePlayers.size(), teamAPlayers.size(), teamBPlayers.size());
                 
             } else {
-                android.util.Log.d("GameActivity", "No existing game or gameId - starting with empty player lists");
+                AppLog.d("GameActivity", "No existing game or gameId - starting with empty player lists");
             }
         } catch (Exception e) {
-            android.util.Log.e("GameActivity", "Error loading game players from database", e);
+            AppLog.e("GameActivity", "Error loading game players from database", e);
             // Keep empty lists as fallback
         }
     }
@@ -429,32 +432,32 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             switch (navigationMode) {
                 case "setup":
                     // "not_started" games always go to Setup Mode
-                    android.util.Log.d("GameActivity", "Navigation mode: SETUP - Starting new game");
+                    AppLog.d("GameActivity", "Navigation mode: SETUP - Starting new game");
                     return true;
                     
                 case "resume":
                     // "game_in_progress" games go to Game Mode if players are loaded
                     boolean hasPlayers = (teamAPlayers.size() >= 5 && teamBPlayers.size() >= 5);
                     if (hasPlayers) {
-                        android.util.Log.d("GameActivity", "Navigation mode: RESUME - Continuing game with existing players");
+                        AppLog.d("GameActivity", "Navigation mode: RESUME - Continuing game with existing players");
                         return false; // Game Mode
                     } else {
-                        android.util.Log.w("GameActivity", "Navigation mode: RESUME - But no players found, forcing Setup Mode");
+                        AppLog.w("GameActivity", "Navigation mode: RESUME - But no players found, forcing Setup Mode");
                         return true; // Setup Mode as fallback
                     }
                     
                 case "review":
                     // "done" games go to Game Mode for review/editing (even if no players)
-                    android.util.Log.d("GameActivity", "Navigation mode: REVIEW - Reviewing completed game");
+                    AppLog.d("GameActivity", "Navigation mode: REVIEW - Reviewing completed game");
                     return false; // Game Mode for editing
                     
                 default:
                     // Unknown mode - default to setup
-                    android.util.Log.w("GameActivity", "Unknown navigation mode: " + navigationMode + " - defaulting to Setup");
+                    AppLog.w("GameActivity", "Unknown navigation mode: %s - defaulting to Setup", navigationMode);
                     return true;
             }
         } catch (Exception e) {
-            android.util.Log.e("GameActivity", "Error determining setup mode", e);
+            AppLog.e("GameActivity", "Error determining setup mode", e);
             return true; // Safe fallback to Setup Mode
         }
     }
@@ -465,10 +468,10 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
     private void saveGameState() {
         try {
             if (currentGame != null) {
-                currentGame.save(dbController.getDatabaseHelper());
+                saveCurrentGame();
             }
         } catch (Exception e) {
-            android.util.Log.e("GameActivity", "Error saving game state", e);
+            AppLog.e("GameActivity", "Error saving game state", e);
             Toast.makeText(this, "Error saving game state", Toast.LENGTH_SHORT).show();
         }
     }
@@ -483,18 +486,18 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
         try {
             if (currentGame != null && currentGame.isNotStarted()) {
                 currentGame.setToGameInProgress();
-                currentGame.save(dbController.getDatabaseHelper());
+                saveCurrentGame();
                 
-                android.util.Log.d("GameActivity", "✅ Status Transition: not_started → game_in_progress");
+                AppLog.d("GameActivity", "✅ Status Transition: not_started → game_in_progress");
                 
                 // ✅ NEW: Save player selections to database for persistence
                 savePlayerSelections();
                 
             } else if (currentGame != null) {
-                android.util.Log.d("GameActivity", "Status transition skipped - game already in progress or done");
+                AppLog.d("GameActivity", "Status transition skipped - game already in progress or done");
             }
         } catch (Exception e) {
-            android.util.Log.e("GameActivity", "Error transitioning to game_in_progress", e);
+            AppLog.e("GameActivity", "Error transitioning to game_in_progress", e);
         }
     }
     
@@ -506,16 +509,16 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
         try {
             if (currentGame != null && currentGame.isGameInProgress()) {
                 currentGame.setToDone();
-                currentGame.save(dbController.getDatabaseHelper());
+                saveCurrentGame(); // ✅ NEW: Status change rolls the game into season stats (DB triggers)
                 
-                android.util.Log.d("GameActivity", "✅ Status Transition: game_in_progress → done");
+                AppLog.d("GameActivity", "✅ Status Transition: game_in_progress → done");
                 Toast.makeText(this, "🏁 Game Complete!", Toast.LENGTH_LONG).show();
                 
             } else if (currentGame != null) {
-                android.util.Log.d("GameActivity", "Status transition skipped - game already done");
+                AppLog.d("GameActivity", "Status transition skipped - game already done");
             }
         } catch (Exception e) {
-            android.util.Log.e("GameActivity", "Error transitioning to done", e);
+            AppLog.e("GameActivity", "Error transitioning to done", e);
         }
     }
     
@@ -527,16 +530,16 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
         try {
             if (currentGame != null) {
                 currentGame.setToNotStarted();
-                currentGame.save(dbController.getDatabaseHelper());
+                saveCurrentGame();
                 
-                android.util.Log.d("GameActivity", "✅ Status Transition: [any] → not_started (complete reset)");
+                AppLog.d("GameActivity", "✅ Status Transition: [any] → not_started (complete reset)");
                 
                 // Note: This method is called from enhanced clear log functionality
                 // The actual reset logic (clear players, events, etc.) is handled there
                 
             }
         } catch (Exception e) {
-            android.util.Log.e("GameActivity", "Error transitioning to not_started", e);
+            AppLog.e("GameActivity", "Error transitioning to not_started", e);
         }
     }
     
@@ -547,46 +550,49 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
     private void savePlayerSelections() {
         try {
             if (currentGame == null || currentGame.getId() <= 0) {
-                android.util.Log.w("GameActivity", "Cannot save player selections - no valid game");
+                AppLog.w("GameActivity", "Cannot save player selections - no valid game");
                 return;
             }
             
-            // Clear existing game players for this game
-            GamePlayer.deleteByGameId(dbController.getDatabaseHelper(), currentGame.getId());
-            
-            // Save Team A players (home side)
-            for (Player player : teamAPlayers) {
-                if (player.getId() > 0) {
-                    GamePlayer gamePlayer = new GamePlayer(
-                        currentGame.getId(), 
-                        player.getId(), // Player.id stores the original TeamPlayer.id
-                        "home", 
-                        true // isStarter - all initially selected players are starters
-                    );
-                    gamePlayer.setPersonalFouls(player.getPersonalFouls());
-                    gamePlayer.save(dbController.getDatabaseHelper());
+            // ✅ NEW: Replace the whole lineup in one transaction (one commit instead of one per row)
+            dbController.executeTransaction(() -> {
+                // Clear existing game players for this game
+                GamePlayer.deleteByGameId(dbController.getDatabaseHelper(), currentGame.getId());
+            
+                // Save Team A players (home side)
+                for (Player player : teamAPlayers) {
+                    if (player.getId() > 0) {
+                        GamePlayer gamePlayer = new GamePlayer(
+                            currentGame.getId(), 
+                            player.getId(), // Player.id stores the original TeamPlayer.id
+                            "home", 
+                            true // isStarter - all initially selected players are starters
+                        );
+                        gamePlayer.setPersonalFouls(player.getPersonalFouls());
+                        gamePlayer.save(dbController.getDatabaseHelper());
+                    }
                 }
-            }
             
-            // Save Team B players (away side)  
-            for (Player player : teamBPlayers) {
-                if (player.getId() > 0) {
-                    GamePlayer gamePlayer = new GamePlayer(
-                        currentGame.getId(), 
-                        player.getId(), // Player.id stores the original TeamPlayer.id
-                        "away", 
-                        true // isStarter - all initially selected players are starters
-                    );
-                    gamePlayer.setPersonalFouls(player.getPersonalFouls());
-                    gamePlayer.save(dbController.getDatabaseHelper());
+                // Save Team B players (away side)  
+                for (Player player : teamBPlayers) {
+                    if (player.getId() > 0) {
+                        GamePlayer gamePlayer = new GamePlayer(
+                            currentGame.getId(), 
+                            player.getId(), // Player.id stores the original TeamPlayer.id
+                            "away", 
+                            true // isStarter - all initially selected players are starters
+                        );
+                        gamePlayer.setPersonalFouls(player.getPersonalFouls());
+                        gamePlayer.save(dbController.getDatabaseHelper());
+                    }
                 }
-            }
+            });
             
-            android.util.Log.d("GameActivity", String.format("✅ Saved player selections: %d TeamA + %d TeamB players", 
-                teamAPlayers.size(), teamBPlayers.size()));
+            AppLog.d("GameActivity", "✅ Saved player selections: %d TeamA + %d TeamB players", 
+                teamAPlayers.size(), teamBPlayers.size());
             
         } catch (Exception e) {
-            android.util.Log.e("GameActivity", "Error saving player selections to database", e);
+            AppLog.e("GameActivity", "Error saving player selections to database", e);
         }
     }
 
@@ -748,6 +754,7 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
         
         // Undo button
         btnUndo.setOnClickListener(v -> undoLastEvent());
+        btnRedo.setOnClickListener(v -> redoLastEvent());
     }
     
     // Player Selection Modal Methods
@@ -879,6 +886,7 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             teamBPlayers = gamePlayers;
             Toast.makeText(this, "Team B lineup set! ✅", Toast.LENGTH_SHORT).show();
         }
+        syncStintLineups(); // Starting five
         
         // Immediately update UI for this team (independent of other team)
         createPlayerButtons();
@@ -917,10 +925,18 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             teamBPlayers = gamePlayers;
             teamName = teamBName;
         }
+        syncStintLineups(); // Close the outgoing lineup's stint
         
         // Log lineup change
+        int firstLogIndex = gameEvents.size();
         logQuarterLineupChange(oldLineup, gamePlayers, teamName);
         
+        // ✅ NEW: Record as undoable action (on-court changes persisted while game is in progress)
+        if (currentGame != null) {
+            recordAction(GameAction.forLineupChange(currentModalTeamSide, oldLineup, gamePlayers,
+                gameEvents.subList(firstLogIndex, gameEvents.size())));
+        }
+        
         // Update UI
         createPlayerButtons();
         updatePlayerButtonText(); // Refresh foul counts etc.
@@ -941,7 +957,7 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
         lineupEvent.setTeamSide(currentModalTeamSide);
         lineupEvent.setQuarter(currentQuarter);
         lineupEvent.setGameTimeSeconds(gameTimeSeconds);
-        lineupEvent.setEventSequence(gameEvents.size() + 1);
+        lineupEvent.setEventSequence(gameEvents.size() + 1); // Feed-only entry - never saved, no allocator sequence
         gameEvents.add(lineupEvent);
         
         // Log individual changes (players coming in/out)
@@ -982,13 +998,13 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
                 inEventObj.setTeamSide(currentModalTeamSide);
                 inEventObj.setQuarter(currentQuarter);
                 inEventObj.setGameTimeSeconds(gameTimeSeconds);
-                inEventObj.setEventSequence(gameEvents.size() + 2);
+                inEventObj.setEventSequence(gameEvents.size() + 1);
                 gameEvents.add(inEventObj);
             }
         }
         
-        // Add to live event feed
-        addToLiveEventFeed("LINEUP", null, teamName + ": Q" + currentQuarter + " lineup change");
+        // Refresh live event feed (lineup entries are not part of the recorded event feed)
+        updateLiveEventFeedDisplay();
     }
     
     private void handleSubstitution(List<TeamPlayer> playersIn, List<TeamPlayer> playersOut) {
@@ -1014,10 +1030,18 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
         } else {
             teamBPlayers = newLineup;
         }
+        syncStintLineups(); // Close the outgoing lineup's stint
         
         // Log substitution events
+        int firstLogIndex = gameEvents.size();
         logSubstitutionEvents(playersIn, playersOut);
         
+        // ✅ NEW: On-court changes for all swapped players persisted in one transaction (undoable)
+        if (currentGame != null) {
+            recordAction(GameAction.forLineupChange(currentModalTeamSide, currentPlayers, newLineup,
+                gameEvents.subList(firstLogIndex, gameEvents.size())));
+        }
+        
         // Update UI
         createPlayerButtons();
         updatePlayerButtonText(); // Refresh foul counts etc.
@@ -1055,8 +1079,8 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             eventObj.setEventSequence(gameEvents.size() + 1);
             gameEvents.add(eventObj);
             
-            // Add to live event feed
-            addToLiveEventFeed("SUB", null, teamName + ": " + substitutionEvent);
+            // Refresh live event feed (substitutions are not part of the recorded event feed)
+            updateLiveEventFeedDisplay();
         }
     }
     
@@ -1216,9 +1240,12 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
     }
     
     private void selectQuarter(int quarter) {
+        flushStints(); // Credit the running clock up to the reset
+        
         // Direct quarter change - reset clock and stop timer
         currentQuarter = quarter;
-        gameTimeSeconds = 600; // Reset to 10 minutes
+        gameClock.reset(); // Reset to 10 minutes
+        gameTimeSeconds = gameClock.getRemainingSeconds();
         
         // Stop timer if running
         if (isClockRunning) {
@@ -1239,7 +1266,7 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             Toast.makeText(this, "Quarter " + quarter + " selected - Clock reset to 10:00", Toast.LENGTH_SHORT).show();
         }
         
-        android.util.Log.d("GameActivity", String.format("📅 Quarter manually changed to Q%d, game state saved", quarter));
+        AppLog.d("GameActivity", "📅 Quarter manually changed to Q%d, game state saved", quarter);
     }
     
     // Context-Aware Button Text Updates
@@ -1311,45 +1338,45 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             String playerTeam = selectedPlayer.getTeam();
             
             // ✅ DEBUG: Log scoring details to identify the issue
-            android.util.Log.d("GameActivity", String.format("🏀 SCORING EVENT: Player=%s, Team=%s, Points=%d", 
-                selectedPlayer.getName(), playerTeam, points));
-            android.util.Log.d("GameActivity", String.format("📊 BEFORE: HomeScore=%d, AwayScore=%d", 
-                currentGame.getHomeScore(), currentGame.getAwayScore()));
+            AppLog.d("GameActivity", "🏀 SCORING EVENT: Player=%s, Team=%s, Points=%d", 
+                selectedPlayer.getName(), playerTeam, points);
+            AppLog.d("GameActivity", "📊 BEFORE: HomeScore=%d, AwayScore=%d", 
+                currentGame.getHomeScore(), currentGame.getAwayScore());
             
             if ("home".equals(playerTeam)) {
                 int oldScore = currentGame.getHomeScore();
                 int newHomeScore = oldScore + points;
                 currentGame.setHomeScore(newHomeScore);
-                android.util.Log.d("GameActivity", String.format("✅ Updated HOME score: %d + %d = %d", 
-                    oldScore, points, newHomeScore));
+                AppLog.d("GameActivity", "✅ Updated HOME score: %d + %d = %d", 
+                    oldScore, points, newHomeScore);
             } else {
                 int oldScore = currentGame.getAwayScore(); 
                 int newAwayScore = oldScore + points;
                 currentGame.setAwayScore(newAwayScore);
-                android.util.Log.d("GameActivity", String.format("✅ Updated AWAY score: %d + %d = %d", 
-                    oldScore, points, newAwayScore));
+                AppLog.d("GameActivity", "✅ Updated AWAY score: %d + %d = %d", 
+                    oldScore, points, newAwayScore);
             }
             
-            android.util.Log.d("GameActivity", String.format("📊 AFTER SCORE UPDATE: HomeScore=%d, AwayScore=%d", 
-                currentGame.getHomeScore(), currentGame.getAwayScore()));
-            android.util.Log.d("GameActivity", "📊 About to call saveGameStateToDatabase()...");
+            AppLog.d("GameActivity", "📊 AFTER SCORE UPDATE: HomeScore=%d, AwayScore=%d", 
+                currentGame.getHomeScore(), currentGame.getAwayScore());
+            AppLog.d("GameActivity", "📊 Queueing event + score as one mutation...");
             
             // ✅ FIX: Use actual team name instead of "home"/"away"
             String actualTeamName = "home".equals(playerTeam) ? teamAName : teamBName;
             Event event = new Event(currentGame.getId(), selectedPlayer.getId(), actualTeamName, 
                                    currentQuarter, gameTimeSeconds, eventType);
-            event.setEventSequence(eventSequenceCounter++);
-            event.save(dbController.getDatabaseHelper());
+            event.setSide(playerTeam);
+            event.setEventSequence(EventSequenceAllocator.next(dbController.getDatabaseHelper(), currentGame.getId()));
+            
+            // ✅ NEW: Event row + games score delta committed together in one transaction (undoable)
+            recordAction(actionForEvent(event, playerTeam));
             
             // Add to local event list
             gameEvents.add(event);
             
-            // ✅ FIX: Use comprehensive save method to sync all state
-            saveGameStateToDatabase();
-            
             // ✅ VERIFICATION: Check if scores were preserved after save
-            android.util.Log.d("GameActivity", String.format("📊 AFTER SAVE: HomeScore=%d, AwayScore=%d", 
-                currentGame.getHomeScore(), currentGame.getAwayScore()));
+            AppLog.d("GameActivity", "📊 AFTER SAVE: HomeScore=%d, AwayScore=%d", 
+                currentGame.getHomeScore(), currentGame.getAwayScore());
             
             // Visual feedback - flash button blue for 3 seconds
             flashEventButton(getEventButton(eventType));
@@ -1365,7 +1392,7 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             
         } catch (Exception e) {
             Toast.makeText(this, "Error saving event: " + e.getMessage(), Toast.LENGTH_LONG).show();
-            android.util.Log.e("GameActivity", "Error recording scoring event", e);
+            AppLog.e("GameActivity", "Error recording scoring event", e);
         }
         
         // Single-event safety: Reset override after event recorded
@@ -1394,8 +1421,9 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             String actualTeamName = "home".equals(playerTeam) ? teamAName : teamBName;
             Event event = new Event(currentGame.getId(), selectedPlayer.getId(), actualTeamName, 
                                    currentQuarter, gameTimeSeconds, eventType);
-            event.setEventSequence(eventSequenceCounter++);
-            event.save(dbController.getDatabaseHelper());
+            event.setSide(playerTeam);
+            event.setEventSequence(EventSequenceAllocator.next(dbController.getDatabaseHelper(), currentGame.getId()));
+            recordAction(actionForEvent(event, playerTeam)); // Write-behind: committed on next flush window
             
             // Add to local event list
             gameEvents.add(event);
@@ -1413,7 +1441,7 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             
         } catch (Exception e) {
             Toast.makeText(this, "Error saving miss event: " + e.getMessage(), Toast.LENGTH_LONG).show();
-            android.util.Log.e("GameActivity", "Error recording miss event", e);
+            AppLog.e("GameActivity", "Error recording miss event", e);
         }
         
         // Single-event safety: Reset override after event recorded
@@ -1439,8 +1467,11 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             String actualTeamName = "home".equals(playerTeam) ? teamAName : teamBName;
             Event event = new Event(currentGame.getId(), selectedPlayer.getId(), actualTeamName, 
                                    currentQuarter, gameTimeSeconds, eventType);
-            event.setEventSequence(eventSequenceCounter++);
-            event.save(dbController.getDatabaseHelper());
+            event.setSide(playerTeam);
+            event.setEventSequence(EventSequenceAllocator.next(dbController.getDatabaseHelper(), currentGame.getId()));
+            
+            // ✅ NEW: Event row + team_fouls + game_players personal fouls in one transaction (undoable)
+            recordAction(actionForEvent(event, playerTeam));
             
             // Add to local event list
             gameEvents.add(event);
@@ -1448,13 +1479,6 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
         // Increment personal fouls
         selectedPlayer.setPersonalFouls(selectedPlayer.getPersonalFouls() + 1);
         
-        // Increment team fouls
-        if ("home".equals(playerTeam)) {
-            teamAFouls++;
-        } else {
-            teamBFouls++;
-        }
-        
         // Visual feedback
         if ("home".equals(playerTeam)) {
             flashEventButton(btnTeamAFoul);
@@ -1478,7 +1502,7 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             
         } catch (Exception e) {
             Toast.makeText(this, "Error saving foul event: " + e.getMessage(), Toast.LENGTH_LONG).show();
-            android.util.Log.e("GameActivity", "Error recording foul event", e);
+            AppLog.e("GameActivity", "Error recording foul event", e);
         }
         
         // Single-event safety: Reset override after event recorded
@@ -1500,8 +1524,9 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             String actualTeamName = "home".equals(playerTeam) ? teamAName : teamBName;
             Event event = new Event(currentGame.getId(), selectedPlayer.getId(), actualTeamName, 
                                    currentQuarter, gameTimeSeconds, eventType);
-            event.setEventSequence(eventSequenceCounter++);
-            event.save(dbController.getDatabaseHelper());
+            event.setSide(playerTeam);
+            event.setEventSequence(EventSequenceAllocator.next(dbController.getDatabaseHelper(), currentGame.getId()));
+            recordAction(actionForEvent(event, playerTeam)); // Write-behind: committed on next flush window
             
             // Add to local event list
             gameEvents.add(event);
@@ -1518,7 +1543,7 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             
         } catch (Exception e) {
             Toast.makeText(this, "Error saving turnover event: " + e.getMessage(), Toast.LENGTH_LONG).show();
-            android.util.Log.e("GameActivity", "Error recording turnover event", e);
+            AppLog.e("GameActivity", "Error recording turnover event", e);
         }
         
         // Single-event safety: Reset override after event recorded
@@ -1544,9 +1569,10 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             String actualTeamName = "home".equals(playerTeam) ? teamAName : teamBName;
             Event event = new Event(currentGame.getId(), selectedPlayer.getId(), actualTeamName, 
                                    currentQuarter, gameTimeSeconds, eventType);
-            event.setEventSequence(eventSequenceCounter++);
+            event.setSide(playerTeam);
+            event.setEventSequence(EventSequenceAllocator.next(dbController.getDatabaseHelper(), currentGame.getId()));
             event.setPointsValue(points);
-            event.save(dbController.getDatabaseHelper());
+            recordAction(actionForEvent(event, playerTeam)); // Write-behind: committed on next flush window
             
             // Add to local event list
             gameEvents.add(event);
@@ -1564,7 +1590,7 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             
         } catch (Exception e) {
             Toast.makeText(this, "Error saving event: " + e.getMessage(), Toast.LENGTH_LONG).show();
-            android.util.Log.e("GameActivity", "Error recording " + eventType + " event", e);
+            AppLog.e("GameActivity", "Error recording " + eventType + " event", e);
         }
         
         // Single-event safety: Reset override after event recorded
@@ -1577,8 +1603,8 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
         String teamName = "home".equals(team) ? teamAName : teamBName;
         Toast.makeText(this, teamName + " timeout called", Toast.LENGTH_SHORT).show();
         
-        // Add team event to live feed (no specific player)
-        addToLiveEventFeed("TIMEOUT", null, teamName);
+        // Refresh live event feed (team events are not part of the recorded event feed)
+        updateLiveEventFeedDisplay();
         
         // Single-event safety: Reset override after event recorded
         checkAndResetSingleEventOverride();
@@ -1597,103 +1623,314 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
     }
     
     private void undoLastEvent() {
-        if (gameEvents.isEmpty()) {
-            Toast.makeText(this, "No events to undo", Toast.LENGTH_SHORT).show();
-            return;
-        }
-        
         try {
-            // ✅ FIX: Get the most recent event (last in chronological list)
-            Event lastEvent = gameEvents.get(gameEvents.size() - 1);
-            
-            // ✅ FIX: Delete from SQLite database (same logic as LogActivity delete)
-            boolean deleted = lastEvent.delete(dbController.getDatabaseHelper());
-            
-            if (!deleted) {
-                Toast.makeText(this, "Error: Could not undo event", Toast.LENGTH_SHORT).show();
-                return;
+            // ✅ NEW: Pop the most recent action from the undo history
+            GameAction action = gameHistory.popUndo();
+            if (action == null) {
+                // Nothing recorded this session - fall back to the newest saved event (loaded from database)
+                action = createActionForNewestSavedEvent();
+                if (action == null) {
+                    Toast.makeText(this, "No events to undo", Toast.LENGTH_SHORT).show();
+                    return;
+                }
+                gameHistory.pushUndone(action);
             }
             
-            // ✅ ENHANCED: Reverse the game state effects and recalculate scores
-            reverseEventEffects(lastEvent);
-            
-            // Remove from local events list
-            gameEvents.remove(gameEvents.size() - 1);
-            
-            // ✅ NEW: Recalculate scores from all remaining events to ensure accuracy
-            recalculateScoresFromEvents();
-            
-            // Save updated game state to database
-            saveGameStateToDatabase();
+            // ✅ NEW: Apply the inverse delta in memory and queue the inverse mutation - O(1), no rescan
+            applyActionToState(action, true);
+            journalActionMutation(action, action.toInverseMutation(currentGame.getId()));
             
             // Update displays
-            updateRecentEventsFeed();
-        updateLiveEventFeedDisplay();
+            updateLiveEventFeedDisplay();
             updateAllDisplays(); // Update scores, fouls, etc.
+            scheduleScoreConsistencyCheck();
             
             // Show confirmation with event details
-            Toast.makeText(this, String.format("✅ Undone: %s", lastEvent.getEventType()), Toast.LENGTH_SHORT).show();
+            Toast.makeText(this, String.format("✅ Undone: %s", action.getDescription()), Toast.LENGTH_SHORT).show();
             
-            android.util.Log.d("GameActivity", String.format("🔄 Undone event: %s (ID: %d)", 
-                lastEvent.getEventType(), lastEvent.getId()));
+            AppLog.d("GameActivity", "🔄 Undone action: %s (undo depth: %d, redo depth: %d)", 
+                action.getDescription(), gameHistory.getUndoDepth(), gameHistory.getRedoDepth());
             
         } catch (Exception e) {
-            android.util.Log.e("GameActivity", "❌ Error undoing last event", e);
+            AppLog.e("GameActivity", "❌ Error undoing last event", e);
             Toast.makeText(this, "Error: Could not undo event - " + e.getMessage(), Toast.LENGTH_SHORT).show();
         }
     }
     
     /**
-     * ✅ ENHANCED: Reverse the effects of an event on game state
-     * Updated to use actual team names instead of "home"/"away"
+     * ✅ NEW: Redo the most recently undone action
+     */
+    private void redoLastEvent() {
+        GameAction undone = gameHistory.popRedo();
+        if (undone == null) {
+            Toast.makeText(this, "Nothing to redo", Toast.LENGTH_SHORT).show();
+            return;
+        }
+        
+        try {
+            // Fresh event rows - the undone ones were deleted (possibly still queued in the journal)
+            GameAction action = undone.copyForRedo();
+            for (Event event : action.getPersistedEvents()) {
+                event.setEventSequence(EventSequenceAllocator.next(dbController.getDatabaseHelper(), currentGame.getId()));
+            }
+            
+            applyActionToState(action, false);
+            journalActionMutation(action, action.toMutation(currentGame.getId()));
+            gameHistory.pushRedone(action);
+            
+            updateLiveEventFeedDisplay();
+            updateAllDisplays();
+            scheduleScoreConsistencyCheck();
+            
+            Toast.makeText(this, String.format("✅ Redone: %s", action.getDescription()), Toast.LENGTH_SHORT).show();
+            
+            AppLog.d("GameActivity", "🔄 Redone action: %s (undo depth: %d, redo depth: %d)", 
+                action.getDescription(), gameHistory.getUndoDepth(), gameHistory.getRedoDepth());
+            
+        } catch (Exception e) {
+            AppLog.e("GameActivity", "❌ Error redoing event", e);
+            Toast.makeText(this, "Error: Could not redo event - " + e.getMessage(), Toast.LENGTH_SHORT).show();
+        }
+    }
+    
+    /**
+     * ✅ NEW: Record a performed action - queue its mutation and push it onto the undo history
+     */
+    private void recordAction(GameAction action) {
+        applyLineScoreDelta(action, 1);
+        journalActionMutation(action, action.toMutation(currentGame.getId()));
+        gameHistory.record(action);
+    }
+    
+    /**
+     * ✅ NEW: Queue an action's mutation on the write-behind journal
+     * Lineup changes before tip-off are persisted by savePlayerSelections() instead
+     */
+    private void journalActionMutation(GameAction action, GameMutation mutation) {
+        if (action.isLineupChange() && !currentGame.isGameInProgress()) {
+            return;
+        }
+        eventJournal.append(mutation);
+    }
+    
+    /**
+     * ✅ NEW: Action for a newly recorded event, with the lineups on court (plus/minus, lineup points)
+     */
+    private GameAction actionForEvent(Event event, String side) {
+        return GameAction.forEvent(event, side, stints.getOnCourt("home"), stints.getOnCourt("away"));
+    }
+    
+    /**
+     * ✅ NEW: Point the stint tracker at the current lineups - clock time so far goes to the outgoing ones
+     */
+    private void syncStintLineups() {
+        long remainingMillis = gameClock.getRemainingMillis();
+        stints.setLineup("home", onCourtPlayerIds(teamAPlayers), remainingMillis);
+        stints.setLineup("away", onCourtPlayerIds(teamBPlayers), remainingMillis);
+        flushStints();
+    }
+    
+    private static List<Integer> onCourtPlayerIds(List<Player> players) {
+        List<Integer> playerIds = new ArrayList<>();
+        for (Player player : players) {
+            if (player.isOnCourt() && player.getId() > 0) {
+                playerIds.add(player.getId());
+            }
+        }
+        return playerIds;
+    }
+    
+    /**
+     * ✅ NEW: Restart stint tracking from the loaded lineups and clock (cold load / reload)
+     */
+    private void restartStints() {
+        stints.clear();
+        syncStintLineups();
+    }
+    
+    /**
+     * ✅ NEW: Credit clock time since the last flush and queue it on the journal
+     * (seconds/minutes played per player, seconds per lineup) - called at lineup
+     * changes, clock pauses, quarter changes and when leaving the screen
+     */
+    private void flushStints() {
+        if (currentGame == null || !currentGame.isGameInProgress() || eventJournal == null) {
+            return;
+        }
+        stints.advance(gameClock.getRemainingMillis());
+        GameMutation mutation = new GameMutation(currentGame.getId());
+        if (stints.drainInto(mutation)) {
+            eventJournal.append(mutation);
+        }
+    }
+    
+    /**
+     * ✅ NEW: Mirror an action's team foul/points delta in the in-memory line score
+     * (the database side is applied by the team_fouls triggers when the event row is written)
      */
-    private void reverseEventEffects(Event event) {
-        String eventType = event.getEventType();
-        int playerId = event.getPlayerId();
+    private void applyLineScoreDelta(GameAction action, int sign) {
+        if (action.getHomePoints() != 0) {
+            lineScore.addPoints("home", action.getQuarter(), sign * action.getHomePoints());
+        }
+        if (action.getAwayPoints() != 0) {
+            lineScore.addPoints("away", action.getQuarter(), sign * action.getAwayPoints());
+        }
+        if (action.hasFoul()) {
+            lineScore.addFouls(action.getFoulSide(), action.getQuarter(), sign);
+        }
+    }
+    
+    /**
+     * ✅ NEW: Apply (redo) or reverse (undo) an action's delta on in-memory game state
+     * Updated to use "home"/"away" sides (Team A = home panel, Team B = away panel)
+     */
+    private void applyActionToState(GameAction action, boolean reverse) {
+        int sign = reverse ? -1 : 1;
         
-        // Find the player in current lineups to reverse personal stats
-        Player affectedPlayer = findPlayerById(playerId);
+        // Score delta
+        if (action.getHomePoints() != 0 || action.getAwayPoints() != 0) {
+            currentGame.setHomeScore(Math.max(0, currentGame.getHomeScore() + sign * action.getHomePoints()));
+            currentGame.setAwayScore(Math.max(0, currentGame.getAwayScore() + sign * action.getAwayPoints()));
+        }
         
-        switch (eventType) {
-            case "1P":
-                // Reverse 1-point score
-                reverseTeamScore(event.getTeamSide(), 1);
-                break;
+        // Team fouls/points for the action's quarter
+        applyLineScoreDelta(action, sign);
+        
+        // Personal foul delta
+        if (action.hasFoul()) {
+            Player affectedPlayer = findPlayerById(action.getFoulPlayerId());
+            if (affectedPlayer != null) {
+                affectedPlayer.setPersonalFouls(Math.max(0, affectedPlayer.getPersonalFouls() + sign));
+            }
+            updatePlayerButtonText(); // Refresh foul displays
+        }
+        
+        // Lineup change
+        if (action.isLineupChange()) {
+            List<Player> lineup = new ArrayList<>(reverse ? action.getLineupBefore() : action.getLineupAfter());
+            if ("home".equals(action.getLineupSide())) {
+                teamAPlayers = lineup;
+            } else {
+                teamBPlayers = lineup;
+            }
+            syncStintLineups();
+            createPlayerButtons();
+            updatePlayerButtonText();
+        }
+        
+        // Event log and live feed
+        for (Event event : action.getTransientEvents()) {
+            if (reverse) {
+                removeGameEvent(event);
+            } else {
+                gameEvents.add(event);
+            }
+        }
+        for (Event event : action.getPersistedEvents()) {
+            if (reverse) {
+                removeGameEvent(event);
+                removeFromLiveEventFeed(event);
+            } else {
+                gameEvents.add(event);
+                liveEventFeed.push(event, formatLiveFeedLine(event));
+            }
+        }
+    }
+    
+    /**
+     * ✅ NEW: Remove event from the in-memory log by identity, searching from the newest end
+     * (Event.equals matches unsaved log entries with equal sequence/type)
+     */
+    private void removeGameEvent(Event event) {
+        for (int i = gameEvents.size() - 1; i >= 0; i--) {
+            if (gameEvents.get(i) == event) {
+                gameEvents.remove(i);
+                return;
+            }
+        }
+    }
+    
+    /**
+     * ✅ NEW: Build an undo action for the newest saved event (history is empty after a cold load)
+     * Only the newest RECENT_EVENT_LIMIT events are loaded - once those are undone, the next page is read on demand
+     */
+    private GameAction createActionForNewestSavedEvent() {
+        Event event = findNewestSavedEvent();
+        if (event == null && currentGame != null) {
+            // No saved event left in memory - older ones are still in the database
+            List<Event> olderEvents = Event.findRecentByGameId(dbController.getDatabaseHelper(),
+                currentGame.getId(), GameBundle.RECENT_EVENT_LIMIT);
+            Collections.reverse(olderEvents);
+            gameEvents.addAll(0, olderEvents);
+            event = findNewestSavedEvent();
+        }
+        if (event == null) {
+            return null;
+        }
+        return GameAction.forEvent(event, event.getSide());
+    }
+    
+    private Event findNewestSavedEvent() {
+        for (int i = gameEvents.size() - 1; i >= 0; i--) {
+            Event event = gameEvents.get(i);
+            if (event.getId() > 0) {
+                return event;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * ✅ NEW: Background consistency check - verify games scores against the line score (team_fouls points)
+     * Runs off the UI thread after undo/redo; repairs the stored and displayed score on mismatch
+     */
+    private void scheduleScoreConsistencyCheck() {
+        if (currentGame == null || scoreCheckRunning) return;
+        scoreCheckRunning = true;
+        
+        final int checkGameId = currentGame.getId();
+        
+        new Thread(() -> {
+            try {
+                // Commit queued mutations so events and scores are compared at the same point
+                if (!eventJournal.flush()) {
+                    AppLog.w("GameActivity", "Score check skipped - journal commit failed for game %d", checkGameId);
+                    return;
+                }
                 
-            case "2P":
-                // Reverse 2-point score
-                reverseTeamScore(event.getTeamSide(), 2);
-                break;
+                Game storedGame = Game.findById(dbController.getDatabaseHelper(), checkGameId);
+                if (storedGame == null) return;
                 
-            case "3P":
-                // Reverse 3-point score
-                reverseTeamScore(event.getTeamSide(), 3);
-                break;
+                // Per-quarter points are maintained with the event rows - a lookup, not an event scan
+                LineScore storedLineScore = LineScore.findByGameId(dbController.getDatabaseHelper(), checkGameId);
+                int expectedHome = storedLineScore.getTotalPoints("home");
+                int expectedAway = storedLineScore.getTotalPoints("away");
                 
-            case "FOUL":
-                // Reverse personal and team fouls
-                if (affectedPlayer != null) {
-                    affectedPlayer.setPersonalFouls(Math.max(0, affectedPlayer.getPersonalFouls() - 1));
-                    updatePlayerButtonText(); // Refresh foul displays
-                }
-                // Reverse team fouls using actual team names
-                if (teamAName.equals(event.getTeamSide())) {
-                    teamAFouls = Math.max(0, teamAFouls - 1);
-                } else if (teamBName.equals(event.getTeamSide())) {
-                    teamBFouls = Math.max(0, teamBFouls - 1);
+                int homeDiff = expectedHome - storedGame.getHomeScore();
+                int awayDiff = expectedAway - storedGame.getAwayScore();
+                if (homeDiff == 0 && awayDiff == 0) {
+                    AppLog.d("GameActivity", "✅ Score check OK: HOME=%d AWAY=%d", expectedHome, expectedAway);
+                    return;
                 }
-                updateTeamFoulsDisplay();
-                break;
                 
-            // Other event types (1M, 2M, 3M, OR, DR, AST, STL, BLK, TO, TIMEOUT) 
-            // don't affect scores or fouls, so no reversal needed
-            default:
-                // Non-scoring, non-foul events don't need game state reversal
-                break;
-        }
-        
-        android.util.Log.d("GameActivity", String.format("Reversed effects for %s event by team %s", 
-            eventType, event.getTeamSide()));
+                AppLog.w("GameActivity", "⚠️ Score mismatch: stored[%d-%d] events[%d-%d] - repairing", 
+                    storedGame.getHomeScore(), storedGame.getAwayScore(), expectedHome, expectedAway);
+                
+                runOnUiThread(() -> {
+                    if (currentGame == null || currentGame.getId() != checkGameId) return;
+                    // Apply the difference (keeps any deltas still queued in the journal)
+                    currentGame.setHomeScore(Math.max(0, currentGame.getHomeScore() + homeDiff));
+                    currentGame.setAwayScore(Math.max(0, currentGame.getAwayScore() + awayDiff));
+                    eventJournal.append(new GameMutation(checkGameId).addScore(homeDiff, awayDiff));
+                    updateScoreDisplay();
+                });
+                
+            } catch (Exception e) {
+                AppLog.e("GameActivity", "Error running score consistency check", e);
+            } finally {
+                runOnUiThread(() -> scoreCheckRunning = false);
+            }
+        }).start();
     }
     
     /**
@@ -1745,95 +1982,6 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
         }
     }
     
-    /**
-     * ✅ NEW: Reverse team score (subtract points)
-     */
-    private void reverseTeamScore(String teamName, int points) {
-        if (teamAName.equals(teamName)) {
-            // Reverse Team A score
-            String currentScoreText = tvTeamAScore.getText().toString();
-            int currentScore = extractScoreFromDisplay(currentScoreText);
-            int newScore = Math.max(0, currentScore - points);
-            tvTeamAScore.setText(String.valueOf(newScore));
-            // Update database
-            if (currentGame != null) {
-                currentGame.setHomeScore(newScore);
-            }
-        } else if (teamBName.equals(teamName)) {
-            // Reverse Team B score
-            String currentScoreText = tvTeamBScore.getText().toString();
-            int currentScore = extractScoreFromDisplay(currentScoreText);
-            int newScore = Math.max(0, currentScore - points);
-            tvTeamBScore.setText(String.valueOf(newScore));
-            // Update database
-            if (currentGame != null) {
-                currentGame.setAwayScore(newScore);
-            }
-        }
-    }
-    
-    /**
-     * ✅ FIXED: Recalculate scores from all scoring events in database
-     * Used when clearing events or deleting individual events
-     * 
-     * CRITICAL FIX: Properly map team names to home/away based on database assignment
-     */
-    private void recalculateScoresFromEvents() {
-        if (currentGame == null) return;
-        
-        try {
-            // Get all scoring events for this game
-            List<Event> allEvents = Event.findByGameId(dbController.getDatabaseHelper(), currentGame.getId());
-            
-            int homeScore = 0;
-            int awayScore = 0;
-            
-            // ✅ CRITICAL FIX: Get actual home/away team names from database
-            String homeTeamName = currentGame.getHomeTeam() != null ? currentGame.getHomeTeam().getName() : teamAName;
-            String awayTeamName = currentGame.getAwayTeam() != null ? currentGame.getAwayTeam().getName() : teamBName;
-            
-            // Calculate scores from all scoring events using actual home/away mapping
-            for (Event event : allEvents) {
-                int points = 0;
-                switch (event.getEventType()) {
-                    case "1P": points = 1; break;
-                    case "2P": points = 2; break;
-                    case "3P": points = 3; break;
-                    default: continue; // Skip non-scoring events
-                }
-                
-                // ✅ FIXED: Use actual home/away team names instead of assuming teamA=home
-                if (homeTeamName.equals(event.getTeamSide())) {
-                    homeScore += points;
-                } else if (awayTeamName.equals(event.getTeamSide())) {
-                    awayScore += points;
-                }
-            }
-            
-            // ✅ FIXED: Update UI based on actual home/away assignment
-            // teamA is always displayed on left, teamB on right, but they might not be home/away
-            if (teamAName.equals(homeTeamName)) {
-                // Team A is home team
-                tvTeamAScore.setText(String.valueOf(homeScore));
-                tvTeamBScore.setText(String.valueOf(awayScore));
-            } else {
-                // Team A is away team (Team B is home)
-                tvTeamAScore.setText(String.valueOf(awayScore));
-                tvTeamBScore.setText(String.valueOf(homeScore));
-            }
-            
-            // ✅ FIXED: Always update database with correct home/away scores
-            currentGame.setHomeScore(homeScore);
-            currentGame.setAwayScore(awayScore);
-            
-            android.util.Log.d("GameActivity", String.format("🔄 Recalculated scores: HOME[%s]=%d AWAY[%s]=%d", 
-                homeTeamName, homeScore, awayTeamName, awayScore));
-                
-        } catch (Exception e) {
-            android.util.Log.e("GameActivity", "Error recalculating scores from events", e);
-        }
-    }
-    
     /**
      * ✅ NEW: Extract numeric score from display text like "Lakers 45"
      */
@@ -1843,7 +1991,7 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             String[] parts = displayText.trim().split("\\s+");
             return Integer.parseInt(parts[parts.length - 1]);
         } catch (Exception e) {
-            android.util.Log.w("GameActivity", "Could not extract score from: " + displayText);
+            AppLog.w("GameActivity", "Could not extract score from: %s", displayText);
             return 0;
         }
     }
@@ -1859,65 +2007,13 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
     }
     
     private void startClock() {
-        // CRITICAL: Stop any existing timer first to prevent multiple timers
-        stopClock();
-        
-        clockRunnable = new Runnable() {
-            @Override
-            public void run() {
-                if (gameTimeSeconds > 0) {
-                    gameTimeSeconds--;
-                    updateGameClockDisplay();
-                    
-                    // ✅ FIX: Save game state every 10 seconds to avoid too frequent DB writes
-                    if (gameTimeSeconds % 10 == 0) {
-                        saveGameStateToDatabase();
-                    }
-                    
-                    // Update context-aware buttons when timer changes from 10:00 to 9:59
-                    if (gameTimeSeconds == 599) { // Just crossed from 10:00 to 9:59
-                        updateContextAwareButtons();
-                    }
-                    
-                    clockHandler.postDelayed(this, 1000); // Update every second
-                } else {
-                    // Quarter complete handling
-                    updateGameClockDisplay();
-
-                    int completedQuarter = currentQuarter;
-
-                    // Pause to update UI state
-                    pauseClock();
-
-                    if (completedQuarter < 4) {
-                        // Advance to next quarter and reset clock
-                        currentQuarter = completedQuarter + 1;
-                        gameTimeSeconds = 600; // 10:00
-                        updateAllDisplays();
-                        if (spinnerQuarter != null) {
-                            spinnerQuarter.setSelection(currentQuarter - 1);
-                        }
-                        Toast.makeText(
-                            GameActivity.this,
-                            "Quarter " + completedQuarter + " complete! Starting Quarter " + currentQuarter,
-                            Toast.LENGTH_LONG
-                        ).show();
-                    } else {
-                        // Q4 complete – game over
-                        // ✅ NEW: Transition to "done" status when Q4 timer reaches 0:00
-                        transitionToDone();
-                        
-                        Toast.makeText(
-                            GameActivity.this,
-                            "Quarter 4 complete! Game over.",
-                            Toast.LENGTH_LONG
-                        ).show();
-                    }
-                }
-            }
-        };
+        if (gameClock.getRemainingMillis() <= 0) {
+            handleQuarterClockExpired();
+            return;
+        }
         
-        clockHandler.post(clockRunnable);
+        // ✅ NEW: GameClock derives remaining time from elapsedRealtime() - no per-second counter, no drift
+        gameClock.start();
         
         // Update timer state and button
         isClockRunning = true;
@@ -1940,14 +2036,84 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
     }
 
     private void stopClock() {
-        if (clockRunnable != null) {
-            clockHandler.removeCallbacks(clockRunnable);
-            clockRunnable = null; // Clear reference
+        gameClock.pause(); // Freezes remaining time exactly (no rounding to whole seconds)
+        gameTimeSeconds = gameClock.getRemainingSeconds();
+    }
+    
+    /**
+     * ✅ NEW: Clock tick listener - display refresh only, state is persisted on transitions
+     */
+    private final GameClock.TickListener clockTickListener = new GameClock.TickListener() {
+        @Override
+        public void onTick(long remainingMillis) {
+            int previousSeconds = gameTimeSeconds;
+            gameTimeSeconds = (int) ((remainingMillis + 999) / 1000);
+            updateGameClockDisplay();
+            
+            // Update context-aware buttons when timer changes from 10:00 to 9:59
+            if (previousSeconds == 600 && gameTimeSeconds < 600) {
+                updateContextAwareButtons();
+            }
         }
+        
+        @Override
+        public void onExpired() {
+            handleQuarterClockExpired();
+        }
+    };
+    
+    /**
+     * Quarter complete handling (clock reached 0:00)
+     */
+    private void handleQuarterClockExpired() {
+        updateGameClockDisplay();
+
+        int completedQuarter = currentQuarter;
+
+        // Pause to update UI state
+        pauseClock();
+
+        if (completedQuarter < 4) {
+            // Advance to next quarter and reset clock
+            currentQuarter = completedQuarter + 1;
+            gameClock.reset(); // 10:00
+            gameTimeSeconds = gameClock.getRemainingSeconds();
+            saveGameStateToDatabase();
+            updateAllDisplays();
+            if (spinnerQuarter != null) {
+                spinnerQuarter.setSelection(currentQuarter - 1);
+            }
+            Toast.makeText(
+                GameActivity.this,
+                "Quarter " + completedQuarter + " complete! Starting Quarter " + currentQuarter,
+                Toast.LENGTH_LONG
+            ).show();
+        } else {
+            // Q4 complete – game over
+            // ✅ NEW: Transition to "done" status when Q4 timer reaches 0:00
+            transitionToDone();
+            
+            Toast.makeText(
+                GameActivity.this,
+                "Quarter 4 complete! Game over.",
+                Toast.LENGTH_LONG
+            ).show();
+        }
+    }
+    
+    /**
+     * ✅ NEW: Restore clock from persisted anchor (remaining millis + wall-clock start time)
+     * A clock that was running when the process died resumes at exactly the elapsed position
+     */
+    private void restoreGameClockFromGame() {
+        boolean wasRunning = gameClock.restore(currentGame.getClockRemainingMillis(), currentGame.getClockStartedAt());
+        gameTimeSeconds = gameClock.getRemainingSeconds();
+        isClockRunning = wasRunning || currentGame.isClockRunning();
     }
     
     private void pauseClock() {
         stopClock();
+        flushStints(); // ✅ NEW: Playing time up to the pause
         
         // Update timer state and button
         isClockRunning = false;
@@ -1997,9 +2163,42 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
     }
     
     private void updateAllDisplays() {
-        updateScoreDisplay();
-        updateGameClockDisplay();
-        updateTeamFoulsDisplay();
+        displayRefresh.invalidate(DisplayRefreshScheduler.REGION_ALL);
+    }
+    
+    private void updateScoreDisplay() {
+        displayRefresh.invalidate(DisplayRefreshScheduler.REGION_SCORE);
+    }
+    
+    private void updateGameClockDisplay() {
+        displayRefresh.invalidate(DisplayRefreshScheduler.REGION_CLOCK);
+    }
+    
+    private void updateTeamFoulsDisplay() {
+        displayRefresh.invalidate(DisplayRefreshScheduler.REGION_TEAM_FOULS);
+    }
+    
+    private void updatePlayerButtonText() {
+        displayRefresh.invalidate(DisplayRefreshScheduler.REGION_PLAYER_BUTTONS);
+    }
+    
+    private void updateLiveEventFeedDisplay() {
+        displayRefresh.invalidate(DisplayRefreshScheduler.REGION_LIVE_FEED);
+    }
+    
+    /**
+     * ✅ NEW: Render all regions marked dirty since the last frame (called once per frame)
+     */
+    private void renderDirtyRegions(int regions) {
+        if ((regions & DisplayRefreshScheduler.REGION_SCORE) != 0) renderScoreDisplay();
+        if ((regions & DisplayRefreshScheduler.REGION_CLOCK) != 0) renderGameClockDisplay();
+        if ((regions & DisplayRefreshScheduler.REGION_TEAM_FOULS) != 0) renderTeamFoulsDisplay();
+        if ((regions & DisplayRefreshScheduler.REGION_PLAYER_BUTTONS) != 0) renderPlayerButtonText();
+        if ((regions & DisplayRefreshScheduler.REGION_LIVE_FEED) != 0) renderLiveEventFeedDisplay();
+        if ((regions & DisplayRefreshScheduler.REGION_CONTROLS) != 0) renderControlsState();
+    }
+    
+    private void renderControlsState() {
         updateContextAwareButtons(); // Update button text based on timer state
         
         // ✅ FIX: Update button states to reflect current clock status
@@ -2013,97 +2212,48 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
         // Quarter display is now handled by spinner
     }
     
-    private void updateScoreDisplay() {
+    private void renderScoreDisplay() {
         // ✅ FIXED: Update team scores for blue strip layout using correct home/away mapping
-        android.util.Log.d("GameActivity", "🖥️ updateScoreDisplay() CALLED!");
+        if (currentGame == null) {
+            AppLog.w("GameActivity", "❌ Cannot update score display: currentGame is null");
+            return;
+        }
         
-        if (currentGame != null) {
-            // Get actual home/away team names from database
-            String homeTeamName = currentGame.getHomeTeam() != null ? currentGame.getHomeTeam().getName() : teamAName;
-            String awayTeamName = currentGame.getAwayTeam() != null ? currentGame.getAwayTeam().getName() : teamBName;
-            
-            // ✅ DEBUG: Log display update details
-            android.util.Log.d("GameActivity", String.format("🖥️ UPDATE DISPLAY: DB HomeScore=%d, AwayScore=%d", 
-                currentGame.getHomeScore(), currentGame.getAwayScore()));
-            android.util.Log.d("GameActivity", String.format("🏠 HOME team: %s, AWAY team: %s", homeTeamName, awayTeamName));
-            android.util.Log.d("GameActivity", String.format("📱 UI teamA: %s, teamB: %s", teamAName, teamBName));
-            
-            // Map scores correctly based on actual home/away assignment
-            if (teamAName.equals(homeTeamName)) {
-                // Team A is home team
+        // Get actual home/away team name from database for proper mapping
+        String homeTeamName = currentGame.getHomeTeam() != null ? currentGame.getHomeTeam().getName() : teamAName;
+        
+        if (teamAName.equals(homeTeamName)) {
+            // Team A is home team - show home score on left, away on right
             tvTeamAScore.setText(String.valueOf(currentGame.getHomeScore()));
             tvTeamBScore.setText(String.valueOf(currentGame.getAwayScore()));
-                android.util.Log.d("GameActivity", String.format("✅ UI UPDATE: TeamA(HOME)=%d, TeamB(AWAY)=%d", 
-                    currentGame.getHomeScore(), currentGame.getAwayScore()));
-            } else {
-                // Team A is away team (Team B is home)
-                tvTeamAScore.setText(String.valueOf(currentGame.getAwayScore()));
-                tvTeamBScore.setText(String.valueOf(currentGame.getHomeScore()));
-                android.util.Log.d("GameActivity", String.format("✅ UI UPDATE: TeamA(AWAY)=%d, TeamB(HOME)=%d", 
-                    currentGame.getAwayScore(), currentGame.getHomeScore()));
-            }
-            
-            // ✅ DEBUG: Verify UI actually updated after setText calls
-            android.util.Log.d("GameActivity", String.format("🔍 POST-UPDATE: UI shows TeamA='%s', TeamB='%s'", 
-                tvTeamAScore.getText().toString(), tvTeamBScore.getText().toString()));
-                
         } else {
-            android.util.Log.w("GameActivity", "❌ Cannot update score display: currentGame is null");
-        }
-        
-        // ✅ DEBUG: The UI updates work! Now check if database scores are correct
-        android.util.Log.d("GameActivity", String.format("🔧 REAL SCORES: currentGame.getHomeScore()=%d, currentGame.getAwayScore()=%d", 
-            currentGame.getHomeScore(), currentGame.getAwayScore()));
-        android.util.Log.d("GameActivity", String.format("🔧 TEAM MAPPING: teamAName='%s', homeTeamName='%s' (match=%b)", 
-            teamAName, 
-            currentGame.getHomeTeam() != null ? currentGame.getHomeTeam().getName() : "null",
-            teamAName.equals(currentGame.getHomeTeam() != null ? currentGame.getHomeTeam().getName() : teamAName)));
-            
-        // ✅ SHOW REAL SCORES: Now that race condition is fixed, display actual scores
-        if (tvTeamAScore != null && tvTeamBScore != null) {
-            // Get actual home/away team names from database for proper mapping
-            String homeTeamName = currentGame.getHomeTeam() != null ? currentGame.getHomeTeam().getName() : teamAName;
-            
-            if (teamAName.equals(homeTeamName)) {
-                // Team A is home team - show home score on left, away on right
-                tvTeamAScore.setText(String.valueOf(currentGame.getHomeScore()));
-                tvTeamBScore.setText(String.valueOf(currentGame.getAwayScore()));
-            } else {
-                // Team A is away team - show away score on left, home on right
-                tvTeamAScore.setText(String.valueOf(currentGame.getAwayScore()));
-                tvTeamBScore.setText(String.valueOf(currentGame.getHomeScore()));
-            }
-            
-            android.util.Log.d("GameActivity", String.format("✅ FINAL UI: TeamA='%s', TeamB='%s'", 
-                tvTeamAScore.getText().toString(), tvTeamBScore.getText().toString()));
+            // Team A is away team - show away score on left, home on right
+            tvTeamAScore.setText(String.valueOf(currentGame.getAwayScore()));
+            tvTeamBScore.setText(String.valueOf(currentGame.getHomeScore()));
         }
     }
     
-    private void updateGameClockDisplay() {
-        // ✅ FIX: Use local gameTimeSeconds (live timer value) instead of currentGame.getGameClockSeconds() (database value)
-        // This fixes the 1-second lag issue where display was behind the actual timer
-        int minutes = gameTimeSeconds / 60;
-        int seconds = gameTimeSeconds % 60;
-            tvGameClock.setText(String.format("%d:%02d", minutes, seconds));
+    private void renderGameClockDisplay() {
+        // ✅ NEW: Read live GameClock value - M:SS, or SS.t in the last minute
+        tvGameClock.setText(GameClock.format(gameClock.getRemainingMillis()));
     }
     
     // Quarter display now handled by spinner - no separate method needed
     
-    private void updateTeamFoulsDisplay() {
+    private void renderTeamFoulsDisplay() {
         // Update team foul displays for new blue strip layout (fouls count + "F")
         int redColor = Color.parseColor("#F44336");
         int whiteColor = Color.parseColor("#FFFFFF");
         
-        // Update Team A fouls
-        tvTeamAFouls.setText(teamAFouls + "F");
-        tvTeamAFouls.setTextColor(teamAFouls >= 5 ? redColor : whiteColor);
+        // ✅ NEW: Current quarter fouls and bonus state from the line score
+        tvTeamAFouls.setText(lineScore.getFouls("home", currentQuarter) + "F");
+        tvTeamAFouls.setTextColor(lineScore.isInBonus("home", currentQuarter) ? redColor : whiteColor);
         
-        // Update Team B fouls  
-        tvTeamBFouls.setText(teamBFouls + "F");
-        tvTeamBFouls.setTextColor(teamBFouls >= 5 ? redColor : whiteColor);
+        tvTeamBFouls.setText(lineScore.getFouls("away", currentQuarter) + "F");
+        tvTeamBFouls.setTextColor(lineScore.isInBonus("away", currentQuarter) ? redColor : whiteColor);
     }
     
-    private void updatePlayerButtonText() {
+    private void renderPlayerButtonText() {
         // Update Team A player buttons with current foul counts
         for (int i = 0; i < teamAPlayerButtons.size() && i < teamAPlayers.size(); i++) {
             Player player = teamAPlayers.get(i);
@@ -2154,101 +2304,84 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
     }
     
     // Live Event Feed Management
-    private void addToLiveEventFeed(String eventType, Player player) {
-        addToLiveEventFeed(eventType, player, null);
+    /**
+     * ✅ ENHANCED: Add SQLite Event to live feed ring buffer (no database read)
+     */
+    private void addToLiveEventFeedSQLite(Event event) {
+        AppLog.d("GameActivity", "🔄 LIVE FEED UPDATE: Adding event %s for %s", 
+            event.getEventType(), event.getPlayer() != null ? event.getPlayer().getName() : event.getTeamSide());
+        
+        liveEventFeed.push(event, formatLiveFeedLine(event));
+        updateLiveEventFeedDisplay();
     }
     
-    private void addToLiveEventFeed(String eventType, Player player, String teamName) {
-        // Legacy method for backward compatibility
-        // Create event description
-        String timeStr = String.format("%d:%02d", currentGame.getGameClockSeconds() / 60, currentGame.getGameClockSeconds() % 60);
-        String eventDescription;
-        
-        if (player != null) {
-            // Player event - include quarter info
-            eventDescription = String.format("Q%d %s - #%d %s - %s", 
-                currentGame.getCurrentQuarter(), timeStr, player.getNumber(), player.getName(), eventType);
-        } else {
-            // Team event - include quarter info
-            eventDescription = String.format("Q%d %s - %s - %s", 
-                currentGame.getCurrentQuarter(), timeStr, teamName, eventType);
+    /**
+     * ✅ NEW: Seed live feed ring buffer from gameEvents after a cold load
+     * gameEvents is chronological, so walk it from the newest end
+     */
+    private void seedLiveEventFeed() {
+        liveEventFeed.clear();
+        for (int i = gameEvents.size() - 1; i >= 0; i--) {
+            if (liveEventFeed.size() == liveEventFeed.capacity()) break;
+            Event event = gameEvents.get(i);
+            liveEventFeed.pushOldest(event, formatLiveFeedLine(event));
         }
         
-        // Update recent events display
-        updateRecentEventsFeed();
+        AppLog.d("GameActivity", "✅ Live feed: Seeded with %d recent events", liveEventFeed.size());
+        updateLiveEventFeedDisplay();
     }
     
     /**
-     * ✅ ENHANCED: Add SQLite Event to live feed with immediate database refresh
+     * ✅ NEW: Remove undone/deleted event from the live feed
+     * Backfills older recorded events from memory if the buffer runs low
      */
-    private void addToLiveEventFeedSQLite(Event event) {
-        android.util.Log.d("GameActivity", String.format("🔄 LIVE FEED UPDATE: Adding event %s for %s", 
-            event.getEventType(), event.getPlayer() != null ? event.getPlayer().getName() : event.getTeamSide()));
-        
-        // ✅ CRITICAL: Update recent events directly from database for immediate consistency
-        updateRecentEventsFeed();
+    private void removeFromLiveEventFeed(Event event) {
+        liveEventFeed.remove(event);
+        if (liveEventFeed.size() >= LIVE_FEED_DISPLAY_COUNT) return;
+        
+        // Rebuild from in-memory events (newest sequence first) - lineup/sub entries have no player
+        List<Event> recorded = new ArrayList<>();
+        for (Event candidate : gameEvents) {
+            if (candidate.getPlayerId() > 0) {
+                recorded.add(candidate);
+            }
+        }
+        recorded.sort((a, b) -> Integer.compare(b.getEventSequence(), a.getEventSequence()));
         
-        android.util.Log.d("GameActivity", "✅ Live feed update completed");
+        liveEventFeed.clear();
+        for (Event candidate : recorded) {
+            if (liveEventFeed.size() == liveEventFeed.capacity()) break;
+            liveEventFeed.pushOldest(candidate, formatLiveFeedLine(candidate));
+        }
     }
     
     /**
-     * ✅ FIXED: Update recent events directly from database for immediate, accurate updates
-     * This fixes the delay issue where in-memory gameEvents list was inconsistent with database ordering
+     * ✅ NEW: Format one live feed line (player from current lineups, else loaded TeamPlayer)
      */
-    private void updateRecentEventsFeed() {
-        recentEvents.clear();
+    private String formatLiveFeedLine(Event event) {
+        String timeStr = String.format("%d:%02d", event.getGameTimeSeconds() / 60, event.getGameTimeSeconds() % 60);
         
-        try {
-            // ✅ CRITICAL FIX: Get fresh events directly from database instead of stale in-memory list
-            List<Event> freshEvents = Event.findByGameId(dbController.getDatabaseHelper(), currentGame.getId());
-            
-            android.util.Log.d("GameActivity", String.format("🔄 Live feed: Loading %d fresh events from database", freshEvents.size()));
-            
-            int count = Math.min(4, freshEvents.size());
-            
-            // Database returns events ordered DESC (newest first), so take first 4 events
-            for (int i = 0; i < count; i++) {
-                Event event = freshEvents.get(i);
-                String timeStr = String.format("%d:%02d", event.getGameTimeSeconds() / 60, event.getGameTimeSeconds() % 60);
-                String eventDescription;
-                
-                if (event.getPlayer() != null) {
-                    eventDescription = String.format("Q%d %s - #%d %s - %s", 
-                        event.getQuarter(), timeStr, event.getPlayer().getJerseyNumber(), 
-                        event.getPlayer().getName(), event.getEventType());
-                } else {
-                    eventDescription = String.format("Q%d %s - %s - %s", 
-                        event.getQuarter(), timeStr, event.getTeamSide().toUpperCase(), event.getEventType());
-                }
-                
-                recentEvents.add(eventDescription); // Add in order (newest first)
-            }
-            
-            android.util.Log.d("GameActivity", String.format("✅ Live feed: Updated with %d recent events", recentEvents.size()));
-            
-        } catch (Exception e) {
-            android.util.Log.e("GameActivity", "❌ Error updating live event feed from database", e);
-            // Fallback to in-memory list if database query fails
-            int count = Math.min(4, gameEvents.size());
-            for (int i = 0; i < count; i++) {
-                recentEvents.add(gameEvents.get(i).toString());
-            }
+        Player lineupPlayer = event.getPlayerId() > 0 ? findPlayerById(event.getPlayerId()) : null;
+        if (lineupPlayer != null) {
+            return String.format("Q%d %s - #%d %s - %s", 
+                event.getQuarter(), timeStr, lineupPlayer.getNumber(), lineupPlayer.getName(), event.getEventType());
+        } else if (event.getPlayer() != null) {
+            return String.format("Q%d %s - #%d %s - %s", 
+                event.getQuarter(), timeStr, event.getPlayer().getJerseyNumber(), 
+                event.getPlayer().getName(), event.getEventType());
         }
-        
-        // Update display
-        updateLiveEventFeedDisplay();
+        String teamSide = event.getTeamSide() != null ? event.getTeamSide().toUpperCase() : "";
+        return String.format("Q%d %s - %s - %s", event.getQuarter(), timeStr, teamSide, event.getEventType());
     }
     
-
-    
-
-    
-    private void updateLiveEventFeedDisplay() {
+    private void renderLiveEventFeedDisplay() {
+        if (llLiveEventFeed == null) return; // Views not inflated yet (cold load in onCreate)
+        
         // Clear current feed display
         llLiveEventFeed.removeAllViews();
         
-        // Add each recent event as a TextView
-        for (String event : recentEvents) {
+        // Add each recent event as a TextView (newest first)
+        for (String event : liveEventFeed.getNewestLines(LIVE_FEED_DISPLAY_COUNT)) {
             TextView eventView = new TextView(this);
             eventView.setText(event);
             eventView.setTextSize(10);
@@ -2276,8 +2409,8 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             intent.putExtra("teamAName", (teamA != null) ? teamA.getName() : "Team A");
             intent.putExtra("teamBName", (teamB != null) ? teamB.getName() : "Team B");
             
-            android.util.Log.d("GameActivity", String.format("Opening event log for game %d: %s vs %s", 
-                currentGame.getId(), teamA.getName(), teamB.getName()));
+            AppLog.d("GameActivity", "Opening event log for game %d: %s vs %s", 
+                currentGame.getId(), teamA.getName(), teamB.getName());
         } else {
             Toast.makeText(this, "Error: No game data available", Toast.LENGTH_SHORT).show();
             return;
@@ -2286,19 +2419,16 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
         startActivity(intent);
     }
     
-    private void updateRecentEventsList() {
-        // ✅ FIX: Update recent events from gameEvents (last 4 instead of 2)
-        recentEvents.clear();
-        int count = Math.min(4, gameEvents.size());
-        for (int i = 0; i < count; i++) {
-            recentEvents.add(gameEvents.get(i).toString());
-        }
-    }
-    
     @Override
     protected void onPause() {
         super.onPause();
-        android.util.Log.d("GameActivity", "⏸️ onPause() CALLED - Pausing clock and saving state");
+        AppLog.d("GameActivity", "⏸️ onPause() CALLED - Pausing clock and saving state");
+        
+        // ✅ NEW: Crash-safe boundary - commit any journaled events before leaving the screen
+        flushStints(); // Playing time up to now joins the flush
+        if (eventJournal != null && !eventJournal.flush()) {
+            AppLog.w("GameActivity", "Journal commit failed on pause - failed changes stay queued for retry");
+        }
         
         // ✅ FIX: Properly pause clock when leaving activity
         if (isClockRunning) {
@@ -2309,107 +2439,99 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
             // Save the paused state to database
             saveGameStateToDatabase();
             
-            android.util.Log.d("GameActivity", "✅ Clock paused and state saved due to activity pause");
+            AppLog.d("GameActivity", "✅ Clock paused and state saved due to activity pause");
+        }
+        
+        // ✅ NEW: Everything in memory is now written - resume only reloads if another screen changes the game
+        if (currentGame != null && dbController != null) {
+            loadedGameVersion = Game.findUpdatedAt(dbController.getDatabaseHelper(), currentGame.getId());
         }
     }
     
     @Override
     protected void onResume() {
         super.onResume();
-        android.util.Log.d("GameActivity", "🔄 onResume() CALLED - Reloading game data from database");
+        AppLog.d("GameActivity", "🔄 onResume() CALLED - Reloading game data from database");
         
-        // ✅ CRITICAL FIX: Reload current game from database in case scores were modified in LogActivity
-        reloadGameFromDatabase();
-        
-        // ✅ FIX: Reload events from database in case they were modified in LogActivity
-        loadGameEvents();
-        
-        // ✅ NEW: Reload player selections in case game was reset to "not_started"
-        reloadGamePlayers();
+        // ✅ CRITICAL FIX: Reload game, events and players in case they were modified in LogActivity
+        // ✅ NEW: Skipped when games.updated_at still matches the state held in memory
+        reloadGameIfChanged();
         
         // ✅ NEW: Update setup mode based on current game status and loaded players
         updateSetupModeAfterReload();
         
-        android.util.Log.d("GameActivity", String.format("🔄 onResume() - Clock state loaded: isRunning=%b, time=%s", 
-            isClockRunning, formatTime(gameTimeSeconds)));
+        AppLog.d("GameActivity", "🔄 onResume() - Clock state loaded: isRunning=%b, time=%s", 
+            isClockRunning, formatTime(gameTimeSeconds));
         
-        android.util.Log.d("GameActivity", "🔄 onResume() calling updateAllDisplays()...");
+        AppLog.d("GameActivity", "🔄 onResume() calling updateAllDisplays()...");
         updateAllDisplays();
+        displayRefresh.flushNow(); // Render before logging the displayed scores below
         
-        android.util.Log.d("GameActivity", String.format("🔄 onResume() FINISHED - Current scores: TeamA='%s', TeamB='%s'", 
-            tvTeamAScore != null ? tvTeamAScore.getText().toString() : "NULL",
-            tvTeamBScore != null ? tvTeamBScore.getText().toString() : "NULL"));
+        AppLog.d("GameActivity", "🔄 onResume() FINISHED - Current scores: TeamA='%s', TeamB='%s'", 
+            tvTeamAScore != null ? tvTeamAScore.getText().toString() : "NULL", tvTeamBScore != null ? tvTeamBScore.getText().toString() : "NULL");
     }
     
     /**
-     * ✅ NEW: Reload current game from database to get updated scores/state
-     * Called in onResume() to refresh game state after returning from LogActivity
+     * ✅ NEW: Reload game state from database if anything changed since it was loaded
+     * Called in onResume() to refresh scores, events and lineups after returning from LogActivity
      */
-    private void reloadGameFromDatabase() {
+    private void reloadGameIfChanged() {
         if (currentGame == null || dbController == null) return;
         
         try {
-            // Reload game from database using current game ID
-            Game refreshedGame = Game.findById(dbController.getDatabaseHelper(), currentGame.getId());
+            GameBundle bundle = GameBundle.loadIfChanged(dbController.getDatabaseHelper(), 
+                currentGame.getId(), loadedGameVersion);
+            if (bundle == null) {
+                AppLog.d("GameActivity", "✅ Game unchanged since last load - keeping in-memory state");
+                return;
+            }
             
-            if (refreshedGame != null) {
-                // Load teams with rosters
-                refreshedGame.loadTeams(dbController.getDatabaseHelper());
-                
-                // Check if scores changed
-                boolean scoresChanged = (currentGame.getHomeScore() != refreshedGame.getHomeScore() || 
-                                       currentGame.getAwayScore() != refreshedGame.getAwayScore());
-                
-                if (scoresChanged) {
-                    android.util.Log.d("GameActivity", String.format("🔄 SCORES UPDATED: OLD[%d-%d] → NEW[%d-%d]", 
-                        currentGame.getHomeScore(), currentGame.getAwayScore(),
-                        refreshedGame.getHomeScore(), refreshedGame.getAwayScore()));
-                }
-                
-                // Update the current game object with fresh data
-                currentGame = refreshedGame;
-                
-                // Update derived state
-                this.currentQuarter = currentGame.getCurrentQuarter();
-                this.gameTimeSeconds = currentGame.getGameClockSeconds();
-                this.isClockRunning = currentGame.isClockRunning();
-                
-                android.util.Log.d("GameActivity", String.format("✅ Reloaded game: Q%d, Clock:%d, Scores:[%d-%d]", 
-                    currentQuarter, gameTimeSeconds, currentGame.getHomeScore(), currentGame.getAwayScore()));
-                
-            } else {
-                android.util.Log.w("GameActivity", "❌ Could not reload game from database");
+            Game refreshedGame = bundle.getGame();
+            
+            // Check if scores changed
+            boolean scoresChanged = (currentGame.getHomeScore() != refreshedGame.getHomeScore() || 
+                                   currentGame.getAwayScore() != refreshedGame.getAwayScore());
+            
+            if (scoresChanged) {
+                AppLog.d("GameActivity", "🔄 SCORES UPDATED: OLD[%d-%d] → NEW[%d-%d]", 
+                    currentGame.getHomeScore(), currentGame.getAwayScore(), refreshedGame.getHomeScore(), refreshedGame.getAwayScore());
             }
             
-        } catch (Exception e) {
-            android.util.Log.e("GameActivity", "❌ Error reloading game from database", e);
-        }
-    }
-    
-    /**
-     * ✅ NEW: Reload game players from database for state restoration
-     * Called in onResume() to refresh player lineups after returning from LogActivity
-     */
-    private void reloadGamePlayers() {
-        try {
-            // Clear current player lists
-            teamAPlayers.clear();
-            teamBPlayers.clear();
+            // Update the current game object with fresh data
+            currentGame = refreshedGame;
+            
+            // Update derived state
+            this.currentQuarter = currentGame.getCurrentQuarter();
+            restoreGameClockFromGame();
+            applyLineScore(bundle);
             
-            // Reload players from database
-            loadGamePlayers();
+            // Events may have been edited or deleted in LogActivity
+            applyGameEvents(bundle.getRecentEvents(), bundle.getEventCount());
             
-            // Recreate player buttons with updated lineups
+            // Player selections may have been cleared (game reset to "not_started")
+            teamAPlayers.clear();
+            teamBPlayers.clear();
+            applyGamePlayers(bundle.getGamePlayers());
+            restartStints();
             createPlayerButtons();
             
-            android.util.Log.d("GameActivity", String.format("🔄 Reloaded players: TeamA=%d, TeamB=%d", 
-                teamAPlayers.size(), teamBPlayers.size()));
+            loadedGameVersion = bundle.getVersion();
+            
+            AppLog.d("GameActivity", "✅ Reloaded game: Q%d, Clock:%d, Scores:[%d-%d]", 
+                currentQuarter, gameTimeSeconds, currentGame.getHomeScore(), currentGame.getAwayScore());
             
         } catch (Exception e) {
-            android.util.Log.e("GameActivity", "❌ Error reloading game players", e);
+            AppLog.e("GameActivity", "❌ Error reloading game from database", e);
         }
     }
     
+    /**
+     * ✅ NEW: Team fouls/points per quarter from the loaded team_fouls rows
+     */
+    private void applyLineScore(GameBundle bundle) {
+        lineScore = bundle.getLineScore();
+    }
+    
     /**
      * ✅ NEW: Update setup mode based on current game status and loaded players
      * Called in onResume() to ensure correct mode after potential status changes
@@ -2436,19 +2558,19 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
                 
                 if (isInSetupMode != shouldBeInSetupMode) {
                     isInSetupMode = shouldBeInSetupMode;
-                    android.util.Log.d("GameActivity", String.format("🔄 Mode updated: %s (Status: %s, Players: %s)", 
-                        isInSetupMode ? "SETUP" : "GAME", currentStatus, hasPlayers ? "LOADED" : "EMPTY"));
+                    AppLog.d("GameActivity", "🔄 Mode updated: %s (Status: %s, Players: %s)", 
+                        isInSetupMode ? "SETUP" : "GAME", currentStatus, hasPlayers ? "LOADED" : "EMPTY");
                 }
                 
                 // Update UI accordingly
                 checkIfGameReady();
                 
             } else {
-                android.util.Log.w("GameActivity", "Cannot update setup mode - no current game");
+                AppLog.w("GameActivity", "Cannot update setup mode - no current game");
             }
             
         } catch (Exception e) {
-            android.util.Log.e("GameActivity", "❌ Error updating setup mode after reload", e);
+            AppLog.e("GameActivity", "❌ Error updating setup mode after reload", e);
         }
     }
     
@@ -2486,30 +2608,45 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
         try {
             // Update game object with current state
             currentGame.setCurrentQuarter(currentQuarter);
-            currentGame.setGameClockSeconds(gameTimeSeconds);
+            // ✅ NEW: Persist clock anchor (remaining + start time) - only written on transitions
+            currentGame.setClockState(gameClock.getAnchorRemainingMillis(), gameClock.getAnchorWallMillis());
             currentGame.setClockRunning(isClockRunning);
             
             // ✅ CRITICAL FIX: DON'T overwrite scores from UI - they're already set correctly by event recording!
             // The scores were already updated correctly in recordScoringEvent() via currentGame.setHomeScore()
             // Reading from UI and overwriting causes a race condition where stale UI values destroy correct scores
-            android.util.Log.d("GameActivity", String.format("💾 PRESERVING SCORES: HOME=%d, AWAY=%d (already set by event recording)", 
-                currentGame.getHomeScore(), currentGame.getAwayScore()));
+            AppLog.d("GameActivity", "💾 PRESERVING SCORES: HOME=%d, AWAY=%d (already set by event recording)", 
+                currentGame.getHomeScore(), currentGame.getAwayScore());
             
             // Save to database
-            long result = currentGame.save(dbController.getDatabaseHelper());
+            long result = saveCurrentGame();
             
             if (result > 0) {
-                android.util.Log.d("GameActivity", String.format("💾 Saved game state - Q%d %s Clock:%b", 
-                    currentQuarter, formatTime(gameTimeSeconds), isClockRunning));
+                AppLog.d("GameActivity", "💾 Saved game state - Q%d %s Clock:%b", 
+                    currentQuarter, formatTime(gameTimeSeconds), isClockRunning);
             } else {
-                android.util.Log.w("GameActivity", "Failed to save game state to database");
+                AppLog.w("GameActivity", "Failed to save game state to database");
             }
             
         } catch (Exception e) {
-            android.util.Log.e("GameActivity", "Error saving game state to database", e);
+            AppLog.e("GameActivity", "Error saving game state to database", e);
         }
     }
     
+    /**
+     * Save currentGame after committing the event journal
+     * Journaled score deltas must land before Game.save writes the absolute score columns,
+     * otherwise the group commit adds the same points on top of the saved score
+     * Returns -1 without saving while the journal still holds deltas it could not commit
+     */
+    private long saveCurrentGame() {
+        if (eventJournal != null && !eventJournal.flush()) {
+            AppLog.w("GameActivity", "Game %d not saved - journal commit failed", currentGame.getId());
+            return -1;
+        }
+        return currentGame.save(dbController.getDatabaseHelper());
+    }
+    
     /**
      * Helper method to format time in MM:SS format
      */
@@ -2601,9 +2738,8 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
     protected void onDestroy() {
         super.onDestroy();
         // Stop the clock when activity is destroyed
-        if (clockHandler != null) {
-            clockHandler.removeCallbacks(clockRunnable);
-        }
+        gameClock.release();
+        displayRefresh.cancel();
     }
     
     /**
@@ -2616,12 +2752,7 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
         teamAName = teamA != null ? teamA.getName() : "Team A";
         teamBName = teamB != null ? teamB.getName() : "Team B";
         currentQuarter = currentGame.getCurrentQuarter();
-        gameTimeSeconds = currentGame.getGameClockSeconds();
-        isClockRunning = currentGame.isClockRunning();
-        
-        // Calculate team fouls (simplified for now)
-        teamAFouls = 0; // TODO: Query from database
-        teamBFouls = 0; // TODO: Query from database
+        restoreGameClockFromGame();
     }
     
     /**
@@ -2630,34 +2761,37 @@ public class GameActivity extends Activity implements PlayerSelectionModal.Playe
      * RESUMED games: Restore saved clock state and resume if was running
      */
     private void setupGameClock() {
-        // Determine if this is a new game (no events recorded yet)
-        boolean isNewGame = gameEvents.isEmpty();
+        // Determine if this is a new game (no events stored yet - gameEvents only holds the newest window)
+        boolean isNewGame = loadedEventCount == 0 && gameEvents.isEmpty();
         
         // Initialize game clock defaults if not loaded from database
         if (currentQuarter <= 0) {
             currentQuarter = 1;
         }
-        if (gameTimeSeconds <= 0) {
-            gameTimeSeconds = 600; // 10:00 default
+        if (gameClock.getRemainingMillis() <= 0) {
+            gameClock.reset(); // 10:00 default
         }
         
         // ✅ NEW GAME LOGIC: Always start fresh for new games
         if (isNewGame) {
             currentQuarter = 1;
-            gameTimeSeconds = 600; // Always start at 10:00
+            gameClock.reset(); // Always start at 10:00
             isClockRunning = false; // Never auto-start for new games
-            android.util.Log.d("GameActivity", "🆕 New game detected - Clock set to 10:00, waiting for manual start");
+            AppLog.d("GameActivity", "🆕 New game detected - Clock set to 10:00, waiting for manual start");
         }
         
-        android.util.Log.d("GameActivity", String.format("⏰ setupGameClock - Quarter: %d, Time: %d, Running: %b, IsNew: %b", 
-            currentQuarter, gameTimeSeconds, isClockRunning, isNewGame));
+        AppLog.d("GameActivity", "⏰ setupGameClock - Quarter: %d, Time: %d, Running: %b, IsNew: %b", 
+            currentQuarter, gameTimeSeconds, isClockRunning, isNewGame);
+        
+        gameTimeSeconds = gameClock.getRemainingSeconds();
+        gameClock.addTickListener(clockTickListener);
         
         // Update clock display immediately
         updateGameClockDisplay();
         
         // Only resume clock for existing games that were running
         if (isClockRunning && !isNewGame) {
-            android.util.Log.d("GameActivity", "🔄 Resuming clock from saved state");
+            AppLog.d("GameActivity", "🔄 Resuming clock from saved state");
             startClock();
         }
     }
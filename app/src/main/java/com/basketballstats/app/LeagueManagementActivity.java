@@ -9,6 +9,7 @@ import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.AbsListView;
 import android.widget.ArrayAdapter;
 import android.widget.BaseAdapter;
 import android.widget.Button;
@@ -21,7 +22,10 @@ import android.widget.Toast;
 import com.basketballstats.app.models.Team;
 import com.basketballstats.app.models.TeamPlayer;
 import com.basketballstats.app.models.Game;
+import com.basketballstats.app.models.GameListItem;
 import com.basketballstats.app.data.DatabaseController;
+import com.basketballstats.app.data.DatabaseHelper;
+import com.basketballstats.app.data.InvalidationTracker;
 import com.basketballstats.app.utils.InputFormatHelper;
 import java.util.ArrayList;
 import java.util.List;
@@ -54,7 +58,10 @@ public class LeagueManagementActivity extends Activity {
     // Database and Data
     private DatabaseController dbController;
     private List<Team> teamsList;
-    private List<Game> gamesList;
+    private List<GameListItem> gamesList;
+    private boolean hasMoreGames = false; // More schedule pages available below the loaded ones
+    private InvalidationTracker.Watch gamesWatch; // games/teams versions as of the last games load
+    private InvalidationTracker.Watch teamsWatch; // teams/team_players versions as of the last teams load
     private ArrayAdapter<Team> homeTeamAdapter, awayTeamAdapter;
     private GameManagementAdapter gamesAdapter;
     private TeamManagementAdapter teamsAdapter;
@@ -103,11 +110,16 @@ public class LeagueManagementActivity extends Activity {
     private void initializeData() {
         // Initialize database controller
         dbController = DatabaseController.getInstance(this);
+        gamesWatch = dbController.getInvalidationTracker().watch(
+            DatabaseHelper.TABLE_GAMES, DatabaseHelper.TABLE_TEAMS);
+        teamsWatch = dbController.getInvalidationTracker().watch(
+            DatabaseHelper.TABLE_TEAMS, DatabaseHelper.TABLE_TEAM_PLAYERS);
         
         try {
             // Load teams and games from SQLite database
             teamsList = new ArrayList<>(Team.findAll(dbController.getDatabaseHelper()));
-            gamesList = new ArrayList<>(Game.findAll(dbController.getDatabaseHelper()));
+            gamesList = new ArrayList<>(GameListItem.findPage(dbController.getDatabaseHelper(), null, GameListItem.DEFAULT_PAGE_SIZE));
+            hasMoreGames = gamesList.size() >= GameListItem.DEFAULT_PAGE_SIZE;
             
             // Setup adapters for Games Tab
             homeTeamAdapter = new ArrayAdapter<>(this, android.R.layout.simple_spinner_item, teamsList);
@@ -181,6 +193,20 @@ public class LeagueManagementActivity extends Activity {
                 addNewTeam();
             }
         });
+        
+        // Paging - load the next page of scheduled games near the end of the list
+        lvScheduledGames.setOnScrollListener(new AbsListView.OnScrollListener() {
+            @Override
+            public void onScrollStateChanged(AbsListView view, int scrollState) {
+            }
+            
+            @Override
+            public void onScroll(AbsListView view, int firstVisibleItem, int visibleItemCount, int totalItemCount) {
+                if (hasMoreGames && totalItemCount > 0 && firstVisibleItem + visibleItemCount >= totalItemCount - 5) {
+                    loadMoreGames();
+                }
+            }
+        });
     }
     
 
@@ -299,10 +325,10 @@ public class LeagueManagementActivity extends Activity {
      */
     private class GameManagementAdapter extends BaseAdapter {
         private Context context;
-        private List<Game> games;
+        private List<GameListItem> games;
         private LayoutInflater inflater;
         
-        public GameManagementAdapter(Context context, List<Game> games) {
+        public GameManagementAdapter(Context context, List<GameListItem> games) {
             this.context = context;
             this.games = games;
             this.inflater = LayoutInflater.from(context);
@@ -323,20 +349,17 @@ public class LeagueManagementActivity extends Activity {
                 convertView = inflater.inflate(R.layout.item_game_management, parent, false);
             }
             
-            Game game = games.get(position);
+            GameListItem game = games.get(position);
             TextView tvGameInfo = convertView.findViewById(R.id.tvGameInfo);
             Button btnEdit = convertView.findViewById(R.id.btnEditGame);
             Button btnDelete = convertView.findViewById(R.id.btnDeleteGame);
             
-            // Display game info with time and status
-            String homeTeamName = game.getHomeTeam() != null ? game.getHomeTeam().getName() : "Team " + game.getHomeTeamId();
-            String awayTeamName = game.getAwayTeam() != null ? game.getAwayTeam().getName() : "Team " + game.getAwayTeamId();
-            
+            // Display game info with time and status (team names joined in the list query)
             String gameInfo = String.format("%s %s - %s vs %s [%s]", 
                 game.getDate(), 
                 game.getTime() != null ? game.getTime() : "TBD",
-                homeTeamName, 
-                awayTeamName,
+                game.getHomeTeamName(), 
+                game.getAwayTeamName(),
                 game.getStatus().toUpperCase());
             tvGameInfo.setText(gameInfo);
             
@@ -428,13 +451,13 @@ public class LeagueManagementActivity extends Activity {
         }
     }
     
-    private void editGame(Game game) {
+    private void editGame(GameListItem game) {
         // For MVP, show placeholder (full implementation with form population later)
         Toast.makeText(this, "Edit game: " + game.toString() + "\n(Coming soon!)", Toast.LENGTH_SHORT).show();
         // TODO: Populate form fields with game data for editing
     }
     
-    private void confirmDeleteGame(Game game, int position) {
+    private void confirmDeleteGame(GameListItem game, int position) {
         AlertDialog.Builder builder = new AlertDialog.Builder(this);
         builder.setTitle("Delete Game")
                .setMessage("Are you sure you want to delete this game?\n" + game.toString())
@@ -448,10 +471,11 @@ public class LeagueManagementActivity extends Activity {
                .show();
     }
     
-    private void deleteGame(Game game, int position) {
+    private void deleteGame(GameListItem item, int position) {
         try {
-            // Delete from SQLite database
-            boolean removed = game.delete(dbController.getDatabaseHelper());
+            // Delete from SQLite database (full model so delete side effects run)
+            Game game = Game.findById(dbController.getDatabaseHelper(), item.getId());
+            boolean removed = game != null && game.delete(dbController.getDatabaseHelper());
             
             if (removed) {
                 // Update local list and refresh adapter
@@ -546,9 +570,15 @@ public class LeagueManagementActivity extends Activity {
     }
     
     private void refreshGamesData() {
+        if (!gamesWatch.consumeChange()) {
+            return; // No game or team written since the last load
+        }
+        
         try {
-            // Safely reload games from SQLite database
-            List<Game> currentGames = Game.findAll(dbController.getDatabaseHelper());
+            // Safely reload games from SQLite database - same number of rows as already loaded
+            int requested = Math.max(gamesList.size(), GameListItem.DEFAULT_PAGE_SIZE);
+            List<GameListItem> currentGames = GameListItem.findPage(dbController.getDatabaseHelper(), null, requested);
+            hasMoreGames = currentGames.size() >= requested;
             gamesList.clear();
             gamesList.addAll(currentGames);
             if (gamesAdapter != null) {
@@ -560,7 +590,33 @@ public class LeagueManagementActivity extends Activity {
         }
     }
     
+    /**
+     * Append the next page of scheduled games
+     */
+    private void loadMoreGames() {
+        if (!hasMoreGames || gamesList.isEmpty()) {
+            return;
+        }
+        
+        try {
+            GameListItem last = gamesList.get(gamesList.size() - 1);
+            List<GameListItem> page = GameListItem.findPage(dbController.getDatabaseHelper(), last, GameListItem.DEFAULT_PAGE_SIZE);
+            hasMoreGames = page.size() >= GameListItem.DEFAULT_PAGE_SIZE;
+            if (!page.isEmpty()) {
+                gamesList.addAll(page);
+                gamesAdapter.notifyDataSetChanged();
+            }
+        } catch (Exception e) {
+            android.util.Log.e("LeagueManagement", "Error loading more games", e);
+            hasMoreGames = false;
+        }
+    }
+    
     private void refreshTeamsData() {
+        if (!teamsWatch.consumeChange()) {
+            return; // No team or player written since the last load
+        }
+        
         try {
             // Safely reload teams from SQLite database
             List<Team> currentTeams = Team.findAll(dbController.getDatabaseHelper());
@@ -586,13 +642,11 @@ public class LeagueManagementActivity extends Activity {
     @Override
     protected void onResume() {
         super.onResume();
-        // Only refresh if we're returning from another activity, not on first creation
-        // This prevents data corruption when League Management first opens
-        
-        // Note: onResume() is called both on first creation AND when returning from other activities
-        // We only want to refresh when returning, not on first creation
-        // For now, we'll skip the refresh here and let the initialization handle first load
-        
-        // TODO: Add proper lifecycle management to distinguish first creation vs returning
+        // Refresh only lists whose tables changed while away - on first creation the
+        // watches match what initializeData() just loaded, so nothing is re-queried
+        if (gamesWatch != null && teamsWatch != null) {
+            refreshTeamsData();
+            refreshGamesData();
+        }
     }
 }
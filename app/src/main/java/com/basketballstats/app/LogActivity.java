@@ -8,12 +8,19 @@ import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
-import android.widget.BaseAdapter;
 import android.widget.Button;
-import android.widget.ListView;
+import android.widget.SeekBar;
 import android.widget.TextView;
 import android.widget.Toast;
+import androidx.recyclerview.widget.DividerItemDecoration;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import com.basketballstats.app.data.EventLogDataSource;
+import com.basketballstats.app.data.GameReplay;
+import com.basketballstats.app.models.EventLogRow;
 import com.basketballstats.app.models.GamePlayer;
+import com.basketballstats.app.models.GameState;
+import com.basketballstats.app.utils.AppLog;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -24,16 +31,24 @@ import java.util.List;
 public class LogActivity extends Activity {
     
     private TextView tvTitle;
-    private ListView lvEventLog;
+    private RecyclerView rvEventLog;
     private Button btnBackToGame;
     private Button btnClearLog;
     private Button btnEndGame;
     
     private int gameId;
     private String teamAName, teamBName;
-    private List<String> allEvents;
+    private List<EventLogRow> loadedEvents; // Newest first; grows by one page as the user scrolls
+    private EventLogDataSource eventSource;
+    private int totalEventCount;
+    private boolean loadingMore = false;
     private EventLogAdapter eventAdapter;
     
+    // ✅ NEW: Timeline scrubber - game state as of any event (checkpoint + bounded replay)
+    private TextView tvTimelineState;
+    private SeekBar sbTimeline;
+    private GameReplay gameReplay;
+    
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -51,7 +66,7 @@ public class LogActivity extends Activity {
         // Setup event listeners
         setupEventListeners();
         
-        Toast.makeText(this, "Event Log loaded - " + allEvents.size() + " events", Toast.LENGTH_SHORT).show();
+        Toast.makeText(this, "Event Log loaded - " + totalEventCount + " events", Toast.LENGTH_SHORT).show();
     }
     
     private void getDataFromIntent() {
@@ -60,65 +75,68 @@ public class LogActivity extends Activity {
         teamBName = getIntent().getStringExtra("teamBName");
         
         // ✅ DEBUG: Log received data to diagnose empty log issue
-        android.util.Log.d("LogActivity", String.format("📊 RECEIVED DATA - GameID: %d, TeamA: %s, TeamB: %s", 
-            gameId, teamAName, teamBName));
+        AppLog.d("LogActivity", "📊 RECEIVED DATA - GameID: %d, TeamA: %s, TeamB: %s", 
+            gameId, teamAName, teamBName);
         
         // ✅ FIXED: Load all events from database for this game
         loadEventsFromDatabase();
     }
     
     /**
-     * Load events from SQLite database for the current game
+     * Load the newest page of events from SQLite database for the current game
+     * ✅ NEW: Paged (newest 50 first, older pages on scroll) - open time no longer grows with game length
      */
     private void loadEventsFromDatabase() {
-        allEvents = new ArrayList<>();
+        loadedEvents = new ArrayList<>();
         
         try {
-            // ✅ DEBUG: Enhanced logging to diagnose empty log issue
-            android.util.Log.d("LogActivity", "🔍 STARTING loadEventsFromDatabase() for gameId: " + gameId);
-            
-            // Initialize database controller
             com.basketballstats.app.data.DatabaseController dbController = 
                 com.basketballstats.app.data.DatabaseController.getInstance(this);
-            android.util.Log.d("LogActivity", "✅ Database controller initialized");
-            
-            // Load all events for this game from SQLite database
-            java.util.List<com.basketballstats.app.models.Event> gameEvents = 
-                com.basketballstats.app.models.Event.findByGameId(dbController.getDatabaseHelper(), gameId);
-            android.util.Log.d("LogActivity", String.format("📋 Found %d raw events in database for gameId %d", 
-                gameEvents.size(), gameId));
             
-            // Convert Event objects to display strings
-            for (int i = 0; i < gameEvents.size(); i++) {
-                com.basketballstats.app.models.Event event = gameEvents.get(i);
-                android.util.Log.d("LogActivity", String.format("🔄 Processing event %d: %s (player=%d)", 
-                    i+1, event.getEventType(), event.getPlayerId()));
-                
-                // Load related objects (players) for complete display
-                event.loadRelatedObjects(dbController.getDatabaseHelper());
-                
-                // Add formatted event string to display list
-                String eventString = event.toString();
-                allEvents.add(eventString);
-                android.util.Log.d("LogActivity", String.format("✅ Event %d formatted: %s", i+1, eventString));
-            }
+            eventSource = new EventLogDataSource(dbController.getDatabaseHelper(), gameId);
+            loadedEvents.addAll(eventSource.loadInitial()); // Players hydrated by the same JOIN query
+            totalEventCount = com.basketballstats.app.models.Event.getCountForGame(dbController.getDatabaseHelper(), gameId);
             
-            android.util.Log.d("LogActivity", String.format("🎯 FINAL RESULT: %d events loaded for display", allEvents.size()));
+            AppLog.d("LogActivity", "🎯 Loaded newest %d of %d events for gameId %d", 
+                loadedEvents.size(), totalEventCount, gameId);
             
         } catch (Exception e) {
-            android.util.Log.e("LogActivity", "❌ Error loading events from database for gameId " + gameId, e);
-            allEvents = new ArrayList<>(); // Fallback to empty list
+            AppLog.e("LogActivity", "❌ Error loading events from database for gameId " + gameId, e);
+            loadedEvents = new ArrayList<>(); // Fallback to empty list
         }
     }
     
-
+    /**
+     * Append the next (older) page when the list is scrolled near its end
+     */
+    private void loadMoreEvents() {
+        if (loadingMore || eventSource == null || !eventSource.hasMore()) {
+            return;
+        }
+        
+        loadingMore = true;
+        try {
+            List<EventLogRow> page = eventSource.loadNextPage();
+            if (!page.isEmpty()) {
+                int start = loadedEvents.size();
+                loadedEvents.addAll(page);
+                eventAdapter.notifyItemRangeInserted(start, page.size());
+            }
+        } catch (Exception e) {
+            AppLog.e("LogActivity", "❌ Error loading more events for gameId " + gameId, e);
+        } finally {
+            loadingMore = false;
+        }
+    }
     
     private void initializeViews() {
         tvTitle = findViewById(R.id.tvLogTitle);
-        lvEventLog = findViewById(R.id.lvEventLog);
+        rvEventLog = findViewById(R.id.rvEventLog);
         btnBackToGame = findViewById(R.id.btnBackToGame);
         btnClearLog = findViewById(R.id.btnClearLog);
         btnEndGame = findViewById(R.id.btnEndGame);
+        tvTimelineState = findViewById(R.id.tvTimelineState);
+        sbTimeline = findViewById(R.id.sbTimeline);
         
         // Set title
         String title = String.format("Event Log - %s vs %s", teamAName, teamBName);
@@ -129,8 +147,85 @@ public class LogActivity extends Activity {
     }
     
     private void initializeData() {
-        eventAdapter = new EventLogAdapter(this, allEvents);
-        lvEventLog.setAdapter(eventAdapter);
+        LinearLayoutManager layoutManager = new LinearLayoutManager(this);
+        rvEventLog.setLayoutManager(layoutManager);
+        rvEventLog.addItemDecoration(new DividerItemDecoration(this, DividerItemDecoration.VERTICAL));
+        
+        eventAdapter = new EventLogAdapter(this, loadedEvents);
+        rvEventLog.setAdapter(eventAdapter);
+        
+        // Paging - fetch the next older page before the user reaches the end
+        rvEventLog.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
+                if (dy <= 0) return;
+                int lastVisible = layoutManager.findLastVisibleItemPosition();
+                if (lastVisible >= loadedEvents.size() - 10) {
+                    // Post - adapter changes are not allowed inside a scroll callback
+                    recyclerView.post(() -> loadMoreEvents());
+                }
+            }
+        });
+        
+        // ✅ NEW: Timeline starts at the latest event
+        setupTimeline();
+    }
+    
+    /**
+     * ✅ NEW: Scrubbable timeline - each position is a seek to the nearest checkpoint
+     * plus at most GameReplay.CHECKPOINT_INTERVAL events, so dragging stays cheap
+     * however long the game is (the first seek writes the game's checkpoints)
+     */
+    private void setupTimeline() {
+        com.basketballstats.app.data.DatabaseController dbController = 
+            com.basketballstats.app.data.DatabaseController.getInstance(this);
+        gameReplay = new GameReplay(dbController.getDatabaseHelper(), gameId);
+        
+        sbTimeline.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
+            @Override
+            public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
+                showTimelineState(progress);
+            }
+            
+            @Override
+            public void onStartTrackingTouch(SeekBar seekBar) {}
+            
+            @Override
+            public void onStopTrackingTouch(SeekBar seekBar) {}
+        });
+        refreshTimeline();
+    }
+    
+    /**
+     * ✅ NEW: Re-range the timeline after events were deleted and jump to the latest event
+     */
+    private void refreshTimeline() {
+        sbTimeline.setMax(totalEventCount);
+        sbTimeline.setProgress(totalEventCount);
+        showTimelineState(totalEventCount); // setProgress does not call back when unchanged
+    }
+    
+    /**
+     * ✅ NEW: Show score, clock and team fouls as of a timeline position
+     */
+    private void showTimelineState(int position) {
+        if (gameReplay == null) return;
+        
+        try {
+            GameState state = gameReplay.stateAtPosition(position);
+            if (state.getEventCount() == 0) {
+                tvTimelineState.setText(String.format("Start of game\n%s 0 - 0 %s", teamAName, teamBName));
+                return;
+            }
+            
+            tvTimelineState.setText(String.format("Event %d of %d - %s %s\n%s %d - %d %s\nTeam fouls: %d%s - %d%s",
+                state.getEventCount(), totalEventCount, "Q" + state.getQuarter(), state.getFormattedGameTime(),
+                teamAName, state.getHomeScore(), state.getAwayScore(), teamBName,
+                state.getTeamFouls("home"), state.isInBonus("home") ? " (bonus)" : "",
+                state.getTeamFouls("away"), state.isInBonus("away") ? " (bonus)" : ""));
+        } catch (Exception e) {
+            AppLog.e("LogActivity", "❌ Error replaying game state at position " + position, e);
+        }
     }
     
     private void setupEventListeners() {
@@ -204,17 +299,20 @@ public class LogActivity extends Activity {
             resetGameToNotStarted(dbController);
             
             // 4. Clear local list and refresh adapter
-            allEvents.clear();
+            loadedEvents.clear();
+            totalEventCount = 0;
+            eventSource.loadInitial(); // Restart paging (game has no events now)
             eventAdapter.notifyDataSetChanged();
+            refreshTimeline();
             
             Toast.makeText(this, String.format("✅ Complete reset: %d events + %d players cleared", 
                 deletedCount, deletedPlayers), Toast.LENGTH_LONG).show();
             
-            android.util.Log.d("LogActivity", String.format("🔄 COMPLETE RESET: %d events + %d players cleared, game → not_started", 
-                deletedCount, deletedPlayers));
+            AppLog.d("LogActivity", "🔄 COMPLETE RESET: %d events + %d players cleared, game → not_started", 
+                deletedCount, deletedPlayers);
             
         } catch (Exception e) {
-            android.util.Log.e("LogActivity", "❌ Error performing complete game reset for gameId " + gameId, e);
+            AppLog.e("LogActivity", "❌ Error performing complete game reset for gameId " + gameId, e);
             Toast.makeText(this, "Error: Could not reset game completely", Toast.LENGTH_SHORT).show();
         }
     }
@@ -240,13 +338,13 @@ public class LogActivity extends Activity {
                 // ✅ NEW: Transition to "not_started" status
                 game.setToNotStarted();
                 
-                // Save all changes to database
+                // Save all changes to database (leaving "done" rolls the game back out of season stats)
                 game.save(dbController.getDatabaseHelper());
                 
-                android.util.Log.d("LogActivity", "✅ Complete reset: scores → 0-0, quarter → Q1, timer → 10:00, status → not_started");
+                AppLog.d("LogActivity", "✅ Complete reset: scores → 0-0, quarter → Q1, timer → 10:00, status → not_started");
             }
         } catch (Exception e) {
-            android.util.Log.e("LogActivity", "❌ Error performing complete game reset", e);
+            AppLog.e("LogActivity", "❌ Error performing complete game reset", e);
         }
     }
     
@@ -266,14 +364,14 @@ public class LogActivity extends Activity {
             if (game != null && game.isGameInProgress()) {
                 // Show End Game button only for games in progress
                 btnEndGame.setVisibility(View.VISIBLE);
-                android.util.Log.d("LogActivity", "End Game button shown - game in progress");
+                AppLog.d("LogActivity", "End Game button shown - game in progress");
             } else {
                 // Hide for not_started and done games
                 btnEndGame.setVisibility(View.GONE);
-                android.util.Log.d("LogActivity", "End Game button hidden - game not in progress");
+                AppLog.d("LogActivity", "End Game button hidden - game not in progress");
             }
         } catch (Exception e) {
-            android.util.Log.e("LogActivity", "Error checking game status for End Game button", e);
+            AppLog.e("LogActivity", "Error checking game status for End Game button", e);
             btnEndGame.setVisibility(View.GONE); // Hide on error
         }
     }
@@ -320,22 +418,22 @@ public class LogActivity extends Activity {
                 updateEndGameButtonVisibility();
                 
                 Toast.makeText(this, "🏁 Game ended manually - marked as complete!", Toast.LENGTH_LONG).show();
-                android.util.Log.d("LogActivity", "✅ Manual end game: game_in_progress → done");
+                AppLog.d("LogActivity", "✅ Manual end game: game_in_progress → done");
                 
             } else {
                 Toast.makeText(this, "Cannot end game - not in progress", Toast.LENGTH_SHORT).show();
-                android.util.Log.w("LogActivity", "Cannot end game manually - not in game_in_progress status");
+                AppLog.w("LogActivity", "Cannot end game manually - not in game_in_progress status");
             }
             
         } catch (Exception e) {
-            android.util.Log.e("LogActivity", "❌ Error ending game manually", e);
+            AppLog.e("LogActivity", "❌ Error ending game manually", e);
             Toast.makeText(this, "Error: Could not end game", Toast.LENGTH_SHORT).show();
         }
     }
     
     /**
-     * ✅ FIXED: Recalculate game scores from all remaining scoring events
-     * CRITICAL FIX: Properly map team names to home/away based on database assignment
+     * ✅ FIXED: Recalculate game scores after an event deletion
+     * ✅ NEW: Reads the home/away line score totals instead of re-scanning scoring events
      */
     private void recalculateGameScores(com.basketballstats.app.data.DatabaseController dbController) {
         try {
@@ -345,191 +443,103 @@ public class LogActivity extends Activity {
             
             if (game == null) return;
             
-            // Load the teams to get actual home/away assignment
-            game.loadTeams(dbController.getDatabaseHelper());
-            
-            // Get all remaining events for this game
-            java.util.List<com.basketballstats.app.models.Event> remainingEvents = 
-                com.basketballstats.app.models.Event.findByGameId(dbController.getDatabaseHelper(), gameId);
-            
-            int homeScore = 0;
-            int awayScore = 0;
-            
-            // ✅ CRITICAL FIX: Get actual home/away team names from database
-            String homeTeamName = game.getHomeTeam() != null ? game.getHomeTeam().getName() : teamAName;
-            String awayTeamName = game.getAwayTeam() != null ? game.getAwayTeam().getName() : teamBName;
-            
-            // Calculate scores from all scoring events using actual home/away mapping
-            for (com.basketballstats.app.models.Event event : remainingEvents) {
-                int points = 0;
-                switch (event.getEventType()) {
-                    case "1P": points = 1; break;
-                    case "2P": points = 2; break;
-                    case "3P": points = 3; break;
-                    default: continue; // Skip non-scoring events
-                }
-                
-                // ✅ FIXED: Use actual home/away team names instead of assuming teamA=home
-                if (homeTeamName.equals(event.getTeamSide())) {
-                    homeScore += points;
-                } else if (awayTeamName.equals(event.getTeamSide())) {
-                    awayScore += points;
-                }
-            }
+            // ✅ NEW: Totals from the per-quarter line score (kept current by the event triggers)
+            com.basketballstats.app.models.LineScore lineScore = 
+                com.basketballstats.app.models.LineScore.findByGameId(dbController.getDatabaseHelper(), gameId);
+            int homeScore = lineScore.getTotalPoints("home");
+            int awayScore = lineScore.getTotalPoints("away");
             
             // ✅ FIXED: Always update database with correct home/away scores
             game.setHomeScore(homeScore);
             game.setAwayScore(awayScore);
             game.save(dbController.getDatabaseHelper());
             
-            android.util.Log.d("LogActivity", String.format("🔄 Recalculated scores: HOME[%s]=%d AWAY[%s]=%d", 
-                homeTeamName, homeScore, awayTeamName, awayScore));
+            AppLog.d("LogActivity", "🔄 Recalculated scores: HOME=%d AWAY=%d", homeScore, awayScore);
                 
         } catch (Exception e) {
-            android.util.Log.e("LogActivity", "❌ Error recalculating game scores", e);
+            AppLog.e("LogActivity", "❌ Error recalculating game scores", e);
         }
     }
     
     /**
-     * Custom adapter for event log with edit/delete functionality
+     * Custom RecyclerView adapter for event log with edit/delete functionality
      */
-    private class EventLogAdapter extends BaseAdapter {
+    private class EventLogAdapter extends RecyclerView.Adapter<EventLogAdapter.EventViewHolder> {
         private Context context;
-        private List<String> events;
+        private List<EventLogRow> events;
         private LayoutInflater inflater;
         
-        public EventLogAdapter(Context context, List<String> events) {
+        public EventLogAdapter(Context context, List<EventLogRow> events) {
             this.context = context;
             this.events = events;
             this.inflater = LayoutInflater.from(context);
         }
         
+        /**
+         * Row views looked up once per inflated row
+         */
+        class EventViewHolder extends RecyclerView.ViewHolder {
+            final TextView tvQuarter;
+            final TextView tvTime;
+            final TextView tvPlayer;
+            final TextView tvEvent;
+            final Button btnEdit;
+            final Button btnDelete;
+            
+            EventViewHolder(View itemView) {
+                super(itemView);
+                tvQuarter = itemView.findViewById(R.id.tvQuarter);
+                tvTime = itemView.findViewById(R.id.tvTime);
+                tvPlayer = itemView.findViewById(R.id.tvPlayer);
+                tvEvent = itemView.findViewById(R.id.tvEvent);
+                btnEdit = itemView.findViewById(R.id.btnEditEvent);
+                btnDelete = itemView.findViewById(R.id.btnDeleteEvent);
+            }
+        }
+        
         @Override
-        public int getCount() { return events.size(); }
+        public int getItemCount() { return events.size(); }
         
         @Override
-        public Object getItem(int position) { return events.get(position); }
+        public long getItemId(int position) { return events.get(position).getEventId(); }
         
         @Override
-        public long getItemId(int position) { return position; }
+        public EventViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
+            View view = inflater.inflate(R.layout.item_event_log, parent, false);
+            return new EventViewHolder(view);
+        }
         
         @Override
-        public View getView(int position, View convertView, ViewGroup parent) {
-            if (convertView == null) {
-                convertView = inflater.inflate(R.layout.item_event_log, parent, false);
-            }
+        public void onBindViewHolder(EventViewHolder holder, int position) {
+            EventLogRow event = events.get(position);
             
-            String event = events.get(position);
-            
-            // Find table column views
-            TextView tvQuarter = convertView.findViewById(R.id.tvQuarter);
-            TextView tvTime = convertView.findViewById(R.id.tvTime);
-            TextView tvPlayer = convertView.findViewById(R.id.tvPlayer);
-            TextView tvEvent = convertView.findViewById(R.id.tvEvent);
-            Button btnEdit = convertView.findViewById(R.id.btnEditEvent);
-            Button btnDelete = convertView.findViewById(R.id.btnDeleteEvent);
-            
-            // Parse event string (format: "Q1 8:45 - #23 LeBron James - 2P")
-            String[] eventParts = parseEventString(event);
-            
-            // Set table columns
-            tvQuarter.setText(eventParts[0]); // Quarter
-            tvTime.setText(eventParts[1]);    // Time
-            tvPlayer.setText(eventParts[2]);  // Player
-            tvEvent.setText(eventParts[3]);   // Event
+            // ✅ NEW: Bind table columns directly from the structured row (no string parsing)
+            holder.tvQuarter.setText(event.getQuarterLabel());
+            holder.tvTime.setText(event.getClockLabel());
+            holder.tvPlayer.setText(event.getPlayerLabel());
+            holder.tvEvent.setText(event.getTypeCode());
             
             // Set event color based on type
-            setEventColor(tvEvent, eventParts[3]);
+            setEventColor(holder.tvEvent, event.getTypeCode());
             
             // Edit button (placeholder)
-            btnEdit.setOnClickListener(new View.OnClickListener() {
+            holder.btnEdit.setOnClickListener(new View.OnClickListener() {
                 @Override
                 public void onClick(View v) {
-                    editEvent(event, position);
+                    editEvent(event);
                 }
             });
             
-            // Delete button
-            btnDelete.setOnClickListener(new View.OnClickListener() {
+            // Delete button - resolve the position at click time (rows shift as pages load/delete)
+            holder.btnDelete.setOnClickListener(new View.OnClickListener() {
                 @Override
                 public void onClick(View v) {
-                    confirmDeleteEvent(event, position);
-                }
-            });
-            
-            return convertView;
-        }
-        
-        /**
-         * Parse event string into table columns
-         * Expected formats:
-         * - Player events: "Q1 8:45 - LAKERS - #23 LeBron James - 2P" (4 parts)
-         * - Team events: "Q1 8:45 - LAKERS - TIMEOUT" (3 parts)
-         * - Legacy format: "8:45 - #23 LeBron James - 2P" (without quarter, 3 parts)
-         */
-        private String[] parseEventString(String event) {
-            String[] result = new String[4]; // Quarter, Time, Player, Event
-            
-            try {
-                // Split by " - "
-                String[] parts = event.split(" - ");
-                
-                if (parts.length >= 4) {
-                    // New 4-part format: "Q1 8:45 - LAKERS - #23 LeBron James - 2P"
-                    String[] timeInfo = parts[0].split(" ");
-                    
-                    if (timeInfo.length >= 2 && timeInfo[0].startsWith("Q")) {
-                        result[0] = timeInfo[0]; // Quarter (Q1)
-                        result[1] = timeInfo[1]; // Time (8:45)
-                    } else {
-                        result[0] = "Q1"; // Default quarter
-                        result[1] = parts[0]; // Time (8:45)
-                    }
-                    
-                    // Skip team name (parts[1]) for display, use player name
-                    result[2] = parts[2]; // "#23 LeBron James"
-                    result[3] = parts[3]; // "2P"
-                    
-                } else if (parts.length == 3) {
-                    // 3-part format: Could be team event or legacy player event
-                    String[] timeInfo = parts[0].split(" ");
-                    
-                    if (timeInfo.length >= 2 && timeInfo[0].startsWith("Q")) {
-                        // "Q1 8:45 - LAKERS - TIMEOUT" (team event)
-                        result[0] = timeInfo[0]; // Quarter (Q1)
-                        result[1] = timeInfo[1]; // Time (8:45)
-                        result[2] = parts[1]; // "LAKERS"
-                        result[3] = parts[2]; // "TIMEOUT"
-                    } else {
-                        // Legacy format: "8:45 - #23 LeBron James - 2P"
-                        result[0] = "Q1"; // Default quarter
-                        result[1] = parts[0]; // Time (8:45)
-                        result[2] = parts[1]; // "#23 LeBron James"
-                        result[3] = parts[2]; // "2P"
+                    int currentPosition = holder.getAdapterPosition();
+                    if (currentPosition != RecyclerView.NO_POSITION) {
+                        confirmDeleteEvent(event, currentPosition);
                     }
-                    
-                } else if (parts.length == 2) {
-                    // Handle format: "Player - Event"
-                    result[0] = "Q1";
-                    result[1] = "0:00";
-                    result[2] = parts[0];
-                    result[3] = parts[1];
-                } else {
-                    // Single string - treat as event type
-                    result[0] = "Q1";
-                    result[1] = "0:00";
-                    result[2] = "Unknown";
-                    result[3] = event;
                 }
-            } catch (Exception e) {
-                // Error parsing - use defaults with debug info
-                result[0] = "Q1";
-                result[1] = "0:00";
-                result[2] = event.length() > 20 ? event.substring(0, 20) + "..." : event;
-                result[3] = "ERR";
-            }
-            
-            return result;
+            });
         }
         
         /**
@@ -568,13 +578,13 @@ public class LogActivity extends Activity {
         }
     }
     
-    private void editEvent(String event, int position) {
+    private void editEvent(EventLogRow event) {
         // Placeholder for event editing
         Toast.makeText(this, "Edit event: " + event + "\n(Editing functionality coming soon!)", Toast.LENGTH_LONG).show();
         // TODO: Implement event editing dialog with quarter, time, player, event type fields
     }
     
-    private void confirmDeleteEvent(String event, int position) {
+    private void confirmDeleteEvent(EventLogRow event, int position) {
         AlertDialog.Builder builder = new AlertDialog.Builder(this);
         builder.setTitle("Delete Event")
                .setMessage("Are you sure you want to delete this event?\n" + event)
@@ -588,45 +598,35 @@ public class LogActivity extends Activity {
                .show();
     }
     
-    private void deleteEvent(String event, int position) {
+    private void deleteEvent(EventLogRow event, int position) {
         try {
             com.basketballstats.app.data.DatabaseController dbController = 
                 com.basketballstats.app.data.DatabaseController.getInstance(this);
             
-            // ✅ FIX: Get all events from database and find the one at this position
-            java.util.List<com.basketballstats.app.models.Event> gameEvents = 
-                com.basketballstats.app.models.Event.findByGameId(dbController.getDatabaseHelper(), gameId);
-            
-            // Verify position is valid
-            if (position < 0 || position >= gameEvents.size()) {
-                Toast.makeText(this, "Error: Invalid event position", Toast.LENGTH_SHORT).show();
-                return;
-            }
-            
-            // Get the specific event to delete (events are ordered by sequence)
-            com.basketballstats.app.models.Event eventToDelete = gameEvents.get(position);
-            
-            // Delete from SQLite database
-            boolean deleted = eventToDelete.delete(dbController.getDatabaseHelper());
+            // ✅ FIX: Delete by event ID (no reload of the whole game to find it by position)
+            boolean deleted = com.basketballstats.app.models.Event.deleteById(
+                dbController.getDatabaseHelper(), event.getEventId());
             
             if (deleted) {
                 // ✅ NEW: Recalculate scores from remaining events
                 recalculateGameScores(dbController);
                 
                 // Remove from local display list and refresh
-                allEvents.remove(position);
-                eventAdapter.notifyDataSetChanged();
+                loadedEvents.remove(position);
+                totalEventCount--;
+                eventAdapter.notifyItemRemoved(position);
+                refreshTimeline(); // Delete trigger dropped the checkpoints from this event on
                 
                 Toast.makeText(this, "✅ Event deleted", Toast.LENGTH_SHORT).show();
-                android.util.Log.d("LogActivity", String.format("🗑️ Deleted event: %s (ID: %d)", 
-                    event, eventToDelete.getId()));
+                AppLog.d("LogActivity", "🗑️ Deleted event: %s (ID: %d)", 
+                    event, event.getEventId());
             } else {
                 Toast.makeText(this, "Error: Database deletion failed", Toast.LENGTH_SHORT).show();
             }
             
         } catch (Exception e) {
-            android.util.Log.e("LogActivity", "❌ Error deleting event at position " + position, e);
+            AppLog.e("LogActivity", "❌ Error deleting event at position " + position, e);
             Toast.makeText(this, "Error: Could not delete event - " + e.getMessage(), Toast.LENGTH_SHORT).show();
         }
     }
-}
\ No newline at end of file
+}
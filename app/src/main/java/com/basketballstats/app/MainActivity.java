@@ -7,6 +7,7 @@ import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.AbsListView;
 import android.widget.AdapterView;
 import android.widget.BaseAdapter;
 import android.widget.Button;
@@ -16,7 +17,10 @@ import android.widget.Toast;
 import android.view.animation.Animation;
 import android.view.animation.RotateAnimation;
 import com.basketballstats.app.models.Game;
+import com.basketballstats.app.models.GameListItem;
 import com.basketballstats.app.data.DatabaseController;
+import com.basketballstats.app.data.DatabaseHelper;
+import com.basketballstats.app.data.InvalidationTracker;
 import com.basketballstats.app.sync.SyncManager;
 import com.basketballstats.app.auth.AuthController;
 import java.util.List;
@@ -45,8 +49,10 @@ public class MainActivity extends Activity {
     
     // Database and Data
     private DatabaseController dbController;
-    private List<Game> gamesList;
+    private List<GameListItem> gamesList;
     private GameCardAdapter gameAdapter;
+    private boolean hasMoreGames = false; // More schedule pages available below the loaded ones
+    private InvalidationTracker.Watch gamesWatch; // ✅ NEW: games/teams versions as of the last list load
     
     // Sync infrastructure
     private SyncManager syncManager;
@@ -118,6 +124,8 @@ public class MainActivity extends Activity {
             
             // Initialize database controller
             dbController = DatabaseController.getInstance(this);
+            gamesWatch = dbController.getInvalidationTracker().watch(
+                DatabaseHelper.TABLE_GAMES, DatabaseHelper.TABLE_TEAMS);
             android.util.Log.d("DEBUG", "initializeData() - Database controller OK");
             
             // Load games from SQLite database first (core functionality)
@@ -186,8 +194,12 @@ public class MainActivity extends Activity {
             android.util.Log.d("DEBUG", "refreshGamesList() - START");
             
             // Reload games from SQLite database (in case they were modified in League Management)
-            gamesList = Game.findAll(dbController.getDatabaseHelper());
-            android.util.Log.d("DEBUG", "refreshGamesList() - Game.findAll OK, count: " + gamesList.size());
+            // ✅ NEW: Single JOIN query for game rows + team names; keep the pages already scrolled into
+            int loadedCount = gamesList != null ? gamesList.size() : 0;
+            int requested = Math.max(loadedCount, GameListItem.DEFAULT_PAGE_SIZE);
+            gamesList = new java.util.ArrayList<>(GameListItem.findPage(dbController.getDatabaseHelper(), null, requested));
+            hasMoreGames = gamesList.size() >= requested;
+            android.util.Log.d("DEBUG", "refreshGamesList() - GameListItem.findPage OK, count: " + gamesList.size());
             
             // Debug output to verify games are loaded
             Toast.makeText(this, "Loaded " + gamesList.size() + " games from SQLite", Toast.LENGTH_SHORT).show();
@@ -215,11 +227,45 @@ public class MainActivity extends Activity {
         }
     }
     
+    /**
+     * ✅ NEW: Re-query only if games or teams were written since the last load
+     */
+    private void refreshGamesListIfChanged() {
+        if (gamesWatch == null || gamesWatch.consumeChange()) {
+            refreshGamesList();
+        } else {
+            android.util.Log.d("MainActivity", "Games unchanged - keeping loaded list");
+        }
+    }
+    
+    /**
+     * Append the next page of games when the list is scrolled near its end
+     */
+    private void loadMoreGames() {
+        if (!hasMoreGames || gamesList == null || gamesList.isEmpty()) {
+            return;
+        }
+        
+        try {
+            GameListItem last = gamesList.get(gamesList.size() - 1);
+            List<GameListItem> page = GameListItem.findPage(dbController.getDatabaseHelper(), last, GameListItem.DEFAULT_PAGE_SIZE);
+            hasMoreGames = page.size() >= GameListItem.DEFAULT_PAGE_SIZE;
+            if (!page.isEmpty()) {
+                gamesList.addAll(page);
+                gameAdapter.updateGames(gamesList);
+            }
+        } catch (Exception e) {
+            android.util.Log.e("MainActivity", "Error loading more games", e);
+            hasMoreGames = false;
+        }
+    }
+    
     @Override
     protected void onResume() {
         super.onResume();
         // Refresh games list when returning from League Management or other activities
-        refreshGamesList();
+        // ✅ NEW: No queries unless a game or team actually changed meanwhile
+        refreshGamesListIfChanged();
     }
     
     private void setupEventListeners() {
@@ -260,10 +306,26 @@ public class MainActivity extends Activity {
         lvGames.setOnItemClickListener(new AdapterView.OnItemClickListener() {
             @Override
             public void onItemClick(AdapterView<?> parent, View view, int position, long id) {
-                Game selectedGame = gamesList.get(position);
+                // Full game (with teams) is only loaded for the selected row
+                GameListItem selectedItem = gamesList.get(position);
+                Game selectedGame = Game.findById(dbController.getDatabaseHelper(), selectedItem.getId());
                 proceedToGameScreen(selectedGame);
             }
         });
+        
+        // Paging - load the next page of games before the user reaches the end
+        lvGames.setOnScrollListener(new AbsListView.OnScrollListener() {
+            @Override
+            public void onScrollStateChanged(AbsListView view, int scrollState) {
+            }
+            
+            @Override
+            public void onScroll(AbsListView view, int firstVisibleItem, int visibleItemCount, int totalItemCount) {
+                if (hasMoreGames && totalItemCount > 0 && firstVisibleItem + visibleItemCount >= totalItemCount - 5) {
+                    loadMoreGames();
+                }
+            }
+        });
     }
     
     private void proceedToGameScreen(Game game) {
@@ -379,14 +441,14 @@ public class MainActivity extends Activity {
     }
     
     /**
-     * Custom adapter for clean game card display with SQLite Game objects
+     * Custom adapter for clean game card display with GameListItem rows (games joined to team names)
      */
     private class GameCardAdapter extends BaseAdapter {
         private Context context;
-        private List<Game> games;
+        private List<GameListItem> games;
         private LayoutInflater inflater;
         
-        public GameCardAdapter(Context context, List<Game> games) {
+        public GameCardAdapter(Context context, List<GameListItem> games) {
             this.context = context;
             this.games = games;
             this.inflater = LayoutInflater.from(context);
@@ -413,16 +475,14 @@ public class MainActivity extends Activity {
                 convertView = inflater.inflate(R.layout.item_game_card, parent, false);
             }
             
-            Game game = games.get(position);
+            GameListItem game = games.get(position);
             
             TextView tvMatchup = convertView.findViewById(R.id.tvMatchup);
             TextView tvDate = convertView.findViewById(R.id.tvDate);
             TextView tvStatus = convertView.findViewById(R.id.tvStatus);
             
-            // Build matchup text with team names (load if needed)
-            String homeTeamName = game.getHomeTeam() != null ? game.getHomeTeam().getName() : "Team " + game.getHomeTeamId();
-            String awayTeamName = game.getAwayTeam() != null ? game.getAwayTeam().getName() : "Team " + game.getAwayTeamId();
-            String matchupText = homeTeamName + " vs " + awayTeamName;
+            // Build matchup text with team names (joined in the list query)
+            String matchupText = game.getHomeTeamName() + " vs " + game.getAwayTeamName();
             
             // Build date/time text
             String dateText = game.getDate();
@@ -477,7 +537,7 @@ public class MainActivity extends Activity {
         /**
          * Update games list and refresh adapter
          */
-        public void updateGames(List<Game> newGames) {
+        public void updateGames(List<GameListItem> newGames) {
             this.games = newGames;
             notifyDataSetChanged();
         }
@@ -590,8 +650,8 @@ public class MainActivity extends Activity {
 
             @Override
             public void onSyncComplete() {
-                // Refresh games list from SQLite database after sync
-                refreshGamesList();
+                // Refresh games list from SQLite database after sync (if the merge changed anything)
+                refreshGamesListIfChanged();
             }
         });
     }
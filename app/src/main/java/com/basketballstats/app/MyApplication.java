@@ -2,6 +2,7 @@ package com.basketballstats.app;
 
 import android.app.Application;
 import android.util.Log;
+import com.basketballstats.app.data.ModelCache;
 import com.google.firebase.FirebaseApp;
 
 /**
@@ -25,4 +26,11 @@ public class MyApplication extends Application {
         
         Log.d("DEBUG", "MyApplication.onCreate() - COMPLETE");
     }
+    
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+        // Release cached Team/TeamPlayer instances under memory pressure
+        ModelCache.onTrimMemory(level);
+    }
 }
@@ -42,6 +42,8 @@ public class DatabaseController {
     private static DatabaseController instance;
     private final DatabaseHelper dbHelper;
     private final Context context;
+    private final EventWriter eventWriter;
+    private final SettingsStore settings;
     
     // Performance tracking
     private long totalQueries = 0;
@@ -52,6 +54,8 @@ public class DatabaseController {
     private DatabaseController(Context context) {
         this.context = context.getApplicationContext();
         this.dbHelper = DatabaseHelper.getInstance(this.context);
+        this.eventWriter = new EventWriter(dbHelper);
+        this.settings = new SettingsStore(dbHelper);
         initializeDatabase();
     }
     
@@ -76,6 +80,7 @@ public class DatabaseController {
         try {
             // Initialize default app settings
             AppSettings.initializeDefaults(dbHelper);
+            settings.reload();
             
             // Set up initial league teams if none exist
             initializeDefaultTeams();
@@ -309,13 +314,23 @@ public class DatabaseController {
      */
     public void batchSaveEvents(List<Event> events) throws Exception {
         executeTransaction(() -> {
-            for (Event event : events) {
-                event.save(dbHelper);
-            }
+            eventWriter.writeAll(events); // Precompiled statements, one transaction
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_EVENTS);
             Log.d(TAG, "Batch saved " + events.size() + " events");
         });
     }
     
+    /**
+     * Commit compound game mutation (event + score + fouls + lineup) in one transaction
+     */
+    public void commitMutation(GameMutation mutation) throws Exception {
+        if (mutation.isEmpty()) return;
+        
+        executeTransaction(() -> {
+            mutation.applyTo(dbHelper, eventWriter);
+        });
+    }
+    
     /**
      * Batch delete records by IDs
      */
@@ -340,6 +355,8 @@ public class DatabaseController {
             
             int deletedRows = db.delete(tableName, whereClause.toString(), whereArgs);
             Log.d(TAG, "Batch deleted " + deletedRows + " records from " + tableName);
+            ModelCache.invalidateTable(tableName);
+            dbHelper.notifyTableChanged(tableName);
         });
     }
     
@@ -503,13 +520,18 @@ public class DatabaseController {
      */
     private void validateTableCounts() {
         try {
-            int teamCount = Team.getCount(dbHelper);
-            int playerCount = TeamPlayer.getTotalCount(dbHelper);
-            int gameCount = Game.getCount(dbHelper);
-            int eventCount = Event.getTotalCount(dbHelper);
-            int settingsCount = AppSettings.getCount(dbHelper);
-            int userCount = UserProfile.getCount(dbHelper);
-            int queueCount = SyncQueue.getCount(dbHelper);
+            // All totals from the counters table in one query
+            Map<String, Integer> counts = TableCounters.getAll(dbHelper,
+                DatabaseHelper.TABLE_TEAMS, DatabaseHelper.TABLE_TEAM_PLAYERS, DatabaseHelper.TABLE_GAMES,
+                DatabaseHelper.TABLE_EVENTS, DatabaseHelper.TABLE_APP_SETTINGS,
+                DatabaseHelper.TABLE_USER_PROFILE, DatabaseHelper.TABLE_SYNC_QUEUE);
+            int teamCount = counts.get(DatabaseHelper.TABLE_TEAMS);
+            int playerCount = counts.get(DatabaseHelper.TABLE_TEAM_PLAYERS);
+            int gameCount = counts.get(DatabaseHelper.TABLE_GAMES);
+            int eventCount = counts.get(DatabaseHelper.TABLE_EVENTS);
+            int settingsCount = counts.get(DatabaseHelper.TABLE_APP_SETTINGS);
+            int userCount = counts.get(DatabaseHelper.TABLE_USER_PROFILE);
+            int queueCount = counts.get(DatabaseHelper.TABLE_SYNC_QUEUE);
             
             Log.d(TAG, "Table counts - Teams: " + teamCount + ", Players: " + playerCount + 
                       ", Games: " + gameCount + ", Events: " + eventCount + 
@@ -544,6 +566,8 @@ public class DatabaseController {
                                           " NOT IN (SELECT " + DatabaseHelper.COLUMN_ID + " FROM " + DatabaseHelper.TABLE_TEAMS + ")";
             db.execSQL(deleteOrphanedPlayers);
             int orphanedPlayers = getRowsAffected(db);
+            ModelCache.invalidateTable(DatabaseHelper.TABLE_TEAM_PLAYERS);
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_TEAM_PLAYERS);
             
             // Remove events without games
             String deleteOrphanedEvents = "DELETE FROM " + DatabaseHelper.TABLE_EVENTS + 
@@ -551,6 +575,7 @@ public class DatabaseController {
                                          " NOT IN (SELECT " + DatabaseHelper.COLUMN_ID + " FROM " + DatabaseHelper.TABLE_GAMES + ")";
             db.execSQL(deleteOrphanedEvents);
             int orphanedEvents = getRowsAffected(db);
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_EVENTS);
             
             // Remove sync queue items for non-existent records
             // This is more complex and should be done per table
@@ -606,6 +631,16 @@ public class DatabaseController {
     public boolean restoreBackup(String backupPath) {
         try {
             // Implementation would depend on backup format
+            dbHelper.rebuildCounters(); // Restored rows were not counted by this database's triggers
+            dbHelper.rebuildPlayerGameStats(null);
+            dbHelper.rebuildTeamQuarterStats(null);
+            dbHelper.rebuildSeasonStats(); // After player_game_stats - season lines sum them
+            dbHelper.clearGameStateCheckpoints(); // Replay cache - rewritten on the next timeline seek
+            ModelCache.invalidateAll();
+            EventSequenceAllocator.invalidateAll(); // Restored events - reseed from MAX(event_sequence)
+            eventWriter.reset(); // Statements were compiled on the connection that was replaced
+            dbHelper.getInvalidationTracker().notifyAllChanged();
+            settings.reload();
             Log.d(TAG, "Database restored from: " + backupPath);
             return true;
         } catch (Exception e) {
@@ -686,6 +721,7 @@ public class DatabaseController {
         for (Map.Entry<String, Long> entry : perfStats.entrySet()) {
             Log.d(TAG, "Query [" + entry.getKey() + "]: " + entry.getValue() + "ms");
         }
+        Log.d(TAG, "Model Cache: " + ModelCache.getStatistics());
         Log.d(TAG, "=====================================");
     }
     
@@ -698,10 +734,32 @@ public class DatabaseController {
         return dbHelper;
     }
     
+    /**
+     * Get shared precompiled-statement event writer
+     */
+    public EventWriter getEventWriter() {
+        return eventWriter;
+    }
+    
+    /**
+     * Get per-table write versions (screens watch the tables they list)
+     */
+    public InvalidationTracker getInvalidationTracker() {
+        return dbHelper.getInvalidationTracker();
+    }
+    
+    /**
+     * Get in-memory app settings (loaded once, write-through)
+     */
+    public SettingsStore getSettings() {
+        return settings;
+    }
+    
     /**
      * Close database connections
      */
     public void close() {
+        eventWriter.close();
         if (dbHelper != null) {
             dbHelper.close();
         }
@@ -743,5 +801,10 @@ public class DatabaseController {
     public void executeRawSQL(String sql) throws SQLException {
         SQLiteDatabase db = dbHelper.getWritableDatabase();
         db.execSQL(sql);
+        ModelCache.invalidateAll(); // Statement may have touched cached tables
+        EventSequenceAllocator.invalidateAll();
+        eventWriter.reset();
+        dbHelper.getInvalidationTracker().notifyAllChanged();
+        settings.reload();
     }
 }
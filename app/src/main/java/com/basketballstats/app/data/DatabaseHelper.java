@@ -1,6 +1,7 @@
 package com.basketballstats.app.data;
 
 import android.content.Context;
+import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
 import android.util.Log;
@@ -11,11 +12,17 @@ import android.util.Log;
  * SQLite-Primary Architecture: SQLite as primary data store with Firebase sync
  * 
  * Database Schema:
- * - 9 tables: teams, team_players, games, game_players, events, team_fouls, 
- *   app_settings, user_profile, sync_queue, sync_log
+ * - 16 tables: teams, team_players, games, game_players, events, team_fouls, 
+ *   app_settings, user_profile, sync_queue, sync_log, counters, player_game_stats,
+ *   player_season_stats, team_season_stats, lineup_stats, game_state_checkpoints
  * - Performance indexes for all key queries
  * - Foreign key constraints with CASCADE deletes
  * - Sync metadata tracking for Firebase synchronization
+ * - Trigger-maintained row counters (read through TableCounters)
+ * - Trigger-maintained per-player box score (player_game_stats)
+ * - Trigger-maintained per-quarter team fouls and points (team_fouls, read through LineScore)
+ * - Trigger-maintained season rollups over done games (player_season_stats, team_season_stats)
+ * - Game state checkpoints for replay (written by GameReplay, cleared by event triggers)
  */
 public class DatabaseHelper extends SQLiteOpenHelper {
     
@@ -23,7 +30,7 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     
     // Database Info
     private static final String DATABASE_NAME = "basketball_stats.db";
-    private static final int DATABASE_VERSION = 2; // Updated for 3-state game status system
+    private static final int DATABASE_VERSION = 10; // Version 10: game state checkpoints
     
     // Table Names
     public static final String TABLE_TEAMS = "teams";
@@ -36,6 +43,12 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     public static final String TABLE_USER_PROFILE = "user_profile";
     public static final String TABLE_SYNC_QUEUE = "sync_queue";
     public static final String TABLE_SYNC_LOG = "sync_log";
+    public static final String TABLE_COUNTERS = "counters";
+    public static final String TABLE_PLAYER_GAME_STATS = "player_game_stats";
+    public static final String TABLE_PLAYER_SEASON_STATS = "player_season_stats";
+    public static final String TABLE_TEAM_SEASON_STATS = "team_season_stats";
+    public static final String TABLE_LINEUP_STATS = "lineup_stats";
+    public static final String TABLE_GAME_STATE_CHECKPOINTS = "game_state_checkpoints";
     
     // Common Columns
     public static final String COLUMN_ID = "id";
@@ -64,6 +77,8 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     public static final String GAMES_COLUMN_CURRENT_QUARTER = "current_quarter";
     public static final String GAMES_COLUMN_GAME_CLOCK_SECONDS = "game_clock_seconds";
     public static final String GAMES_COLUMN_IS_CLOCK_RUNNING = "is_clock_running";
+    public static final String GAMES_COLUMN_CLOCK_REMAINING_MS = "clock_remaining_ms";
+    public static final String GAMES_COLUMN_CLOCK_STARTED_AT = "clock_started_at";
     
     // Game Players Table Columns
     public static final String GAME_PLAYERS_COLUMN_GAME_ID = "game_id";
@@ -73,11 +88,14 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     public static final String GAME_PLAYERS_COLUMN_IS_STARTER = "is_starter";
     public static final String GAME_PLAYERS_COLUMN_PERSONAL_FOULS = "personal_fouls";
     public static final String GAME_PLAYERS_COLUMN_MINUTES_PLAYED = "minutes_played";
+    public static final String GAME_PLAYERS_COLUMN_SECONDS_PLAYED = "seconds_played";
+    public static final String GAME_PLAYERS_COLUMN_PLUS_MINUS = "plus_minus";
     
     // Events Table Columns
     public static final String EVENTS_COLUMN_GAME_ID = "game_id";
     public static final String EVENTS_COLUMN_PLAYER_ID = "player_id";
     public static final String EVENTS_COLUMN_TEAM_SIDE = "team_side";
+    public static final String EVENTS_COLUMN_SIDE = "side"; // 'home'/'away' as recorded (team_side may be a team name)
     public static final String EVENTS_COLUMN_QUARTER = "quarter";
     public static final String EVENTS_COLUMN_GAME_TIME_SECONDS = "game_time_seconds";
     public static final String EVENTS_COLUMN_EVENT_TYPE = "event_type";
@@ -91,6 +109,7 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     public static final String TEAM_FOULS_COLUMN_TEAM_SIDE = "team_side";
     public static final String TEAM_FOULS_COLUMN_QUARTER = "quarter";
     public static final String TEAM_FOULS_COLUMN_FOUL_COUNT = "foul_count";
+    public static final String TEAM_FOULS_COLUMN_POINTS = "points";
     
     // App Settings Table Columns
     public static final String APP_SETTINGS_COLUMN_SETTING_KEY = "setting_key";
@@ -124,9 +143,127 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     public static final String SYNC_LOG_COLUMN_COMPLETED_AT = "completed_at";
     public static final String SYNC_LOG_COLUMN_DURATION_SECONDS = "duration_seconds";
     
+    // Counters Table Columns
+    public static final String COUNTERS_COLUMN_COUNTER_KEY = "counter_key";
+    public static final String COUNTERS_COLUMN_COUNTER_VALUE = "counter_value";
+    
+    // Counter keys - table totals use the table name, scoped counts append the parent id
+    public static final String COUNTER_KEY_EVENTS_FOR_GAME = "events:game:";
+    public static final String COUNTER_KEY_PLAYERS_FOR_TEAM = "team_players:team:";
+    public static final String COUNTER_KEY_SYNC_QUEUE_PENDING = "sync_queue:pending";
+    
+    // Player Game Stats Table Columns (one row per game + player, maintained from events)
+    public static final String PLAYER_STATS_COLUMN_GAME_ID = "game_id";
+    public static final String PLAYER_STATS_COLUMN_PLAYER_ID = "player_id";
+    public static final String PLAYER_STATS_COLUMN_TEAM_SIDE = "team_side";
+    public static final String PLAYER_STATS_COLUMN_POINTS = "points";
+    public static final String PLAYER_STATS_COLUMN_FGM_1 = "fgm_1";
+    public static final String PLAYER_STATS_COLUMN_FGA_1 = "fga_1";
+    public static final String PLAYER_STATS_COLUMN_FGM_2 = "fgm_2";
+    public static final String PLAYER_STATS_COLUMN_FGA_2 = "fga_2";
+    public static final String PLAYER_STATS_COLUMN_FGM_3 = "fgm_3";
+    public static final String PLAYER_STATS_COLUMN_FGA_3 = "fga_3";
+    public static final String PLAYER_STATS_COLUMN_OFFENSIVE_REBOUNDS = "offensive_rebounds";
+    public static final String PLAYER_STATS_COLUMN_DEFENSIVE_REBOUNDS = "defensive_rebounds";
+    public static final String PLAYER_STATS_COLUMN_ASSISTS = "assists";
+    public static final String PLAYER_STATS_COLUMN_STEALS = "steals";
+    public static final String PLAYER_STATS_COLUMN_BLOCKS = "blocks";
+    public static final String PLAYER_STATS_COLUMN_TURNOVERS = "turnovers";
+    public static final String PLAYER_STATS_COLUMN_FOULS = "fouls";
+    
+    // Player Season Stats Table Columns (one row per player over done games;
+    // stat columns share the PLAYER_STATS_COLUMN_* names)
+    public static final String PLAYER_SEASON_COLUMN_PLAYER_ID = "player_id";
+    public static final String PLAYER_SEASON_COLUMN_TEAM_ID = "team_id";
+    public static final String PLAYER_SEASON_COLUMN_GAMES_PLAYED = "games_played";
+    
+    // Team Season Stats Table Columns (one row per team over done games)
+    public static final String TEAM_SEASON_COLUMN_TEAM_ID = "team_id";
+    public static final String TEAM_SEASON_COLUMN_GAMES_PLAYED = "games_played";
+    public static final String TEAM_SEASON_COLUMN_WINS = "wins";
+    public static final String TEAM_SEASON_COLUMN_LOSSES = "losses";
+    public static final String TEAM_SEASON_COLUMN_POINTS_FOR = "points_for";
+    public static final String TEAM_SEASON_COLUMN_POINTS_AGAINST = "points_against";
+    
+    // Lineup Stats Table Columns (one row per game + side + five-man lineup)
+    public static final String LINEUP_STATS_COLUMN_GAME_ID = "game_id";
+    public static final String LINEUP_STATS_COLUMN_TEAM_SIDE = "team_side";
+    public static final String LINEUP_STATS_COLUMN_LINEUP_KEY = "lineup_key";
+    public static final String LINEUP_STATS_COLUMN_SECONDS_PLAYED = "seconds_played";
+    public static final String LINEUP_STATS_COLUMN_POINTS_FOR = "points_for";
+    public static final String LINEUP_STATS_COLUMN_POINTS_AGAINST = "points_against";
+    
+    // Game State Checkpoints Table Columns (state after event_sequence, the event_count-th event)
+    public static final String CHECKPOINTS_COLUMN_GAME_ID = "game_id";
+    public static final String CHECKPOINTS_COLUMN_EVENT_SEQUENCE = "event_sequence";
+    public static final String CHECKPOINTS_COLUMN_EVENT_COUNT = "event_count";
+    public static final String CHECKPOINTS_COLUMN_QUARTER = "quarter";
+    public static final String CHECKPOINTS_COLUMN_GAME_TIME_SECONDS = "game_time_seconds";
+    public static final String CHECKPOINTS_COLUMN_TEAM_QUARTERS = "team_quarters";
+    public static final String CHECKPOINTS_COLUMN_PLAYER_LINES = "player_lines";
+    
+    // Season leaderboard stats (SQL over player_season_stats), ranked per game through perGame()
+    public static final String SEASON_STAT_POINTS = PLAYER_STATS_COLUMN_POINTS;
+    public static final String SEASON_STAT_REBOUNDS = PLAYER_STATS_COLUMN_OFFENSIVE_REBOUNDS + " + " + PLAYER_STATS_COLUMN_DEFENSIVE_REBOUNDS;
+    public static final String SEASON_STAT_ASSISTS = PLAYER_STATS_COLUMN_ASSISTS;
+    public static final String SEASON_STAT_STEALS = PLAYER_STATS_COLUMN_STEALS;
+    public static final String SEASON_STAT_BLOCKS = PLAYER_STATS_COLUMN_BLOCKS;
+    
+    // Index suffix -> leaderboard stat (one expression index each)
+    private static final String[][] SEASON_LEADERBOARDS = {
+        {"ppg", SEASON_STAT_POINTS},
+        {"rpg", SEASON_STAT_REBOUNDS},
+        {"apg", SEASON_STAT_ASSISTS},
+        {"spg", SEASON_STAT_STEALS},
+        {"bpg", SEASON_STAT_BLOCKS}
+    };
+    
+    // Standings order: win percentage, then point differential
+    public static final String TEAM_SEASON_STANDINGS_ORDER =
+        "(CAST(" + TEAM_SEASON_COLUMN_WINS + " AS REAL) / " + TEAM_SEASON_COLUMN_GAMES_PLAYED + ") DESC, (" +
+        TEAM_SEASON_COLUMN_POINTS_FOR + " - " + TEAM_SEASON_COLUMN_POINTS_AGAINST + ") DESC";
+    
+    // Points per event, as SQL over an event_type expression ("%s")
+    private static final String POINTS_DELTA = "(CASE %s WHEN '1P' THEN 1 WHEN '2P' THEN 2 WHEN '3P' THEN 3 ELSE 0 END)";
+    
+    // Stat column -> per-event contribution, as SQL over an event_type expression ("%s")
+    private static final String[][] PLAYER_STAT_DELTAS = {
+        {PLAYER_STATS_COLUMN_POINTS, POINTS_DELTA},
+        {PLAYER_STATS_COLUMN_FGM_1, "(%s = '1P')"},
+        {PLAYER_STATS_COLUMN_FGA_1, "(%s IN ('1P', '1M'))"},
+        {PLAYER_STATS_COLUMN_FGM_2, "(%s = '2P')"},
+        {PLAYER_STATS_COLUMN_FGA_2, "(%s IN ('2P', '2M'))"},
+        {PLAYER_STATS_COLUMN_FGM_3, "(%s = '3P')"},
+        {PLAYER_STATS_COLUMN_FGA_3, "(%s IN ('3P', '3M'))"},
+        {PLAYER_STATS_COLUMN_OFFENSIVE_REBOUNDS, "(%s = 'OR')"},
+        {PLAYER_STATS_COLUMN_DEFENSIVE_REBOUNDS, "(%s = 'DR')"},
+        {PLAYER_STATS_COLUMN_ASSISTS, "(%s = 'AST')"},
+        {PLAYER_STATS_COLUMN_STEALS, "(%s = 'STL')"},
+        {PLAYER_STATS_COLUMN_BLOCKS, "(%s = 'BLK')"},
+        {PLAYER_STATS_COLUMN_TURNOVERS, "(%s = 'TO')"},
+        {PLAYER_STATS_COLUMN_FOULS, "(%s = 'FOUL')"}
+    };
+    
+    // Event types that touch a box score column
+    private static final String PLAYER_STAT_EVENT_TYPES =
+        "('1P', '2P', '3P', '1M', '2M', '3M', 'OR', 'DR', 'AST', 'STL', 'BLK', 'TO', 'FOUL')";
+    
+    // Per-quarter team aggregate (team_fouls): event types and foul contribution
+    private static final String TEAM_QUARTER_EVENT_TYPES = "('FOUL', '1P', '2P', '3P')";
+    private static final String TEAM_FOUL_DELTA = "(%s = 'FOUL')";
+    
+    // Tables whose total row count is maintained in counters
+    private static final String[] COUNTED_TABLES = {
+        TABLE_TEAMS, TABLE_TEAM_PLAYERS, TABLE_GAMES, TABLE_EVENTS,
+        TABLE_APP_SETTINGS, TABLE_USER_PROFILE, TABLE_SYNC_QUEUE
+    };
+    
     // Singleton instance
     private static DatabaseHelper instance;
     
+    // Per-table write versions for screens that re-query only after changes
+    private final InvalidationTracker invalidationTracker = new InvalidationTracker();
+    
     public static synchronized DatabaseHelper getInstance(Context context) {
         if (instance == null) {
             instance = new DatabaseHelper(context.getApplicationContext());
@@ -135,7 +272,14 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     }
     
     public DatabaseHelper(Context context) {
-        super(context, DATABASE_NAME, null, DATABASE_VERSION);
+        this(context, DATABASE_NAME);
+    }
+
+    /**
+     * Helper over another database file (instrumented tests; null = in-memory)
+     */
+    DatabaseHelper(Context context, String databaseName) {
+        super(context, databaseName, null, DATABASE_VERSION);
     }
     
     @Override
@@ -156,10 +300,22 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         createUserProfileTable(db);
         createSyncQueueTable(db);
         createSyncLogTable(db);
+        createCountersTable(db);
+        createPlayerGameStatsTable(db);
+        createSeasonStatsTables(db);
+        createLineupStatsTable(db);
+        createGameStateCheckpointsTable(db);
         
         // Create performance indexes
         createIndexes(db);
         
+        // Counter triggers before the first insert, so default rows are counted
+        createCounterTriggers(db);
+        createPlayerStatsTriggers(db);
+        createTeamQuarterTriggers(db);
+        createSeasonStatsTriggers(db);
+        createCheckpointTriggers(db);
+        
         // Insert default settings
         insertDefaultSettings(db);
         
@@ -171,9 +327,35 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         Log.w(TAG, "Upgrading database from version " + oldVersion + " to " + newVersion);
         
         // Handle specific version upgrades
+        // Steps from version 3 on are idempotent and let failures propagate - the upgrade
+        // transaction rolls back and the version is not bumped, so user data is never dropped
         if (oldVersion < 2 && newVersion >= 2) {
             upgradeToVersion2(db);
         }
+        if (oldVersion < 3 && newVersion >= 3) {
+            upgradeToVersion3(db);
+        }
+        if (oldVersion < 4 && newVersion >= 4) {
+            upgradeToVersion4(db);
+        }
+        if (oldVersion < 5 && newVersion >= 5) {
+            upgradeToVersion5(db);
+        }
+        if (oldVersion < 6 && newVersion >= 6) {
+            upgradeToVersion6(db);
+        }
+        if (oldVersion < 7 && newVersion >= 7) {
+            upgradeToVersion7(db);
+        }
+        if (oldVersion < 8 && newVersion >= 8) {
+            upgradeToVersion8(db);
+        }
+        if (oldVersion < 9 && newVersion >= 9) {
+            upgradeToVersion9(db);
+        }
+        if (oldVersion < 10 && newVersion >= 10) {
+            upgradeToVersion10(db);
+        }
         
         // For other versions, drop and recreate (future migrations)
         if (oldVersion < 1) {
@@ -218,6 +400,140 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         }
     }
     
+    /**
+     * Upgrade database to version 3: monotonic game clock
+     * Clock persisted as remaining millis + wall-clock start time (written on start/pause only)
+     */
+    private void upgradeToVersion3(SQLiteDatabase db) {
+        Log.d(TAG, "Upgrading to version 3: Adding game clock persistence columns");
+        
+        addColumnIfMissing(db, TABLE_GAMES, GAMES_COLUMN_CLOCK_REMAINING_MS, "INTEGER DEFAULT 600000");
+        addColumnIfMissing(db, TABLE_GAMES, GAMES_COLUMN_CLOCK_STARTED_AT, "INTEGER DEFAULT 0");
+        
+        // Seed remaining time from the old whole-second column (clocks resume paused)
+        db.execSQL("UPDATE " + TABLE_GAMES + 
+                  " SET " + GAMES_COLUMN_CLOCK_REMAINING_MS + " = " + GAMES_COLUMN_GAME_CLOCK_SECONDS + " * 1000, " +
+                  GAMES_COLUMN_IS_CLOCK_RUNNING + " = 0");
+        
+        Log.d(TAG, "Successfully added game clock columns");
+    }
+    
+    /**
+     * Upgrade database to version 4: index matching the paged schedule order (date, time, id)
+     */
+    private void upgradeToVersion4(SQLiteDatabase db) {
+        Log.d(TAG, "Upgrading to version 4: Adding schedule paging index");
+        
+        createScheduleIndex(db);
+        Log.d(TAG, "Successfully added schedule index");
+    }
+    
+    /**
+     * Upgrade database to version 5: counters table maintained by insert/delete triggers
+     */
+    private void upgradeToVersion5(SQLiteDatabase db) {
+        Log.d(TAG, "Upgrading to version 5: Adding trigger-maintained counters");
+        
+        createCountersTable(db);
+        createCounterTriggers(db);
+        rebuildCounters(db); // Seed from existing rows
+        Log.d(TAG, "Successfully added counters");
+    }
+    
+    /**
+     * Upgrade database to version 6: per-player box score maintained from events
+     */
+    private void upgradeToVersion6(SQLiteDatabase db) {
+        Log.d(TAG, "Upgrading to version 6: Adding player game stats");
+        
+        addColumnIfMissing(db, TABLE_EVENTS, EVENTS_COLUMN_SIDE, "TEXT");
+        backfillEventSides(db);
+        createPlayerGameStatsTable(db);
+        createPlayerStatsTriggers(db);
+        rebuildPlayerGameStats(db, null); // Aggregate existing play-by-play
+        Log.d(TAG, "Successfully added player game stats");
+    }
+    
+    /**
+     * Fill events.side for rows written before it existed - resolved once from team_side
+     * ("home" or a team name) against the home team's name as it is at upgrade time
+     */
+    private void backfillEventSides(SQLiteDatabase db) {
+        db.execSQL("UPDATE " + TABLE_EVENTS + " SET " + EVENTS_COLUMN_SIDE + " = CASE WHEN " +
+                   EVENTS_COLUMN_TEAM_SIDE + " = 'home' OR " + EVENTS_COLUMN_TEAM_SIDE + " = (SELECT t." + TEAMS_COLUMN_NAME +
+                   " FROM " + TABLE_GAMES + " g JOIN " + TABLE_TEAMS + " t ON t." + COLUMN_ID + " = g." + GAMES_COLUMN_HOME_TEAM_ID +
+                   " WHERE g." + COLUMN_ID + " = " + TABLE_EVENTS + "." + EVENTS_COLUMN_GAME_ID + ") THEN 'home' ELSE 'away' END" +
+                   " WHERE " + EVENTS_COLUMN_SIDE + " IS NULL");
+    }
+    
+    /**
+     * Upgrade database to version 7: team_fouls becomes the per-quarter team aggregate
+     * (fouls and points), maintained from events instead of by GameMutation
+     */
+    private void upgradeToVersion7(SQLiteDatabase db) {
+        Log.d(TAG, "Upgrading to version 7: Adding per-quarter team points");
+        
+        addColumnIfMissing(db, TABLE_TEAM_FOULS, TEAM_FOULS_COLUMN_POINTS, "INTEGER DEFAULT 0");
+        createTeamQuarterTriggers(db);
+        rebuildTeamQuarterStats(db, null); // Recount fouls and points from existing events
+        Log.d(TAG, "Successfully added per-quarter team points");
+    }
+    
+    /**
+     * Upgrade database to version 8: player and team season rollups over done games
+     */
+    private void upgradeToVersion8(SQLiteDatabase db) {
+        Log.d(TAG, "Upgrading to version 8: Adding season stats");
+        
+        createSeasonStatsTables(db);
+        createSeasonStatsTriggers(db);
+        rebuildSeasonStats(db); // Roll up games already done
+        Log.d(TAG, "Successfully added season stats");
+    }
+    
+    /**
+     * Upgrade database to version 9: stint tracking (playing time and plus/minus
+     * per game player, five-man lineup stats) - earlier games have no stint data
+     */
+    private void upgradeToVersion9(SQLiteDatabase db) {
+        Log.d(TAG, "Upgrading to version 9: Adding stint tracking columns");
+        
+        addColumnIfMissing(db, TABLE_GAME_PLAYERS, GAME_PLAYERS_COLUMN_SECONDS_PLAYED, "INTEGER DEFAULT 0");
+        addColumnIfMissing(db, TABLE_GAME_PLAYERS, GAME_PLAYERS_COLUMN_PLUS_MINUS, "INTEGER DEFAULT 0");
+        createLineupStatsTable(db);
+        Log.d(TAG, "Successfully added stint tracking columns");
+    }
+    
+    /**
+     * Upgrade database to version 10: game state checkpoints for replay
+     * (starts empty - GameReplay writes checkpoints as games are replayed)
+     */
+    private void upgradeToVersion10(SQLiteDatabase db) {
+        Log.d(TAG, "Upgrading to version 10: Adding game state checkpoints");
+        
+        createGameStateCheckpointsTable(db);
+        createCheckpointTriggers(db);
+        Log.d(TAG, "Successfully added game state checkpoints");
+    }
+    
+    /**
+     * Add a column unless an earlier (partial) upgrade already added it
+     */
+    private void addColumnIfMissing(SQLiteDatabase db, String table, String column, String definition) {
+        Cursor cursor = db.rawQuery("PRAGMA table_info(" + table + ")", null);
+        try {
+            int nameIndex = cursor.getColumnIndexOrThrow("name");
+            while (cursor.moveToNext()) {
+                if (column.equals(cursor.getString(nameIndex))) {
+                    return;
+                }
+            }
+        } finally {
+            cursor.close();
+        }
+        db.execSQL("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+    }
+    
     @Override
     public void onOpen(SQLiteDatabase db) {
         super.onOpen(db);
@@ -283,6 +599,8 @@ public class DatabaseHelper extends SQLiteOpenHelper {
                 GAMES_COLUMN_CURRENT_QUARTER + " INTEGER DEFAULT 1, " +
                 GAMES_COLUMN_GAME_CLOCK_SECONDS + " INTEGER DEFAULT 600, " +
                 GAMES_COLUMN_IS_CLOCK_RUNNING + " BOOLEAN DEFAULT FALSE, " +
+                GAMES_COLUMN_CLOCK_REMAINING_MS + " INTEGER DEFAULT 600000, " +
+                GAMES_COLUMN_CLOCK_STARTED_AT + " INTEGER DEFAULT 0, " +
                 COLUMN_CREATED_AT + " TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
                 COLUMN_UPDATED_AT + " TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
                 COLUMN_FIREBASE_ID + " TEXT, " +
@@ -309,6 +627,8 @@ public class DatabaseHelper extends SQLiteOpenHelper {
                 GAME_PLAYERS_COLUMN_IS_STARTER + " BOOLEAN DEFAULT FALSE, " +
                 GAME_PLAYERS_COLUMN_PERSONAL_FOULS + " INTEGER DEFAULT 0, " +
                 GAME_PLAYERS_COLUMN_MINUTES_PLAYED + " INTEGER DEFAULT 0, " +
+                GAME_PLAYERS_COLUMN_SECONDS_PLAYED + " INTEGER DEFAULT 0, " +
+                GAME_PLAYERS_COLUMN_PLUS_MINUS + " INTEGER DEFAULT 0, " +
                 COLUMN_CREATED_AT + " TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
                 COLUMN_UPDATED_AT + " TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
                 COLUMN_FIREBASE_ID + " TEXT, " +
@@ -331,6 +651,7 @@ public class DatabaseHelper extends SQLiteOpenHelper {
                 EVENTS_COLUMN_GAME_ID + " INTEGER NOT NULL, " +
                 EVENTS_COLUMN_PLAYER_ID + " INTEGER, " +
                 EVENTS_COLUMN_TEAM_SIDE + " TEXT NOT NULL, " +
+                EVENTS_COLUMN_SIDE + " TEXT, " +
                 EVENTS_COLUMN_QUARTER + " INTEGER NOT NULL, " +
                 EVENTS_COLUMN_GAME_TIME_SECONDS + " INTEGER NOT NULL, " +
                 EVENTS_COLUMN_EVENT_TYPE + " TEXT NOT NULL, " +
@@ -354,7 +675,7 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     }
     
     /**
-     * Team Fouls Table - Quarter-by-quarter team foul tracking
+     * Team Fouls Table - Quarter-by-quarter team fouls and points (kept current by event triggers)
      */
     private void createTeamFoulsTable(SQLiteDatabase db) {
         String createTable = "CREATE TABLE " + TABLE_TEAM_FOULS + " (" +
@@ -363,6 +684,7 @@ public class DatabaseHelper extends SQLiteOpenHelper {
                 TEAM_FOULS_COLUMN_TEAM_SIDE + " TEXT NOT NULL, " +
                 TEAM_FOULS_COLUMN_QUARTER + " INTEGER NOT NULL, " +
                 TEAM_FOULS_COLUMN_FOUL_COUNT + " INTEGER DEFAULT 0, " +
+                TEAM_FOULS_COLUMN_POINTS + " INTEGER DEFAULT 0, " +
                 COLUMN_CREATED_AT + " TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
                 COLUMN_UPDATED_AT + " TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
                 COLUMN_FIREBASE_ID + " TEXT, " +
@@ -457,6 +779,666 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         Log.d(TAG, "Sync Log table created");
     }
     
+    /**
+     * Counters Table - Row counts kept current by triggers (O(1) badge/stat reads)
+     */
+    private void createCountersTable(SQLiteDatabase db) {
+        String createTable = "CREATE TABLE IF NOT EXISTS " + TABLE_COUNTERS + " (" +
+                COUNTERS_COLUMN_COUNTER_KEY + " TEXT PRIMARY KEY, " +
+                COUNTERS_COLUMN_COUNTER_VALUE + " INTEGER NOT NULL DEFAULT 0" +
+                ");";
+        
+        db.execSQL(createTable);
+        Log.d(TAG, "Counters table created");
+    }
+    
+    /**
+     * Player Game Stats Table - Box score line per player per game (kept current by event triggers)
+     */
+    private void createPlayerGameStatsTable(SQLiteDatabase db) {
+        String createTable = "CREATE TABLE IF NOT EXISTS " + TABLE_PLAYER_GAME_STATS + " (" +
+                PLAYER_STATS_COLUMN_GAME_ID + " INTEGER NOT NULL, " +
+                PLAYER_STATS_COLUMN_PLAYER_ID + " INTEGER NOT NULL, " +
+                PLAYER_STATS_COLUMN_TEAM_SIDE + " TEXT NOT NULL, " +
+                PLAYER_STATS_COLUMN_POINTS + " INTEGER NOT NULL DEFAULT 0, " +
+                PLAYER_STATS_COLUMN_FGM_1 + " INTEGER NOT NULL DEFAULT 0, " +
+                PLAYER_STATS_COLUMN_FGA_1 + " INTEGER NOT NULL DEFAULT 0, " +
+                PLAYER_STATS_COLUMN_FGM_2 + " INTEGER NOT NULL DEFAULT 0, " +
+                PLAYER_STATS_COLUMN_FGA_2 + " INTEGER NOT NULL DEFAULT 0, " +
+                PLAYER_STATS_COLUMN_FGM_3 + " INTEGER NOT NULL DEFAULT 0, " +
+                PLAYER_STATS_COLUMN_FGA_3 + " INTEGER NOT NULL DEFAULT 0, " +
+                PLAYER_STATS_COLUMN_OFFENSIVE_REBOUNDS + " INTEGER NOT NULL DEFAULT 0, " +
+                PLAYER_STATS_COLUMN_DEFENSIVE_REBOUNDS + " INTEGER NOT NULL DEFAULT 0, " +
+                PLAYER_STATS_COLUMN_ASSISTS + " INTEGER NOT NULL DEFAULT 0, " +
+                PLAYER_STATS_COLUMN_STEALS + " INTEGER NOT NULL DEFAULT 0, " +
+                PLAYER_STATS_COLUMN_BLOCKS + " INTEGER NOT NULL DEFAULT 0, " +
+                PLAYER_STATS_COLUMN_TURNOVERS + " INTEGER NOT NULL DEFAULT 0, " +
+                PLAYER_STATS_COLUMN_FOULS + " INTEGER NOT NULL DEFAULT 0, " +
+                "PRIMARY KEY (" + PLAYER_STATS_COLUMN_GAME_ID + ", " + PLAYER_STATS_COLUMN_PLAYER_ID + "), " +
+                "FOREIGN KEY (" + PLAYER_STATS_COLUMN_GAME_ID + ") REFERENCES " + TABLE_GAMES + "(" + COLUMN_ID + ") ON DELETE CASCADE" +
+                ");";
+        
+        db.execSQL(createTable);
+        db.execSQL("CREATE INDEX IF NOT EXISTS idx_player_game_stats_player ON " + TABLE_PLAYER_GAME_STATS +
+                  "(" + PLAYER_STATS_COLUMN_PLAYER_ID + ");");
+        Log.d(TAG, "Player Game Stats table created");
+    }
+    
+    /**
+     * Season Stats Tables - Player and team totals over done games (kept current by triggers),
+     * with an expression index per leaderboard so top-k reads stop after k rows
+     */
+    private void createSeasonStatsTables(SQLiteDatabase db) {
+        StringBuilder createPlayerTable = new StringBuilder("CREATE TABLE IF NOT EXISTS " + TABLE_PLAYER_SEASON_STATS + " (" +
+                PLAYER_SEASON_COLUMN_PLAYER_ID + " INTEGER PRIMARY KEY, " +
+                PLAYER_SEASON_COLUMN_TEAM_ID + " INTEGER, " +
+                PLAYER_SEASON_COLUMN_GAMES_PLAYED + " INTEGER NOT NULL DEFAULT 0");
+        for (String[] delta : PLAYER_STAT_DELTAS) {
+            createPlayerTable.append(", ").append(delta[0]).append(" INTEGER NOT NULL DEFAULT 0");
+        }
+        db.execSQL(createPlayerTable.append(");").toString());
+        
+        db.execSQL("CREATE INDEX IF NOT EXISTS idx_player_season_team ON " + TABLE_PLAYER_SEASON_STATS +
+                  "(" + PLAYER_SEASON_COLUMN_TEAM_ID + ");");
+        for (String[] leaderboard : SEASON_LEADERBOARDS) {
+            db.execSQL("CREATE INDEX IF NOT EXISTS idx_player_season_" + leaderboard[0] + " ON " +
+                      TABLE_PLAYER_SEASON_STATS + "(" + perGame(leaderboard[1]) + ");");
+        }
+        
+        db.execSQL("CREATE TABLE IF NOT EXISTS " + TABLE_TEAM_SEASON_STATS + " (" +
+                TEAM_SEASON_COLUMN_TEAM_ID + " INTEGER PRIMARY KEY, " +
+                TEAM_SEASON_COLUMN_GAMES_PLAYED + " INTEGER NOT NULL DEFAULT 0, " +
+                TEAM_SEASON_COLUMN_WINS + " INTEGER NOT NULL DEFAULT 0, " +
+                TEAM_SEASON_COLUMN_LOSSES + " INTEGER NOT NULL DEFAULT 0, " +
+                TEAM_SEASON_COLUMN_POINTS_FOR + " INTEGER NOT NULL DEFAULT 0, " +
+                TEAM_SEASON_COLUMN_POINTS_AGAINST + " INTEGER NOT NULL DEFAULT 0" +
+                ");");
+        db.execSQL("CREATE INDEX IF NOT EXISTS idx_team_season_standings ON " + TABLE_TEAM_SEASON_STATS + "(" +
+                  TEAM_SEASON_STANDINGS_ORDER.replace(" DESC", "") + ");");
+        
+        Log.d(TAG, "Season Stats tables created");
+    }
+    
+    /**
+     * Lineup Stats Table - Time and points per five-man lineup (written by GameMutation from StintTracker)
+     */
+    private void createLineupStatsTable(SQLiteDatabase db) {
+        String createTable = "CREATE TABLE IF NOT EXISTS " + TABLE_LINEUP_STATS + " (" +
+                LINEUP_STATS_COLUMN_GAME_ID + " INTEGER NOT NULL, " +
+                LINEUP_STATS_COLUMN_TEAM_SIDE + " TEXT NOT NULL, " +
+                LINEUP_STATS_COLUMN_LINEUP_KEY + " TEXT NOT NULL, " +
+                LINEUP_STATS_COLUMN_SECONDS_PLAYED + " INTEGER NOT NULL DEFAULT 0, " +
+                LINEUP_STATS_COLUMN_POINTS_FOR + " INTEGER NOT NULL DEFAULT 0, " +
+                LINEUP_STATS_COLUMN_POINTS_AGAINST + " INTEGER NOT NULL DEFAULT 0, " +
+                "PRIMARY KEY (" + LINEUP_STATS_COLUMN_GAME_ID + ", " + LINEUP_STATS_COLUMN_TEAM_SIDE + ", " +
+                LINEUP_STATS_COLUMN_LINEUP_KEY + "), " +
+                "FOREIGN KEY (" + LINEUP_STATS_COLUMN_GAME_ID + ") REFERENCES " + TABLE_GAMES + "(" + COLUMN_ID + ") ON DELETE CASCADE" +
+                ");";
+        
+        db.execSQL(createTable);
+        Log.d(TAG, "Lineup Stats table created");
+    }
+    
+    /**
+     * Game State Checkpoints Table - Score, fouls, quarter and clock after every
+     * GameReplay.CHECKPOINT_INTERVAL-th event of a game (a cache: safe to clear)
+     */
+    private void createGameStateCheckpointsTable(SQLiteDatabase db) {
+        String createTable = "CREATE TABLE IF NOT EXISTS " + TABLE_GAME_STATE_CHECKPOINTS + " (" +
+                CHECKPOINTS_COLUMN_GAME_ID + " INTEGER NOT NULL, " +
+                CHECKPOINTS_COLUMN_EVENT_SEQUENCE + " INTEGER NOT NULL, " +
+                CHECKPOINTS_COLUMN_EVENT_COUNT + " INTEGER NOT NULL, " +
+                CHECKPOINTS_COLUMN_QUARTER + " INTEGER NOT NULL, " +
+                CHECKPOINTS_COLUMN_GAME_TIME_SECONDS + " INTEGER NOT NULL, " +
+                CHECKPOINTS_COLUMN_TEAM_QUARTERS + " TEXT NOT NULL DEFAULT '', " +
+                CHECKPOINTS_COLUMN_PLAYER_LINES + " TEXT NOT NULL DEFAULT '', " +
+                "PRIMARY KEY (" + CHECKPOINTS_COLUMN_GAME_ID + ", " + CHECKPOINTS_COLUMN_EVENT_SEQUENCE + "), " +
+                "FOREIGN KEY (" + CHECKPOINTS_COLUMN_GAME_ID + ") REFERENCES " + TABLE_GAMES + "(" + COLUMN_ID + ") ON DELETE CASCADE" +
+                ");";
+        
+        db.execSQL(createTable);
+        // Timeline seeks by position (nth event) rather than sequence
+        db.execSQL("CREATE INDEX IF NOT EXISTS idx_checkpoints_count ON " + TABLE_GAME_STATE_CHECKPOINTS + "(" +
+                  CHECKPOINTS_COLUMN_GAME_ID + ", " + CHECKPOINTS_COLUMN_EVENT_COUNT + ");");
+        Log.d(TAG, "Game State Checkpoints table created");
+    }
+    
+    /**
+     * SQL for a season stat per game played - queries must use this exact
+     * expression for SQLite to match the leaderboard's expression index
+     */
+    public static String perGame(String statSql) {
+        return "(CAST(" + statSql + " AS REAL) / " + PLAYER_SEASON_COLUMN_GAMES_PLAYED + ")";
+    }
+    
+    // ========== COUNTER TRIGGERS ==========
+    
+    /**
+     * Create the triggers that keep counters in step with inserts and deletes
+     * 
+     * Triggers run inside the writing statement's transaction and also fire for
+     * cascaded deletes, batch deletes and raw SQL, so no write path can skip them.
+     */
+    private void createCounterTriggers(SQLiteDatabase db) {
+        // Table totals
+        for (String table : COUNTED_TABLES) {
+            createTrigger(db, "trg_count_" + table + "_insert", "AFTER INSERT ON " + table,
+                          adjustCounter("'" + table + "'", "1"));
+            createTrigger(db, "trg_count_" + table + "_delete", "AFTER DELETE ON " + table,
+                          adjustCounter("'" + table + "'", "-1"));
+        }
+        
+        // Events per game
+        String gameEventsKey = "'" + COUNTER_KEY_EVENTS_FOR_GAME + "' || ";
+        createTrigger(db, "trg_count_game_events_insert", "AFTER INSERT ON " + TABLE_EVENTS,
+                      adjustCounter(gameEventsKey + "NEW." + EVENTS_COLUMN_GAME_ID, "1"));
+        createTrigger(db, "trg_count_game_events_delete", "AFTER DELETE ON " + TABLE_EVENTS,
+                      adjustCounter(gameEventsKey + "OLD." + EVENTS_COLUMN_GAME_ID, "-1"));
+        
+        // Players per team (players can move between teams) - named apart from the
+        // table total triggers above, which already use trg_count_team_players_*
+        String teamPlayersKey = "'" + COUNTER_KEY_PLAYERS_FOR_TEAM + "' || ";
+        createTrigger(db, "trg_count_roster_insert", "AFTER INSERT ON " + TABLE_TEAM_PLAYERS,
+                      adjustCounter(teamPlayersKey + "NEW." + TEAM_PLAYERS_COLUMN_TEAM_ID, "1"));
+        createTrigger(db, "trg_count_roster_delete", "AFTER DELETE ON " + TABLE_TEAM_PLAYERS,
+                      adjustCounter(teamPlayersKey + "OLD." + TEAM_PLAYERS_COLUMN_TEAM_ID, "-1"));
+        createTrigger(db, "trg_count_team_players_move",
+                      "AFTER UPDATE OF " + TEAM_PLAYERS_COLUMN_TEAM_ID + " ON " + TABLE_TEAM_PLAYERS +
+                      " WHEN OLD." + TEAM_PLAYERS_COLUMN_TEAM_ID + " != NEW." + TEAM_PLAYERS_COLUMN_TEAM_ID,
+                      adjustCounter(teamPlayersKey + "OLD." + TEAM_PLAYERS_COLUMN_TEAM_ID, "-1") +
+                      adjustCounter(teamPlayersKey + "NEW." + TEAM_PLAYERS_COLUMN_TEAM_ID, "1"));
+        
+        // Pending sync operations (retry_count < max_retries, as in SyncQueue.findPendingOperations)
+        String pendingKey = "'" + COUNTER_KEY_SYNC_QUEUE_PENDING + "'";
+        String newPending = "(NEW." + SYNC_QUEUE_COLUMN_RETRY_COUNT + " < NEW." + SYNC_QUEUE_COLUMN_MAX_RETRIES + ")";
+        String oldPending = "(OLD." + SYNC_QUEUE_COLUMN_RETRY_COUNT + " < OLD." + SYNC_QUEUE_COLUMN_MAX_RETRIES + ")";
+        createTrigger(db, "trg_count_sync_pending_insert", "AFTER INSERT ON " + TABLE_SYNC_QUEUE,
+                      adjustCounter(pendingKey, newPending));
+        createTrigger(db, "trg_count_sync_pending_delete", "AFTER DELETE ON " + TABLE_SYNC_QUEUE,
+                      adjustCounter(pendingKey, "-" + oldPending));
+        createTrigger(db, "trg_count_sync_pending_update",
+                      "AFTER UPDATE OF " + SYNC_QUEUE_COLUMN_RETRY_COUNT + ", " + SYNC_QUEUE_COLUMN_MAX_RETRIES +
+                      " ON " + TABLE_SYNC_QUEUE,
+                      adjustCounter(pendingKey, newPending + " - " + oldPending));
+        
+        Log.d(TAG, "Counter triggers created");
+    }
+    
+    private static void createTrigger(SQLiteDatabase db, String name, String when, String body) {
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS " + name + " " + when + " BEGIN " + body + " END;");
+    }
+    
+    /**
+     * Trigger statements adding delta to a counter (row created on first use,
+     * scoped rows dropped once they reach zero so deleted parents leave nothing behind)
+     */
+    private static String adjustCounter(String keyExpr, String delta) {
+        return "INSERT OR IGNORE INTO " + TABLE_COUNTERS + " (" + COUNTERS_COLUMN_COUNTER_KEY + ", " +
+               COUNTERS_COLUMN_COUNTER_VALUE + ") VALUES (" + keyExpr + ", 0); " +
+               "UPDATE " + TABLE_COUNTERS + " SET " + COUNTERS_COLUMN_COUNTER_VALUE + " = " +
+               COUNTERS_COLUMN_COUNTER_VALUE + " + (" + delta + ") WHERE " + COUNTERS_COLUMN_COUNTER_KEY + " = " + keyExpr + "; " +
+               "DELETE FROM " + TABLE_COUNTERS + " WHERE " + COUNTERS_COLUMN_COUNTER_KEY + " = " + keyExpr +
+               " AND " + COUNTERS_COLUMN_COUNTER_VALUE + " <= 0 AND " + COUNTERS_COLUMN_COUNTER_KEY + " LIKE '%:%:%'; ";
+    }
+    
+    /**
+     * Recount every counter from its table (upgrade seed, backup restore, drift repair)
+     */
+    public void rebuildCounters() {
+        SQLiteDatabase db = getWritableDatabase();
+        db.beginTransaction();
+        try {
+            rebuildCounters(db);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+    
+    private void rebuildCounters(SQLiteDatabase db) {
+        db.execSQL("DELETE FROM " + TABLE_COUNTERS);
+        
+        String insert = "INSERT INTO " + TABLE_COUNTERS + " (" + COUNTERS_COLUMN_COUNTER_KEY + ", " +
+                        COUNTERS_COLUMN_COUNTER_VALUE + ") ";
+        for (String table : COUNTED_TABLES) {
+            db.execSQL(insert + "SELECT '" + table + "', COUNT(*) FROM " + table);
+        }
+        db.execSQL(insert + "SELECT '" + COUNTER_KEY_EVENTS_FOR_GAME + "' || " + EVENTS_COLUMN_GAME_ID +
+                   ", COUNT(*) FROM " + TABLE_EVENTS + " GROUP BY " + EVENTS_COLUMN_GAME_ID);
+        db.execSQL(insert + "SELECT '" + COUNTER_KEY_PLAYERS_FOR_TEAM + "' || " + TEAM_PLAYERS_COLUMN_TEAM_ID +
+                   ", COUNT(*) FROM " + TABLE_TEAM_PLAYERS + " GROUP BY " + TEAM_PLAYERS_COLUMN_TEAM_ID);
+        db.execSQL(insert + "SELECT '" + COUNTER_KEY_SYNC_QUEUE_PENDING + "', COUNT(*) FROM " + TABLE_SYNC_QUEUE +
+                   " WHERE " + SYNC_QUEUE_COLUMN_RETRY_COUNT + " < " + SYNC_QUEUE_COLUMN_MAX_RETRIES);
+        
+        Log.d(TAG, "Counters rebuilt");
+    }
+    
+    // ========== PLAYER STATS TRIGGERS ==========
+    
+    /**
+     * Create the triggers that apply each event insert/delete/edit to player_game_stats
+     * 
+     * Same transaction as the event write, and also fired by batch inserts,
+     * deleteByGameId and cascades. Removals only UPDATE (never insert), so a
+     * cascading game delete cannot re-create rows for the game being removed.
+     */
+    private void createPlayerStatsTriggers(SQLiteDatabase db) {
+        String isStatEvent = "%1$s." + EVENTS_COLUMN_PLAYER_ID + " IS NOT NULL AND %1$s." +
+                             EVENTS_COLUMN_EVENT_TYPE + " IN " + PLAYER_STAT_EVENT_TYPES;
+        String newIsStat = String.format(isStatEvent, "NEW");
+        String oldIsStat = String.format(isStatEvent, "OLD");
+        
+        createTrigger(db, "trg_player_stats_insert",
+                      "AFTER INSERT ON " + TABLE_EVENTS + " WHEN " + newIsStat,
+                      addPlayerStats("NEW"));
+        createTrigger(db, "trg_player_stats_delete",
+                      "AFTER DELETE ON " + TABLE_EVENTS + " WHEN " + oldIsStat,
+                      applyPlayerStats("OLD", "-1"));
+        
+        // Edited events (type or player changed) move their contribution
+        String changed = "(OLD." + EVENTS_COLUMN_EVENT_TYPE + " IS NOT NEW." + EVENTS_COLUMN_EVENT_TYPE +
+                         " OR OLD." + EVENTS_COLUMN_PLAYER_ID + " IS NOT NEW." + EVENTS_COLUMN_PLAYER_ID +
+                         " OR OLD." + EVENTS_COLUMN_GAME_ID + " != NEW." + EVENTS_COLUMN_GAME_ID + ")";
+        createTrigger(db, "trg_player_stats_update_old",
+                      "AFTER UPDATE ON " + TABLE_EVENTS + " WHEN " + changed + " AND " + oldIsStat,
+                      applyPlayerStats("OLD", "-1"));
+        createTrigger(db, "trg_player_stats_update_new",
+                      "AFTER UPDATE ON " + TABLE_EVENTS + " WHEN " + changed + " AND " + newIsStat,
+                      addPlayerStats("NEW"));
+        
+        Log.d(TAG, "Player stats triggers created");
+    }
+    
+    /**
+     * Trigger statements adding an event row to its player's line (row created on first stat)
+     */
+    private static String addPlayerStats(String row) {
+        return "INSERT OR IGNORE INTO " + TABLE_PLAYER_GAME_STATS + " (" + PLAYER_STATS_COLUMN_GAME_ID + ", " +
+               PLAYER_STATS_COLUMN_PLAYER_ID + ", " + PLAYER_STATS_COLUMN_TEAM_SIDE + ") VALUES (" +
+               row + "." + EVENTS_COLUMN_GAME_ID + ", " + row + "." + EVENTS_COLUMN_PLAYER_ID + ", " +
+               row + "." + EVENTS_COLUMN_SIDE + "); " +
+               applyPlayerStats(row, "1");
+    }
+    
+    /**
+     * Trigger statement applying an event row's contribution (sign 1 or -1) to its player's line
+     */
+    private static String applyPlayerStats(String row, String sign) {
+        String eventType = row + "." + EVENTS_COLUMN_EVENT_TYPE;
+        StringBuilder update = new StringBuilder("UPDATE " + TABLE_PLAYER_GAME_STATS + " SET ");
+        for (int i = 0; i < PLAYER_STAT_DELTAS.length; i++) {
+            String column = PLAYER_STAT_DELTAS[i][0];
+            if (i > 0) update.append(", ");
+            update.append(column).append(" = ").append(column).append(" + ").append(sign).append(" * ")
+                  .append(String.format(PLAYER_STAT_DELTAS[i][1], eventType));
+        }
+        update.append(" WHERE ").append(PLAYER_STATS_COLUMN_GAME_ID).append(" = ").append(row).append(".").append(EVENTS_COLUMN_GAME_ID)
+              .append(" AND ").append(PLAYER_STATS_COLUMN_PLAYER_ID).append(" = ").append(row).append(".").append(EVENTS_COLUMN_PLAYER_ID)
+              .append("; ");
+        return update.toString();
+    }
+    
+    /**
+     * Re-aggregate player_game_stats from the events table (repair path)
+     * @param gameId game to rebuild, or null for every game
+     */
+    public void rebuildPlayerGameStats(Integer gameId) {
+        SQLiteDatabase db = getWritableDatabase();
+        db.beginTransaction();
+        try {
+            rebuildPlayerGameStats(db, gameId);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        invalidationTracker.notifyTableChanged(TABLE_PLAYER_GAME_STATS);
+    }
+    
+    private void rebuildPlayerGameStats(SQLiteDatabase db, Integer gameId) {
+        String gameFilter = gameId != null ? " WHERE " + PLAYER_STATS_COLUMN_GAME_ID + " = " + gameId : "";
+        db.execSQL("DELETE FROM " + TABLE_PLAYER_GAME_STATS + gameFilter);
+        
+        StringBuilder columns = new StringBuilder(PLAYER_STATS_COLUMN_GAME_ID + ", " +
+                                                  PLAYER_STATS_COLUMN_PLAYER_ID + ", " + PLAYER_STATS_COLUMN_TEAM_SIDE);
+        StringBuilder sums = new StringBuilder(EVENTS_COLUMN_GAME_ID + ", " + EVENTS_COLUMN_PLAYER_ID +
+                                               ", MAX(" + EVENTS_COLUMN_SIDE + ")");
+        for (String[] delta : PLAYER_STAT_DELTAS) {
+            columns.append(", ").append(delta[0]);
+            sums.append(", SUM(").append(String.format(delta[1], EVENTS_COLUMN_EVENT_TYPE)).append(")");
+        }
+        
+        db.execSQL("INSERT INTO " + TABLE_PLAYER_GAME_STATS + " (" + columns + ") SELECT " + sums +
+                   " FROM " + TABLE_EVENTS + " WHERE " + EVENTS_COLUMN_PLAYER_ID + " IS NOT NULL AND " +
+                   EVENTS_COLUMN_EVENT_TYPE + " IN " + PLAYER_STAT_EVENT_TYPES +
+                   (gameId != null ? " AND " + EVENTS_COLUMN_GAME_ID + " = " + gameId : "") +
+                   " GROUP BY " + EVENTS_COLUMN_GAME_ID + ", " + EVENTS_COLUMN_PLAYER_ID);
+        
+        Log.d(TAG, "Player game stats rebuilt" + (gameId != null ? " for game " + gameId : ""));
+    }
+    
+    // ========== TEAM QUARTER TRIGGERS ==========
+    
+    /**
+     * Create the triggers that apply each foul/scoring event to team_fouls
+     * (game, side, quarter) - fouls and points per quarter for bonus and line scores
+     * 
+     * Like the player stats triggers: same transaction as the event write (journal
+     * commits, undo deletes, LogActivity edits, sync merges), removals update only.
+     */
+    private void createTeamQuarterTriggers(SQLiteDatabase db) {
+        String isTeamEvent = "%1$s." + EVENTS_COLUMN_EVENT_TYPE + " IN " + TEAM_QUARTER_EVENT_TYPES;
+        String newIsTeam = String.format(isTeamEvent, "NEW");
+        String oldIsTeam = String.format(isTeamEvent, "OLD");
+        
+        createTrigger(db, "trg_team_quarter_insert",
+                      "AFTER INSERT ON " + TABLE_EVENTS + " WHEN " + newIsTeam,
+                      addTeamQuarterStats("NEW"));
+        createTrigger(db, "trg_team_quarter_delete",
+                      "AFTER DELETE ON " + TABLE_EVENTS + " WHEN " + oldIsTeam,
+                      applyTeamQuarterStats("OLD", "-1"));
+        
+        String changed = "(OLD." + EVENTS_COLUMN_EVENT_TYPE + " IS NOT NEW." + EVENTS_COLUMN_EVENT_TYPE +
+                         " OR OLD." + EVENTS_COLUMN_QUARTER + " != NEW." + EVENTS_COLUMN_QUARTER +
+                         " OR OLD." + EVENTS_COLUMN_SIDE + " IS NOT NEW." + EVENTS_COLUMN_SIDE +
+                         " OR OLD." + EVENTS_COLUMN_GAME_ID + " != NEW." + EVENTS_COLUMN_GAME_ID + ")";
+        createTrigger(db, "trg_team_quarter_update_old",
+                      "AFTER UPDATE ON " + TABLE_EVENTS + " WHEN " + changed + " AND " + oldIsTeam,
+                      applyTeamQuarterStats("OLD", "-1"));
+        createTrigger(db, "trg_team_quarter_update_new",
+                      "AFTER UPDATE ON " + TABLE_EVENTS + " WHEN " + changed + " AND " + newIsTeam,
+                      addTeamQuarterStats("NEW"));
+        
+        Log.d(TAG, "Team quarter triggers created");
+    }
+    
+    /**
+     * Trigger statements adding an event row to its side's quarter (row created on first use)
+     */
+    private static String addTeamQuarterStats(String row) {
+        return "INSERT OR IGNORE INTO " + TABLE_TEAM_FOULS + " (" + TEAM_FOULS_COLUMN_GAME_ID + ", " +
+               TEAM_FOULS_COLUMN_TEAM_SIDE + ", " + TEAM_FOULS_COLUMN_QUARTER + ") VALUES (" +
+               row + "." + EVENTS_COLUMN_GAME_ID + ", " + row + "." + EVENTS_COLUMN_SIDE + ", " +
+               row + "." + EVENTS_COLUMN_QUARTER + "); " +
+               applyTeamQuarterStats(row, "1");
+    }
+    
+    /**
+     * Trigger statement applying an event row's foul/points (sign 1 or -1) to its side's quarter
+     */
+    private static String applyTeamQuarterStats(String row, String sign) {
+        String eventType = row + "." + EVENTS_COLUMN_EVENT_TYPE;
+        return "UPDATE " + TABLE_TEAM_FOULS + " SET " +
+               TEAM_FOULS_COLUMN_FOUL_COUNT + " = " + TEAM_FOULS_COLUMN_FOUL_COUNT + " + " + sign + " * " +
+               String.format(TEAM_FOUL_DELTA, eventType) + ", " +
+               TEAM_FOULS_COLUMN_POINTS + " = " + TEAM_FOULS_COLUMN_POINTS + " + " + sign + " * " +
+               String.format(POINTS_DELTA, eventType) +
+               " WHERE " + TEAM_FOULS_COLUMN_GAME_ID + " = " + row + "." + EVENTS_COLUMN_GAME_ID +
+               " AND " + TEAM_FOULS_COLUMN_TEAM_SIDE + " = " + row + "." + EVENTS_COLUMN_SIDE +
+               " AND " + TEAM_FOULS_COLUMN_QUARTER + " = " + row + "." + EVENTS_COLUMN_QUARTER + "; ";
+    }
+    
+    /**
+     * Re-aggregate team_fouls from the events table (repair path)
+     * @param gameId game to rebuild, or null for every game
+     */
+    public void rebuildTeamQuarterStats(Integer gameId) {
+        SQLiteDatabase db = getWritableDatabase();
+        db.beginTransaction();
+        try {
+            rebuildTeamQuarterStats(db, gameId);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        invalidationTracker.notifyTableChanged(TABLE_TEAM_FOULS);
+    }
+    
+    private void rebuildTeamQuarterStats(SQLiteDatabase db, Integer gameId) {
+        db.execSQL("DELETE FROM " + TABLE_TEAM_FOULS +
+                   (gameId != null ? " WHERE " + TEAM_FOULS_COLUMN_GAME_ID + " = " + gameId : ""));
+        
+        db.execSQL("INSERT INTO " + TABLE_TEAM_FOULS + " (" + TEAM_FOULS_COLUMN_GAME_ID + ", " +
+                   TEAM_FOULS_COLUMN_TEAM_SIDE + ", " + TEAM_FOULS_COLUMN_QUARTER + ", " +
+                   TEAM_FOULS_COLUMN_FOUL_COUNT + ", " + TEAM_FOULS_COLUMN_POINTS + ") SELECT " +
+                   EVENTS_COLUMN_GAME_ID + ", " + EVENTS_COLUMN_SIDE + ", " + EVENTS_COLUMN_QUARTER + ", " +
+                   "SUM(" + String.format(TEAM_FOUL_DELTA, EVENTS_COLUMN_EVENT_TYPE) + "), " +
+                   "SUM(" + String.format(POINTS_DELTA, EVENTS_COLUMN_EVENT_TYPE) + ")" +
+                   " FROM " + TABLE_EVENTS + " WHERE " + EVENTS_COLUMN_EVENT_TYPE + " IN " + TEAM_QUARTER_EVENT_TYPES +
+                   (gameId != null ? " AND " + EVENTS_COLUMN_GAME_ID + " = " + gameId : "") +
+                   " GROUP BY " + EVENTS_COLUMN_GAME_ID + ", " + EVENTS_COLUMN_SIDE + ", " + EVENTS_COLUMN_QUARTER);
+        
+        Log.d(TAG, "Team quarter stats rebuilt" + (gameId != null ? " for game " + gameId : ""));
+    }
+    
+    // ========== SEASON STATS TRIGGERS ==========
+    
+    /**
+     * Create the triggers that keep player_season_stats and team_season_stats equal
+     * to the sum over games whose status is 'done'
+     * 
+     * - A game entering 'done' (GameActivity.transitionToDone, sync) adds its box
+     *   score lines and result; leaving it (LogActivity reset) subtracts them
+     * - Edits to a done game (scores, events -> player_game_stats) apply their difference
+     * - Deleting a done game subtracts it before its child rows cascade away
+     */
+    private void createSeasonStatsTriggers(SQLiteDatabase db) {
+        String done = "'done'";
+        String gameColumns = GAMES_COLUMN_STATUS + ", " + GAMES_COLUMN_HOME_TEAM_ID + ", " + GAMES_COLUMN_AWAY_TEAM_ID + ", " +
+                             GAMES_COLUMN_HOME_SCORE + ", " + GAMES_COLUMN_AWAY_SCORE;
+        
+        // Team results follow the games row
+        createTrigger(db, "trg_season_team_insert",
+                      "AFTER INSERT ON " + TABLE_GAMES + " WHEN NEW." + GAMES_COLUMN_STATUS + " = " + done,
+                      applyTeamSeason("NEW", "1"));
+        createTrigger(db, "trg_season_team_update_old",
+                      "AFTER UPDATE OF " + gameColumns + " ON " + TABLE_GAMES + " WHEN OLD." + GAMES_COLUMN_STATUS + " = " + done,
+                      applyTeamSeason("OLD", "-1"));
+        createTrigger(db, "trg_season_team_update_new",
+                      "AFTER UPDATE OF " + gameColumns + " ON " + TABLE_GAMES + " WHEN NEW." + GAMES_COLUMN_STATUS + " = " + done,
+                      applyTeamSeason("NEW", "1"));
+        
+        // Player lines roll up / back with the status change
+        createTrigger(db, "trg_season_players_done",
+                      "AFTER UPDATE OF " + GAMES_COLUMN_STATUS + " ON " + TABLE_GAMES + " WHEN NEW." + GAMES_COLUMN_STATUS + " = " + done +
+                      " AND OLD." + GAMES_COLUMN_STATUS + " IS NOT " + done,
+                      applyGameToPlayerSeason("NEW", "1"));
+        createTrigger(db, "trg_season_players_reopen",
+                      "AFTER UPDATE OF " + GAMES_COLUMN_STATUS + " ON " + TABLE_GAMES + " WHEN OLD." + GAMES_COLUMN_STATUS + " = " + done +
+                      " AND NEW." + GAMES_COLUMN_STATUS + " IS NOT " + done,
+                      applyGameToPlayerSeason("OLD", "-1"));
+        
+        createTrigger(db, "trg_season_game_delete",
+                      "BEFORE DELETE ON " + TABLE_GAMES + " WHEN OLD." + GAMES_COLUMN_STATUS + " = " + done,
+                      applyTeamSeason("OLD", "-1") + applyGameToPlayerSeason("OLD", "-1"));
+        
+        // Box score changes while the game is done (post-game event edits, repairs)
+        String gameIsDone = "(SELECT " + GAMES_COLUMN_STATUS + " FROM " + TABLE_GAMES + " WHERE " + COLUMN_ID +
+                            " = %s." + PLAYER_STATS_COLUMN_GAME_ID + ") = " + done;
+        String newPlayer = "NEW." + PLAYER_STATS_COLUMN_PLAYER_ID;
+        createTrigger(db, "trg_season_line_insert",
+                      "AFTER INSERT ON " + TABLE_PLAYER_GAME_STATS + " WHEN " + String.format(gameIsDone, "NEW"),
+                      addPlayerSeasonRows("VALUES (" + newPlayer + ", " + teamOfPlayer(newPlayer) + ")") +
+                      applyPlayerSeason("1", "NEW.%s", "= " + newPlayer));
+        createTrigger(db, "trg_season_line_update",
+                      "AFTER UPDATE ON " + TABLE_PLAYER_GAME_STATS + " WHEN " + String.format(gameIsDone, "NEW"),
+                      applyPlayerSeason("0", "NEW.%1$s - OLD.%1$s", "= " + newPlayer));
+        createTrigger(db, "trg_season_line_delete",
+                      "AFTER DELETE ON " + TABLE_PLAYER_GAME_STATS + " WHEN " + String.format(gameIsDone, "OLD"),
+                      applyPlayerSeason("-1", "-OLD.%s", "= OLD." + PLAYER_STATS_COLUMN_PLAYER_ID));
+        
+        Log.d(TAG, "Season stats triggers created");
+    }
+    
+    /**
+     * Trigger statements applying a games row's result (sign 1 or -1) to both teams
+     */
+    private static String applyTeamSeason(String row, String sign) {
+        String home = row + "." + GAMES_COLUMN_HOME_TEAM_ID;
+        String away = row + "." + GAMES_COLUMN_AWAY_TEAM_ID;
+        String homeScore = row + "." + GAMES_COLUMN_HOME_SCORE;
+        String awayScore = row + "." + GAMES_COLUMN_AWAY_SCORE;
+        
+        StringBuilder statements = new StringBuilder();
+        if ("1".equals(sign)) {
+            statements.append("INSERT OR IGNORE INTO ").append(TABLE_TEAM_SEASON_STATS).append(" (")
+                      .append(TEAM_SEASON_COLUMN_TEAM_ID).append(") VALUES (").append(home).append("), (").append(away).append("); ");
+        }
+        statements.append(applyTeamResult(home, homeScore, awayScore, sign))
+                  .append(applyTeamResult(away, awayScore, homeScore, sign))
+                  .append("DELETE FROM ").append(TABLE_TEAM_SEASON_STATS).append(" WHERE ")
+                  .append(TEAM_SEASON_COLUMN_TEAM_ID).append(" IN (").append(home).append(", ").append(away).append(") AND ")
+                  .append(TEAM_SEASON_COLUMN_GAMES_PLAYED).append(" <= 0; ");
+        return statements.toString();
+    }
+    
+    private static String applyTeamResult(String teamId, String pointsFor, String pointsAgainst, String sign) {
+        return "UPDATE " + TABLE_TEAM_SEASON_STATS + " SET " +
+               TEAM_SEASON_COLUMN_GAMES_PLAYED + " = " + TEAM_SEASON_COLUMN_GAMES_PLAYED + " + " + sign + ", " +
+               TEAM_SEASON_COLUMN_WINS + " = " + TEAM_SEASON_COLUMN_WINS + " + " + sign + " * (" + pointsFor + " > " + pointsAgainst + "), " +
+               TEAM_SEASON_COLUMN_LOSSES + " = " + TEAM_SEASON_COLUMN_LOSSES + " + " + sign + " * (" + pointsFor + " < " + pointsAgainst + "), " +
+               TEAM_SEASON_COLUMN_POINTS_FOR + " = " + TEAM_SEASON_COLUMN_POINTS_FOR + " + " + sign + " * " + pointsFor + ", " +
+               TEAM_SEASON_COLUMN_POINTS_AGAINST + " = " + TEAM_SEASON_COLUMN_POINTS_AGAINST + " + " + sign + " * " + pointsAgainst +
+               " WHERE " + TEAM_SEASON_COLUMN_TEAM_ID + " = " + teamId + "; ";
+    }
+    
+    /**
+     * Trigger statements applying every box score line of a games row (sign 1 or -1) to the season
+     */
+    private static String applyGameToPlayerSeason(String row, String sign) {
+        String gameLines = " FROM " + TABLE_PLAYER_GAME_STATS + " s WHERE s." + PLAYER_STATS_COLUMN_GAME_ID +
+                           " = " + row + "." + COLUMN_ID;
+        String lineValue = "(SELECT s.%s" + gameLines + " AND s." + PLAYER_STATS_COLUMN_PLAYER_ID + " = " +
+                           TABLE_PLAYER_SEASON_STATS + "." + PLAYER_SEASON_COLUMN_PLAYER_ID + ")";
+        String players = "IN (SELECT s." + PLAYER_STATS_COLUMN_PLAYER_ID + gameLines + ")";
+        
+        return ("1".equals(sign)
+                    ? addPlayerSeasonRows("SELECT s." + PLAYER_STATS_COLUMN_PLAYER_ID + ", " +
+                                          teamOfPlayer("s." + PLAYER_STATS_COLUMN_PLAYER_ID) + gameLines)
+                    : "") +
+               applyPlayerSeason(sign, sign + " * " + lineValue, players);
+    }
+    
+    private static String addPlayerSeasonRows(String source) {
+        return "INSERT OR IGNORE INTO " + TABLE_PLAYER_SEASON_STATS + " (" + PLAYER_SEASON_COLUMN_PLAYER_ID + ", " +
+               PLAYER_SEASON_COLUMN_TEAM_ID + ") " + source + "; ";
+    }
+    
+    private static String teamOfPlayer(String playerId) {
+        return "(SELECT " + TEAM_PLAYERS_COLUMN_TEAM_ID + " FROM " + TABLE_TEAM_PLAYERS + " WHERE " +
+               COLUMN_ID + " = " + playerId + ")";
+    }
+    
+    /**
+     * Trigger statements adding gamesDelta and a per-column value ("%s" = stat column)
+     * to the season rows of the selected players, dropping rows left with no games
+     */
+    private static String applyPlayerSeason(String gamesDelta, String valueFormat, String playerFilter) {
+        StringBuilder update = new StringBuilder("UPDATE " + TABLE_PLAYER_SEASON_STATS + " SET " +
+                PLAYER_SEASON_COLUMN_GAMES_PLAYED + " = " + PLAYER_SEASON_COLUMN_GAMES_PLAYED + " + " + gamesDelta);
+        for (String[] delta : PLAYER_STAT_DELTAS) {
+            update.append(", ").append(delta[0]).append(" = ").append(delta[0]).append(" + ")
+                  .append(String.format(valueFormat, delta[0]));
+        }
+        String where = " WHERE " + PLAYER_SEASON_COLUMN_PLAYER_ID + " " + playerFilter;
+        return update.append(where).append("; ").toString() +
+               "DELETE FROM " + TABLE_PLAYER_SEASON_STATS + where + " AND " + PLAYER_SEASON_COLUMN_GAMES_PLAYED + " <= 0; ";
+    }
+    
+    /**
+     * Re-aggregate both season tables from player_game_stats and done games (repair path)
+     */
+    public void rebuildSeasonStats() {
+        SQLiteDatabase db = getWritableDatabase();
+        db.beginTransaction();
+        try {
+            rebuildSeasonStats(db);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        invalidationTracker.notifyTablesChanged(TABLE_PLAYER_SEASON_STATS, TABLE_TEAM_SEASON_STATS);
+    }
+    
+    private void rebuildSeasonStats(SQLiteDatabase db) {
+        db.execSQL("DELETE FROM " + TABLE_PLAYER_SEASON_STATS);
+        db.execSQL("DELETE FROM " + TABLE_TEAM_SEASON_STATS);
+        
+        String doneGames = TABLE_GAMES + " WHERE " + GAMES_COLUMN_STATUS + " = 'done'";
+        
+        StringBuilder columns = new StringBuilder(PLAYER_SEASON_COLUMN_PLAYER_ID + ", " + PLAYER_SEASON_COLUMN_TEAM_ID +
+                                                  ", " + PLAYER_SEASON_COLUMN_GAMES_PLAYED);
+        StringBuilder sums = new StringBuilder("s." + PLAYER_STATS_COLUMN_PLAYER_ID + ", " +
+                                               teamOfPlayer("s." + PLAYER_STATS_COLUMN_PLAYER_ID) + ", COUNT(*)");
+        for (String[] delta : PLAYER_STAT_DELTAS) {
+            columns.append(", ").append(delta[0]);
+            sums.append(", SUM(s.").append(delta[0]).append(")");
+        }
+        db.execSQL("INSERT INTO " + TABLE_PLAYER_SEASON_STATS + " (" + columns + ") SELECT " + sums +
+                   " FROM " + TABLE_PLAYER_GAME_STATS + " s WHERE s." + PLAYER_STATS_COLUMN_GAME_ID +
+                   " IN (SELECT " + COLUMN_ID + " FROM " + doneGames + ")" +
+                   " GROUP BY s." + PLAYER_STATS_COLUMN_PLAYER_ID);
+        
+        // One (team, points for, points against) row per side of each done game
+        String results = "SELECT " + GAMES_COLUMN_HOME_TEAM_ID + " AS team_id, " + GAMES_COLUMN_HOME_SCORE + " AS pf, " +
+                         GAMES_COLUMN_AWAY_SCORE + " AS pa FROM " + doneGames + " UNION ALL SELECT " +
+                         GAMES_COLUMN_AWAY_TEAM_ID + ", " + GAMES_COLUMN_AWAY_SCORE + ", " + GAMES_COLUMN_HOME_SCORE +
+                         " FROM " + doneGames;
+        db.execSQL("INSERT INTO " + TABLE_TEAM_SEASON_STATS + " (" + TEAM_SEASON_COLUMN_TEAM_ID + ", " +
+                   TEAM_SEASON_COLUMN_GAMES_PLAYED + ", " + TEAM_SEASON_COLUMN_WINS + ", " + TEAM_SEASON_COLUMN_LOSSES + ", " +
+                   TEAM_SEASON_COLUMN_POINTS_FOR + ", " + TEAM_SEASON_COLUMN_POINTS_AGAINST + ") SELECT team_id, COUNT(*), " +
+                   "SUM(pf > pa), SUM(pf < pa), SUM(pf), SUM(pa) FROM (" + results + ") GROUP BY team_id");
+        
+        Log.d(TAG, "Season stats rebuilt");
+    }
+    
+    // ========== CHECKPOINT TRIGGERS ==========
+    
+    /**
+     * Create the triggers that drop checkpoints an event write makes stale
+     * 
+     * A checkpoint at sequence S summarizes every event up to S, so inserting,
+     * deleting or editing an event at sequence s invalidates the game's
+     * checkpoints at s and later. Live recording appends at the end of the game,
+     * where there is nothing to drop; LogActivity deletes and sync merges drop
+     * the tail and GameReplay rewrites it on the next seek.
+     */
+    private void createCheckpointTriggers(SQLiteDatabase db) {
+        createTrigger(db, "trg_checkpoint_event_insert", "AFTER INSERT ON " + TABLE_EVENTS,
+                      dropCheckpointsFrom("NEW." + EVENTS_COLUMN_GAME_ID, "NEW." + EVENTS_COLUMN_EVENT_SEQUENCE));
+        createTrigger(db, "trg_checkpoint_event_delete", "AFTER DELETE ON " + TABLE_EVENTS,
+                      dropCheckpointsFrom("OLD." + EVENTS_COLUMN_GAME_ID, "OLD." + EVENTS_COLUMN_EVENT_SEQUENCE));
+        
+        String changed = "(OLD." + EVENTS_COLUMN_EVENT_TYPE + " IS NOT NEW." + EVENTS_COLUMN_EVENT_TYPE +
+                         " OR OLD." + EVENTS_COLUMN_PLAYER_ID + " IS NOT NEW." + EVENTS_COLUMN_PLAYER_ID +
+                         " OR OLD." + EVENTS_COLUMN_SIDE + " IS NOT NEW." + EVENTS_COLUMN_SIDE +
+                         " OR OLD." + EVENTS_COLUMN_QUARTER + " != NEW." + EVENTS_COLUMN_QUARTER +
+                         " OR OLD." + EVENTS_COLUMN_GAME_TIME_SECONDS + " != NEW." + EVENTS_COLUMN_GAME_TIME_SECONDS +
+                         " OR OLD." + EVENTS_COLUMN_POINTS_VALUE + " IS NOT NEW." + EVENTS_COLUMN_POINTS_VALUE +
+                         " OR OLD." + EVENTS_COLUMN_EVENT_SEQUENCE + " != NEW." + EVENTS_COLUMN_EVENT_SEQUENCE +
+                         " OR OLD." + EVENTS_COLUMN_GAME_ID + " != NEW." + EVENTS_COLUMN_GAME_ID + ")";
+        createTrigger(db, "trg_checkpoint_event_update", "AFTER UPDATE ON " + TABLE_EVENTS + " WHEN " + changed,
+                      dropCheckpointsFrom("OLD." + EVENTS_COLUMN_GAME_ID, "OLD." + EVENTS_COLUMN_EVENT_SEQUENCE) +
+                      dropCheckpointsFrom("NEW." + EVENTS_COLUMN_GAME_ID, "NEW." + EVENTS_COLUMN_EVENT_SEQUENCE));
+        
+        Log.d(TAG, "Checkpoint triggers created");
+    }
+    
+    /**
+     * Trigger statement dropping a game's checkpoints from a sequence on (primary key range)
+     */
+    private static String dropCheckpointsFrom(String gameId, String eventSequence) {
+        return "DELETE FROM " + TABLE_GAME_STATE_CHECKPOINTS + " WHERE " + CHECKPOINTS_COLUMN_GAME_ID + " = " +
+               gameId + " AND " + CHECKPOINTS_COLUMN_EVENT_SEQUENCE + " >= " + eventSequence + "; ";
+    }
+    
+    /**
+     * Drop every checkpoint (repair path) - GameReplay rewrites them on the next seek
+     */
+    public void clearGameStateCheckpoints() {
+        getWritableDatabase().delete(TABLE_GAME_STATE_CHECKPOINTS, null, null);
+        invalidationTracker.notifyTableChanged(TABLE_GAME_STATE_CHECKPOINTS);
+    }
+    
     // ========== INDEX CREATION METHODS ==========
     
     /**
@@ -469,6 +1451,7 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         db.execSQL("CREATE INDEX idx_games_date ON " + TABLE_GAMES + "(" + GAMES_COLUMN_DATE + ");");
         db.execSQL("CREATE INDEX idx_games_status ON " + TABLE_GAMES + "(" + GAMES_COLUMN_STATUS + ");");
         db.execSQL("CREATE INDEX idx_games_teams ON " + TABLE_GAMES + "(" + GAMES_COLUMN_HOME_TEAM_ID + ", " + GAMES_COLUMN_AWAY_TEAM_ID + ");");
+        createScheduleIndex(db);
         
         // Event performance indexes
         db.execSQL("CREATE INDEX idx_events_game ON " + TABLE_EVENTS + "(" + EVENTS_COLUMN_GAME_ID + ");");
@@ -494,6 +1477,14 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         Log.d(TAG, "Performance indexes created");
     }
     
+    /**
+     * Schedule list index - covers GameListItem keyset paging (date, time, id)
+     */
+    private void createScheduleIndex(SQLiteDatabase db) {
+        db.execSQL("CREATE INDEX IF NOT EXISTS idx_games_schedule ON " + TABLE_GAMES + "(" + 
+                  GAMES_COLUMN_DATE + ", " + GAMES_COLUMN_TIME + ", " + COLUMN_ID + ");");
+    }
+    
     // ========== DEFAULT DATA METHODS ==========
     
     /**
@@ -530,6 +1521,12 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         Log.w(TAG, "Dropping all database tables");
         
         // Drop tables in reverse order to respect foreign key constraints
+        // (counter triggers are dropped with their tables)
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_GAME_STATE_CHECKPOINTS);
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_LINEUP_STATS);
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_TEAM_SEASON_STATS);
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_PLAYER_SEASON_STATS);
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_PLAYER_GAME_STATS);
         db.execSQL("DROP TABLE IF EXISTS " + TABLE_SYNC_LOG);
         db.execSQL("DROP TABLE IF EXISTS " + TABLE_SYNC_QUEUE);
         db.execSQL("DROP TABLE IF EXISTS " + TABLE_USER_PROFILE);
@@ -540,6 +1537,21 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         db.execSQL("DROP TABLE IF EXISTS " + TABLE_GAMES);
         db.execSQL("DROP TABLE IF EXISTS " + TABLE_TEAM_PLAYERS);
         db.execSQL("DROP TABLE IF EXISTS " + TABLE_TEAMS);
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_COUNTERS);
+    }
+    
+    /**
+     * Get per-table write versions
+     */
+    public InvalidationTracker getInvalidationTracker() {
+        return invalidationTracker;
+    }
+    
+    /**
+     * Record a write to a table (called by model save/delete)
+     */
+    public void notifyTableChanged(String tableName) {
+        invalidationTracker.notifyTableChanged(tableName);
     }
     
     /**
@@ -0,0 +1,74 @@
+package com.basketballstats.app.data;
+
+import android.content.ContentValues;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DirtyColumnTracker - Column-level change tracking for model saves
+ *
+ * Holds the column values as last read from or written to the database.
+ * save() diffs the model's current values against that snapshot and issues an
+ * UPDATE with only the changed columns, or skips the write entirely when
+ * nothing changed. Sync bookkeeping columns alone do not bump updated_at, so
+ * updated_at stays meaningful for incremental sync.
+ */
+public class DirtyColumnTracker {
+
+    private ContentValues persisted; // null until loaded or saved
+
+    /**
+     * Columns of current that differ from the persisted snapshot
+     * Returns every column when there is no snapshot (e.g. object not loaded from database)
+     */
+    public ContentValues changedColumns(ContentValues current) {
+        ContentValues changed = new ContentValues(current);
+        if (persisted == null) {
+            return changed;
+        }
+
+        List<String> unchanged = new ArrayList<>();
+        for (String column : current.keySet()) {
+            if (persisted.containsKey(column) && valuesEqual(persisted.get(column), current.get(column))) {
+                unchanged.add(column);
+            }
+        }
+        for (String column : unchanged) {
+            changed.remove(column);
+        }
+        return changed;
+    }
+
+    /**
+     * Record current values as persisted (after load, insert or update)
+     */
+    public void markPersisted(ContentValues current) {
+        persisted = new ContentValues(current);
+    }
+
+    /**
+     * Forget the snapshot - next save writes every column
+     */
+    public void reset() {
+        persisted = null;
+    }
+
+    /**
+     * Check if changed columns include real data (not only sync bookkeeping)
+     */
+    public static boolean hasDataChanges(ContentValues changed) {
+        for (String column : changed.keySet()) {
+            if (!DatabaseHelper.COLUMN_FIREBASE_ID.equals(column) &&
+                !DatabaseHelper.COLUMN_SYNC_STATUS.equals(column) &&
+                !DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP.equals(column)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean valuesEqual(Object a, Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+}
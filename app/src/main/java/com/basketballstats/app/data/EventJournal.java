@@ -0,0 +1,289 @@
+package com.basketballstats.app.data;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.os.Handler;
+import android.os.HandlerThread;
+
+import com.basketballstats.app.models.Event;
+import com.basketballstats.app.utils.AppLog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * EventJournal - Write-behind journal for live event recording
+ *
+ * GameActivity appends events (or compound GameMutations) to an in-memory queue
+ * and acknowledges the tap immediately. A single background writer drains the
+ * queue once per flush window and group-commits everything collected so far in
+ * ONE SQLite transaction, instead of paying a full commit (fsync) per tapped event.
+ *
+ * Features:
+ * - Append-only in-memory queue (no disk I/O on the UI thread)
+ * - Group commit per flush window on a dedicated writer thread
+ * - Synchronous flush() for lifecycle boundaries (onPause) and undo - reports failure
+ * - A failed group commit is retried one mutation per transaction; failing mutations are
+ *   re-queued in order, and one that fails MAX_COMMIT_ATTEMPTS times is dead-lettered
+ */
+public class EventJournal {
+    private static final String TAG = "EventJournal";
+
+    // Group commit window - events tapped within this window share one transaction
+    private static final long FLUSH_WINDOW_MS = 250;
+
+    // Commits a mutation may fail before it is moved to the dead-letter list
+    private static final int MAX_COMMIT_ATTEMPTS = 3;
+
+    // Singleton instance
+    private static EventJournal instance;
+    private final DatabaseHelper dbHelper;
+    private final EventWriter eventWriter;
+
+    // Writer thread
+    private final HandlerThread writerThread;
+    private final Handler writerHandler;
+
+    // Pending mutations (guarded by queueLock) and commit serialization (writeLock)
+    private final Object queueLock = new Object();
+    private final Object writeLock = new Object();
+    private List<GameMutation> pendingMutations = new ArrayList<>();
+    private boolean flushScheduled = false;
+
+    // Failed commit attempts per re-queued mutation (guarded by writeLock)
+    private final Map<GameMutation, Integer> failedAttempts = new IdentityHashMap<>();
+
+    // Mutations given up on after MAX_COMMIT_ATTEMPTS (guarded by queueLock)
+    private final List<GameMutation> deadLetters = new ArrayList<>();
+
+    // Performance tracking (written under writeLock, read from any thread)
+    private volatile long totalFlushes = 0;
+    private volatile long totalEventsWritten = 0;
+
+    // Constructor
+    private EventJournal(Context context) {
+        this.dbHelper = DatabaseHelper.getInstance(context.getApplicationContext());
+        this.eventWriter = DatabaseController.getInstance(context).getEventWriter();
+        this.writerThread = new HandlerThread("EventJournalWriter");
+        this.writerThread.start();
+        this.writerHandler = new Handler(writerThread.getLooper());
+    }
+
+    /**
+     * Get singleton instance
+     */
+    public static synchronized EventJournal getInstance(Context context) {
+        if (instance == null) {
+            instance = new EventJournal(context);
+        }
+        return instance;
+    }
+
+    // ========== JOURNAL OPERATIONS ==========
+
+    /**
+     * Append event to the journal (returns immediately, written on next flush window)
+     */
+    public void append(Event event) {
+        append(new GameMutation(event.getGameId()).insertEvent(event));
+    }
+
+    /**
+     * Append compound mutation (event + score + fouls + lineup) to the journal
+     * All of its changes are committed together in the next group commit
+     */
+    public void append(GameMutation mutation) {
+        synchronized (queueLock) {
+            pendingMutations.add(mutation);
+            if (!flushScheduled) {
+                flushScheduled = true;
+                writerHandler.postDelayed(this::flushOnWriterThread, FLUSH_WINDOW_MS);
+            }
+        }
+    }
+
+    /**
+     * Synchronously write all pending events (crash-safe boundary)
+     * Blocks until any in-flight group commit has finished as well
+     * Returns false if a mutation could not be written (re-queued or dead-lettered)
+     */
+    public boolean flush() {
+        return drainAndCommit();
+    }
+
+    /**
+     * Check if there are changes waiting to be written
+     */
+    public boolean hasPendingEvents() {
+        synchronized (queueLock) {
+            return !pendingMutations.isEmpty();
+        }
+    }
+
+    /**
+     * Get number of events waiting to be written
+     */
+    public int getPendingCount() {
+        synchronized (queueLock) {
+            int count = 0;
+            for (GameMutation mutation : pendingMutations) {
+                count += mutation.getInsertedEvents().size();
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Get mutations that kept failing and were taken out of the queue (oldest first)
+     */
+    public List<GameMutation> getDeadLetters() {
+        synchronized (queueLock) {
+            return new ArrayList<>(deadLetters);
+        }
+    }
+
+    // ========== GROUP COMMIT ==========
+
+    /**
+     * Scheduled flush running on the writer thread
+     */
+    private void flushOnWriterThread() {
+        drainAndCommit();
+    }
+
+    /**
+     * Swap out the pending queue and commit it in a single transaction
+     * On failure, commit mutation by mutation so one bad mutation cannot hold back the rest
+     */
+    private boolean drainAndCommit() {
+        synchronized (writeLock) {
+            List<GameMutation> batch;
+            synchronized (queueLock) {
+                batch = pendingMutations;
+                pendingMutations = new ArrayList<>();
+                flushScheduled = false;
+            }
+
+            if (batch.isEmpty()) {
+                return true;
+            }
+
+            if (commit(batch)) {
+                if (!failedAttempts.isEmpty()) {
+                    for (GameMutation mutation : batch) {
+                        failedAttempts.remove(mutation);
+                    }
+                }
+                return true;
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                GameMutation mutation = batch.get(i);
+                if (commit(Collections.singletonList(mutation))) {
+                    failedAttempts.remove(mutation);
+                    continue;
+                }
+
+                Integer previous = failedAttempts.get(mutation);
+                int attempts = previous == null ? 1 : previous + 1;
+                if (attempts >= MAX_COMMIT_ATTEMPTS) {
+                    failedAttempts.remove(mutation);
+                    deadLetter(mutation, attempts);
+                    continue;
+                }
+
+                // Keep this mutation and everything after it in order for the next window
+                failedAttempts.put(mutation, attempts);
+                requeue(new ArrayList<>(batch.subList(i, batch.size())));
+                return false;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Apply mutations in one transaction; rolls back and returns false on failure
+     */
+    private boolean commit(List<GameMutation> mutations) {
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        long startTime = AppLog.isDebugEnabled() ? System.currentTimeMillis() : 0;
+        int eventCount = 0;
+        boolean committed = false;
+
+        db.beginTransaction();
+        try {
+            for (GameMutation mutation : mutations) {
+                mutation.applyTo(dbHelper, eventWriter);
+                eventCount += mutation.getInsertedEvents().size();
+            }
+            db.setTransactionSuccessful();
+            committed = true;
+
+        } catch (Exception e) {
+            AppLog.e(TAG, "Group commit of " + mutations.size() + " mutations failed", e);
+        } finally {
+            db.endTransaction();
+        }
+
+        if (!committed) {
+            for (GameMutation mutation : mutations) {
+                for (Event event : mutation.getInsertedEvents()) {
+                    event.setId(0); // Rolled back - insert again on retry
+                }
+            }
+            return false;
+        }
+
+        totalFlushes++;
+        totalEventsWritten += eventCount;
+        if (AppLog.isDebugEnabled()) {
+            AppLog.d(TAG, "Group committed %d mutations (%d events) in %dms",
+                    mutations.size(), eventCount, System.currentTimeMillis() - startTime);
+        }
+        return true;
+    }
+
+    /**
+     * Put failed mutations back at the head of the queue (preserves event order)
+     */
+    private void requeue(List<GameMutation> mutations) {
+        synchronized (queueLock) {
+            mutations.addAll(pendingMutations);
+            pendingMutations = mutations;
+            if (!flushScheduled) {
+                flushScheduled = true;
+                writerHandler.postDelayed(this::flushOnWriterThread, FLUSH_WINDOW_MS);
+            }
+        }
+    }
+
+    /**
+     * Stop retrying a mutation that keeps failing - kept for inspection, never written
+     */
+    private void deadLetter(GameMutation mutation, int attempts) {
+        AppLog.e(TAG, "Dead-lettering mutation for game " + mutation.getGameId() + " (" +
+                mutation.getInsertedEvents().size() + " events) after " + attempts + " failed commits");
+        synchronized (queueLock) {
+            deadLetters.add(mutation);
+        }
+    }
+
+    // ========== PERFORMANCE MONITORING ==========
+
+    /**
+     * Get total number of group commits performed
+     */
+    public long getTotalFlushes() {
+        return totalFlushes;
+    }
+
+    /**
+     * Get total number of events written through the journal
+     */
+    public long getTotalEventsWritten() {
+        return totalEventsWritten;
+    }
+}
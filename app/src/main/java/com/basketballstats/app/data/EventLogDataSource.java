@@ -0,0 +1,74 @@
+package com.basketballstats.app.data;
+
+import com.basketballstats.app.models.Event;
+import com.basketballstats.app.models.EventLogRow;
+import com.basketballstats.app.utils.AppLog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * EventLogDataSource - Paged, newest-first event log for one game
+ *
+ * Pages are fetched with keyset pagination on (game_id, event_sequence), which
+ * the idx_events_sequence index serves directly: the first page is the newest
+ * PAGE_SIZE events and each further page continues below the oldest sequence
+ * loaded so far. Opening the log costs one page regardless of game length.
+ * Events are converted to immutable EventLogRows as each page is read.
+ */
+public class EventLogDataSource {
+    private static final String TAG = "EventLogDataSource";
+
+    public static final int PAGE_SIZE = 50;
+
+    private final DatabaseHelper dbHelper;
+    private final int gameId;
+
+    private Integer oldestLoadedSequence = null; // null until the first page is loaded
+    private boolean hasMore = true;
+
+    public EventLogDataSource(DatabaseHelper dbHelper, int gameId) {
+        this.dbHelper = dbHelper;
+        this.gameId = gameId;
+    }
+
+    /**
+     * Load the newest page (restarts paging)
+     */
+    public List<EventLogRow> loadInitial() {
+        oldestLoadedSequence = null;
+        hasMore = true;
+        return loadNextPage();
+    }
+
+    /**
+     * Load the next (older) page, empty when the start of the game is reached
+     */
+    public List<EventLogRow> loadNextPage() {
+        if (!hasMore) {
+            return Collections.emptyList();
+        }
+
+        List<Event> events = Event.findPageBefore(dbHelper, gameId, oldestLoadedSequence, PAGE_SIZE);
+        List<EventLogRow> page = new ArrayList<>(events.size());
+        for (Event event : events) {
+            page.add(EventLogRow.from(event));
+        }
+        if (!page.isEmpty()) {
+            oldestLoadedSequence = page.get(page.size() - 1).getEventSequence();
+        }
+        hasMore = page.size() >= PAGE_SIZE;
+
+        AppLog.d(TAG, "Loaded %d events for game %d (oldest sequence: %s)", page.size(), gameId, oldestLoadedSequence);
+        return page;
+    }
+
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    public int getGameId() {
+        return gameId;
+    }
+}
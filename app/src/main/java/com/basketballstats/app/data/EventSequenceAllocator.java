@@ -0,0 +1,144 @@
+package com.basketballstats.app.data;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import com.basketballstats.app.utils.AppLog;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * EventSequenceAllocator - Per-game in-memory event sequence numbers
+ *
+ * Replaces the SELECT MAX(event_sequence) query that used to run on every event
+ * insert. Each game is seeded ONCE from the idx_events_sequence index and then
+ * hands out sequence numbers atomically from memory.
+ *
+ * Single source of truth for event ordering - used by Event.save() and the
+ * live recording path in GameActivity, so the two can no longer drift apart.
+ */
+public class EventSequenceAllocator {
+    private static final String TAG = "EventSequenceAllocator";
+
+    // Next sequence number to hand out, per game ID
+    private static final Map<Integer, AtomicInteger> nextSequenceByGame = new ConcurrentHashMap<>();
+
+    private EventSequenceAllocator() {
+        // Static utility - no instances
+    }
+
+    // ========== ALLOCATION ==========
+
+    /**
+     * Allocate the next sequence number for a game (seeds from database on first use)
+     */
+    public static int next(DatabaseHelper dbHelper, int gameId) {
+        return getCounter(dbHelper, gameId).getAndIncrement();
+    }
+
+    /**
+     * Peek at the next sequence number without allocating it
+     */
+    public static int peek(DatabaseHelper dbHelper, int gameId) {
+        return getCounter(dbHelper, gameId).get();
+    }
+
+    /**
+     * Record an explicitly assigned sequence (imports, sync merges)
+     * Keeps the allocator ahead of any sequence already stored for the game
+     */
+    public static void observe(int gameId, int sequence) {
+        AtomicInteger counter = nextSequenceByGame.get(gameId);
+        if (counter == null) {
+            return; // Not seeded yet - seed query will see this row
+        }
+        int current;
+        do {
+            current = counter.get();
+            if (sequence < current) {
+                return;
+            }
+        } while (!counter.compareAndSet(current, sequence + 1));
+    }
+
+    // ========== RESEEDING ==========
+
+    /**
+     * Give back a sequence number after its event was deleted (undo, log delete)
+     * Only the most recent sequence can be reused; gaps in the middle are kept
+     */
+    public static void release(int gameId, int sequence) {
+        AtomicInteger counter = nextSequenceByGame.get(gameId);
+        if (counter != null && sequence > 0) {
+            if (counter.compareAndSet(sequence + 1, sequence)) {
+                AppLog.d(TAG, "Released sequence %d for game ID: %d", sequence, gameId);
+            }
+        }
+    }
+
+    /**
+     * Reset a game's allocator after all of its events were deleted
+     */
+    public static void reset(int gameId) {
+        AtomicInteger counter = nextSequenceByGame.get(gameId);
+        if (counter != null) {
+            counter.set(1);
+        }
+        AppLog.d(TAG, "Reset sequence allocator for game ID: %d", gameId);
+    }
+
+    /**
+     * Drop cached state for a game (reseeded from database on next use)
+     */
+    public static void invalidate(int gameId) {
+        nextSequenceByGame.remove(gameId);
+    }
+
+    /**
+     * Drop cached state for all games (backup restore, raw SQL)
+     * Sync merges only write teams and games, so they keep the allocator
+     */
+    public static void invalidateAll() {
+        nextSequenceByGame.clear();
+    }
+
+    // ========== UTILITY METHODS ==========
+
+    /**
+     * Get (or seed) the counter for a game
+     */
+    private static AtomicInteger getCounter(DatabaseHelper dbHelper, int gameId) {
+        AtomicInteger counter = nextSequenceByGame.get(gameId);
+        if (counter == null) {
+            // Seed outside the map - a racing seed for the same game loses and uses the winner's counter
+            AtomicInteger seeded = new AtomicInteger(queryMaxSequence(dbHelper, gameId) + 1);
+            counter = nextSequenceByGame.putIfAbsent(gameId, seeded);
+            if (counter == null) {
+                counter = seeded;
+            }
+        }
+        return counter;
+    }
+
+    /**
+     * Seed query - MAX over (game_id, event_sequence) is answered from idx_events_sequence
+     */
+    private static int queryMaxSequence(DatabaseHelper dbHelper, int gameId) {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        String query = "SELECT MAX(" + DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE + ") FROM " +
+                      DatabaseHelper.TABLE_EVENTS + " WHERE " + DatabaseHelper.EVENTS_COLUMN_GAME_ID + " = ?";
+        String[] selectionArgs = {String.valueOf(gameId)};
+
+        Cursor cursor = db.rawQuery(query, selectionArgs);
+        int maxSequence = 0;
+        if (cursor.moveToFirst()) {
+            maxSequence = cursor.getInt(0);
+        }
+        cursor.close();
+
+        AppLog.d(TAG, "Seeded sequence allocator for game ID: %d (max: %d)", gameId, maxSequence);
+        return maxSequence;
+    }
+}
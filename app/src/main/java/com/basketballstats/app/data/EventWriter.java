@@ -0,0 +1,467 @@
+package com.basketballstats.app.data;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import com.basketballstats.app.models.Event;
+import com.basketballstats.app.utils.AppLog;
+
+import java.util.List;
+
+/**
+ * EventWriter - Precompiled-statement writer for the events table
+ *
+ * Event.save() builds a fresh ContentValues (15 boxed puts) and goes through
+ * db.insert()/db.update() for every row. EventWriter compiles the INSERT, UPDATE
+ * and sync-status UPDATE statements once, binds primitives directly and reuses
+ * the statements for every row - bulk loads run inside a single transaction.
+ *
+ * Also owns the game_players delta UPDATE that GameMutation applies for
+ * every foul, substitution and stint change.
+ *
+ * Used by:
+ * - EventJournal (live recording group commits)
+ * - DatabaseController.batchSaveEvents() (imports)
+ * - FirebaseManager sync status updates after batch upload
+ *
+ * Statements are not thread-safe, so binding and executing is synchronized.
+ * Every write first joins (or opens) a transaction on the calling thread and
+ * only then takes the monitor, so the lock order is always connection before
+ * monitor - the same order as EventJournal, which opens its transaction before
+ * applying mutations. The monitor is never held while waiting for the connection.
+ * Statements belong to the database connection they were compiled on -
+ * recompiled when the helper hands out a different one, and dropped by reset()
+ * after a restore or raw SQL.
+ */
+public class EventWriter {
+    private static final String TAG = "EventWriter";
+
+    private static final String INSERT_SQL = "INSERT INTO " + DatabaseHelper.TABLE_EVENTS + " (" +
+            DatabaseHelper.EVENTS_COLUMN_GAME_ID + ", " +
+            DatabaseHelper.EVENTS_COLUMN_PLAYER_ID + ", " +
+            DatabaseHelper.EVENTS_COLUMN_TEAM_SIDE + ", " +
+            DatabaseHelper.EVENTS_COLUMN_QUARTER + ", " +
+            DatabaseHelper.EVENTS_COLUMN_GAME_TIME_SECONDS + ", " +
+            DatabaseHelper.EVENTS_COLUMN_EVENT_TYPE + ", " +
+            DatabaseHelper.EVENTS_COLUMN_SUB_PLAYER_OUT_ID + ", " +
+            DatabaseHelper.EVENTS_COLUMN_SUB_PLAYER_IN_ID + ", " +
+            DatabaseHelper.EVENTS_COLUMN_POINTS_VALUE + ", " +
+            DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE + ", " +
+            DatabaseHelper.COLUMN_UPDATED_AT + ", " +
+            DatabaseHelper.COLUMN_FIREBASE_ID + ", " +
+            DatabaseHelper.COLUMN_SYNC_STATUS + ", " +
+            DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP + ", " +
+            DatabaseHelper.EVENTS_COLUMN_SIDE + ", " +
+            DatabaseHelper.COLUMN_CREATED_AT +
+            ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE " + DatabaseHelper.TABLE_EVENTS + " SET " +
+            DatabaseHelper.EVENTS_COLUMN_GAME_ID + " = ?, " +
+            DatabaseHelper.EVENTS_COLUMN_PLAYER_ID + " = ?, " +
+            DatabaseHelper.EVENTS_COLUMN_TEAM_SIDE + " = ?, " +
+            DatabaseHelper.EVENTS_COLUMN_QUARTER + " = ?, " +
+            DatabaseHelper.EVENTS_COLUMN_GAME_TIME_SECONDS + " = ?, " +
+            DatabaseHelper.EVENTS_COLUMN_EVENT_TYPE + " = ?, " +
+            DatabaseHelper.EVENTS_COLUMN_SUB_PLAYER_OUT_ID + " = ?, " +
+            DatabaseHelper.EVENTS_COLUMN_SUB_PLAYER_IN_ID + " = ?, " +
+            DatabaseHelper.EVENTS_COLUMN_POINTS_VALUE + " = ?, " +
+            DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE + " = ?, " +
+            DatabaseHelper.COLUMN_UPDATED_AT + " = ?, " +
+            DatabaseHelper.COLUMN_FIREBASE_ID + " = ?, " +
+            DatabaseHelper.COLUMN_SYNC_STATUS + " = ?, " +
+            DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP + " = ?, " +
+            DatabaseHelper.EVENTS_COLUMN_SIDE + " = ?" +
+            " WHERE " + DatabaseHelper.COLUMN_ID + " = ?";
+
+    private static final String SYNC_STATUS_SQL = "UPDATE " + DatabaseHelper.TABLE_EVENTS + " SET " +
+            DatabaseHelper.COLUMN_SYNC_STATUS + " = ?, " +
+            DatabaseHelper.COLUMN_FIREBASE_ID + " = ?, " +
+            DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP + " = ?, " +
+            DatabaseHelper.COLUMN_UPDATED_AT + " = ?" +
+            " WHERE " + DatabaseHelper.COLUMN_ID + " = ?";
+
+    // One statement for every game_players change - unchanged columns bind NULL / 0
+    private static final String GAME_PLAYER_DELTA_SQL = "UPDATE " + DatabaseHelper.TABLE_GAME_PLAYERS + " SET " +
+            DatabaseHelper.GAME_PLAYERS_COLUMN_IS_ON_COURT + " = COALESCE(?1, " + DatabaseHelper.GAME_PLAYERS_COLUMN_IS_ON_COURT + "), " +
+            DatabaseHelper.GAME_PLAYERS_COLUMN_PERSONAL_FOULS + " = " + DatabaseHelper.GAME_PLAYERS_COLUMN_PERSONAL_FOULS + " + ?2, " +
+            DatabaseHelper.GAME_PLAYERS_COLUMN_SECONDS_PLAYED + " = " + DatabaseHelper.GAME_PLAYERS_COLUMN_SECONDS_PLAYED + " + ?3, " +
+            DatabaseHelper.GAME_PLAYERS_COLUMN_MINUTES_PLAYED + " = (" + DatabaseHelper.GAME_PLAYERS_COLUMN_SECONDS_PLAYED + " + ?3) / 60, " +
+            DatabaseHelper.GAME_PLAYERS_COLUMN_PLUS_MINUS + " = " + DatabaseHelper.GAME_PLAYERS_COLUMN_PLUS_MINUS + " + ?4, " +
+            DatabaseHelper.COLUMN_UPDATED_AT + " = ?5" +
+            " WHERE " + DatabaseHelper.GAME_PLAYERS_COLUMN_GAME_ID + " = ?6 AND " +
+            DatabaseHelper.GAME_PLAYERS_COLUMN_TEAM_PLAYER_ID + " = ?7";
+
+    private final DatabaseHelper dbHelper;
+
+    // Compiled lazily against the open writable database
+    private SQLiteDatabase compiledFor;
+    private SQLiteStatement insertStatement;
+    private SQLiteStatement updateStatement;
+    private SQLiteStatement syncStatusStatement;
+    private SQLiteStatement gamePlayerDeltaStatement;
+
+    public EventWriter(DatabaseHelper dbHelper) {
+        this.dbHelper = dbHelper;
+    }
+
+    // ========== SINGLE ROW OPERATIONS ==========
+
+    /**
+     * Insert new event (assigns sequence number if missing, sets ID on success)
+     */
+    public long insert(Event event) {
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        db.beginTransaction();
+        try {
+            long result = insertRow(event);
+            db.setTransactionSuccessful();
+            return result;
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Update existing event (all columns)
+     */
+    public int update(Event event) {
+        if (event.getId() <= 0) {
+            AppLog.w(TAG, "Cannot update event with invalid ID: %d", event.getId());
+            return 0;
+        }
+
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        db.beginTransaction();
+        try {
+            int rowsAffected = updateRow(event);
+            db.setTransactionSuccessful();
+            return rowsAffected;
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Write event (INSERT or UPDATE, same contract as Event.save())
+     */
+    public long write(Event event) {
+        return event.getId() > 0 ? update(event) : insert(event);
+    }
+
+    /**
+     * Update sync status only
+     */
+    public int updateSyncStatus(Event event, String status, String firebaseId) {
+        if (event.getId() <= 0) {
+            return 0;
+        }
+
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        db.beginTransaction();
+        try {
+            int rowsAffected = updateSyncStatusRow(event, status, firebaseId);
+            db.setTransactionSuccessful();
+            return rowsAffected;
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Apply deltas to a game_players row (onCourt null = flag unchanged)
+     * Returns 0 when the player has no game_players row yet
+     */
+    public int updateGamePlayer(int gameId, int teamPlayerId, Boolean onCourt,
+                                int foulDelta, int secondsDelta, int plusMinusDelta,
+                                String timestamp) {
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        db.beginTransaction();
+        try {
+            int rowsAffected = updateGamePlayerRow(gameId, teamPlayerId, onCourt, foulDelta,
+                                                   secondsDelta, plusMinusDelta, timestamp);
+            db.setTransactionSuccessful();
+            return rowsAffected;
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    // ========== STATEMENT EXECUTION (caller holds a transaction) ==========
+
+    private synchronized long insertRow(Event event) {
+        SQLiteStatement statement = getInsertStatement();
+        String timestamp = getCurrentTimestamp();
+
+        if (event.getEventSequence() <= 0) {
+            event.setEventSequence(EventSequenceAllocator.next(dbHelper, event.getGameId()));
+        } else {
+            EventSequenceAllocator.observe(event.getGameId(), event.getEventSequence());
+        }
+
+        statement.clearBindings();
+        bindEventColumns(statement, event, timestamp);
+        statement.bindString(16, timestamp);
+
+        long result = statement.executeInsert();
+        if (result != -1) {
+            event.setId((int) result);
+            event.setCreatedAt(timestamp);
+            event.setUpdatedAt(timestamp);
+        } else {
+            AppLog.w(TAG, "Failed to insert event: %s", event.getEventType());
+        }
+        return result;
+    }
+
+    private synchronized int updateRow(Event event) {
+        SQLiteStatement statement = getUpdateStatement();
+        String timestamp = getCurrentTimestamp();
+
+        statement.clearBindings();
+        bindEventColumns(statement, event, timestamp);
+        statement.bindLong(16, event.getId());
+
+        int rowsAffected = statement.executeUpdateDelete();
+        if (rowsAffected > 0) {
+            event.setUpdatedAt(timestamp);
+        }
+        return rowsAffected;
+    }
+
+    private synchronized int updateSyncStatusRow(Event event, String status, String firebaseId) {
+        SQLiteStatement statement = getSyncStatusStatement();
+        String timestamp = getCurrentTimestamp();
+
+        statement.clearBindings();
+        bindNullableString(statement, 1, status);
+        bindNullableString(statement, 2, firebaseId);
+        statement.bindString(3, timestamp);
+        statement.bindString(4, timestamp);
+        statement.bindLong(5, event.getId());
+
+        int rowsAffected = statement.executeUpdateDelete();
+        if (rowsAffected > 0) {
+            event.setSyncStatus(status);
+            event.setFirebaseId(firebaseId);
+            event.setLastSyncTimestamp(timestamp);
+            event.setUpdatedAt(timestamp);
+        }
+        return rowsAffected;
+    }
+
+    private synchronized int updateGamePlayerRow(int gameId, int teamPlayerId, Boolean onCourt,
+                                                 int foulDelta, int secondsDelta, int plusMinusDelta,
+                                                 String timestamp) {
+        SQLiteStatement statement = getGamePlayerDeltaStatement();
+
+        statement.clearBindings();
+        if (onCourt != null) {
+            statement.bindLong(1, onCourt ? 1 : 0);
+        } else {
+            statement.bindNull(1);
+        }
+        statement.bindLong(2, foulDelta);
+        statement.bindLong(3, secondsDelta);
+        statement.bindLong(4, plusMinusDelta);
+        statement.bindString(5, timestamp);
+        statement.bindLong(6, gameId);
+        statement.bindLong(7, teamPlayerId);
+
+        return statement.executeUpdateDelete();
+    }
+
+    // ========== BULK OPERATIONS ==========
+
+    /**
+     * Insert all events in a single transaction
+     * Returns number of rows inserted
+     */
+    public int insertAll(List<Event> events) {
+        return runInTransaction(events, false);
+    }
+
+    /**
+     * Write all events (INSERT or UPDATE per row) in a single transaction
+     */
+    public int writeAll(List<Event> events) {
+        return runInTransaction(events, true);
+    }
+
+    /**
+     * Update sync status for all events in a single transaction
+     */
+    public int updateSyncStatusAll(List<Event> events, String status) {
+        if (events.isEmpty()) return 0;
+
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        int updated = 0;
+
+        db.beginTransaction();
+        try {
+            for (Event event : events) {
+                if (event.getId() > 0) {
+                    updated += updateSyncStatusRow(event, status, event.getFirebaseId());
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+
+        AppLog.d(TAG, "Updated sync status for %d events", updated);
+        return updated;
+    }
+
+    /**
+     * Release compiled statements (recompiled on next use)
+     */
+    public synchronized void reset() {
+        compiledFor = null;
+        if (insertStatement != null) {
+            insertStatement.close();
+            insertStatement = null;
+        }
+        if (updateStatement != null) {
+            updateStatement.close();
+            updateStatement = null;
+        }
+        if (syncStatusStatement != null) {
+            syncStatusStatement.close();
+            syncStatusStatement = null;
+        }
+        if (gamePlayerDeltaStatement != null) {
+            gamePlayerDeltaStatement.close();
+            gamePlayerDeltaStatement = null;
+        }
+    }
+
+    /**
+     * Release compiled statements
+     */
+    public synchronized void close() {
+        reset();
+    }
+
+    // ========== UTILITY METHODS ==========
+
+    /**
+     * Shared transaction loop for insertAll/writeAll (transaction opened before any row takes the monitor)
+     */
+    private int runInTransaction(List<Event> events, boolean allowUpdates) {
+        if (events.isEmpty()) return 0;
+
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        long startTime = AppLog.isDebugEnabled() ? System.currentTimeMillis() : 0;
+        int written = 0;
+
+        db.beginTransaction();
+        try {
+            for (Event event : events) {
+                if (allowUpdates && event.getId() > 0) {
+                    written += updateRow(event);
+                } else if (insertRow(event) != -1) {
+                    written++;
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+
+        if (AppLog.isDebugEnabled()) {
+            AppLog.d(TAG, "Wrote %d events in %dms", written, System.currentTimeMillis() - startTime);
+        }
+        return written;
+    }
+
+    /**
+     * Bind columns 1-14 shared by INSERT and UPDATE
+     */
+    private void bindEventColumns(SQLiteStatement statement, Event event, String timestamp) {
+        statement.bindLong(1, event.getGameId());
+        bindOptionalId(statement, 2, event.getPlayerId());
+        bindNullableString(statement, 3, event.getTeamSide());
+        statement.bindLong(4, event.getQuarter());
+        statement.bindLong(5, event.getGameTimeSeconds());
+        bindNullableString(statement, 6, event.getEventType());
+        bindOptionalId(statement, 7, event.getSubPlayerOutId());
+        bindOptionalId(statement, 8, event.getSubPlayerInId());
+        statement.bindLong(9, event.getPointsValue());
+        statement.bindLong(10, event.getEventSequence());
+        statement.bindString(11, timestamp);
+        bindNullableString(statement, 12, event.getFirebaseId());
+        bindNullableString(statement, 13, event.getSyncStatus());
+        bindNullableString(statement, 14, event.getLastSyncTimestamp());
+        bindNullableString(statement, 15, event.getSide());
+    }
+
+    /**
+     * Foreign key IDs are stored as NULL when not set (same as Event.save())
+     */
+    private static void bindOptionalId(SQLiteStatement statement, int index, int value) {
+        if (value > 0) {
+            statement.bindLong(index, value);
+        } else {
+            statement.bindNull(index);
+        }
+    }
+
+    private static void bindNullableString(SQLiteStatement statement, int index, String value) {
+        if (value != null) {
+            statement.bindString(index, value);
+        } else {
+            statement.bindNull(index);
+        }
+    }
+
+    private SQLiteStatement getInsertStatement() {
+        SQLiteDatabase db = getCompileTarget();
+        if (insertStatement == null) {
+            insertStatement = db.compileStatement(INSERT_SQL);
+        }
+        return insertStatement;
+    }
+
+    private SQLiteStatement getUpdateStatement() {
+        SQLiteDatabase db = getCompileTarget();
+        if (updateStatement == null) {
+            updateStatement = db.compileStatement(UPDATE_SQL);
+        }
+        return updateStatement;
+    }
+
+    private SQLiteStatement getSyncStatusStatement() {
+        SQLiteDatabase db = getCompileTarget();
+        if (syncStatusStatement == null) {
+            syncStatusStatement = db.compileStatement(SYNC_STATUS_SQL);
+        }
+        return syncStatusStatement;
+    }
+
+    private SQLiteStatement getGamePlayerDeltaStatement() {
+        SQLiteDatabase db = getCompileTarget();
+        if (gamePlayerDeltaStatement == null) {
+            gamePlayerDeltaStatement = db.compileStatement(GAME_PLAYER_DELTA_SQL);
+        }
+        return gamePlayerDeltaStatement;
+    }
+
+    /**
+     * Writable database to compile against - drops statements compiled on a previous connection
+     */
+    private SQLiteDatabase getCompileTarget() {
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        if (db != compiledFor) {
+            reset();
+            compiledFor = db;
+        }
+        return db;
+    }
+
+    /**
+     * Get current timestamp as string
+     */
+    private static String getCurrentTimestamp() {
+        return String.valueOf(System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,226 @@
+package com.basketballstats.app.data;
+
+import com.basketballstats.app.models.Event;
+import com.basketballstats.app.models.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * GameAction - One recorded user action together with its state delta
+ *
+ * Every action knows its own forward delta (score points, personal/team foul,
+ * lineup swap, plus/minus for the players on court when it happened) and can
+ * build both the forward and the inverse GameMutation.
+ * Undo/redo therefore applies a delta in O(1) instead of recomputing game state
+ * from the full event table.
+ *
+ * Team sides are "home"/"away" (same as GameMutation).
+ */
+public class GameAction {
+
+    // Event rows written to the events table
+    private final List<Event> persistedEvents;
+    // In-memory only log entries (LINEUP, SUB_OUT, SUB_IN, SUBSTITUTION)
+    private final List<Event> transientEvents;
+
+    // Score delta
+    private final int homePoints;
+    private final int awayPoints;
+
+    // Quarter the score/foul delta belongs to (line score)
+    private final int quarter;
+
+    // Foul delta (foulSide == null when the action has no foul)
+    private final String foulSide;
+    private final int foulPlayerId;
+
+    // Lineup change (lineupSide == null when the action has no lineup change)
+    private final String lineupSide;
+    private final List<Player> lineupBefore;
+    private final List<Player> lineupAfter;
+
+    // On-court team player ids when the action happened (plus/minus, lineup points)
+    private final List<Integer> homeOnCourt;
+    private final List<Integer> awayOnCourt;
+
+    private GameAction(List<Event> persistedEvents, List<Event> transientEvents,
+                       int homePoints, int awayPoints,
+                       int quarter, String foulSide, int foulPlayerId,
+                       String lineupSide, List<Player> lineupBefore, List<Player> lineupAfter,
+                       List<Integer> homeOnCourt, List<Integer> awayOnCourt) {
+        this.persistedEvents = persistedEvents;
+        this.transientEvents = transientEvents;
+        this.homePoints = homePoints;
+        this.awayPoints = awayPoints;
+        this.quarter = quarter;
+        this.foulSide = foulSide;
+        this.foulPlayerId = foulPlayerId;
+        this.lineupSide = lineupSide;
+        this.lineupBefore = lineupBefore;
+        this.lineupAfter = lineupAfter;
+        this.homeOnCourt = homeOnCourt;
+        this.awayOnCourt = awayOnCourt;
+    }
+
+    // ========== FACTORY METHODS ==========
+
+    /**
+     * Action for a single recorded event - delta derived from the event type
+     * (no plus/minus: used for saved events whose lineups are unknown)
+     */
+    public static GameAction forEvent(Event event, String side) {
+        return forEvent(event, side, Collections.<Integer>emptyList(), Collections.<Integer>emptyList());
+    }
+
+    /**
+     * Action for a single recorded event with the lineups on court (StintTracker.getOnCourt)
+     */
+    public static GameAction forEvent(Event event, String side, List<Integer> homeOnCourt, List<Integer> awayOnCourt) {
+        int points = event.isScoringEvent() ? event.getPointsValue() : 0;
+        boolean isFoul = Event.TYPE_FOUL.equals(event.getEventType());
+
+        return new GameAction(
+            Collections.singletonList(event), Collections.emptyList(),
+            "home".equals(side) ? points : 0, "away".equals(side) ? points : 0,
+            event.getQuarter(), isFoul ? side : null, isFoul ? event.getPlayerId() : 0,
+            null, null, null,
+            new ArrayList<>(homeOnCourt), new ArrayList<>(awayOnCourt));
+    }
+
+    /**
+     * Action for a lineup change (substitution or quarter lineup change)
+     */
+    public static GameAction forLineupChange(String side, List<Player> before, List<Player> after,
+                                             List<Event> logEvents) {
+        return new GameAction(
+            Collections.emptyList(), new ArrayList<>(logEvents),
+            0, 0,
+            0, null, 0,
+            side, new ArrayList<>(before), new ArrayList<>(after),
+            Collections.<Integer>emptyList(), Collections.<Integer>emptyList());
+    }
+
+    // ========== MUTATIONS ==========
+
+    /**
+     * Forward mutation (record / redo)
+     */
+    public GameMutation toMutation(int gameId) {
+        return buildMutation(gameId, 1);
+    }
+
+    /**
+     * Inverse mutation (undo) - deletes the event rows and negates every delta
+     */
+    public GameMutation toInverseMutation(int gameId) {
+        return buildMutation(gameId, -1);
+    }
+
+    private GameMutation buildMutation(int gameId, int direction) {
+        GameMutation mutation = new GameMutation(gameId);
+
+        for (Event event : persistedEvents) {
+            if (direction > 0) {
+                mutation.insertEvent(event);
+            } else {
+                mutation.deleteEvent(event);
+            }
+        }
+
+        if (homePoints != 0 || awayPoints != 0) {
+            mutation.addScore(direction * homePoints, direction * awayPoints);
+            addPlusMinus(mutation, "home", homeOnCourt, direction * homePoints, direction * awayPoints);
+            addPlusMinus(mutation, "away", awayOnCourt, direction * awayPoints, direction * homePoints);
+        }
+
+        // Team fouls per quarter follow the event row (team_fouls triggers)
+        if (foulSide != null && foulPlayerId > 0) {
+            mutation.addPersonalFoul(foulPlayerId, foulSide, direction);
+        }
+
+        if (lineupSide != null) {
+            List<Player> from = direction > 0 ? lineupBefore : lineupAfter;
+            List<Player> to = direction > 0 ? lineupAfter : lineupBefore;
+            for (Player player : from) {
+                if (!containsPlayer(to, player.getId())) {
+                    mutation.setOnCourt(player.getId(), lineupSide, false);
+                }
+            }
+            for (Player player : to) {
+                if (!containsPlayer(from, player.getId())) {
+                    mutation.setOnCourt(player.getId(), lineupSide, true);
+                }
+            }
+        }
+
+        return mutation;
+    }
+
+    private static void addPlusMinus(GameMutation mutation, String side, List<Integer> lineup,
+                                     int pointsFor, int pointsAgainst) {
+        if (lineup.isEmpty()) return;
+        for (Integer playerId : lineup) {
+            mutation.addPlusMinus(playerId, side, pointsFor - pointsAgainst);
+        }
+        mutation.addLineupResult(side, StintTracker.lineupKey(lineup), 0, pointsFor, pointsAgainst);
+    }
+
+    /**
+     * Copy of this action with fresh (unsaved) event rows for redo
+     * The original rows were deleted by undo and may still be referenced by the journal
+     */
+    public GameAction copyForRedo() {
+        List<Event> copies = new ArrayList<>();
+        for (Event event : persistedEvents) {
+            Event copy = new Event(event.getGameId(), event.getPlayerId(), event.getTeamSide(),
+                                   event.getQuarter(), event.getGameTimeSeconds(), event.getEventType());
+            copy.setSide(event.getSide());
+            copy.setPointsValue(event.getPointsValue());
+            copy.setSubPlayerOutId(event.getSubPlayerOutId());
+            copy.setSubPlayerInId(event.getSubPlayerInId());
+            copy.setPlayer(event.getPlayer());
+            copies.add(copy);
+        }
+        return new GameAction(copies, transientEvents, homePoints, awayPoints,
+                              quarter, foulSide, foulPlayerId,
+                              lineupSide, lineupBefore, lineupAfter,
+                              homeOnCourt, awayOnCourt);
+    }
+
+    private static boolean containsPlayer(List<Player> players, int playerId) {
+        for (Player player : players) {
+            if (player.getId() == playerId) return true;
+        }
+        return false;
+    }
+
+    // ========== ACCESSORS ==========
+
+    public List<Event> getPersistedEvents() { return persistedEvents; }
+    public List<Event> getTransientEvents() { return transientEvents; }
+    public int getHomePoints() { return homePoints; }
+    public int getAwayPoints() { return awayPoints; }
+    public int getQuarter() { return quarter; }
+    public boolean hasFoul() { return foulSide != null; }
+    public String getFoulSide() { return foulSide; }
+    public int getFoulPlayerId() { return foulPlayerId; }
+    public boolean isLineupChange() { return lineupSide != null; }
+    public String getLineupSide() { return lineupSide; }
+    public List<Player> getLineupBefore() { return lineupBefore; }
+    public List<Player> getLineupAfter() { return lineupAfter; }
+
+    /**
+     * Short description for toasts/logs
+     */
+    public String getDescription() {
+        if (!persistedEvents.isEmpty()) {
+            return persistedEvents.get(0).getEventType();
+        }
+        if (lineupSide != null) {
+            return "LINEUP";
+        }
+        return "ACTION";
+    }
+}
@@ -0,0 +1,159 @@
+package com.basketballstats.app.data;
+
+import android.database.sqlite.SQLiteDatabase;
+
+import com.basketballstats.app.models.Event;
+import com.basketballstats.app.models.Game;
+import com.basketballstats.app.models.GamePlayer;
+import com.basketballstats.app.models.LineScore;
+import com.basketballstats.app.models.Team;
+import com.basketballstats.app.models.TeamPlayer;
+import com.basketballstats.app.utils.AppLog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GameBundle - Everything GameActivity needs to open or resume a game, loaded at once
+ *
+ * Replaces the separate game / teams / rosters / game players / events loads
+ * (each with its own queries and per-row roster lookups) with one read
+ * transaction: game row, both rosters in one query, game players attached from
+ * those rosters, the line score (team fouls/points per quarter) and the recent
+ * hydrated events.
+ *
+ * Reuse is keyed on the games row updated_at: every write to the game or its
+ * child rows moves it forward (Game.touch()), so a caller holding the version
+ * it last loaded can skip the reload entirely when nothing changed.
+ */
+public class GameBundle {
+    private static final String TAG = "GameBundle";
+
+    // Recent events kept in memory (undo seed, live feed) - LogActivity pages the full log
+    public static final int RECENT_EVENT_LIMIT = 50;
+
+    private final Game game;
+    private final List<GamePlayer> gamePlayers;
+    private final LineScore lineScore;
+    private final List<Event> recentEvents;
+    private final int eventCount;
+    private final String version;
+
+    private GameBundle(Game game, List<GamePlayer> gamePlayers, LineScore lineScore,
+                       List<Event> recentEvents, int eventCount, String version) {
+        this.game = game;
+        this.gamePlayers = gamePlayers;
+        this.lineScore = lineScore;
+        this.recentEvents = recentEvents;
+        this.eventCount = eventCount;
+        this.version = version;
+    }
+
+    // ========== LOADING ==========
+
+    /**
+     * Load the full bundle for a game, null if the game does not exist
+     */
+    public static GameBundle load(DatabaseHelper dbHelper, int gameId) {
+        long startTime = System.currentTimeMillis();
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+
+        db.beginTransactionNonExclusive(); // One consistent snapshot across all reads
+        try {
+            Game game = Game.findById(dbHelper, gameId); // Teams come from the identity map
+            if (game == null) {
+                return null;
+            }
+
+            // Both rosters in one query
+            Team homeTeam = game.getHomeTeam();
+            Team awayTeam = game.getAwayTeam();
+            List<TeamPlayer> homeRoster = new ArrayList<>();
+            List<TeamPlayer> awayRoster = new ArrayList<>();
+            Map<Integer, TeamPlayer> rosterById = new HashMap<>();
+            for (TeamPlayer player : TeamPlayer.findByTeamIds(dbHelper, game.getHomeTeamId(), game.getAwayTeamId())) {
+                rosterById.put(player.getId(), player);
+                if (player.getTeamId() == game.getHomeTeamId()) {
+                    homeRoster.add(player);
+                } else {
+                    awayRoster.add(player);
+                }
+            }
+            if (homeTeam != null) homeTeam.setPlayers(homeRoster);
+            if (awayTeam != null) awayTeam.setPlayers(awayRoster);
+
+            List<GamePlayer> gamePlayers = GamePlayer.findByGameId(dbHelper, gameId, rosterById);
+
+            LineScore lineScore = LineScore.findByGameId(dbHelper, gameId);
+
+            // Newest first from the query - keep chronological order in memory
+            List<Event> recentEvents = Event.findRecentByGameId(dbHelper, gameId, RECENT_EVENT_LIMIT);
+            Collections.reverse(recentEvents);
+            int eventCount = recentEvents.size() < RECENT_EVENT_LIMIT
+                ? recentEvents.size() : Event.getCountForGame(dbHelper, gameId);
+
+            db.setTransactionSuccessful();
+
+            AppLog.d(TAG, "Loaded game %s in %dms: %d game players, %d events",
+                gameId, System.currentTimeMillis() - startTime, gamePlayers.size(), eventCount);
+            return new GameBundle(game, gamePlayers, lineScore,
+                                  recentEvents, eventCount, game.getUpdatedAt());
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Load the bundle only if the game changed since the given version
+     * @return null when knownVersion is still current (caller keeps its state)
+     */
+    public static GameBundle loadIfChanged(DatabaseHelper dbHelper, int gameId, String knownVersion) {
+        if (isCurrent(dbHelper, gameId, knownVersion)) {
+            AppLog.d(TAG, "Game %s unchanged since version %s - reusing loaded state", gameId, knownVersion);
+            return null;
+        }
+        return load(dbHelper, gameId);
+    }
+
+    /**
+     * Check whether a loaded version still matches the games row (single-column lookup)
+     */
+    public static boolean isCurrent(DatabaseHelper dbHelper, int gameId, String knownVersion) {
+        return knownVersion != null && knownVersion.equals(Game.findUpdatedAt(dbHelper, gameId));
+    }
+
+    // ========== GETTERS ==========
+
+    /**
+     * Game with home/away teams attached and their rosters loaded
+     */
+    public Game getGame() { return game; }
+
+    /**
+     * Game players with their TeamPlayer attached (ordered by side, starters first)
+     */
+    public List<GamePlayer> getGamePlayers() { return gamePlayers; }
+
+    /**
+     * Team fouls and points per quarter (mutable - the caller's in-memory mirror)
+     */
+    public LineScore getLineScore() { return lineScore; }
+
+    /**
+     * Most recent events, oldest first (at most RECENT_EVENT_LIMIT)
+     */
+    public List<Event> getRecentEvents() { return recentEvents; }
+
+    /**
+     * Total events recorded for the game
+     */
+    public int getEventCount() { return eventCount; }
+
+    /**
+     * games.updated_at at load time - pass back to loadIfChanged()
+     */
+    public String getVersion() { return version; }
+}
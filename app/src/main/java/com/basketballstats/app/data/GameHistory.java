@@ -0,0 +1,71 @@
+package com.basketballstats.app.data;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * GameHistory - Multi-level undo/redo stacks of GameActions
+ *
+ * Each recorded action is pushed with its delta. Undo pops it and applies the
+ * inverse delta, redo re-applies it - both O(1) regardless of depth or game
+ * length. Recording a new action clears the redo stack.
+ */
+public class GameHistory {
+
+    private final Deque<GameAction> undoStack = new ArrayDeque<>();
+    private final Deque<GameAction> redoStack = new ArrayDeque<>();
+
+    /**
+     * Record a newly performed action (clears redo history)
+     */
+    public void record(GameAction action) {
+        undoStack.push(action);
+        redoStack.clear();
+    }
+
+    /**
+     * Pop the most recent action to undo (null if none)
+     */
+    public GameAction popUndo() {
+        GameAction action = undoStack.poll();
+        if (action != null) {
+            redoStack.push(action);
+        }
+        return action;
+    }
+
+    /**
+     * Pop the most recently undone action to redo (null if none)
+     * Caller pushes the (possibly copied) action back via pushRedone()
+     */
+    public GameAction popRedo() {
+        return redoStack.poll();
+    }
+
+    /**
+     * Push a redone action back onto the undo stack (keeps remaining redo history)
+     */
+    public void pushRedone(GameAction action) {
+        undoStack.push(action);
+    }
+
+    /**
+     * Track an undo of an action that was never recorded here (e.g. loaded from database)
+     */
+    public void pushUndone(GameAction action) {
+        redoStack.push(action);
+    }
+
+    public boolean canUndo() { return !undoStack.isEmpty(); }
+
+    public boolean canRedo() { return !redoStack.isEmpty(); }
+
+    public int getUndoDepth() { return undoStack.size(); }
+
+    public int getRedoDepth() { return redoStack.size(); }
+
+    public void clear() {
+        undoStack.clear();
+        redoStack.clear();
+    }
+}
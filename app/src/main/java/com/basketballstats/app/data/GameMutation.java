@@ -0,0 +1,368 @@
+package com.basketballstats.app.data;
+
+import android.database.sqlite.SQLiteDatabase;
+
+import com.basketballstats.app.models.Event;
+import com.basketballstats.app.models.Game;
+import com.basketballstats.app.utils.AppLog;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GameMutation - Unit of work for one compound game action
+ *
+ * A single tap can touch several tables: the event row, the score columns on
+ * games and the player's game_players row (team_fouls and player_game_stats
+ * follow the event rows through DatabaseHelper triggers). Stint data - playing
+ * time, plus/minus and lineup_stats - rides along as deltas (StintTracker).
+ * GameMutation collects all of those changes and applies them inside ONE
+ * transaction (one commit), so the database never holds a half-applied action
+ * and the UI is notified once, after the commit.
+ *
+ * Committed either synchronously via DatabaseController.commitMutation() or
+ * write-behind via EventJournal.append(GameMutation).
+ *
+ * Team sides are "home"/"away" (same as game_players.team_side).
+ */
+public class GameMutation {
+    private static final String TAG = "GameMutation";
+
+    private final int gameId;
+
+    // Event rows
+    private final List<Event> insertedEvents = new ArrayList<>();
+    private final List<Event> deletedEvents = new ArrayList<>();
+
+    // games score columns (absolute values and/or deltas)
+    private boolean scoreChanged = false;
+    private int homeScore;
+    private int awayScore;
+    private int homeScoreDelta = 0;
+    private int awayScoreDelta = 0;
+
+    // game_players deltas
+    private final List<PlayerChange> playerChanges = new ArrayList<>();
+
+    // lineup_stats deltas
+    private final List<LineupChange> lineupChanges = new ArrayList<>();
+
+    public GameMutation(int gameId) {
+        this.gameId = gameId;
+    }
+
+    // ========== BUILDER METHODS ==========
+
+    /**
+     * Insert event row
+     */
+    public GameMutation insertEvent(Event event) {
+        insertedEvents.add(event);
+        return this;
+    }
+
+    /**
+     * Delete event row (must already be written)
+     */
+    public GameMutation deleteEvent(Event event) {
+        deletedEvents.add(event);
+        return this;
+    }
+
+    /**
+     * Set games.home_score / games.away_score
+     */
+    public GameMutation setScore(int homeScore, int awayScore) {
+        this.scoreChanged = true;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+        return this;
+    }
+
+    /**
+     * Add points to games.home_score / games.away_score (negative for undo)
+     */
+    public GameMutation addScore(int homeDelta, int awayDelta) {
+        this.homeScoreDelta += homeDelta;
+        this.awayScoreDelta += awayDelta;
+        return this;
+    }
+
+    /**
+     * Add (or with negative delta, remove) personal fouls for a player
+     */
+    public GameMutation addPersonalFoul(int teamPlayerId, String teamSide, int delta) {
+        playerChanges.add(new PlayerChange(teamPlayerId, teamSide, null, delta, 0, 0));
+        return this;
+    }
+
+    /**
+     * Mark player as on/off court (substitutions)
+     */
+    public GameMutation setOnCourt(int teamPlayerId, String teamSide, boolean onCourt) {
+        playerChanges.add(new PlayerChange(teamPlayerId, teamSide, onCourt, 0, 0, 0));
+        return this;
+    }
+
+    /**
+     * Add on-court time for a player (minutes_played follows seconds_played)
+     */
+    public GameMutation addPlayingTime(int teamPlayerId, String teamSide, int seconds) {
+        playerChanges.add(new PlayerChange(teamPlayerId, teamSide, null, 0, seconds, 0));
+        return this;
+    }
+
+    /**
+     * Add to a player's plus/minus (negative delta for points against or undo)
+     */
+    public GameMutation addPlusMinus(int teamPlayerId, String teamSide, int delta) {
+        playerChanges.add(new PlayerChange(teamPlayerId, teamSide, null, 0, 0, delta));
+        return this;
+    }
+
+    /**
+     * Add time and/or points to a five-man lineup's row (StintTracker.lineupKey)
+     */
+    public GameMutation addLineupResult(String teamSide, String lineupKey, int seconds,
+                                        int pointsFor, int pointsAgainst) {
+        lineupChanges.add(new LineupChange(teamSide, lineupKey, seconds, pointsFor, pointsAgainst));
+        return this;
+    }
+
+    // ========== ACCESSORS ==========
+
+    public int getGameId() { return gameId; }
+
+    public List<Event> getInsertedEvents() { return insertedEvents; }
+
+    public List<Event> getDeletedEvents() { return deletedEvents; }
+
+    /**
+     * Check if mutation has nothing to write
+     */
+    public boolean isEmpty() {
+        return insertedEvents.isEmpty() && deletedEvents.isEmpty() && !scoreChanged &&
+               homeScoreDelta == 0 && awayScoreDelta == 0 &&
+               playerChanges.isEmpty() && lineupChanges.isEmpty();
+    }
+
+    // ========== DELTAS (package-private, unit tests) ==========
+
+    int getHomeScoreDelta() { return homeScoreDelta; }
+
+    int getAwayScoreDelta() { return awayScoreDelta; }
+
+    /**
+     * Net personal foul delta for a player over all changes
+     */
+    int getFoulDelta(int teamPlayerId) {
+        int delta = 0;
+        for (PlayerChange change : playerChanges) {
+            if (change.teamPlayerId == teamPlayerId) delta += change.foulDelta;
+        }
+        return delta;
+    }
+
+    /**
+     * Net plus/minus delta for a player over all changes
+     */
+    int getPlusMinusDelta(int teamPlayerId) {
+        int delta = 0;
+        for (PlayerChange change : playerChanges) {
+            if (change.teamPlayerId == teamPlayerId) delta += change.plusMinusDelta;
+        }
+        return delta;
+    }
+
+    /**
+     * Net playing time delta for a player over all changes
+     */
+    int getSecondsDelta(int teamPlayerId) {
+        int delta = 0;
+        for (PlayerChange change : playerChanges) {
+            if (change.teamPlayerId == teamPlayerId) delta += change.secondsDelta;
+        }
+        return delta;
+    }
+
+    /**
+     * Last on-court flag set for a player (null = unchanged)
+     */
+    Boolean getOnCourt(int teamPlayerId) {
+        Boolean onCourt = null;
+        for (PlayerChange change : playerChanges) {
+            if (change.teamPlayerId == teamPlayerId && change.onCourt != null) onCourt = change.onCourt;
+        }
+        return onCourt;
+    }
+
+    /**
+     * Net {seconds, points for, points against} for one lineup over all changes
+     */
+    int[] getLineupDelta(String teamSide, String lineupKey) {
+        int[] delta = new int[3];
+        for (LineupChange change : lineupChanges) {
+            if (change.teamSide.equals(teamSide) && change.lineupKey.equals(lineupKey)) {
+                delta[0] += change.seconds;
+                delta[1] += change.pointsFor;
+                delta[2] += change.pointsAgainst;
+            }
+        }
+        return delta;
+    }
+
+    // ========== APPLY ==========
+
+    /**
+     * Apply all changes - caller owns the surrounding transaction
+     */
+    void applyTo(DatabaseHelper dbHelper, EventWriter eventWriter) {
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        String timestamp = getCurrentTimestamp();
+
+        // Events
+        for (Event event : deletedEvents) {
+            event.delete(dbHelper);
+        }
+        if (!insertedEvents.isEmpty()) {
+            eventWriter.insertAll(insertedEvents);
+        }
+
+        // Score columns on games
+        if (scoreChanged) {
+            db.execSQL("UPDATE " + DatabaseHelper.TABLE_GAMES + " SET " +
+                      DatabaseHelper.GAMES_COLUMN_HOME_SCORE + " = ?, " +
+                      DatabaseHelper.GAMES_COLUMN_AWAY_SCORE + " = ?, " +
+                      DatabaseHelper.COLUMN_UPDATED_AT + " = ?" +
+                      " WHERE " + DatabaseHelper.COLUMN_ID + " = ?",
+                      new Object[]{homeScore, awayScore, timestamp, gameId});
+        }
+        if (homeScoreDelta != 0 || awayScoreDelta != 0) {
+            db.execSQL("UPDATE " + DatabaseHelper.TABLE_GAMES + " SET " +
+                      DatabaseHelper.GAMES_COLUMN_HOME_SCORE + " = " + DatabaseHelper.GAMES_COLUMN_HOME_SCORE + " + ?, " +
+                      DatabaseHelper.GAMES_COLUMN_AWAY_SCORE + " = " + DatabaseHelper.GAMES_COLUMN_AWAY_SCORE + " + ?, " +
+                      DatabaseHelper.COLUMN_UPDATED_AT + " = ?" +
+                      " WHERE " + DatabaseHelper.COLUMN_ID + " = ?",
+                      new Object[]{homeScoreDelta, awayScoreDelta, timestamp, gameId});
+        }
+
+        // Game players (personal fouls, on-court flag, playing time, plus/minus)
+        for (PlayerChange change : playerChanges) {
+            applyPlayerChange(db, eventWriter, change, timestamp);
+        }
+
+        // Five-man lineups
+        for (LineupChange change : lineupChanges) {
+            applyLineupChange(db, change);
+        }
+
+        // Child rows changed - move the game's version forward (GameBundle reuse check)
+        Game.touch(dbHelper, gameId);
+        if (!insertedEvents.isEmpty() || !deletedEvents.isEmpty()) {
+            // Event triggers also wrote the per-quarter and per-player aggregates
+            dbHelper.getInvalidationTracker().notifyTablesChanged(DatabaseHelper.TABLE_EVENTS,
+                DatabaseHelper.TABLE_TEAM_FOULS, DatabaseHelper.TABLE_PLAYER_GAME_STATS);
+        }
+        if (!playerChanges.isEmpty()) {
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_GAME_PLAYERS);
+        }
+        if (!lineupChanges.isEmpty()) {
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_LINEUP_STATS);
+        }
+
+        AppLog.d(TAG, "Applied mutation for game %d: +%d/-%d events, %d player changes",
+                gameId, insertedEvents.size(), deletedEvents.size(), playerChanges.size());
+    }
+
+    private void applyPlayerChange(SQLiteDatabase db, EventWriter eventWriter, PlayerChange change, String timestamp) {
+        if (change.onCourt == null && change.foulDelta == 0 && change.secondsDelta == 0 && change.plusMinusDelta == 0) {
+            return;
+        }
+
+        // Shared precompiled statement - columns this change does not touch get a NULL / 0 delta
+        if (eventWriter.updateGamePlayer(gameId, change.teamPlayerId, change.onCourt, change.foulDelta,
+                change.secondsDelta, change.plusMinusDelta, timestamp) > 0) {
+            return;
+        }
+
+        // Player not in game_players yet (e.g. subbed in after lineup was saved)
+        db.execSQL("INSERT INTO " + DatabaseHelper.TABLE_GAME_PLAYERS + " (" +
+                  DatabaseHelper.GAME_PLAYERS_COLUMN_GAME_ID + ", " +
+                  DatabaseHelper.GAME_PLAYERS_COLUMN_TEAM_PLAYER_ID + ", " +
+                  DatabaseHelper.GAME_PLAYERS_COLUMN_TEAM_SIDE + ", " +
+                  DatabaseHelper.GAME_PLAYERS_COLUMN_IS_ON_COURT + ", " +
+                  DatabaseHelper.GAME_PLAYERS_COLUMN_IS_STARTER + ", " +
+                  DatabaseHelper.GAME_PLAYERS_COLUMN_PERSONAL_FOULS + ", " +
+                  DatabaseHelper.GAME_PLAYERS_COLUMN_SECONDS_PLAYED + ", " +
+                  DatabaseHelper.GAME_PLAYERS_COLUMN_MINUTES_PLAYED + ", " +
+                  DatabaseHelper.GAME_PLAYERS_COLUMN_PLUS_MINUS + ", " +
+                  DatabaseHelper.COLUMN_CREATED_AT + ", " +
+                  DatabaseHelper.COLUMN_UPDATED_AT + ") VALUES (?, ?, ?, ?, 0, ?, ?, ?, ?, ?, ?)",
+                  new Object[]{gameId, change.teamPlayerId, change.teamSide,
+                               change.onCourt == null || change.onCourt ? 1 : 0,
+                               Math.max(0, change.foulDelta), Math.max(0, change.secondsDelta),
+                               Math.max(0, change.secondsDelta) / 60, change.plusMinusDelta,
+                               timestamp, timestamp});
+    }
+
+    private void applyLineupChange(SQLiteDatabase db, LineupChange change) {
+        db.execSQL("INSERT OR IGNORE INTO " + DatabaseHelper.TABLE_LINEUP_STATS + " (" +
+                  DatabaseHelper.LINEUP_STATS_COLUMN_GAME_ID + ", " +
+                  DatabaseHelper.LINEUP_STATS_COLUMN_TEAM_SIDE + ", " +
+                  DatabaseHelper.LINEUP_STATS_COLUMN_LINEUP_KEY + ") VALUES (?, ?, ?)",
+                  new Object[]{gameId, change.teamSide, change.lineupKey});
+        db.execSQL("UPDATE " + DatabaseHelper.TABLE_LINEUP_STATS + " SET " +
+                  DatabaseHelper.LINEUP_STATS_COLUMN_SECONDS_PLAYED + " = " + DatabaseHelper.LINEUP_STATS_COLUMN_SECONDS_PLAYED + " + ?, " +
+                  DatabaseHelper.LINEUP_STATS_COLUMN_POINTS_FOR + " = " + DatabaseHelper.LINEUP_STATS_COLUMN_POINTS_FOR + " + ?, " +
+                  DatabaseHelper.LINEUP_STATS_COLUMN_POINTS_AGAINST + " = " + DatabaseHelper.LINEUP_STATS_COLUMN_POINTS_AGAINST + " + ?" +
+                  " WHERE " + DatabaseHelper.LINEUP_STATS_COLUMN_GAME_ID + " = ? AND " +
+                  DatabaseHelper.LINEUP_STATS_COLUMN_TEAM_SIDE + " = ? AND " +
+                  DatabaseHelper.LINEUP_STATS_COLUMN_LINEUP_KEY + " = ?",
+                  new Object[]{change.seconds, change.pointsFor, change.pointsAgainst,
+                               gameId, change.teamSide, change.lineupKey});
+    }
+
+    /**
+     * Get current timestamp as string
+     */
+    private static String getCurrentTimestamp() {
+        return String.valueOf(System.currentTimeMillis());
+    }
+
+    // ========== CHANGE RECORDS ==========
+
+    private static class PlayerChange {
+        final int teamPlayerId;
+        final String teamSide;
+        final Boolean onCourt; // null = on-court flag unchanged
+        final int foulDelta;
+        final int secondsDelta;
+        final int plusMinusDelta;
+
+        PlayerChange(int teamPlayerId, String teamSide, Boolean onCourt,
+                     int foulDelta, int secondsDelta, int plusMinusDelta) {
+            this.teamPlayerId = teamPlayerId;
+            this.teamSide = teamSide;
+            this.onCourt = onCourt;
+            this.foulDelta = foulDelta;
+            this.secondsDelta = secondsDelta;
+            this.plusMinusDelta = plusMinusDelta;
+        }
+    }
+
+    private static class LineupChange {
+        final String teamSide;
+        final String lineupKey;
+        final int seconds;
+        final int pointsFor;
+        final int pointsAgainst;
+
+        LineupChange(String teamSide, String lineupKey, int seconds, int pointsFor, int pointsAgainst) {
+            this.teamSide = teamSide;
+            this.lineupKey = lineupKey;
+            this.seconds = seconds;
+            this.pointsFor = pointsFor;
+            this.pointsAgainst = pointsAgainst;
+        }
+    }
+}
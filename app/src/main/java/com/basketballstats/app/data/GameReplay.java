@@ -0,0 +1,106 @@
+package com.basketballstats.app.data;
+
+import android.database.sqlite.SQLiteDatabase;
+
+import com.basketballstats.app.models.Event;
+import com.basketballstats.app.models.GameState;
+import com.basketballstats.app.utils.AppLog;
+
+import java.util.List;
+
+/**
+ * GameReplay - Game state as of any event, from the nearest checkpoint
+ *
+ * A seek loads the latest game_state_checkpoints row at or before the target
+ * (one primary key / index probe) and replays only the events after it. Every
+ * CHECKPOINT_INTERVAL-th event passed during a replay is written back as a new
+ * checkpoint, so after a game has been replayed once any seek reads at most
+ * CHECKPOINT_INTERVAL events, however long the game is.
+ *
+ * Checkpoints are a cache over the events table: DatabaseHelper triggers drop
+ * the ones an insert, delete or edit makes stale, and the next seek rewrites them.
+ */
+public class GameReplay {
+    private static final String TAG = "GameReplay";
+
+    // Events between stored checkpoints - the most a warm seek replays
+    public static final int CHECKPOINT_INTERVAL = 25;
+
+    private final DatabaseHelper dbHelper;
+    private final int gameId;
+
+    public GameReplay(DatabaseHelper dbHelper, int gameId) {
+        this.dbHelper = dbHelper;
+        this.gameId = gameId;
+    }
+
+    // ========== SEEKS ==========
+
+    /**
+     * State after the event with this sequence (after the last earlier event if
+     * the sequence was deleted - sequences keep their gaps)
+     */
+    public GameState stateAtSequence(int eventSequence) {
+        GameState state = GameState.findCheckpointAtSequence(dbHelper, gameId, eventSequence);
+        if (state == null) {
+            state = GameState.start(gameId);
+        }
+        return replay(state, eventSequence, null);
+    }
+
+    /**
+     * State after the first eventCount events - timeline position (0 = before the first event)
+     */
+    public GameState stateAtPosition(int eventCount) {
+        GameState state = GameState.findCheckpointAtPosition(dbHelper, gameId, eventCount);
+        if (state == null) {
+            state = GameState.start(gameId);
+        }
+        int remaining = eventCount - state.getEventCount();
+        return remaining > 0 ? replay(state, null, remaining) : state;
+    }
+
+    public int getGameId() {
+        return gameId;
+    }
+
+    // ========== REPLAY ==========
+
+    /**
+     * Apply the events after a state's sequence, writing back checkpoints on the way
+     */
+    private GameState replay(GameState state, Integer throughSequence, Integer maxEvents) {
+        long startTime = System.currentTimeMillis();
+        List<Event> events = Event.findReplaySlice(dbHelper, gameId, state.getEventSequence(),
+                                                   throughSequence, maxEvents);
+
+        SQLiteDatabase db = null;
+        try {
+            for (Event event : events) {
+                state.apply(event, event.getSide());
+
+                if (state.getEventCount() % CHECKPOINT_INTERVAL == 0) {
+                    if (db == null) {
+                        db = dbHelper.getWritableDatabase();
+                        db.beginTransaction();
+                    }
+                    state.saveCheckpoint(db);
+                }
+            }
+            if (db != null) {
+                db.setTransactionSuccessful();
+            }
+        } finally {
+            if (db != null) {
+                db.endTransaction();
+            }
+        }
+
+        if (db != null) {
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_GAME_STATE_CHECKPOINTS);
+        }
+        AppLog.d(TAG, "Replayed %d events to position %d in %dms", events.size(), state.getEventCount(),
+            System.currentTimeMillis() - startTime);
+        return state;
+    }
+}
@@ -0,0 +1,92 @@
+package com.basketballstats.app.data;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * IdentityMapCache - Bounded id -> instance map with LRU eviction
+ *
+ * Guarantees at most one live model instance per row while the row is cached,
+ * so every screen sees the same object and repeated lookups skip the database.
+ * Access-ordered LinkedHashMap gives O(1) get/put/evict. Thread-safe.
+ */
+public class IdentityMapCache<T> {
+
+    private final LinkedHashMap<Integer, T> entries;
+    private final int maxSize;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    public IdentityMapCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<Integer, T>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, T> eldest) {
+                return size() > IdentityMapCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get cached instance (counts a hit or miss), null if not cached
+     */
+    public synchronized T get(int id) {
+        T value = entries.get(id);
+        if (value != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return value;
+    }
+
+    /**
+     * Cache instance (replaces any previous instance for the id)
+     */
+    public synchronized void put(int id, T instance) {
+        if (id > 0 && instance != null) {
+            entries.put(id, instance);
+        }
+    }
+
+    public synchronized void invalidate(int id) {
+        entries.remove(id);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Evict least recently used entries down to the given size
+     */
+    public synchronized void trimToSize(int size) {
+        int target = Math.max(0, size);
+        Iterator<Integer> iterator = entries.keySet().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    // ========== STATISTICS ==========
+
+    public synchronized int size() { return entries.size(); }
+    public synchronized int maxSize() { return maxSize; }
+    public synchronized long getHitCount() { return hitCount; }
+    public synchronized long getMissCount() { return missCount; }
+
+    public synchronized void resetStatistics() {
+        hitCount = 0;
+        missCount = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        long lookups = hitCount + missCount;
+        int hitPercent = lookups > 0 ? (int) (100 * hitCount / lookups) : 0;
+        return "IdentityMapCache[size=" + entries.size() + "/" + maxSize +
+               ", hits=" + hitCount + ", misses=" + missCount + ", hitRate=" + hitPercent + "%]";
+    }
+}
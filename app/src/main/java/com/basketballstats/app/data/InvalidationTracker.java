@@ -0,0 +1,120 @@
+package com.basketballstats.app.data;
+
+import com.basketballstats.app.utils.AppLog;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * InvalidationTracker - Per-table write versions so screens re-query only after real changes
+ *
+ * Model save()/delete() (and bulk writes in DatabaseController, GameMutation,
+ * sync merges) bump the version of every table they write. A screen holds a
+ * Watch over the tables its lists depend on and re-queries only when one of
+ * them moved, instead of reloading on every resume or dialog close.
+ *
+ * Owned by DatabaseHelper (one per database), exposed via
+ * DatabaseController.getInvalidationTracker(). Versions live in memory only -
+ * a fresh process starts with every screen loading once anyway.
+ */
+public class InvalidationTracker {
+    private static final String TAG = "InvalidationTracker";
+
+    private final Map<String, Long> tableVersions = new HashMap<>();
+    private long globalVersion = 0; // Bumped when every table may have changed (restore, raw SQL, sync)
+
+    InvalidationTracker() {}
+
+    // ========== NOTIFICATION ==========
+
+    /**
+     * Record a write to a table
+     */
+    public synchronized void notifyTableChanged(String tableName) {
+        Long version = tableVersions.get(tableName);
+        tableVersions.put(tableName, version != null ? version + 1 : 1L);
+    }
+
+    /**
+     * Record writes to several tables (e.g. cascading deletes)
+     */
+    public synchronized void notifyTablesChanged(String... tableNames) {
+        for (String tableName : tableNames) {
+            notifyTableChanged(tableName);
+        }
+    }
+
+    /**
+     * Treat every table as changed (writes that bypassed the models)
+     */
+    public synchronized void notifyAllChanged() {
+        globalVersion++;
+        AppLog.d(TAG, "All tables invalidated (global version %s)", globalVersion);
+    }
+
+    /**
+     * Current version of a table (only ever increases)
+     */
+    public synchronized long getVersion(String tableName) {
+        Long version = tableVersions.get(tableName);
+        return globalVersion + (version != null ? version : 0L);
+    }
+
+    // ========== WATCHES ==========
+
+    /**
+     * Watch a set of tables - starts at their current versions (caller loads right after)
+     */
+    public Watch watch(String... tableNames) {
+        return new Watch(this, tableNames);
+    }
+
+    /**
+     * Versions of a screen's tables as of its last load
+     */
+    public static final class Watch {
+        private final InvalidationTracker tracker;
+        private final String[] tableNames;
+        private final long[] seenVersions;
+
+        private Watch(InvalidationTracker tracker, String[] tableNames) {
+            this.tracker = tracker;
+            this.tableNames = tableNames;
+            this.seenVersions = new long[tableNames.length];
+            markSeen();
+        }
+
+        /**
+         * Check if any watched table was written since the last markSeen()
+         */
+        public boolean hasChanged() {
+            for (int i = 0; i < tableNames.length; i++) {
+                if (tracker.getVersion(tableNames[i]) != seenVersions[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Record the current versions as loaded
+         */
+        public void markSeen() {
+            for (int i = 0; i < tableNames.length; i++) {
+                seenVersions[i] = tracker.getVersion(tableNames[i]);
+            }
+        }
+
+        /**
+         * Check for changes and mark them seen - call before re-querying, so writes
+         * that land during the query trigger another refresh rather than being lost
+         */
+        public boolean consumeChange() {
+            if (!hasChanged()) {
+                return false;
+            }
+            markSeen();
+            return true;
+        }
+    }
+}
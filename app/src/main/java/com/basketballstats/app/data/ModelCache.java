@@ -0,0 +1,82 @@
+package com.basketballstats.app.data;
+
+import android.content.ComponentCallbacks2;
+
+import com.basketballstats.app.models.Team;
+import com.basketballstats.app.models.TeamPlayer;
+import com.basketballstats.app.utils.AppLog;
+
+/**
+ * ModelCache - Process-wide identity maps for Team and TeamPlayer
+ *
+ * Teams and rosters are read constantly (game setup, event hydration, log
+ * screens) but change rarely, so lookups by id are served from memory.
+ * - save() registers the saved instance, delete() invalidates it
+ * - Bulk writes (sync merges, batch deletes, restore) invalidate whole tables
+ * - MyApplication forwards onTrimMemory() so the caches shrink under pressure
+ */
+public final class ModelCache {
+    private static final String TAG = "ModelCache";
+
+    private static final int MAX_TEAMS = 64;
+    private static final int MAX_TEAM_PLAYERS = 512;
+
+    private static final IdentityMapCache<Team> TEAMS = new IdentityMapCache<>(MAX_TEAMS);
+    private static final IdentityMapCache<TeamPlayer> TEAM_PLAYERS = new IdentityMapCache<>(MAX_TEAM_PLAYERS);
+
+    private ModelCache() {}
+
+    public static IdentityMapCache<Team> teams() {
+        return TEAMS;
+    }
+
+    public static IdentityMapCache<TeamPlayer> teamPlayers() {
+        return TEAM_PLAYERS;
+    }
+
+    // ========== INVALIDATION ==========
+
+    /**
+     * Invalidate cached rows of a table after a write that bypassed the models
+     */
+    public static void invalidateTable(String tableName) {
+        if (DatabaseHelper.TABLE_TEAMS.equals(tableName)) {
+            TEAMS.clear();
+            TEAM_PLAYERS.clear(); // Team deletes cascade to team_players
+        } else if (DatabaseHelper.TABLE_TEAM_PLAYERS.equals(tableName)) {
+            TEAM_PLAYERS.clear();
+        }
+    }
+
+    /**
+     * Drop everything (sync merge, restore, raw SQL)
+     */
+    public static void invalidateAll() {
+        TEAMS.clear();
+        TEAM_PLAYERS.clear();
+        AppLog.d(TAG, "Model caches invalidated");
+    }
+
+    // ========== MEMORY PRESSURE ==========
+
+    /**
+     * Shrink caches on memory pressure (ComponentCallbacks2 levels)
+     * Moderate or worse drops everything, lighter levels keep the hottest half
+     */
+    public static void onTrimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE) {
+            invalidateAll();
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            TEAMS.trimToSize(TEAMS.size() / 2);
+            TEAM_PLAYERS.trimToSize(TEAM_PLAYERS.size() / 2);
+            AppLog.d(TAG, "Model caches trimmed (level %d)", level);
+        }
+    }
+
+    /**
+     * Hit/miss summary for performance logging
+     */
+    public static String getStatistics() {
+        return "teams " + TEAMS + ", teamPlayers " + TEAM_PLAYERS;
+    }
+}
@@ -0,0 +1,84 @@
+package com.basketballstats.app.data;
+
+import android.database.Cursor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RowReader - Reads model rows from a cursor with column indexes resolved once
+ *
+ * Subclasses look up their column indexes in the constructor (once per cursor)
+ * and read each row through plain index access, instead of calling
+ * getColumnIndexOrThrow() for every column of every row.
+ *
+ * Columns missing from the projection resolve to -1 and read as null/0, so the
+ * same reader serves narrow projections (e.g. id, type, points, side for score
+ * math). Models loaded from a narrow projection are read-only views: their
+ * dirty-column snapshot includes the defaults, so save() never writes them back.
+ */
+public abstract class RowReader<T> {
+
+    protected final Cursor cursor;
+    private final String prefix;
+
+    protected RowReader(Cursor cursor) {
+        this(cursor, "");
+    }
+
+    /**
+     * @param prefix column alias prefix for joined rows (e.g. "p_" for "p_name")
+     */
+    protected RowReader(Cursor cursor, String prefix) {
+        this.cursor = cursor;
+        this.prefix = prefix;
+    }
+
+    /**
+     * Read the model at the cursor's current position
+     */
+    public abstract T read();
+
+    /**
+     * Read the first row, null if the cursor is empty
+     */
+    public T readFirst() {
+        return cursor.moveToFirst() ? read() : null;
+    }
+
+    /**
+     * Read every remaining row
+     */
+    public List<T> readAll() {
+        List<T> rows = new ArrayList<>(Math.max(cursor.getCount(), 0));
+        while (cursor.moveToNext()) {
+            rows.add(read());
+        }
+        return rows;
+    }
+
+    // ========== COLUMN ACCESS ==========
+
+    /**
+     * Index of a column in this cursor, -1 if it is not in the projection
+     */
+    protected final int column(String name) {
+        return cursor.getColumnIndex(prefix + name);
+    }
+
+    protected final String getString(int index) {
+        return index >= 0 ? cursor.getString(index) : null;
+    }
+
+    protected final int getInt(int index) {
+        return index >= 0 ? cursor.getInt(index) : 0;
+    }
+
+    protected final long getLong(int index) {
+        return index >= 0 ? cursor.getLong(index) : 0L;
+    }
+
+    protected final boolean isNull(int index) {
+        return index < 0 || cursor.isNull(index);
+    }
+}
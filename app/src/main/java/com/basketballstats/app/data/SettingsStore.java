@@ -0,0 +1,148 @@
+package com.basketballstats.app.data;
+
+import com.basketballstats.app.models.AppSettings;
+import com.basketballstats.app.utils.AppLog;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * SettingsStore - In-memory app settings with write-through persistence
+ *
+ * AppSettings.getValue() runs a query per call, and the sync path reads
+ * preferences on every network change. The store loads the app_settings table
+ * once (one findAll query) and serves typed reads from memory, falling back to
+ * AppSettings defaults for keys with no row.
+ * - setValue() updates memory and saves the row immediately, then notifies listeners
+ * - reload() re-reads the table after writes that bypassed the store (restore, raw SQL)
+ *
+ * Owned by DatabaseController. Thread-safe - reads and writes come from the UI,
+ * network callbacks and the sync executor.
+ */
+public class SettingsStore {
+    private static final String TAG = "SettingsStore";
+
+    /**
+     * Notified after a setting value changes
+     */
+    public interface OnSettingChangedListener {
+        void onSettingChanged(String key, String value);
+    }
+
+    private final DatabaseHelper dbHelper;
+    private final Map<String, AppSettings> rows = new HashMap<>(); // Persisted rows by key
+    private final List<OnSettingChangedListener> listeners = new CopyOnWriteArrayList<>();
+
+    SettingsStore(DatabaseHelper dbHelper) {
+        this.dbHelper = dbHelper;
+    }
+
+    // ========== LOADING ==========
+
+    /**
+     * Load (or re-load) every setting row into memory
+     */
+    public synchronized void reload() {
+        rows.clear();
+        for (AppSettings setting : AppSettings.findAll(dbHelper)) {
+            rows.put(setting.getSettingKey(), setting);
+        }
+        AppLog.d(TAG, "Loaded %s settings into memory", rows.size());
+    }
+
+    // ========== TYPED READS ==========
+
+    /**
+     * Get setting value, the AppSettings default if no row exists, else null
+     */
+    public synchronized String getString(String key) {
+        AppSettings setting = rows.get(key);
+        return setting != null ? setting.getSettingValue() : AppSettings.getDefaultValue(key);
+    }
+
+    public String getString(String key, String defaultValue) {
+        String value = getString(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = getString(key);
+        return value != null ? "true".equalsIgnoreCase(value) : defaultValue;
+    }
+
+    public int getInt(String key, int defaultValue) {
+        String value = getString(key);
+        if (value != null) {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                AppLog.w(TAG, "Cannot parse setting as int: %s for key: %s", value, key);
+            }
+        }
+        return defaultValue;
+    }
+
+    public long getLong(String key, long defaultValue) {
+        String value = getString(key);
+        if (value != null) {
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                AppLog.w(TAG, "Cannot parse setting as long: %s for key: %s", value, key);
+            }
+        }
+        return defaultValue;
+    }
+
+    // ========== WRITE-THROUGH ==========
+
+    /**
+     * Set setting value - memory and database updated together
+     */
+    public void setValue(String key, String value) {
+        synchronized (this) {
+            AppSettings setting = rows.get(key);
+            if (setting == null) {
+                setting = new AppSettings(key, value);
+            } else if (value != null && value.equals(setting.getSettingValue())) {
+                return; // Unchanged - no write, no notification
+            } else {
+                setting.setSettingValue(value);
+            }
+
+            if (setting.save(dbHelper) == -1) {
+                AppLog.w(TAG, "Failed to persist setting: %s", key);
+                return;
+            }
+            rows.put(key, setting);
+        }
+
+        for (OnSettingChangedListener listener : listeners) {
+            listener.onSettingChanged(key, value);
+        }
+    }
+
+    public void setBoolean(String key, boolean value) {
+        setValue(key, String.valueOf(value));
+    }
+
+    public void setInt(String key, int value) {
+        setValue(key, String.valueOf(value));
+    }
+
+    public void setLong(String key, long value) {
+        setValue(key, String.valueOf(value));
+    }
+
+    // ========== LISTENERS ==========
+
+    public void addListener(OnSettingChangedListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(OnSettingChangedListener listener) {
+        listeners.remove(listener);
+    }
+}
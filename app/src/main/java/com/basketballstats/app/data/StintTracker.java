@@ -0,0 +1,157 @@
+package com.basketballstats.app.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * StintTracker - On-court stints for both sides, advanced by the game clock
+ *
+ * Holds the players on court per side and the clock position (remaining millis)
+ * the stints were last advanced to. Clock time that passes while a lineup is on
+ * court - the clock counting down, not wall time - is credited to each of those
+ * players and to the side's five-man lineup. Callers advance at lineup changes,
+ * clock pauses and quarter ends and drain the whole seconds into a GameMutation,
+ * so minutes played and lineup time are written as the game goes instead of
+ * being reconstructed from the log afterwards.
+ *
+ * Plus/minus and lineup points are per scoring action: GameAction captures the
+ * on-court ids from getOnCourt() and applies (or on undo, reverses) the delta.
+ *
+ * Team sides are "home"/"away" (same as GameMutation).
+ */
+public class StintTracker {
+
+    private static final long NOT_SYNCED = -1;
+
+    // Side -> on-court team player ids (sorted, lineup key order)
+    private final Map<String, List<Integer>> onCourt = new HashMap<>();
+    private final Map<Integer, String> playerSides = new HashMap<>();
+
+    // Credited but not yet drained, in millis (sub-second remainders carry over)
+    private final Map<Integer, Long> pendingPlayerMillis = new HashMap<>();
+    private final Map<String, Map<String, Long>> pendingLineupMillis = new HashMap<>(); // side -> lineup key -> millis
+
+    private long clockSample = NOT_SYNCED; // Remaining millis at the last advance
+
+    // ========== LINEUPS ==========
+
+    /**
+     * Replace a side's on-court players - time up to now is credited to the outgoing lineup
+     */
+    public void setLineup(String teamSide, List<Integer> teamPlayerIds, long remainingMillis) {
+        advance(remainingMillis);
+
+        List<Integer> lineup = new ArrayList<>(teamPlayerIds);
+        Collections.sort(lineup);
+        onCourt.put(teamSide, lineup);
+        for (Integer playerId : lineup) {
+            playerSides.put(playerId, teamSide);
+        }
+    }
+
+    /**
+     * On-court team player ids for a side (sorted, empty before the lineup is set)
+     */
+    public List<Integer> getOnCourt(String teamSide) {
+        List<Integer> lineup = onCourt.get(teamSide);
+        return lineup != null ? Collections.unmodifiableList(lineup) : Collections.<Integer>emptyList();
+    }
+
+    /**
+     * Stable key for a set of player ids: sorted ids joined with "-" ("3-7-12-15-21")
+     */
+    public static String lineupKey(List<Integer> teamPlayerIds) {
+        List<Integer> sorted = new ArrayList<>(teamPlayerIds);
+        Collections.sort(sorted);
+        StringBuilder key = new StringBuilder();
+        for (Integer playerId : sorted) {
+            if (key.length() > 0) key.append('-');
+            key.append(playerId);
+        }
+        return key.toString();
+    }
+
+    // ========== CLOCK ==========
+
+    /**
+     * Credit the clock time since the last advance to everyone on court
+     *
+     * Only a countdown counts: a paused clock leaves remaining time unchanged and a
+     * reset (new quarter) moves it up - both just re-sync the sample point.
+     */
+    public void advance(long remainingMillis) {
+        long elapsed = clockSample == NOT_SYNCED ? 0 : clockSample - remainingMillis;
+        clockSample = remainingMillis;
+        if (elapsed <= 0) {
+            return;
+        }
+
+        for (Map.Entry<String, List<Integer>> side : onCourt.entrySet()) {
+            List<Integer> lineup = side.getValue();
+            if (lineup.isEmpty()) continue;
+
+            for (Integer playerId : lineup) {
+                pendingPlayerMillis.put(playerId, pendingMillis(pendingPlayerMillis, playerId) + elapsed);
+            }
+
+            Map<String, Long> sideLineups = pendingLineupMillis.get(side.getKey());
+            if (sideLineups == null) {
+                sideLineups = new HashMap<>();
+                pendingLineupMillis.put(side.getKey(), sideLineups);
+            }
+            String key = lineupKey(lineup);
+            sideLineups.put(key, pendingMillis(sideLineups, key) + elapsed);
+        }
+    }
+
+    // ========== DRAIN ==========
+
+    /**
+     * Move credited whole seconds into a mutation (playing time + lineup time)
+     * @return true if anything was added
+     */
+    public boolean drainInto(GameMutation mutation) {
+        boolean added = false;
+
+        for (Map.Entry<Integer, Long> entry : pendingPlayerMillis.entrySet()) {
+            int seconds = (int) (entry.getValue() / 1000);
+            if (seconds > 0) {
+                mutation.addPlayingTime(entry.getKey(), playerSides.get(entry.getKey()), seconds);
+                entry.setValue(entry.getValue() - seconds * 1000L);
+                added = true;
+            }
+        }
+
+        for (Map.Entry<String, Map<String, Long>> side : pendingLineupMillis.entrySet()) {
+            for (Map.Entry<String, Long> entry : side.getValue().entrySet()) {
+                int seconds = (int) (entry.getValue() / 1000);
+                if (seconds > 0) {
+                    mutation.addLineupResult(side.getKey(), entry.getKey(), seconds, 0, 0);
+                    entry.setValue(entry.getValue() - seconds * 1000L);
+                    added = true;
+                }
+            }
+        }
+
+        return added;
+    }
+
+    /**
+     * Forget all lineups and pending time (game reset / reload)
+     */
+    public void clear() {
+        onCourt.clear();
+        playerSides.clear();
+        pendingPlayerMillis.clear();
+        pendingLineupMillis.clear();
+        clockSample = NOT_SYNCED;
+    }
+
+    private static <K> long pendingMillis(Map<K, Long> pending, K key) {
+        Long millis = pending.get(key);
+        return millis != null ? millis : 0;
+    }
+}
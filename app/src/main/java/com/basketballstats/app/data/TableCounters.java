@@ -0,0 +1,104 @@
+package com.basketballstats.app.data;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * TableCounters - O(1) row counts read from the trigger-maintained counters table
+ *
+ * Badges, queue statistics and integrity checks used to run COUNT(*) over whole
+ * tables (or load every row and take size()). DatabaseHelper keeps a counters
+ * row per table total and per scoped count (events per game, players per team,
+ * pending sync operations), updated by triggers in the same transaction as the
+ * insert or delete. Reads here are single primary-key lookups.
+ *
+ * A missing row reads as 0 (scoped rows are dropped when they reach zero).
+ * DatabaseHelper.rebuildCounters() recounts everything if counters are ever in doubt.
+ */
+public final class TableCounters {
+
+    private TableCounters() {}
+
+    // ========== COUNTS ==========
+
+    /**
+     * Total rows in a counted table (teams, team_players, games, events,
+     * app_settings, user_profile, sync_queue)
+     */
+    public static int getTableCount(DatabaseHelper dbHelper, String tableName) {
+        return get(dbHelper, tableName);
+    }
+
+    /**
+     * Events recorded for a game
+     */
+    public static int getEventCountForGame(DatabaseHelper dbHelper, int gameId) {
+        return get(dbHelper, DatabaseHelper.COUNTER_KEY_EVENTS_FOR_GAME + gameId);
+    }
+
+    /**
+     * Roster size for a team
+     */
+    public static int getPlayerCountForTeam(DatabaseHelper dbHelper, int teamId) {
+        return get(dbHelper, DatabaseHelper.COUNTER_KEY_PLAYERS_FOR_TEAM + teamId);
+    }
+
+    /**
+     * Sync operations still eligible for retry (retry_count < max_retries)
+     */
+    public static int getPendingSyncCount(DatabaseHelper dbHelper) {
+        return get(dbHelper, DatabaseHelper.COUNTER_KEY_SYNC_QUEUE_PENDING);
+    }
+
+    // ========== RAW ACCESS ==========
+
+    /**
+     * Read one counter by key, 0 if it has no row
+     */
+    public static int get(DatabaseHelper dbHelper, String counterKey) {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        Cursor cursor = db.rawQuery("SELECT " + DatabaseHelper.COUNTERS_COLUMN_COUNTER_VALUE +
+                                    " FROM " + DatabaseHelper.TABLE_COUNTERS +
+                                    " WHERE " + DatabaseHelper.COUNTERS_COLUMN_COUNTER_KEY + " = ?",
+                                    new String[]{counterKey});
+        try {
+            return cursor.moveToFirst() ? cursor.getInt(0) : 0;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Read several counters in one query (keys with no row map to 0)
+     */
+    public static Map<String, Integer> getAll(DatabaseHelper dbHelper, String... counterKeys) {
+        Map<String, Integer> counts = new HashMap<>();
+        if (counterKeys.length == 0) {
+            return counts;
+        }
+
+        StringBuilder placeholders = new StringBuilder();
+        for (String counterKey : counterKeys) {
+            counts.put(counterKey, 0);
+            placeholders.append(placeholders.length() == 0 ? "?" : ", ?");
+        }
+
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        Cursor cursor = db.rawQuery("SELECT " + DatabaseHelper.COUNTERS_COLUMN_COUNTER_KEY + ", " +
+                                    DatabaseHelper.COUNTERS_COLUMN_COUNTER_VALUE +
+                                    " FROM " + DatabaseHelper.TABLE_COUNTERS +
+                                    " WHERE " + DatabaseHelper.COUNTERS_COLUMN_COUNTER_KEY +
+                                    " IN (" + placeholders + ")", counterKeys);
+        try {
+            while (cursor.moveToNext()) {
+                counts.put(cursor.getString(0), cursor.getInt(1));
+            }
+        } finally {
+            cursor.close();
+        }
+        return counts;
+    }
+}
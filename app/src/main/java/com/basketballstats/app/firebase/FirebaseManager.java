@@ -1,7 +1,6 @@
 package com.basketballstats.app.firebase;
 
 import android.content.Context;
-import android.util.Log;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.CollectionReference;
 import com.google.firebase.firestore.DocumentReference;
@@ -13,6 +12,7 @@ import com.google.android.gms.tasks.Task;
 import com.basketballstats.app.auth.AuthController;
 import com.basketballstats.app.models.*;
 import com.basketballstats.app.data.DatabaseController;
+import com.basketballstats.app.utils.AppLog;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
@@ -71,7 +71,7 @@ public class FirebaseManager {
         this.authController = AuthController.getInstance(context);
         this.dbController = DatabaseController.getInstance(context);
         
-        Log.d(TAG, "FirebaseManager initialized");
+        AppLog.d(TAG, "FirebaseManager initialized");
     }
     
     /**
@@ -82,7 +82,7 @@ public class FirebaseManager {
         String userUid = authController.getCurrentUserUid();
         if (userUid == null) {
             // Auto-sign in anonymously for demo access
-            Log.w(TAG, "No authenticated user, attempting anonymous sign-in");
+            AppLog.w(TAG, "No authenticated user, attempting anonymous sign-in");
             return null; // Will be handled by calling methods
         }
         return firestore.collection("users").document(userUid).collection(collectionName);
@@ -108,11 +108,11 @@ public class FirebaseManager {
                     .set(teamData)
                     .addOnSuccessListener(aVoid -> {
                         callback.onSuccess("Team updated successfully");
-                        Log.d(TAG, "Team updated: " + team.getName());
+                        AppLog.d(TAG, "Team updated: %s", team.getName());
                     })
                     .addOnFailureListener(e -> {
                         callback.onError("Failed to update team: " + e.getMessage());
-                        Log.e(TAG, "Team update failed", e);
+                        AppLog.e(TAG, "Team update failed", e);
                     });
             } else {
                 // Create new document
@@ -126,16 +126,16 @@ public class FirebaseManager {
                         team.save(dbController.getDatabaseHelper());
                         
                         callback.onSuccess("Team created successfully");
-                        Log.d(TAG, "Team created: " + team.getName() + " (ID: " + firebaseId + ")");
+                        AppLog.d(TAG, "Team created: %s (ID: %s)", team.getName(), firebaseId);
                     })
                     .addOnFailureListener(e -> {
                         callback.onError("Failed to create team: " + e.getMessage());
-                        Log.e(TAG, "Team creation failed", e);
+                        AppLog.e(TAG, "Team creation failed", e);
                     });
             }
         } catch (Exception e) {
             callback.onError("Upload team error: " + e.getMessage());
-            Log.e(TAG, "Upload team error", e);
+            AppLog.e(TAG, "Upload team error", e);
         }
     }
     
@@ -159,15 +159,15 @@ public class FirebaseManager {
                         }
                     }
                     callback.onSuccess(teams);
-                    Log.d(TAG, "Downloaded " + teams.size() + " teams");
+                    AppLog.d(TAG, "Downloaded %s teams", teams.size());
                 })
                 .addOnFailureListener(e -> {
                     callback.onError("Failed to download teams: " + e.getMessage());
-                    Log.e(TAG, "Teams download failed", e);
+                    AppLog.e(TAG, "Teams download failed", e);
                 });
         } catch (Exception e) {
             callback.onError("Download teams error: " + e.getMessage());
-            Log.e(TAG, "Download teams error", e);
+            AppLog.e(TAG, "Download teams error", e);
         }
     }
     
@@ -188,15 +188,15 @@ public class FirebaseManager {
                         }
                     }
                     callback.onSuccess(teams);
-                    Log.d(TAG, "Downloaded " + teams.size() + " teams modified since " + lastSyncTimestamp);
+                    AppLog.d(TAG, "Downloaded %s teams modified since %s", teams.size(), lastSyncTimestamp);
                 })
                 .addOnFailureListener(e -> {
                     callback.onError("Failed to download modified teams: " + e.getMessage());
-                    Log.e(TAG, "Modified teams download failed", e);
+                    AppLog.e(TAG, "Modified teams download failed", e);
                 });
         } catch (Exception e) {
             callback.onError("Download modified teams error: " + e.getMessage());
-            Log.e(TAG, "Download modified teams error", e);
+            AppLog.e(TAG, "Download modified teams error", e);
         }
     }
     
@@ -216,11 +216,11 @@ public class FirebaseManager {
                     .set(gameData)
                     .addOnSuccessListener(aVoid -> {
                         callback.onSuccess("Game updated successfully");
-                        Log.d(TAG, "Game updated: " + game.getId());
+                        AppLog.d(TAG, "Game updated: %s", game.getId());
                     })
                     .addOnFailureListener(e -> {
                         callback.onError("Failed to update game: " + e.getMessage());
-                        Log.e(TAG, "Game update failed", e);
+                        AppLog.e(TAG, "Game update failed", e);
                     });
             } else {
                 // Create new document
@@ -234,16 +234,16 @@ public class FirebaseManager {
                         game.save(dbController.getDatabaseHelper());
                         
                         callback.onSuccess("Game created successfully");
-                        Log.d(TAG, "Game created: " + game.getId() + " (Firebase ID: " + firebaseId + ")");
+                        AppLog.d(TAG, "Game created: %s (Firebase ID: %s)", game.getId(), firebaseId);
                     })
                     .addOnFailureListener(e -> {
                         callback.onError("Failed to create game: " + e.getMessage());
-                        Log.e(TAG, "Game creation failed", e);
+                        AppLog.e(TAG, "Game creation failed", e);
                     });
             }
         } catch (Exception e) {
             callback.onError("Upload game error: " + e.getMessage());
-            Log.e(TAG, "Upload game error", e);
+            AppLog.e(TAG, "Upload game error", e);
         }
     }
     
@@ -263,15 +263,15 @@ public class FirebaseManager {
                         }
                     }
                     callback.onSuccess(games);
-                    Log.d(TAG, "Downloaded " + games.size() + " games");
+                    AppLog.d(TAG, "Downloaded %s games", games.size());
                 })
                 .addOnFailureListener(e -> {
                     callback.onError("Failed to download games: " + e.getMessage());
-                    Log.e(TAG, "Games download failed", e);
+                    AppLog.e(TAG, "Games download failed", e);
                 });
         } catch (Exception e) {
             callback.onError("Download games error: " + e.getMessage());
-            Log.e(TAG, "Download games error", e);
+            AppLog.e(TAG, "Download games error", e);
         }
     }
     
@@ -292,15 +292,15 @@ public class FirebaseManager {
                         }
                     }
                     callback.onSuccess(games);
-                    Log.d(TAG, "Downloaded " + games.size() + " games modified since " + lastSyncTimestamp);
+                    AppLog.d(TAG, "Downloaded %s games modified since %s", games.size(), lastSyncTimestamp);
                 })
                 .addOnFailureListener(e -> {
                     callback.onError("Failed to download modified games: " + e.getMessage());
-                    Log.e(TAG, "Modified games download failed", e);
+                    AppLog.e(TAG, "Modified games download failed", e);
                 });
         } catch (Exception e) {
             callback.onError("Download modified games error: " + e.getMessage());
-            Log.e(TAG, "Download modified games error", e);
+            AppLog.e(TAG, "Download modified games error", e);
         }
     }
     
@@ -331,7 +331,7 @@ public class FirebaseManager {
             
         } catch (Exception e) {
             callback.onBatchError("Batch upload error: " + e.getMessage());
-            Log.e(TAG, "Batch upload error", e);
+            AppLog.e(TAG, "Batch upload error", e);
         }
     }
     
@@ -391,11 +391,11 @@ public class FirebaseManager {
                 // Update SQLite sync status for all records
                 updateSyncStatusAfterBatch(teams, games, events);
                 callback.onBatchSuccess(finalOperationCount);
-                Log.d(TAG, "Single batch upload successful: " + finalOperationCount + " operations");
+                AppLog.d(TAG, "Single batch upload successful: %s operations", finalOperationCount);
             })
             .addOnFailureListener(e -> {
                 callback.onBatchError("Batch upload failed: " + e.getMessage());
-                Log.e(TAG, "Single batch upload failed", e);
+                AppLog.e(TAG, "Single batch upload failed", e);
             });
     }
     
@@ -408,7 +408,7 @@ public class FirebaseManager {
         int totalOperations = teams.size() + games.size() + events.size();
         int batchCount = (totalOperations + chunkSize - 1) / chunkSize; // Ceiling division
         
-        Log.d(TAG, "Large dataset detected: " + totalOperations + " operations, splitting into " + batchCount + " batches");
+        AppLog.d(TAG, "Large dataset detected: %s operations, splitting into %s batches", totalOperations, batchCount);
         
         performBatchChunk(teams, games, events, 0, chunkSize, batchCount, 0, callback);
     }
@@ -439,7 +439,7 @@ public class FirebaseManager {
                     // All batches complete
                     int totalOperations = teams.size() + games.size() + events.size();
                     callback.onBatchSuccess(totalOperations);
-                    Log.d(TAG, "Multiple batch upload successful: " + totalOperations + " operations in " + totalBatches + " batches");
+                    AppLog.d(TAG, "Multiple batch upload successful: %s operations in %s batches", totalOperations, totalBatches);
                 }
             }
 
@@ -546,6 +546,7 @@ public class FirebaseManager {
         map.put("gameId", event.getGameId());
         map.put("playerId", event.getPlayerId());
         map.put("teamSide", event.getTeamSide());
+        map.put("side", event.getSide());
         map.put("quarter", event.getQuarter());
         map.put("gameTimeSeconds", event.getGameTimeSeconds());
         map.put("eventType", event.getEventType());
@@ -575,16 +576,12 @@ public class FirebaseManager {
                 game.save(dbController.getDatabaseHelper());
             }
             
-            // Update events
-            for (Event event : events) {
-                event.setSyncStatus("synced");
-                event.setLastSyncTimestamp(String.valueOf(System.currentTimeMillis()));
-                event.save(dbController.getDatabaseHelper());
-            }
+            // Update events (precompiled sync-status statement, single transaction)
+            dbController.getEventWriter().updateSyncStatusAll(events, "synced");
             
-            Log.d(TAG, "Updated sync status for all batch records");
+            AppLog.d(TAG, "Updated sync status for all batch records");
         } catch (Exception e) {
-            Log.e(TAG, "Error updating sync status after batch", e);
+            AppLog.e(TAG, "Error updating sync status after batch", e);
         }
     }
     
@@ -3,9 +3,11 @@ package com.basketballstats.app.models;
 import android.content.ContentValues;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
-import android.util.Log;
 
 import com.basketballstats.app.data.DatabaseHelper;
+import com.basketballstats.app.data.TableCounters;
+import com.basketballstats.app.data.RowReader;
+import com.basketballstats.app.utils.AppLog;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -45,6 +47,9 @@ public class AppSettings {
     public static final String KEY_THEME_MODE = "theme_mode";
     public static final String KEY_EVENT_SOUND_ENABLED = "event_sound_enabled";
     public static final String KEY_VIBRATION_ENABLED = "vibration_enabled";
+    public static final String KEY_SYNC_ON_WIFI = "sync_on_wifi";
+    public static final String KEY_SYNC_ON_MOBILE = "sync_on_mobile";
+    public static final String KEY_LAST_SYNC_TIMESTAMP = "last_sync_timestamp";
     
     // Default values
     private static final Map<String, String> DEFAULT_VALUES = new HashMap<>();
@@ -57,6 +62,8 @@ public class AppSettings {
         DEFAULT_VALUES.put(KEY_THEME_MODE, "system");
         DEFAULT_VALUES.put(KEY_EVENT_SOUND_ENABLED, "true");
         DEFAULT_VALUES.put(KEY_VIBRATION_ENABLED, "true");
+        DEFAULT_VALUES.put(KEY_SYNC_ON_WIFI, "true");
+        DEFAULT_VALUES.put(KEY_SYNC_ON_MOBILE, "false");
     }
     
     // Constructors
@@ -105,7 +112,7 @@ public class AppSettings {
         try {
             return Integer.parseInt(settingValue);
         } catch (NumberFormatException e) {
-            Log.w(TAG, "Cannot parse setting value as int: " + settingValue + " for key: " + settingKey);
+            AppLog.w(TAG, "Cannot parse setting value as int: %s for key: %s", settingValue, settingKey);
             return 0;
         }
     }
@@ -124,7 +131,7 @@ public class AppSettings {
         try {
             return Float.parseFloat(settingValue);
         } catch (NumberFormatException e) {
-            Log.w(TAG, "Cannot parse setting value as float: " + settingValue + " for key: " + settingKey);
+            AppLog.w(TAG, "Cannot parse setting value as float: %s for key: %s", settingValue, settingKey);
             return 0.0f;
         }
     }
@@ -164,6 +171,13 @@ public class AppSettings {
         return DEFAULT_VALUES.get(settingKey);
     }
     
+    /**
+     * Get default value for a setting key, null if none
+     */
+    public static String getDefaultValue(String settingKey) {
+        return DEFAULT_VALUES.get(settingKey);
+    }
+    
     /**
      * Reset to default value
      */
@@ -201,17 +215,21 @@ public class AppSettings {
             String whereClause = DatabaseHelper.COLUMN_ID + " = ?";
             String[] whereArgs = {String.valueOf(id)};
             result = db.update(DatabaseHelper.TABLE_APP_SETTINGS, values, whereClause, whereArgs);
-            Log.d(TAG, "Updated setting: " + toString() + " (ID: " + id + ")");
+            AppLog.d(TAG, "Updated setting: %s (ID: %s)", this, id);
         } else {
             // INSERT new setting
             values.put(DatabaseHelper.COLUMN_CREATED_AT, getCurrentTimestamp());
             result = db.insert(DatabaseHelper.TABLE_APP_SETTINGS, null, values);
             if (result != -1) {
                 this.id = (int) result;
-                Log.d(TAG, "Created setting: " + toString() + " (ID: " + id + ")");
+                AppLog.d(TAG, "Created setting: %s (ID: %s)", this, id);
             }
         }
         
+        if (result > 0) {
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_APP_SETTINGS);
+        }
+        
         return result;
     }
     
@@ -220,7 +238,7 @@ public class AppSettings {
      */
     public boolean delete(DatabaseHelper dbHelper) {
         if (id <= 0) {
-            Log.w(TAG, "Cannot delete setting with invalid ID: " + id);
+            AppLog.w(TAG, "Cannot delete setting with invalid ID: %s", id);
             return false;
         }
         
@@ -232,9 +250,10 @@ public class AppSettings {
         boolean success = rowsAffected > 0;
         
         if (success) {
-            Log.d(TAG, "Deleted setting: " + toString() + " (ID: " + id + ")");
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_APP_SETTINGS);
+            AppLog.d(TAG, "Deleted setting: %s (ID: %s)", this, id);
         } else {
-            Log.w(TAG, "Failed to delete setting: " + toString() + " (ID: " + id + ")");
+            AppLog.w(TAG, "Failed to delete setting: %s (ID: %s)", this, id);
         }
         
         return success;
@@ -260,7 +279,7 @@ public class AppSettings {
         
         AppSettings setting = null;
         if (cursor.moveToFirst()) {
-            setting = fromCursor(cursor);
+            setting = new Reader(cursor).read();
         }
         cursor.close();
         
@@ -284,12 +303,13 @@ public class AppSettings {
             DatabaseHelper.APP_SETTINGS_COLUMN_SETTING_KEY + " ASC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            settings.add(fromCursor(cursor));
+            settings.add(reader.read());
         }
         cursor.close();
         
-        Log.d(TAG, "Loaded " + settings.size() + " settings from database");
+        AppLog.d(TAG, "Loaded %s settings from database", settings.size());
         return settings;
     }
     
@@ -313,8 +333,9 @@ public class AppSettings {
             DatabaseHelper.COLUMN_UPDATED_AT + " ASC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            settings.add(fromCursor(cursor));
+            settings.add(reader.read());
         }
         cursor.close();
         
@@ -343,6 +364,7 @@ public class AppSettings {
     }
     
     // ========== CONVENIENCE METHODS ==========
+    // Each call queries the database - hot paths read DatabaseController.getSettings()
     
     /**
      * Get setting value by key (with default)
@@ -372,7 +394,7 @@ public class AppSettings {
             try {
                 return Integer.parseInt(value);
             } catch (NumberFormatException e) {
-                Log.w(TAG, "Cannot parse setting as int: " + value + " for key: " + settingKey);
+                AppLog.w(TAG, "Cannot parse setting as int: %s for key: %s", value, settingKey);
             }
         }
         return defaultValue;
@@ -420,14 +442,14 @@ public class AppSettings {
      * Initialize default settings if they don't exist
      */
     public static void initializeDefaults(DatabaseHelper dbHelper) {
-        Log.d(TAG, "Initializing default settings...");
+        AppLog.d(TAG, "Initializing default settings...");
         
         for (Map.Entry<String, String> entry : DEFAULT_VALUES.entrySet()) {
             AppSettings existing = findByKey(dbHelper, entry.getKey());
             if (existing == null) {
                 AppSettings defaultSetting = new AppSettings(entry.getKey(), entry.getValue());
                 defaultSetting.save(dbHelper);
-                Log.d(TAG, "Created default setting: " + defaultSetting.toString());
+                AppLog.d(TAG, "Created default setting: %s", defaultSetting);
             }
         }
     }
@@ -435,21 +457,45 @@ public class AppSettings {
     // ========== UTILITY METHODS ==========
     
     /**
-     * Create AppSettings object from database cursor
+     * Reads AppSettings rows - column indexes resolved once per cursor
      */
-    private static AppSettings fromCursor(Cursor cursor) {
-        AppSettings setting = new AppSettings();
+    private static final class Reader extends RowReader<AppSettings> {
+        private final int idColumn;
+        private final int settingKeyColumn;
+        private final int settingValueColumn;
+        private final int createdAtColumn;
+        private final int updatedAtColumn;
+        private final int firebaseIdColumn;
+        private final int syncStatusColumn;
+        private final int lastSyncTimestampColumn;
         
-        setting.id = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_ID));
-        setting.settingKey = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.APP_SETTINGS_COLUMN_SETTING_KEY));
-        setting.settingValue = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.APP_SETTINGS_COLUMN_SETTING_VALUE));
-        setting.createdAt = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_CREATED_AT));
-        setting.updatedAt = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_UPDATED_AT));
-        setting.firebaseId = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_FIREBASE_ID));
-        setting.syncStatus = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_SYNC_STATUS));
-        setting.lastSyncTimestamp = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP));
+        Reader(Cursor cursor) {
+            super(cursor);
+            idColumn = column(DatabaseHelper.COLUMN_ID);
+            settingKeyColumn = column(DatabaseHelper.APP_SETTINGS_COLUMN_SETTING_KEY);
+            settingValueColumn = column(DatabaseHelper.APP_SETTINGS_COLUMN_SETTING_VALUE);
+            createdAtColumn = column(DatabaseHelper.COLUMN_CREATED_AT);
+            updatedAtColumn = column(DatabaseHelper.COLUMN_UPDATED_AT);
+            firebaseIdColumn = column(DatabaseHelper.COLUMN_FIREBASE_ID);
+            syncStatusColumn = column(DatabaseHelper.COLUMN_SYNC_STATUS);
+            lastSyncTimestampColumn = column(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP);
+        }
         
-        return setting;
+        @Override
+        public AppSettings read() {
+            AppSettings setting = new AppSettings();
+            
+            setting.id = getInt(idColumn);
+            setting.settingKey = getString(settingKeyColumn);
+            setting.settingValue = getString(settingValueColumn);
+            setting.createdAt = getString(createdAtColumn);
+            setting.updatedAt = getString(updatedAtColumn);
+            setting.firebaseId = getString(firebaseIdColumn);
+            setting.syncStatus = getString(syncStatusColumn);
+            setting.lastSyncTimestamp = getString(lastSyncTimestampColumn);
+            
+            return setting;
+        }
     }
     
     /**
@@ -463,14 +509,7 @@ public class AppSettings {
      * Get setting count
      */
     public static int getCount(DatabaseHelper dbHelper) {
-        SQLiteDatabase db = dbHelper.getReadableDatabase();
-        Cursor cursor = db.rawQuery("SELECT COUNT(*) FROM " + DatabaseHelper.TABLE_APP_SETTINGS, null);
-        int count = 0;
-        if (cursor.moveToFirst()) {
-            count = cursor.getInt(0);
-        }
-        cursor.close();
-        return count;
+        return TableCounters.getTableCount(dbHelper, DatabaseHelper.TABLE_APP_SETTINGS);
     }
     
     // ========== OBJECT METHODS ==========
@@ -3,9 +3,12 @@ package com.basketballstats.app.models;
 import android.content.ContentValues;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
-import android.util.Log;
 
 import com.basketballstats.app.data.DatabaseHelper;
+import com.basketballstats.app.data.TableCounters;
+import com.basketballstats.app.data.EventSequenceAllocator;
+import com.basketballstats.app.data.RowReader;
+import com.basketballstats.app.utils.AppLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -24,7 +27,8 @@ public class Event {
     private int id;
     private int gameId;
     private int playerId; // Can be null for team events
-    private String teamSide; // "home" or "away"
+    private String teamSide; // Team name (live recording) or "home"/"away"
+    private String side; // "home" or "away" - fixed when the event is recorded
     private int quarter; // 1-4
     private int gameTimeSeconds; // Seconds remaining when event occurred
     private String eventType; // '1P', '2P', '3P', '1M', '2M', '3M', 'OR', 'DR', 'AST', 'STL', 'BLK', 'TO', 'FOUL', 'TIMEOUT', 'SUB_IN', 'SUB_OUT'
@@ -94,6 +98,9 @@ public class Event {
     public String getTeamSide() { return teamSide; }
     public void setTeamSide(String teamSide) { this.teamSide = teamSide; }
     
+    public String getSide() { return side; }
+    public void setSide(String side) { this.side = side; }
+    
     public int getQuarter() { return quarter; }
     public void setQuarter(int quarter) { this.quarter = quarter; }
     
@@ -244,6 +251,7 @@ public class Event {
         values.put(DatabaseHelper.EVENTS_COLUMN_GAME_ID, gameId);
         values.put(DatabaseHelper.EVENTS_COLUMN_PLAYER_ID, playerId > 0 ? playerId : null);
         values.put(DatabaseHelper.EVENTS_COLUMN_TEAM_SIDE, teamSide);
+        values.put(DatabaseHelper.EVENTS_COLUMN_SIDE, side);
         values.put(DatabaseHelper.EVENTS_COLUMN_QUARTER, quarter);
         values.put(DatabaseHelper.EVENTS_COLUMN_GAME_TIME_SECONDS, gameTimeSeconds);
         values.put(DatabaseHelper.EVENTS_COLUMN_EVENT_TYPE, eventType);
@@ -262,21 +270,27 @@ public class Event {
             String whereClause = DatabaseHelper.COLUMN_ID + " = ?";
             String[] whereArgs = {String.valueOf(id)};
             result = db.update(DatabaseHelper.TABLE_EVENTS, values, whereClause, whereArgs);
-            Log.d(TAG, "Updated event: " + toString() + " (ID: " + id + ")");
+            AppLog.d(TAG, "Updated event: %s (ID: %s)", this, id);
         } else {
-            // INSERT new event - assign sequence number
+            // INSERT new event - assign sequence number from in-memory allocator
             if (eventSequence <= 0) {
-                eventSequence = getNextSequenceNumber(dbHelper, gameId);
+                eventSequence = EventSequenceAllocator.next(dbHelper, gameId);
                 values.put(DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE, eventSequence);
+            } else {
+                EventSequenceAllocator.observe(gameId, eventSequence);
             }
             values.put(DatabaseHelper.COLUMN_CREATED_AT, getCurrentTimestamp());
             result = db.insert(DatabaseHelper.TABLE_EVENTS, null, values);
             if (result != -1) {
                 this.id = (int) result;
-                Log.d(TAG, "Created event: " + toString() + " (ID: " + id + ")");
+                AppLog.d(TAG, "Created event: %s (ID: %s)", this, id);
             }
         }
         
+        if (result > 0) {
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_EVENTS);
+            Game.touch(dbHelper, gameId);
+        }
         return result;
     }
     
@@ -285,7 +299,7 @@ public class Event {
      */
     public boolean delete(DatabaseHelper dbHelper) {
         if (id <= 0) {
-            Log.w(TAG, "Cannot delete event with invalid ID: " + id);
+            AppLog.w(TAG, "Cannot delete event with invalid ID: %s", id);
             return false;
         }
         
@@ -297,11 +311,54 @@ public class Event {
         boolean success = rowsAffected > 0;
         
         if (success) {
-            Log.d(TAG, "Deleted event: " + toString() + " (ID: " + id + ")");
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_EVENTS);
+            // Let the allocator reuse the sequence if this was the newest event (undo)
+            EventSequenceAllocator.release(gameId, eventSequence);
+            Game.touch(dbHelper, gameId);
+            AppLog.d(TAG, "Deleted event: %s (ID: %s)", this, id);
         } else {
-            Log.w(TAG, "Failed to delete event: " + toString() + " (ID: " + id + ")");
+            AppLog.w(TAG, "Failed to delete event: %s (ID: %s)", this, id);
+        }
+        
+        return success;
+    }
+    
+    /**
+     * Delete a single event by ID (list rows that do not hold the full Event)
+     */
+    public static boolean deleteById(DatabaseHelper dbHelper, int eventId) {
+        if (eventId <= 0) {
+            AppLog.w(TAG, "Cannot delete event with invalid ID: %s", eventId);
+            return false;
+        }
+        
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        String[] whereArgs = {String.valueOf(eventId)};
+        
+        // Game and sequence are needed to release the sequence number (primary key lookup)
+        Cursor cursor = db.rawQuery("SELECT " + DatabaseHelper.EVENTS_COLUMN_GAME_ID + ", " + 
+                                    DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE + " FROM " + 
+                                    DatabaseHelper.TABLE_EVENTS + " WHERE " + DatabaseHelper.COLUMN_ID + " = ?", whereArgs);
+        int gameId = 0;
+        int eventSequence = 0;
+        try {
+            if (!cursor.moveToFirst()) {
+                AppLog.w(TAG, "Cannot delete event - not found (ID: %s)", eventId);
+                return false;
+            }
+            gameId = cursor.getInt(0);
+            eventSequence = cursor.getInt(1);
+        } finally {
+            cursor.close();
         }
         
+        boolean success = db.delete(DatabaseHelper.TABLE_EVENTS, DatabaseHelper.COLUMN_ID + " = ?", whereArgs) > 0;
+        if (success) {
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_EVENTS);
+            EventSequenceAllocator.release(gameId, eventSequence);
+            Game.touch(dbHelper, gameId);
+            AppLog.d(TAG, "Deleted event ID: %s (game %s, sequence %s)", eventId, gameId, eventSequence);
+        }
         return success;
     }
     
@@ -315,8 +372,11 @@ public class Event {
         String[] whereArgs = {String.valueOf(gameId)};
         
         int rowsAffected = db.delete(DatabaseHelper.TABLE_EVENTS, whereClause, whereArgs);
+        EventSequenceAllocator.reset(gameId);
+        Game.touch(dbHelper, gameId);
+        dbHelper.notifyTableChanged(DatabaseHelper.TABLE_EVENTS);
         
-        Log.d(TAG, String.format("Deleted %d events for game ID: %d", rowsAffected, gameId));
+        AppLog.d(TAG, "Deleted %d events for game ID: %d", rowsAffected, gameId);
         return rowsAffected;
     }
     
@@ -324,58 +384,24 @@ public class Event {
      * Load event from database by ID
      */
     public static Event findById(DatabaseHelper dbHelper, int eventId) {
-        SQLiteDatabase db = dbHelper.getReadableDatabase();
-        String selection = DatabaseHelper.COLUMN_ID + " = ?";
-        String[] selectionArgs = {String.valueOf(eventId)};
-        
-        Cursor cursor = db.query(
-            DatabaseHelper.TABLE_EVENTS,
-            null,
-            selection,
-            selectionArgs,
-            null,
-            null,
-            null
-        );
-        
-        Event event = null;
-        if (cursor.moveToFirst()) {
-            event = fromCursor(cursor);
-            event.loadRelatedObjects(dbHelper);
-        }
-        cursor.close();
+        List<Event> events = findHydrated(dbHelper,
+            "e." + DatabaseHelper.COLUMN_ID + " = ?",
+            new String[]{String.valueOf(eventId)},
+            null, null);
         
-        return event;
+        return events.isEmpty() ? null : events.get(0);
     }
     
     /**
      * Get all events for a specific game
      */
     public static List<Event> findByGameId(DatabaseHelper dbHelper, int gameId) {
-        SQLiteDatabase db = dbHelper.getReadableDatabase();
-        List<Event> events = new ArrayList<>();
-        
-        String selection = DatabaseHelper.EVENTS_COLUMN_GAME_ID + " = ?";
-        String[] selectionArgs = {String.valueOf(gameId)};
-        
-        Cursor cursor = db.query(
-            DatabaseHelper.TABLE_EVENTS,
-            null,
-            selection,
-            selectionArgs,
-            null,
-            null,
-            DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE + " DESC"
-        );
-        
-        while (cursor.moveToNext()) {
-            Event event = fromCursor(cursor);
-            event.loadRelatedObjects(dbHelper);
-            events.add(event);
-        }
-        cursor.close();
+        List<Event> events = findHydrated(dbHelper,
+            "e." + DatabaseHelper.EVENTS_COLUMN_GAME_ID + " = ?",
+            new String[]{String.valueOf(gameId)},
+            "e." + DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE + " DESC", null);
         
-        Log.d(TAG, "Loaded " + events.size() + " events for game ID: " + gameId);
+        AppLog.d(TAG, "Loaded %s events for game ID: %s", events.size(), gameId);
         return events;
     }
     
@@ -383,84 +409,149 @@ public class Event {
      * Get recent events for live display (last N events)
      */
     public static List<Event> findRecentByGameId(DatabaseHelper dbHelper, int gameId, int limit) {
+        return findHydrated(dbHelper,
+            "e." + DatabaseHelper.EVENTS_COLUMN_GAME_ID + " = ?",
+            new String[]{String.valueOf(gameId)},
+            "e." + DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE + " DESC", limit);
+    }
+    
+    /**
+     * Get one page of a game's events, newest first (keyset on game_id, event_sequence)
+     * @param beforeSequence only events older than this sequence, or null for the newest page
+     */
+    public static List<Event> findPageBefore(DatabaseHelper dbHelper, int gameId, Integer beforeSequence, int limit) {
+        if (beforeSequence == null) {
+            return findRecentByGameId(dbHelper, gameId, limit);
+        }
+        return findHydrated(dbHelper,
+            "e." + DatabaseHelper.EVENTS_COLUMN_GAME_ID + " = ? AND e." + DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE + " < ?",
+            new String[]{String.valueOf(gameId), String.valueOf(beforeSequence)},
+            "e." + DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE + " DESC", limit);
+    }
+    
+    /**
+     * Replay slice: a game's events after a sequence, oldest first (GameReplay)
+     * Narrow projection without players - read-only rows for state math
+     * @param throughSequence last sequence to include, or null for no upper bound
+     * @param limit maximum rows, or null for all
+     */
+    public static List<Event> findReplaySlice(DatabaseHelper dbHelper, int gameId, int afterSequence,
+                                              Integer throughSequence, Integer limit) {
         SQLiteDatabase db = dbHelper.getReadableDatabase();
-        List<Event> events = new ArrayList<>();
-        
-        String selection = DatabaseHelper.EVENTS_COLUMN_GAME_ID + " = ?";
-        String[] selectionArgs = {String.valueOf(gameId)};
-        String orderBy = DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE + " DESC LIMIT " + limit;
+        String selection = DatabaseHelper.EVENTS_COLUMN_GAME_ID + " = ? AND " +
+                          DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE + " > ?";
+        List<String> selectionArgs = new ArrayList<>();
+        selectionArgs.add(String.valueOf(gameId));
+        selectionArgs.add(String.valueOf(afterSequence));
+        if (throughSequence != null) {
+            selection += " AND " + DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE + " <= ?";
+            selectionArgs.add(String.valueOf(throughSequence));
+        }
         
         Cursor cursor = db.query(
             DatabaseHelper.TABLE_EVENTS,
-            null,
+            REPLAY_COLUMNS,
             selection,
-            selectionArgs,
+            selectionArgs.toArray(new String[0]),
             null,
             null,
-            orderBy
+            DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE + " ASC",
+            limit != null ? String.valueOf(limit) : null
         );
         
-        while (cursor.moveToNext()) {
-            Event event = fromCursor(cursor);
-            event.loadRelatedObjects(dbHelper);
-            events.add(event);
-        }
+        List<Event> events = new Reader(cursor).readAll();
         cursor.close();
-        
         return events;
     }
     
+    // Columns a replay step reads (served by idx_events_sequence plus one row lookup per event)
+    private static final String[] REPLAY_COLUMNS = {
+        DatabaseHelper.COLUMN_ID,
+        DatabaseHelper.EVENTS_COLUMN_GAME_ID,
+        DatabaseHelper.EVENTS_COLUMN_PLAYER_ID,
+        DatabaseHelper.EVENTS_COLUMN_SIDE,
+        DatabaseHelper.EVENTS_COLUMN_QUARTER,
+        DatabaseHelper.EVENTS_COLUMN_GAME_TIME_SECONDS,
+        DatabaseHelper.EVENTS_COLUMN_EVENT_TYPE,
+        DatabaseHelper.EVENTS_COLUMN_POINTS_VALUE,
+        DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE
+    };
+    
     /**
      * Get events that need syncing
      */
     public static List<Event> findPendingSync(DatabaseHelper dbHelper) {
-        SQLiteDatabase db = dbHelper.getReadableDatabase();
-        List<Event> events = new ArrayList<>();
-        
-        String selection = DatabaseHelper.COLUMN_SYNC_STATUS + " IN (?, ?)";
-        String[] selectionArgs = {"local", "pending"};
-        
-        Cursor cursor = db.query(
-            DatabaseHelper.TABLE_EVENTS,
-            null,
-            selection,
-            selectionArgs,
-            null,
-            null,
-            DatabaseHelper.COLUMN_UPDATED_AT + " ASC"
-        );
-        
-        while (cursor.moveToNext()) {
-            Event event = fromCursor(cursor);
-            event.loadRelatedObjects(dbHelper);
-            events.add(event);
-        }
-        cursor.close();
-        
-        return events;
+        return findHydrated(dbHelper,
+            "e." + DatabaseHelper.COLUMN_SYNC_STATUS + " IN (?, ?)",
+            new String[]{"local", "pending"},
+            "e." + DatabaseHelper.COLUMN_UPDATED_AT + " ASC", null);
     }
     
+    // ========== JOIN HYDRATION ==========
+    
+    // Column prefixes for the joined team_players rows
+    private static final String PLAYER_PREFIX = "p_";
+    private static final String SUB_OUT_PREFIX = "so_";
+    private static final String SUB_IN_PREFIX = "si_";
+    
     /**
-     * Get next sequence number for game
+     * Events LEFT JOIN team_players three times (player, sub out, sub in)
+     * Hydrates a page of events in one query instead of up to 3 lookups per row
      */
-    private static int getNextSequenceNumber(DatabaseHelper dbHelper, int gameId) {
+    private static final String HYDRATED_SELECT =
+        "SELECT e.*, " +
+        TeamPlayer.joinedColumns("p", PLAYER_PREFIX) + ", " +
+        TeamPlayer.joinedColumns("so", SUB_OUT_PREFIX) + ", " +
+        TeamPlayer.joinedColumns("si", SUB_IN_PREFIX) +
+        " FROM " + DatabaseHelper.TABLE_EVENTS + " e" +
+        " LEFT JOIN " + DatabaseHelper.TABLE_TEAM_PLAYERS + " p ON p." + DatabaseHelper.COLUMN_ID +
+            " = e." + DatabaseHelper.EVENTS_COLUMN_PLAYER_ID +
+        " LEFT JOIN " + DatabaseHelper.TABLE_TEAM_PLAYERS + " so ON so." + DatabaseHelper.COLUMN_ID +
+            " = e." + DatabaseHelper.EVENTS_COLUMN_SUB_PLAYER_OUT_ID +
+        " LEFT JOIN " + DatabaseHelper.TABLE_TEAM_PLAYERS + " si ON si." + DatabaseHelper.COLUMN_ID +
+            " = e." + DatabaseHelper.EVENTS_COLUMN_SUB_PLAYER_IN_ID;
+    
+    /**
+     * Load events with player, sub-out and sub-in players in a single query
+     * Players referenced by several events share one TeamPlayer instance
+     */
+    private static List<Event> findHydrated(DatabaseHelper dbHelper, String where, String[] whereArgs,
+                                            String orderBy, Integer limit) {
         SQLiteDatabase db = dbHelper.getReadableDatabase();
-        String query = "SELECT MAX(" + DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE + ") FROM " + 
-                      DatabaseHelper.TABLE_EVENTS + " WHERE " + DatabaseHelper.EVENTS_COLUMN_GAME_ID + " = ?";
-        String[] selectionArgs = {String.valueOf(gameId)};
+        List<Event> events = new ArrayList<>();
         
-        Cursor cursor = db.rawQuery(query, selectionArgs);
-        int maxSequence = 0;
-        if (cursor.moveToFirst()) {
-            maxSequence = cursor.getInt(0);
+        StringBuilder sql = new StringBuilder(HYDRATED_SELECT);
+        sql.append(" WHERE ").append(where);
+        if (orderBy != null) {
+            sql.append(" ORDER BY ").append(orderBy);
+        }
+        if (limit != null) {
+            sql.append(" LIMIT ").append(limit);
+        }
+        
+        Cursor cursor = db.rawQuery(sql.toString(), whereArgs);
+        try {
+            Reader reader = new Reader(cursor);
+            RowReader<TeamPlayer> playerReader = TeamPlayer.joinedReader(cursor, PLAYER_PREFIX);
+            RowReader<TeamPlayer> subOutReader = TeamPlayer.joinedReader(cursor, SUB_OUT_PREFIX);
+            RowReader<TeamPlayer> subInReader = TeamPlayer.joinedReader(cursor, SUB_IN_PREFIX);
+            while (cursor.moveToNext()) {
+                Event event = reader.read();
+                event.player = playerReader.read();
+                event.subPlayerOut = subOutReader.read();
+                event.subPlayerIn = subInReader.read();
+                events.add(event);
+            }
+        } finally {
+            cursor.close();
         }
-        cursor.close();
         
-        return maxSequence + 1;
+        return events;
     }
     
     /**
      * Load related objects (player, substitution players)
+     * Single-event fallback - list finders hydrate these via one JOIN query
      */
     public void loadRelatedObjects(DatabaseHelper dbHelper) {
         if (playerId > 0) {
@@ -498,29 +589,73 @@ public class Event {
     // ========== UTILITY METHODS ==========
     
     /**
-     * Create Event object from database cursor
+     * Reads Event rows - column indexes resolved once per cursor
+     * Columns outside the projection read as null/0
      */
-    private static Event fromCursor(Cursor cursor) {
-        Event event = new Event();
-        
-        event.id = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_ID));
-        event.gameId = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.EVENTS_COLUMN_GAME_ID));
-        event.playerId = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.EVENTS_COLUMN_PLAYER_ID));
-        event.teamSide = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.EVENTS_COLUMN_TEAM_SIDE));
-        event.quarter = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.EVENTS_COLUMN_QUARTER));
-        event.gameTimeSeconds = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.EVENTS_COLUMN_GAME_TIME_SECONDS));
-        event.eventType = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.EVENTS_COLUMN_EVENT_TYPE));
-        event.subPlayerOutId = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.EVENTS_COLUMN_SUB_PLAYER_OUT_ID));
-        event.subPlayerInId = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.EVENTS_COLUMN_SUB_PLAYER_IN_ID));
-        event.pointsValue = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.EVENTS_COLUMN_POINTS_VALUE));
-        event.eventSequence = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE));
-        event.createdAt = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_CREATED_AT));
-        event.updatedAt = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_UPDATED_AT));
-        event.firebaseId = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_FIREBASE_ID));
-        event.syncStatus = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_SYNC_STATUS));
-        event.lastSyncTimestamp = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP));
+    private static final class Reader extends RowReader<Event> {
+        private final int idColumn;
+        private final int gameIdColumn;
+        private final int playerIdColumn;
+        private final int teamSideColumn;
+        private final int sideColumn;
+        private final int quarterColumn;
+        private final int gameTimeSecondsColumn;
+        private final int eventTypeColumn;
+        private final int subPlayerOutIdColumn;
+        private final int subPlayerInIdColumn;
+        private final int pointsValueColumn;
+        private final int eventSequenceColumn;
+        private final int createdAtColumn;
+        private final int updatedAtColumn;
+        private final int firebaseIdColumn;
+        private final int syncStatusColumn;
+        private final int lastSyncTimestampColumn;
+        
+        Reader(Cursor cursor) {
+            super(cursor);
+            idColumn = column(DatabaseHelper.COLUMN_ID);
+            gameIdColumn = column(DatabaseHelper.EVENTS_COLUMN_GAME_ID);
+            playerIdColumn = column(DatabaseHelper.EVENTS_COLUMN_PLAYER_ID);
+            teamSideColumn = column(DatabaseHelper.EVENTS_COLUMN_TEAM_SIDE);
+            sideColumn = column(DatabaseHelper.EVENTS_COLUMN_SIDE);
+            quarterColumn = column(DatabaseHelper.EVENTS_COLUMN_QUARTER);
+            gameTimeSecondsColumn = column(DatabaseHelper.EVENTS_COLUMN_GAME_TIME_SECONDS);
+            eventTypeColumn = column(DatabaseHelper.EVENTS_COLUMN_EVENT_TYPE);
+            subPlayerOutIdColumn = column(DatabaseHelper.EVENTS_COLUMN_SUB_PLAYER_OUT_ID);
+            subPlayerInIdColumn = column(DatabaseHelper.EVENTS_COLUMN_SUB_PLAYER_IN_ID);
+            pointsValueColumn = column(DatabaseHelper.EVENTS_COLUMN_POINTS_VALUE);
+            eventSequenceColumn = column(DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE);
+            createdAtColumn = column(DatabaseHelper.COLUMN_CREATED_AT);
+            updatedAtColumn = column(DatabaseHelper.COLUMN_UPDATED_AT);
+            firebaseIdColumn = column(DatabaseHelper.COLUMN_FIREBASE_ID);
+            syncStatusColumn = column(DatabaseHelper.COLUMN_SYNC_STATUS);
+            lastSyncTimestampColumn = column(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP);
+        }
         
-        return event;
+        @Override
+        public Event read() {
+            Event event = new Event();
+            
+            event.id = getInt(idColumn);
+            event.gameId = getInt(gameIdColumn);
+            event.playerId = getInt(playerIdColumn);
+            event.teamSide = getString(teamSideColumn);
+            event.side = getString(sideColumn);
+            event.quarter = getInt(quarterColumn);
+            event.gameTimeSeconds = getInt(gameTimeSecondsColumn);
+            event.eventType = getString(eventTypeColumn);
+            event.subPlayerOutId = getInt(subPlayerOutIdColumn);
+            event.subPlayerInId = getInt(subPlayerInIdColumn);
+            event.pointsValue = getInt(pointsValueColumn);
+            event.eventSequence = getInt(eventSequenceColumn);
+            event.createdAt = getString(createdAtColumn);
+            event.updatedAt = getString(updatedAtColumn);
+            event.firebaseId = getString(firebaseIdColumn);
+            event.syncStatus = getString(syncStatusColumn);
+            event.lastSyncTimestamp = getString(lastSyncTimestampColumn);
+            
+            return event;
+        }
     }
     
     /**
@@ -531,21 +666,10 @@ public class Event {
     }
     
     /**
-     * Get event count for game
+     * Get event count for game (maintained counter, no table scan)
      */
     public static int getCountForGame(DatabaseHelper dbHelper, int gameId) {
-        SQLiteDatabase db = dbHelper.getReadableDatabase();
-        String query = "SELECT COUNT(*) FROM " + DatabaseHelper.TABLE_EVENTS + 
-                      " WHERE " + DatabaseHelper.EVENTS_COLUMN_GAME_ID + " = ?";
-        String[] selectionArgs = {String.valueOf(gameId)};
-        
-        Cursor cursor = db.rawQuery(query, selectionArgs);
-        int count = 0;
-        if (cursor.moveToFirst()) {
-            count = cursor.getInt(0);
-        }
-        cursor.close();
-        return count;
+        return TableCounters.getEventCountForGame(dbHelper, gameId);
     }
     
     /**
@@ -564,7 +688,7 @@ public class Event {
         }
         cursor.close();
         
-        Log.d(TAG, String.format("Player %d has %d events recorded", playerId, count));
+        AppLog.d(TAG, "Player %d has %d events recorded", playerId, count);
         return count;
     }
     
@@ -572,14 +696,7 @@ public class Event {
      * Get total event count
      */
     public static int getTotalCount(DatabaseHelper dbHelper) {
-        SQLiteDatabase db = dbHelper.getReadableDatabase();
-        Cursor cursor = db.rawQuery("SELECT COUNT(*) FROM " + DatabaseHelper.TABLE_EVENTS, null);
-        int count = 0;
-        if (cursor.moveToFirst()) {
-            count = cursor.getInt(0);
-        }
-        cursor.close();
-        return count;
+        return TableCounters.getTableCount(dbHelper, DatabaseHelper.TABLE_EVENTS);
     }
     
     // ========== OBJECT METHODS ==========
@@ -622,12 +739,13 @@ public class Event {
             DatabaseHelper.EVENTS_COLUMN_EVENT_SEQUENCE + " ASC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            events.add(fromCursor(cursor));
+            events.add(reader.read());
         }
         cursor.close();
         
-        Log.d(TAG, "Loaded " + events.size() + " events");
+        AppLog.d(TAG, "Loaded %s events", events.size());
         return events;
     }
 }
@@ -0,0 +1,73 @@
+package com.basketballstats.app.models;
+
+/**
+ * EventLogRow - Immutable, display-ready event row for the event log
+ *
+ * Built once per loaded event (players already hydrated by the page query), so
+ * binding a row is plain field reads - no toString()/split round trip - and
+ * actions such as delete target the event by ID.
+ */
+public final class EventLogRow {
+
+    private final int eventId;
+    private final int eventSequence;
+    private final int quarter;
+    private final String quarterLabel;   // "Q1"
+    private final String clockLabel;     // "8:45"
+    private final String playerLabel;    // "#23 LeBron James", or the team for team events
+    private final String typeCode;       // Event.TYPE_* ("2P", "TIMEOUT", ...)
+
+    private EventLogRow(int eventId, int eventSequence, int quarter, String quarterLabel,
+                        String clockLabel, String playerLabel, String typeCode) {
+        this.eventId = eventId;
+        this.eventSequence = eventSequence;
+        this.quarter = quarter;
+        this.quarterLabel = quarterLabel;
+        this.clockLabel = clockLabel;
+        this.playerLabel = playerLabel;
+        this.typeCode = typeCode;
+    }
+
+    /**
+     * Build a row from a hydrated event
+     */
+    public static EventLogRow from(Event event) {
+        String playerLabel;
+        TeamPlayer player = event.getPlayer();
+        if (event.isTeamEvent()) {
+            playerLabel = event.getTeamSide() != null ? event.getTeamSide().toUpperCase() : "UNKNOWN";
+        } else if (player != null) {
+            playerLabel = "#" + player.getJerseyNumber() + " " + player.getName();
+        } else {
+            playerLabel = "Player " + event.getPlayerId();
+        }
+
+        return new EventLogRow(
+            event.getId(),
+            event.getEventSequence(),
+            event.getQuarter(),
+            event.getQuarterDisplay(),
+            event.getFormattedGameTime(),
+            playerLabel,
+            event.getEventType()
+        );
+    }
+
+    // ========== GETTERS ==========
+
+    public int getEventId() { return eventId; }
+    public int getEventSequence() { return eventSequence; }
+    public int getQuarter() { return quarter; }
+    public String getQuarterLabel() { return quarterLabel; }
+    public String getClockLabel() { return clockLabel; }
+    public String getPlayerLabel() { return playerLabel; }
+    public String getTypeCode() { return typeCode; }
+
+    /**
+     * Display format for dialogs: "Q1 8:45 - #23 LeBron James - 2P"
+     */
+    @Override
+    public String toString() {
+        return quarterLabel + " " + clockLabel + " - " + playerLabel + " - " + typeCode;
+    }
+}
@@ -3,9 +3,13 @@ package com.basketballstats.app.models;
 import android.content.ContentValues;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
-import android.util.Log;
 
 import com.basketballstats.app.data.DatabaseHelper;
+import com.basketballstats.app.data.TableCounters;
+import com.basketballstats.app.data.DirtyColumnTracker;
+import com.basketballstats.app.data.EventSequenceAllocator;
+import com.basketballstats.app.data.RowReader;
+import com.basketballstats.app.utils.AppLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +35,8 @@ public class Game {
     private int currentQuarter; // 1-4
     private int gameClockSeconds; // 600 seconds = 10 minutes
     private boolean isClockRunning;
+    private long clockRemainingMillis; // Remaining time at last clock transition
+    private long clockStartedAt; // Wall-clock millis of last start, 0 when paused
     
     // Team objects (loaded separately)
     private Team homeTeam;
@@ -43,6 +49,9 @@ public class Game {
     private String syncStatus;
     private String lastSyncTimestamp;
     
+    // Column-level change tracking (snapshot of last loaded/saved values)
+    private final DirtyColumnTracker dirtyColumns = new DirtyColumnTracker();
+    
     // Constructors
     public Game() {
         this.status = "not_started"; // Updated for 3-state system
@@ -51,6 +60,8 @@ public class Game {
         this.currentQuarter = 1;
         this.gameClockSeconds = 600; // 10 minutes
         this.isClockRunning = false;
+        this.clockRemainingMillis = 600000;
+        this.clockStartedAt = 0;
         this.syncStatus = "local";
     }
     
@@ -103,11 +114,31 @@ public class Game {
     public void setCurrentQuarter(int currentQuarter) { this.currentQuarter = currentQuarter; }
     
     public int getGameClockSeconds() { return gameClockSeconds; }
-    public void setGameClockSeconds(int gameClockSeconds) { this.gameClockSeconds = gameClockSeconds; }
+    public void setGameClockSeconds(int gameClockSeconds) { 
+        this.gameClockSeconds = gameClockSeconds; 
+        this.clockRemainingMillis = gameClockSeconds * 1000L; // Whole-second writers (reset, sync)
+    }
     
     public boolean isClockRunning() { return isClockRunning; }
     public void setClockRunning(boolean clockRunning) { isClockRunning = clockRunning; }
     
+    public long getClockRemainingMillis() { return clockRemainingMillis; }
+    public void setClockRemainingMillis(long clockRemainingMillis) { this.clockRemainingMillis = clockRemainingMillis; }
+    
+    public long getClockStartedAt() { return clockStartedAt; }
+    public void setClockStartedAt(long clockStartedAt) { this.clockStartedAt = clockStartedAt; }
+    
+    /**
+     * Set persisted clock state from a clock transition (start/pause/reset)
+     * Keeps the whole-second columns in sync for sync and older readers
+     */
+    public void setClockState(long remainingMillis, long startedAtWallMillis) {
+        this.clockRemainingMillis = remainingMillis;
+        this.clockStartedAt = startedAtWallMillis;
+        this.gameClockSeconds = (int) ((remainingMillis + 999) / 1000);
+        this.isClockRunning = startedAtWallMillis > 0;
+    }
+    
     public Team getHomeTeam() { return homeTeam; }
     public void setHomeTeam(Team homeTeam) { this.homeTeam = homeTeam; }
     
@@ -291,6 +322,56 @@ public class Game {
      */
     public long save(DatabaseHelper dbHelper) {
         SQLiteDatabase db = dbHelper.getWritableDatabase();
+        ContentValues values = toContentValues();
+        
+        long result;
+        boolean seasonChanged; // Status or a done game's result changed (season rollup triggers ran)
+        if (id > 0) {
+            // UPDATE existing game - only columns changed since load/last save
+            ContentValues changed = dirtyColumns.changedColumns(values);
+            if (changed.size() == 0) {
+                AppLog.d(TAG, "Game unchanged, skipping save (ID: %s)", id);
+                return 1; // Row already up to date
+            }
+            if (DirtyColumnTracker.hasDataChanges(changed)) {
+                changed.put(DatabaseHelper.COLUMN_UPDATED_AT, getCurrentTimestamp());
+            }
+            String whereClause = DatabaseHelper.COLUMN_ID + " = ?";
+            String[] whereArgs = {String.valueOf(id)};
+            result = db.update(DatabaseHelper.TABLE_GAMES, changed, whereClause, whereArgs);
+            seasonChanged = changed.containsKey(DatabaseHelper.GAMES_COLUMN_STATUS) ||
+                (isDone() && (changed.containsKey(DatabaseHelper.GAMES_COLUMN_HOME_SCORE) ||
+                              changed.containsKey(DatabaseHelper.GAMES_COLUMN_AWAY_SCORE)));
+            AppLog.d(TAG, "Updated game: %s (ID: %s)", this, id);
+        } else {
+            // INSERT new game
+            values.put(DatabaseHelper.COLUMN_CREATED_AT, getCurrentTimestamp());
+            values.put(DatabaseHelper.COLUMN_UPDATED_AT, getCurrentTimestamp());
+            result = db.insert(DatabaseHelper.TABLE_GAMES, null, values);
+            seasonChanged = isDone();
+            if (result != -1) {
+                this.id = (int) result;
+                AppLog.d(TAG, "Created game: %s (ID: %s)", this, id);
+            }
+        }
+        
+        if (result > 0) {
+            if (seasonChanged) {
+                dbHelper.getInvalidationTracker().notifyTablesChanged(DatabaseHelper.TABLE_GAMES,
+                    DatabaseHelper.TABLE_PLAYER_SEASON_STATS, DatabaseHelper.TABLE_TEAM_SEASON_STATS);
+            } else {
+                dbHelper.notifyTableChanged(DatabaseHelper.TABLE_GAMES);
+            }
+            dirtyColumns.markPersisted(values);
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Persistent column values (timestamps are added by save)
+     */
+    private ContentValues toContentValues() {
         ContentValues values = new ContentValues();
         
         values.put(DatabaseHelper.GAMES_COLUMN_DATE, date);
@@ -303,29 +384,13 @@ public class Game {
         values.put(DatabaseHelper.GAMES_COLUMN_CURRENT_QUARTER, currentQuarter);
         values.put(DatabaseHelper.GAMES_COLUMN_GAME_CLOCK_SECONDS, gameClockSeconds);
         values.put(DatabaseHelper.GAMES_COLUMN_IS_CLOCK_RUNNING, isClockRunning ? 1 : 0);
-        values.put(DatabaseHelper.COLUMN_UPDATED_AT, getCurrentTimestamp());
+        values.put(DatabaseHelper.GAMES_COLUMN_CLOCK_REMAINING_MS, clockRemainingMillis);
+        values.put(DatabaseHelper.GAMES_COLUMN_CLOCK_STARTED_AT, clockStartedAt);
         values.put(DatabaseHelper.COLUMN_FIREBASE_ID, firebaseId);
         values.put(DatabaseHelper.COLUMN_SYNC_STATUS, syncStatus);
         values.put(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP, lastSyncTimestamp);
         
-        long result;
-        if (id > 0) {
-            // UPDATE existing game
-            String whereClause = DatabaseHelper.COLUMN_ID + " = ?";
-            String[] whereArgs = {String.valueOf(id)};
-            result = db.update(DatabaseHelper.TABLE_GAMES, values, whereClause, whereArgs);
-            Log.d(TAG, "Updated game: " + toString() + " (ID: " + id + ")");
-        } else {
-            // INSERT new game
-            values.put(DatabaseHelper.COLUMN_CREATED_AT, getCurrentTimestamp());
-            result = db.insert(DatabaseHelper.TABLE_GAMES, null, values);
-            if (result != -1) {
-                this.id = (int) result;
-                Log.d(TAG, "Created game: " + toString() + " (ID: " + id + ")");
-            }
-        }
-        
-        return result;
+        return values;
     }
     
     /**
@@ -333,7 +398,7 @@ public class Game {
      */
     public boolean delete(DatabaseHelper dbHelper) {
         if (id <= 0) {
-            Log.w(TAG, "Cannot delete game with invalid ID: " + id);
+            AppLog.w(TAG, "Cannot delete game with invalid ID: %s", id);
             return false;
         }
         
@@ -345,9 +410,14 @@ public class Game {
         boolean success = rowsAffected > 0;
         
         if (success) {
-            Log.d(TAG, "Deleted game: " + toString() + " (ID: " + id + ")");
+            dbHelper.getInvalidationTracker().notifyTablesChanged(DatabaseHelper.TABLE_GAMES, DatabaseHelper.TABLE_GAME_PLAYERS,
+                DatabaseHelper.TABLE_EVENTS, DatabaseHelper.TABLE_TEAM_FOULS, // Child rows cascade-deleted
+                DatabaseHelper.TABLE_PLAYER_SEASON_STATS, DatabaseHelper.TABLE_TEAM_SEASON_STATS);
+            // Events cascade with the game - drop its cached sequence counter
+            EventSequenceAllocator.invalidate(id);
+            AppLog.d(TAG, "Deleted game: %s (ID: %s)", this, id);
         } else {
-            Log.w(TAG, "Failed to delete game: " + toString() + " (ID: " + id + ")");
+            AppLog.w(TAG, "Failed to delete game: %s (ID: %s)", this, id);
         }
         
         return success;
@@ -373,7 +443,7 @@ public class Game {
         
         Game game = null;
         if (cursor.moveToFirst()) {
-            game = fromCursor(cursor);
+            game = new Reader(cursor).read();
             game.loadTeams(dbHelper);
         }
         cursor.close();
@@ -381,6 +451,37 @@ public class Game {
         return game;
     }
     
+    /**
+     * Get a game's updated_at without loading the row (GameBundle version check)
+     */
+    public static String findUpdatedAt(DatabaseHelper dbHelper, int gameId) {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        Cursor cursor = db.rawQuery("SELECT " + DatabaseHelper.COLUMN_UPDATED_AT + " FROM " + 
+                                    DatabaseHelper.TABLE_GAMES + " WHERE " + DatabaseHelper.COLUMN_ID + " = ?",
+                                    new String[]{String.valueOf(gameId)});
+        try {
+            return cursor.moveToFirst() ? cursor.getString(0) : null;
+        } finally {
+            cursor.close();
+        }
+    }
+    
+    /**
+     * Bump a game's updated_at after writes to its child rows (events, fouls, game players)
+     * Always moves forward, even for two writes within the same millisecond
+     */
+    public static void touch(DatabaseHelper dbHelper, int gameId) {
+        if (gameId <= 0) return;
+        
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        long now = System.currentTimeMillis();
+        db.execSQL("UPDATE " + DatabaseHelper.TABLE_GAMES + " SET " + DatabaseHelper.COLUMN_UPDATED_AT + 
+                   " = MAX(CAST(" + DatabaseHelper.COLUMN_UPDATED_AT + " AS INTEGER) + 1, ?)" +
+                   " WHERE " + DatabaseHelper.COLUMN_ID + " = ?",
+                   new Object[]{now, gameId});
+        dbHelper.notifyTableChanged(DatabaseHelper.TABLE_GAMES);
+    }
+    
     /**
      * Get all games from database
      */
@@ -398,14 +499,15 @@ public class Game {
             DatabaseHelper.GAMES_COLUMN_DATE + " ASC, " + DatabaseHelper.GAMES_COLUMN_TIME + " ASC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            Game game = fromCursor(cursor);
+            Game game = reader.read();
             game.loadTeams(dbHelper);
             games.add(game);
         }
         cursor.close();
         
-        Log.d(TAG, "Loaded " + games.size() + " games from database");
+        AppLog.d(TAG, "Loaded %s games from database", games.size());
         return games;
     }
     
@@ -429,8 +531,9 @@ public class Game {
             DatabaseHelper.GAMES_COLUMN_DATE + " ASC, " + DatabaseHelper.GAMES_COLUMN_TIME + " ASC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            Game game = fromCursor(cursor);
+            Game game = reader.read();
             game.loadTeams(dbHelper);
             games.add(game);
         }
@@ -459,8 +562,9 @@ public class Game {
             DatabaseHelper.COLUMN_UPDATED_AT + " ASC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            Game game = fromCursor(cursor);
+            Game game = reader.read();
             game.loadTeams(dbHelper);
             games.add(game);
         }
@@ -505,29 +609,77 @@ public class Game {
     // ========== UTILITY METHODS ==========
     
     /**
-     * Create Game object from database cursor
+     * Reads Game rows - column indexes resolved once per cursor
      */
-    private static Game fromCursor(Cursor cursor) {
-        Game game = new Game();
-        
-        game.id = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_ID));
-        game.date = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.GAMES_COLUMN_DATE));
-        game.time = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.GAMES_COLUMN_TIME));
-        game.homeTeamId = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.GAMES_COLUMN_HOME_TEAM_ID));
-        game.awayTeamId = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.GAMES_COLUMN_AWAY_TEAM_ID));
-        game.status = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.GAMES_COLUMN_STATUS));
-        game.homeScore = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.GAMES_COLUMN_HOME_SCORE));
-        game.awayScore = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.GAMES_COLUMN_AWAY_SCORE));
-        game.currentQuarter = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.GAMES_COLUMN_CURRENT_QUARTER));
-        game.gameClockSeconds = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.GAMES_COLUMN_GAME_CLOCK_SECONDS));
-        game.isClockRunning = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.GAMES_COLUMN_IS_CLOCK_RUNNING)) == 1;
-        game.createdAt = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_CREATED_AT));
-        game.updatedAt = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_UPDATED_AT));
-        game.firebaseId = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_FIREBASE_ID));
-        game.syncStatus = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_SYNC_STATUS));
-        game.lastSyncTimestamp = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP));
+    private static final class Reader extends RowReader<Game> {
+        private final int idColumn;
+        private final int dateColumn;
+        private final int timeColumn;
+        private final int homeTeamIdColumn;
+        private final int awayTeamIdColumn;
+        private final int statusColumn;
+        private final int homeScoreColumn;
+        private final int awayScoreColumn;
+        private final int currentQuarterColumn;
+        private final int gameClockSecondsColumn;
+        private final int isClockRunningColumn;
+        private final int clockRemainingMillisColumn;
+        private final int clockStartedAtColumn;
+        private final int createdAtColumn;
+        private final int updatedAtColumn;
+        private final int firebaseIdColumn;
+        private final int syncStatusColumn;
+        private final int lastSyncTimestampColumn;
+        
+        Reader(Cursor cursor) {
+            super(cursor);
+            idColumn = column(DatabaseHelper.COLUMN_ID);
+            dateColumn = column(DatabaseHelper.GAMES_COLUMN_DATE);
+            timeColumn = column(DatabaseHelper.GAMES_COLUMN_TIME);
+            homeTeamIdColumn = column(DatabaseHelper.GAMES_COLUMN_HOME_TEAM_ID);
+            awayTeamIdColumn = column(DatabaseHelper.GAMES_COLUMN_AWAY_TEAM_ID);
+            statusColumn = column(DatabaseHelper.GAMES_COLUMN_STATUS);
+            homeScoreColumn = column(DatabaseHelper.GAMES_COLUMN_HOME_SCORE);
+            awayScoreColumn = column(DatabaseHelper.GAMES_COLUMN_AWAY_SCORE);
+            currentQuarterColumn = column(DatabaseHelper.GAMES_COLUMN_CURRENT_QUARTER);
+            gameClockSecondsColumn = column(DatabaseHelper.GAMES_COLUMN_GAME_CLOCK_SECONDS);
+            isClockRunningColumn = column(DatabaseHelper.GAMES_COLUMN_IS_CLOCK_RUNNING);
+            clockRemainingMillisColumn = column(DatabaseHelper.GAMES_COLUMN_CLOCK_REMAINING_MS);
+            clockStartedAtColumn = column(DatabaseHelper.GAMES_COLUMN_CLOCK_STARTED_AT);
+            createdAtColumn = column(DatabaseHelper.COLUMN_CREATED_AT);
+            updatedAtColumn = column(DatabaseHelper.COLUMN_UPDATED_AT);
+            firebaseIdColumn = column(DatabaseHelper.COLUMN_FIREBASE_ID);
+            syncStatusColumn = column(DatabaseHelper.COLUMN_SYNC_STATUS);
+            lastSyncTimestampColumn = column(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP);
+        }
         
-        return game;
+        @Override
+        public Game read() {
+            Game game = new Game();
+            
+            game.id = getInt(idColumn);
+            game.date = getString(dateColumn);
+            game.time = getString(timeColumn);
+            game.homeTeamId = getInt(homeTeamIdColumn);
+            game.awayTeamId = getInt(awayTeamIdColumn);
+            game.status = getString(statusColumn);
+            game.homeScore = getInt(homeScoreColumn);
+            game.awayScore = getInt(awayScoreColumn);
+            game.currentQuarter = getInt(currentQuarterColumn);
+            game.gameClockSeconds = getInt(gameClockSecondsColumn);
+            game.isClockRunning = getInt(isClockRunningColumn) == 1;
+            game.clockRemainingMillis = getLong(clockRemainingMillisColumn);
+            game.clockStartedAt = getLong(clockStartedAtColumn);
+            game.createdAt = getString(createdAtColumn);
+            game.updatedAt = getString(updatedAtColumn);
+            game.firebaseId = getString(firebaseIdColumn);
+            game.syncStatus = getString(syncStatusColumn);
+            game.lastSyncTimestamp = getString(lastSyncTimestampColumn);
+            
+            game.dirtyColumns.markPersisted(game.toContentValues());
+            
+            return game;
+        }
     }
     
     /**
@@ -541,14 +693,7 @@ public class Game {
      * Get game count
      */
     public static int getCount(DatabaseHelper dbHelper) {
-        SQLiteDatabase db = dbHelper.getReadableDatabase();
-        Cursor cursor = db.rawQuery("SELECT COUNT(*) FROM " + DatabaseHelper.TABLE_GAMES, null);
-        int count = 0;
-        if (cursor.moveToFirst()) {
-            count = cursor.getInt(0);
-        }
-        cursor.close();
-        return count;
+        return TableCounters.getTableCount(dbHelper, DatabaseHelper.TABLE_GAMES);
     }
     
     /**
@@ -575,7 +720,7 @@ public class Game {
         
         Game game = null;
         if (cursor.moveToFirst()) {
-            game = fromCursor(cursor);
+            game = new Reader(cursor).read();
             game.loadTeams(dbHelper);
         }
         cursor.close();
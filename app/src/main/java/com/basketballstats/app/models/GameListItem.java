@@ -0,0 +1,170 @@
+package com.basketballstats.app.models;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import com.basketballstats.app.data.DatabaseHelper;
+import com.basketballstats.app.utils.AppLog;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GameListItem - Read-only game row for schedule lists (home screen, league management)
+ *
+ * Loaded with one query joining games to teams for both names, instead of
+ * Game.findAll() + loadTeams() (two extra queries per game). Pages are ordered
+ * by date, time, id and fetched with keyset pagination, so each page costs the
+ * same regardless of how far the list has been scrolled.
+ *
+ * Use Game.findById() when the full game is needed (opening, deleting).
+ */
+public class GameListItem {
+    private static final String TAG = "GameListItem";
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    private static final String LIST_SELECT =
+        "SELECT g." + DatabaseHelper.COLUMN_ID +
+        ", g." + DatabaseHelper.GAMES_COLUMN_DATE +
+        ", g." + DatabaseHelper.GAMES_COLUMN_TIME +
+        ", g." + DatabaseHelper.GAMES_COLUMN_STATUS +
+        ", g." + DatabaseHelper.GAMES_COLUMN_HOME_TEAM_ID +
+        ", g." + DatabaseHelper.GAMES_COLUMN_AWAY_TEAM_ID +
+        ", g." + DatabaseHelper.GAMES_COLUMN_HOME_SCORE +
+        ", g." + DatabaseHelper.GAMES_COLUMN_AWAY_SCORE +
+        ", h." + DatabaseHelper.TEAMS_COLUMN_NAME + " AS home_team_name" +
+        ", a." + DatabaseHelper.TEAMS_COLUMN_NAME + " AS away_team_name" +
+        " FROM " + DatabaseHelper.TABLE_GAMES + " g" +
+        " LEFT JOIN " + DatabaseHelper.TABLE_TEAMS + " h ON h." + DatabaseHelper.COLUMN_ID +
+        " = g." + DatabaseHelper.GAMES_COLUMN_HOME_TEAM_ID +
+        " LEFT JOIN " + DatabaseHelper.TABLE_TEAMS + " a ON a." + DatabaseHelper.COLUMN_ID +
+        " = g." + DatabaseHelper.GAMES_COLUMN_AWAY_TEAM_ID;
+
+    private static final String ORDER_BY =
+        " ORDER BY g." + DatabaseHelper.GAMES_COLUMN_DATE + " ASC, g." +
+        DatabaseHelper.GAMES_COLUMN_TIME + " ASC, g." + DatabaseHelper.COLUMN_ID + " ASC";
+
+    // Rows strictly after (date, time, id) in list order
+    private static final String AFTER_KEY =
+        " WHERE g." + DatabaseHelper.GAMES_COLUMN_DATE + " > ?" +
+        " OR (g." + DatabaseHelper.GAMES_COLUMN_DATE + " = ? AND g." + DatabaseHelper.GAMES_COLUMN_TIME + " > ?)" +
+        " OR (g." + DatabaseHelper.GAMES_COLUMN_DATE + " = ? AND g." + DatabaseHelper.GAMES_COLUMN_TIME + " = ?" +
+        " AND g." + DatabaseHelper.COLUMN_ID + " > ?)";
+
+    private final int id;
+    private final String date;
+    private final String time;
+    private final String status;
+    private final int homeTeamId;
+    private final int awayTeamId;
+    private final int homeScore;
+    private final int awayScore;
+    private final String homeTeamName;
+    private final String awayTeamName;
+
+    private GameListItem(int id, String date, String time, String status,
+                         int homeTeamId, int awayTeamId, int homeScore, int awayScore,
+                         String homeTeamName, String awayTeamName) {
+        this.id = id;
+        this.date = date;
+        this.time = time;
+        this.status = status;
+        this.homeTeamId = homeTeamId;
+        this.awayTeamId = awayTeamId;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+        this.homeTeamName = homeTeamName;
+        this.awayTeamName = awayTeamName;
+    }
+
+    // ========== GETTERS ==========
+
+    public int getId() { return id; }
+    public String getDate() { return date; }
+    public String getTime() { return time; }
+    public String getStatus() { return status; }
+    public int getHomeTeamId() { return homeTeamId; }
+    public int getAwayTeamId() { return awayTeamId; }
+    public int getHomeScore() { return homeScore; }
+    public int getAwayScore() { return awayScore; }
+
+    /**
+     * Home team name, or "Team N" if the team row is missing
+     */
+    public String getHomeTeamName() {
+        return homeTeamName != null ? homeTeamName : "Team " + homeTeamId;
+    }
+
+    /**
+     * Away team name, or "Team N" if the team row is missing
+     */
+    public String getAwayTeamName() {
+        return awayTeamName != null ? awayTeamName : "Team " + awayTeamId;
+    }
+
+    public boolean hasTeams() {
+        return homeTeamName != null && awayTeamName != null;
+    }
+
+    @Override
+    public String toString() {
+        return getHomeTeamName() + " vs " + getAwayTeamName() + " - " + date;
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * Load one page of the schedule in date order
+     * @param after last item of the previous page, or null for the first page
+     * @param limit maximum rows to return
+     */
+    public static List<GameListItem> findPage(DatabaseHelper dbHelper, GameListItem after, int limit) {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        List<GameListItem> items = new ArrayList<>();
+
+        String sql;
+        String[] args;
+        if (after == null) {
+            sql = LIST_SELECT + ORDER_BY + " LIMIT " + limit;
+            args = null;
+        } else {
+            sql = LIST_SELECT + AFTER_KEY + ORDER_BY + " LIMIT " + limit;
+            args = new String[] {
+                after.date,
+                after.date, after.time,
+                after.date, after.time, String.valueOf(after.id)
+            };
+        }
+
+        Cursor cursor = db.rawQuery(sql, args);
+        try {
+            while (cursor.moveToNext()) {
+                items.add(fromCursor(cursor));
+            }
+        } finally {
+            cursor.close();
+        }
+
+        AppLog.d(TAG, "Loaded page of %s games (after ID: %s)", items.size(), after != null ? after.id : 0);
+        return items;
+    }
+
+    /**
+     * Read a row by position (columns in LIST_SELECT order)
+     */
+    private static GameListItem fromCursor(Cursor cursor) {
+        return new GameListItem(
+            cursor.getInt(0),
+            cursor.getString(1),
+            cursor.getString(2),
+            cursor.getString(3),
+            cursor.getInt(4),
+            cursor.getInt(5),
+            cursor.getInt(6),
+            cursor.getInt(7),
+            cursor.getString(8),
+            cursor.getString(9)
+        );
+    }
+}
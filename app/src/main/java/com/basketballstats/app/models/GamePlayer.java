@@ -3,12 +3,16 @@ package com.basketballstats.app.models;
 import android.content.ContentValues;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
-import android.util.Log;
 
 import com.basketballstats.app.data.DatabaseHelper;
+import com.basketballstats.app.data.DirtyColumnTracker;
+import com.basketballstats.app.data.RowReader;
+import com.basketballstats.app.utils.AppLog;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * GamePlayer model for persisting selected players for specific games
@@ -28,6 +32,8 @@ public class GamePlayer {
     private boolean isStarter;
     private int personalFouls;
     private int minutesPlayed;
+    private int secondsPlayed; // Written by GameMutation (stint tracking), not by save()
+    private int plusMinus;     // Written by GameMutation (scoring actions), not by save()
     
     // Sync fields
     private String createdAt;
@@ -36,6 +42,9 @@ public class GamePlayer {
     private String syncStatus;
     private String lastSyncTimestamp;
     
+    // Column-level change tracking (snapshot of last loaded/saved values)
+    private final DirtyColumnTracker dirtyColumns = new DirtyColumnTracker();
+    
     // Related objects (loaded separately)
     private TeamPlayer teamPlayer;
     
@@ -86,6 +95,16 @@ public class GamePlayer {
     public int getMinutesPlayed() { return minutesPlayed; }
     public void setMinutesPlayed(int minutesPlayed) { this.minutesPlayed = minutesPlayed; }
     
+    public int getSecondsPlayed() { return secondsPlayed; }
+    public int getPlusMinus() { return plusMinus; }
+    
+    /**
+     * Playing time as "MM:SS"
+     */
+    public String getFormattedPlayingTime() {
+        return String.format("%d:%02d", secondsPlayed / 60, secondsPlayed % 60);
+    }
+    
     public String getCreatedAt() { return createdAt; }
     public void setCreatedAt(String createdAt) { this.createdAt = createdAt; }
     
@@ -152,40 +171,63 @@ public class GamePlayer {
      */
     public long save(DatabaseHelper dbHelper) {
         SQLiteDatabase db = dbHelper.getWritableDatabase();
-        ContentValues values = new ContentValues();
-        
-        values.put(DatabaseHelper.GAME_PLAYERS_COLUMN_GAME_ID, gameId);
-        values.put(DatabaseHelper.GAME_PLAYERS_COLUMN_TEAM_PLAYER_ID, teamPlayerId);
-        values.put(DatabaseHelper.GAME_PLAYERS_COLUMN_TEAM_SIDE, teamSide);
-        values.put(DatabaseHelper.GAME_PLAYERS_COLUMN_IS_ON_COURT, isOnCourt ? 1 : 0);
-        values.put(DatabaseHelper.GAME_PLAYERS_COLUMN_IS_STARTER, isStarter ? 1 : 0);
-        values.put(DatabaseHelper.GAME_PLAYERS_COLUMN_PERSONAL_FOULS, personalFouls);
-        values.put(DatabaseHelper.GAME_PLAYERS_COLUMN_MINUTES_PLAYED, minutesPlayed);
-        values.put(DatabaseHelper.COLUMN_UPDATED_AT, getCurrentTimestamp());
-        values.put(DatabaseHelper.COLUMN_FIREBASE_ID, firebaseId);
-        values.put(DatabaseHelper.COLUMN_SYNC_STATUS, syncStatus);
-        values.put(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP, lastSyncTimestamp);
+        ContentValues values = toContentValues();
         
         long result;
         if (id > 0) {
-            // UPDATE existing game player
+            // UPDATE existing game player - only columns changed since load/last save
+            ContentValues changed = dirtyColumns.changedColumns(values);
+            if (changed.size() == 0) {
+                AppLog.d(TAG, "Game player unchanged, skipping save (ID: %s)", id);
+                return 1; // Row already up to date
+            }
+            if (DirtyColumnTracker.hasDataChanges(changed)) {
+                changed.put(DatabaseHelper.COLUMN_UPDATED_AT, getCurrentTimestamp());
+            }
             String whereClause = DatabaseHelper.COLUMN_ID + " = ?";
             String[] whereArgs = {String.valueOf(id)};
-            result = db.update(DatabaseHelper.TABLE_GAME_PLAYERS, values, whereClause, whereArgs);
-            Log.d(TAG, "Updated game player: " + getDisplayName() + " (ID: " + id + ")");
+            result = db.update(DatabaseHelper.TABLE_GAME_PLAYERS, changed, whereClause, whereArgs);
+            AppLog.d(TAG, "Updated game player: %s (ID: %s)", getDisplayName(), id);
         } else {
             // INSERT new game player
             values.put(DatabaseHelper.COLUMN_CREATED_AT, getCurrentTimestamp());
+            values.put(DatabaseHelper.COLUMN_UPDATED_AT, getCurrentTimestamp());
             result = db.insert(DatabaseHelper.TABLE_GAME_PLAYERS, null, values);
             if (result != -1) {
                 this.id = (int) result;
-                Log.d(TAG, "Created game player: " + getDisplayName() + " (ID: " + id + ")");
+                AppLog.d(TAG, "Created game player: %s (ID: %s)", getDisplayName(), id);
             }
         }
         
+        if (result > 0) {
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_GAME_PLAYERS);
+            dirtyColumns.markPersisted(values);
+            Game.touch(dbHelper, gameId);
+        }
+        
         return result;
     }
     
+    /**
+     * Persistent column values (timestamps are added by save)
+     */
+    private ContentValues toContentValues() {
+        ContentValues values = new ContentValues();
+        
+        values.put(DatabaseHelper.GAME_PLAYERS_COLUMN_GAME_ID, gameId);
+        values.put(DatabaseHelper.GAME_PLAYERS_COLUMN_TEAM_PLAYER_ID, teamPlayerId);
+        values.put(DatabaseHelper.GAME_PLAYERS_COLUMN_TEAM_SIDE, teamSide);
+        values.put(DatabaseHelper.GAME_PLAYERS_COLUMN_IS_ON_COURT, isOnCourt ? 1 : 0);
+        values.put(DatabaseHelper.GAME_PLAYERS_COLUMN_IS_STARTER, isStarter ? 1 : 0);
+        values.put(DatabaseHelper.GAME_PLAYERS_COLUMN_PERSONAL_FOULS, personalFouls);
+        values.put(DatabaseHelper.GAME_PLAYERS_COLUMN_MINUTES_PLAYED, minutesPlayed);
+        values.put(DatabaseHelper.COLUMN_FIREBASE_ID, firebaseId);
+        values.put(DatabaseHelper.COLUMN_SYNC_STATUS, syncStatus);
+        values.put(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP, lastSyncTimestamp);
+        
+        return values;
+    }
+    
     /**
      * Delete game player from database
      */
@@ -197,7 +239,11 @@ public class GamePlayer {
         String[] whereArgs = {String.valueOf(id)};
         
         int deletedRows = db.delete(DatabaseHelper.TABLE_GAME_PLAYERS, whereClause, whereArgs);
-        Log.d(TAG, "Deleted game player: " + getDisplayName() + " (ID: " + id + ")");
+        if (deletedRows > 0) {
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_GAME_PLAYERS);
+            Game.touch(dbHelper, gameId);
+        }
+        AppLog.d(TAG, "Deleted game player: %s (ID: %s)", getDisplayName(), id);
         
         return deletedRows > 0;
     }
@@ -224,7 +270,7 @@ public class GamePlayer {
         
         GamePlayer gamePlayer = null;
         if (cursor.moveToFirst()) {
-            gamePlayer = fromCursor(cursor);
+            gamePlayer = new Reader(cursor).read();
             gamePlayer.loadTeamPlayer(dbHelper);
         }
         cursor.close();
@@ -236,6 +282,14 @@ public class GamePlayer {
      * Find all game players for a specific game
      */
     public static List<GamePlayer> findByGameId(DatabaseHelper dbHelper, int gameId) {
+        return findByGameId(dbHelper, gameId, Collections.<Integer, TeamPlayer>emptyMap());
+    }
+    
+    /**
+     * Find all game players for a game, attaching TeamPlayers from already-loaded rosters
+     * Only players missing from the map are looked up individually
+     */
+    public static List<GamePlayer> findByGameId(DatabaseHelper dbHelper, int gameId, Map<Integer, TeamPlayer> rosterById) {
         SQLiteDatabase db = dbHelper.getReadableDatabase();
         List<GamePlayer> gamePlayers = new ArrayList<>();
         
@@ -253,14 +307,20 @@ public class GamePlayer {
             DatabaseHelper.GAME_PLAYERS_COLUMN_IS_STARTER + " DESC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            GamePlayer gamePlayer = fromCursor(cursor);
-            gamePlayer.loadTeamPlayer(dbHelper);
+            GamePlayer gamePlayer = reader.read();
+            TeamPlayer rosterPlayer = rosterById.get(gamePlayer.getTeamPlayerId());
+            if (rosterPlayer != null) {
+                gamePlayer.setTeamPlayer(rosterPlayer);
+            } else {
+                gamePlayer.loadTeamPlayer(dbHelper);
+            }
             gamePlayers.add(gamePlayer);
         }
         cursor.close();
         
-        Log.d(TAG, "Loaded " + gamePlayers.size() + " game players for game " + gameId);
+        AppLog.d(TAG, "Loaded %s game players for game %s", gamePlayers.size(), gameId);
         return gamePlayers;
     }
     
@@ -285,8 +345,9 @@ public class GamePlayer {
             DatabaseHelper.GAME_PLAYERS_COLUMN_IS_STARTER + " DESC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            GamePlayer gamePlayer = fromCursor(cursor);
+            GamePlayer gamePlayer = reader.read();
             gamePlayer.loadTeamPlayer(dbHelper);
             gamePlayers.add(gamePlayer);
         }
@@ -317,8 +378,9 @@ public class GamePlayer {
             DatabaseHelper.GAME_PLAYERS_COLUMN_IS_STARTER + " DESC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            GamePlayer gamePlayer = fromCursor(cursor);
+            GamePlayer gamePlayer = reader.read();
             gamePlayer.loadTeamPlayer(dbHelper);
             gamePlayers.add(gamePlayer);
         }
@@ -337,7 +399,11 @@ public class GamePlayer {
         String[] whereArgs = {String.valueOf(gameId)};
         
         int deletedRows = db.delete(DatabaseHelper.TABLE_GAME_PLAYERS, whereClause, whereArgs);
-        Log.d(TAG, "Deleted " + deletedRows + " game players for game " + gameId);
+        if (deletedRows > 0) {
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_GAME_PLAYERS);
+            Game.touch(dbHelper, gameId);
+        }
+        AppLog.d(TAG, "Deleted %s game players for game %s", deletedRows, gameId);
         
         return deletedRows;
     }
@@ -354,26 +420,68 @@ public class GamePlayer {
     // ========== UTILITY METHODS ==========
     
     /**
-     * Create GamePlayer object from database cursor
+     * Reads GamePlayer rows - column indexes resolved once per cursor
      */
-    private static GamePlayer fromCursor(Cursor cursor) {
-        GamePlayer gamePlayer = new GamePlayer();
+    private static final class Reader extends RowReader<GamePlayer> {
+        private final int idColumn;
+        private final int gameIdColumn;
+        private final int teamPlayerIdColumn;
+        private final int teamSideColumn;
+        private final int isOnCourtColumn;
+        private final int isStarterColumn;
+        private final int personalFoulsColumn;
+        private final int minutesPlayedColumn;
+        private final int secondsPlayedColumn;
+        private final int plusMinusColumn;
+        private final int createdAtColumn;
+        private final int updatedAtColumn;
+        private final int firebaseIdColumn;
+        private final int syncStatusColumn;
+        private final int lastSyncTimestampColumn;
         
-        gamePlayer.id = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_ID));
-        gamePlayer.gameId = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.GAME_PLAYERS_COLUMN_GAME_ID));
-        gamePlayer.teamPlayerId = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.GAME_PLAYERS_COLUMN_TEAM_PLAYER_ID));
-        gamePlayer.teamSide = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.GAME_PLAYERS_COLUMN_TEAM_SIDE));
-        gamePlayer.isOnCourt = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.GAME_PLAYERS_COLUMN_IS_ON_COURT)) == 1;
-        gamePlayer.isStarter = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.GAME_PLAYERS_COLUMN_IS_STARTER)) == 1;
-        gamePlayer.personalFouls = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.GAME_PLAYERS_COLUMN_PERSONAL_FOULS));
-        gamePlayer.minutesPlayed = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.GAME_PLAYERS_COLUMN_MINUTES_PLAYED));
-        gamePlayer.createdAt = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_CREATED_AT));
-        gamePlayer.updatedAt = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_UPDATED_AT));
-        gamePlayer.firebaseId = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_FIREBASE_ID));
-        gamePlayer.syncStatus = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_SYNC_STATUS));
-        gamePlayer.lastSyncTimestamp = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP));
+        Reader(Cursor cursor) {
+            super(cursor);
+            idColumn = column(DatabaseHelper.COLUMN_ID);
+            gameIdColumn = column(DatabaseHelper.GAME_PLAYERS_COLUMN_GAME_ID);
+            teamPlayerIdColumn = column(DatabaseHelper.GAME_PLAYERS_COLUMN_TEAM_PLAYER_ID);
+            teamSideColumn = column(DatabaseHelper.GAME_PLAYERS_COLUMN_TEAM_SIDE);
+            isOnCourtColumn = column(DatabaseHelper.GAME_PLAYERS_COLUMN_IS_ON_COURT);
+            isStarterColumn = column(DatabaseHelper.GAME_PLAYERS_COLUMN_IS_STARTER);
+            personalFoulsColumn = column(DatabaseHelper.GAME_PLAYERS_COLUMN_PERSONAL_FOULS);
+            minutesPlayedColumn = column(DatabaseHelper.GAME_PLAYERS_COLUMN_MINUTES_PLAYED);
+            secondsPlayedColumn = column(DatabaseHelper.GAME_PLAYERS_COLUMN_SECONDS_PLAYED);
+            plusMinusColumn = column(DatabaseHelper.GAME_PLAYERS_COLUMN_PLUS_MINUS);
+            createdAtColumn = column(DatabaseHelper.COLUMN_CREATED_AT);
+            updatedAtColumn = column(DatabaseHelper.COLUMN_UPDATED_AT);
+            firebaseIdColumn = column(DatabaseHelper.COLUMN_FIREBASE_ID);
+            syncStatusColumn = column(DatabaseHelper.COLUMN_SYNC_STATUS);
+            lastSyncTimestampColumn = column(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP);
+        }
         
-        return gamePlayer;
+        @Override
+        public GamePlayer read() {
+            GamePlayer gamePlayer = new GamePlayer();
+            
+            gamePlayer.id = getInt(idColumn);
+            gamePlayer.gameId = getInt(gameIdColumn);
+            gamePlayer.teamPlayerId = getInt(teamPlayerIdColumn);
+            gamePlayer.teamSide = getString(teamSideColumn);
+            gamePlayer.isOnCourt = getInt(isOnCourtColumn) == 1;
+            gamePlayer.isStarter = getInt(isStarterColumn) == 1;
+            gamePlayer.personalFouls = getInt(personalFoulsColumn);
+            gamePlayer.minutesPlayed = getInt(minutesPlayedColumn);
+            gamePlayer.secondsPlayed = getInt(secondsPlayedColumn);
+            gamePlayer.plusMinus = getInt(plusMinusColumn);
+            gamePlayer.createdAt = getString(createdAtColumn);
+            gamePlayer.updatedAt = getString(updatedAtColumn);
+            gamePlayer.firebaseId = getString(firebaseIdColumn);
+            gamePlayer.syncStatus = getString(syncStatusColumn);
+            gamePlayer.lastSyncTimestamp = getString(lastSyncTimestampColumn);
+            
+            gamePlayer.dirtyColumns.markPersisted(gamePlayer.toContentValues());
+            
+            return gamePlayer;
+        }
     }
     
     /**
@@ -0,0 +1,287 @@
+package com.basketballstats.app.models;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import com.basketballstats.app.data.DatabaseHelper;
+import com.basketballstats.app.data.RowReader;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GameState - Score, fouls, quarter and clock of a game as of one event
+ *
+ * Built by GameReplay: the nearest stored checkpoint (a game_state_checkpoints
+ * row) plus the events after it, applied one at a time. Every
+ * GameReplay.CHECKPOINT_INTERVAL-th event is itself saved as a checkpoint, so a
+ * seek anywhere in the game replays at most one interval of events.
+ * - Lineups are not part of the state: substitutions are not stored as events
+ * - Team sides are "home"/"away"
+ */
+public class GameState {
+
+    private final int gameId;
+    private int eventSequence;  // Last event applied (0 = before the first event)
+    private int eventCount;     // Events applied so far (timeline position)
+    private int quarter = 1;
+    private int gameTimeSeconds = 600;
+
+    private final LineScore lineScore = new LineScore();
+    private final Map<Integer, int[]> playerLines = new HashMap<>(); // team player id -> {points, fouls}
+    private final Map<Integer, String> playerSides = new HashMap<>();
+
+    private GameState(int gameId) {
+        this.gameId = gameId;
+    }
+
+    /**
+     * State before a game's first event (0-0, Q1 10:00)
+     */
+    public static GameState start(int gameId) {
+        return new GameState(gameId);
+    }
+
+    /**
+     * State from a checkpoint's stored columns (see saveCheckpoint / ENCODING)
+     */
+    static GameState restore(int gameId, int eventSequence, int eventCount, int quarter,
+                             int gameTimeSeconds, String teamQuarters, String playerLines) {
+        GameState state = new GameState(gameId);
+        state.eventSequence = eventSequence;
+        state.eventCount = eventCount;
+        state.quarter = quarter;
+        state.gameTimeSeconds = gameTimeSeconds;
+        state.decodeTeamQuarters(teamQuarters);
+        state.decodePlayerLines(playerLines);
+        return state;
+    }
+
+    // ========== REPLAY ==========
+
+    /**
+     * Apply the next event (ascending sequence) - same deltas as the live GameAction
+     */
+    public void apply(Event event, String teamSide) {
+        eventSequence = event.getEventSequence();
+        eventCount++;
+        quarter = event.getQuarter();
+        gameTimeSeconds = event.getGameTimeSeconds();
+
+        int points = event.isScoringEvent() ? event.getPointsValue() : 0;
+        boolean isFoul = Event.TYPE_FOUL.equals(event.getEventType());
+        if (points != 0) {
+            lineScore.addPoints(teamSide, quarter, points);
+        }
+        if (isFoul) {
+            lineScore.addFouls(teamSide, quarter, 1);
+        }
+
+        if (event.getPlayerId() > 0 && (points != 0 || isFoul)) {
+            int[] line = lineFor(event.getPlayerId(), teamSide);
+            line[0] += points;
+            line[1] += isFoul ? 1 : 0;
+        }
+    }
+
+    private int[] lineFor(int playerId, String teamSide) {
+        int[] line = playerLines.get(playerId);
+        if (line == null) {
+            line = new int[2];
+            playerLines.put(playerId, line);
+            playerSides.put(playerId, teamSide);
+        }
+        return line;
+    }
+
+    // ========== GETTERS ==========
+
+    public int getGameId() { return gameId; }
+    public int getEventSequence() { return eventSequence; }
+    public int getEventCount() { return eventCount; }
+    public int getQuarter() { return quarter; }
+    public int getGameTimeSeconds() { return gameTimeSeconds; }
+    public LineScore getLineScore() { return lineScore; }
+
+    public int getHomeScore() { return lineScore.getTotalPoints("home"); }
+    public int getAwayScore() { return lineScore.getTotalPoints("away"); }
+
+    /**
+     * Team fouls in the state's quarter
+     */
+    public int getTeamFouls(String teamSide) {
+        return lineScore.getFouls(teamSide, quarter);
+    }
+
+    public boolean isInBonus(String teamSide) {
+        return lineScore.isInBonus(teamSide, quarter);
+    }
+
+    public int getPlayerPoints(int playerId) {
+        int[] line = playerLines.get(playerId);
+        return line != null ? line[0] : 0;
+    }
+
+    public int getPlayerFouls(int playerId) {
+        int[] line = playerLines.get(playerId);
+        return line != null ? line[1] : 0;
+    }
+
+    /**
+     * Team player ids of a side that have scored or fouled so far
+     */
+    public List<Integer> getPlayerIds(String teamSide) {
+        List<Integer> playerIds = new ArrayList<>();
+        for (Map.Entry<Integer, String> entry : playerSides.entrySet()) {
+            if (entry.getValue().equals(teamSide)) {
+                playerIds.add(entry.getKey());
+            }
+        }
+        return playerIds;
+    }
+
+    /**
+     * Get formatted clock (MM:SS)
+     */
+    public String getFormattedGameTime() {
+        return String.format("%d:%02d", gameTimeSeconds / 60, gameTimeSeconds % 60);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("#%d Q%d %s - HOME %d, AWAY %d", eventCount, quarter,
+            getFormattedGameTime(), getHomeScore(), getAwayScore());
+    }
+
+    // ========== CHECKPOINTS ==========
+
+    /**
+     * Store this state as a checkpoint (replaces a checkpoint at the same sequence)
+     */
+    public void saveCheckpoint(SQLiteDatabase db) {
+        ContentValues values = new ContentValues();
+        values.put(DatabaseHelper.CHECKPOINTS_COLUMN_GAME_ID, gameId);
+        values.put(DatabaseHelper.CHECKPOINTS_COLUMN_EVENT_SEQUENCE, eventSequence);
+        values.put(DatabaseHelper.CHECKPOINTS_COLUMN_EVENT_COUNT, eventCount);
+        values.put(DatabaseHelper.CHECKPOINTS_COLUMN_QUARTER, quarter);
+        values.put(DatabaseHelper.CHECKPOINTS_COLUMN_GAME_TIME_SECONDS, gameTimeSeconds);
+        values.put(DatabaseHelper.CHECKPOINTS_COLUMN_TEAM_QUARTERS, encodeTeamQuarters());
+        values.put(DatabaseHelper.CHECKPOINTS_COLUMN_PLAYER_LINES, encodePlayerLines());
+
+        db.insertWithOnConflict(DatabaseHelper.TABLE_GAME_STATE_CHECKPOINTS, null, values,
+                                SQLiteDatabase.CONFLICT_REPLACE);
+    }
+
+    /**
+     * Latest checkpoint at or before an event sequence, null if there is none
+     */
+    public static GameState findCheckpointAtSequence(DatabaseHelper dbHelper, int gameId, int eventSequence) {
+        return findCheckpoint(dbHelper, gameId, DatabaseHelper.CHECKPOINTS_COLUMN_EVENT_SEQUENCE, eventSequence);
+    }
+
+    /**
+     * Latest checkpoint at or before a timeline position (event count), null if there is none
+     */
+    public static GameState findCheckpointAtPosition(DatabaseHelper dbHelper, int gameId, int eventCount) {
+        return findCheckpoint(dbHelper, gameId, DatabaseHelper.CHECKPOINTS_COLUMN_EVENT_COUNT, eventCount);
+    }
+
+    private static GameState findCheckpoint(DatabaseHelper dbHelper, int gameId, String column, int atOrBefore) {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        Cursor cursor = db.query(
+            DatabaseHelper.TABLE_GAME_STATE_CHECKPOINTS,
+            null,
+            DatabaseHelper.CHECKPOINTS_COLUMN_GAME_ID + " = ? AND " + column + " <= ?",
+            new String[]{String.valueOf(gameId), String.valueOf(atOrBefore)},
+            null,
+            null,
+            column + " DESC",
+            "1"
+        );
+
+        GameState state = new Reader(cursor).readFirst();
+        cursor.close();
+        return state;
+    }
+
+    // ========== ENCODING ==========
+
+    // team_quarters: "home:1:3:12,away:1:4:10" (side:quarter:fouls:points)
+    String encodeTeamQuarters() {
+        StringBuilder encoded = new StringBuilder();
+        for (String side : new String[]{"home", "away"}) {
+            for (int q = 1; q <= lineScore.getQuarterCount(); q++) {
+                int fouls = lineScore.getFouls(side, q);
+                int points = lineScore.getPoints(side, q);
+                if (fouls == 0 && points == 0) continue;
+                if (encoded.length() > 0) encoded.append(',');
+                encoded.append(side).append(':').append(q).append(':').append(fouls).append(':').append(points);
+            }
+        }
+        return encoded.toString();
+    }
+
+    // player_lines: "12:home:14:3,31:away:6:1" (team player id:side:points:fouls)
+    String encodePlayerLines() {
+        StringBuilder encoded = new StringBuilder();
+        for (Map.Entry<Integer, int[]> entry : playerLines.entrySet()) {
+            if (encoded.length() > 0) encoded.append(',');
+            encoded.append(entry.getKey()).append(':').append(playerSides.get(entry.getKey()))
+                   .append(':').append(entry.getValue()[0]).append(':').append(entry.getValue()[1]);
+        }
+        return encoded.toString();
+    }
+
+    private void decodeTeamQuarters(String encoded) {
+        if (encoded == null || encoded.isEmpty()) return;
+        for (String item : encoded.split(",")) {
+            String[] parts = item.split(":");
+            int q = Integer.parseInt(parts[1]);
+            lineScore.addFouls(parts[0], q, Integer.parseInt(parts[2]));
+            lineScore.addPoints(parts[0], q, Integer.parseInt(parts[3]));
+        }
+    }
+
+    private void decodePlayerLines(String encoded) {
+        if (encoded == null || encoded.isEmpty()) return;
+        for (String item : encoded.split(",")) {
+            String[] parts = item.split(":");
+            int[] line = lineFor(Integer.parseInt(parts[0]), parts[1]);
+            line[0] = Integer.parseInt(parts[2]);
+            line[1] = Integer.parseInt(parts[3]);
+        }
+    }
+
+    // ========== ROW READER ==========
+
+    private static final class Reader extends RowReader<GameState> {
+        private final int gameIdColumn;
+        private final int eventSequenceColumn;
+        private final int eventCountColumn;
+        private final int quarterColumn;
+        private final int gameTimeSecondsColumn;
+        private final int teamQuartersColumn;
+        private final int playerLinesColumn;
+
+        Reader(Cursor cursor) {
+            super(cursor);
+            gameIdColumn = column(DatabaseHelper.CHECKPOINTS_COLUMN_GAME_ID);
+            eventSequenceColumn = column(DatabaseHelper.CHECKPOINTS_COLUMN_EVENT_SEQUENCE);
+            eventCountColumn = column(DatabaseHelper.CHECKPOINTS_COLUMN_EVENT_COUNT);
+            quarterColumn = column(DatabaseHelper.CHECKPOINTS_COLUMN_QUARTER);
+            gameTimeSecondsColumn = column(DatabaseHelper.CHECKPOINTS_COLUMN_GAME_TIME_SECONDS);
+            teamQuartersColumn = column(DatabaseHelper.CHECKPOINTS_COLUMN_TEAM_QUARTERS);
+            playerLinesColumn = column(DatabaseHelper.CHECKPOINTS_COLUMN_PLAYER_LINES);
+        }
+
+        @Override
+        public GameState read() {
+            return restore(getInt(gameIdColumn), getInt(eventSequenceColumn), getInt(eventCountColumn),
+                           getInt(quarterColumn), getInt(gameTimeSecondsColumn),
+                           getString(teamQuartersColumn), getString(playerLinesColumn));
+        }
+    }
+}
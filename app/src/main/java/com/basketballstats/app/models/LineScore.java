@@ -0,0 +1,140 @@
+package com.basketballstats.app.models;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import com.basketballstats.app.data.DatabaseHelper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * LineScore - Team fouls and points per quarter for both sides of a game
+ *
+ * Loaded from the team_fouls rows, which DatabaseHelper triggers keep current
+ * on every foul/scoring event insert, delete and edit. GameActivity holds one
+ * as the in-memory mirror of those rows and applies the same deltas when it
+ * records or undoes an action, so team foul display, bonus detection and the
+ * quarter-by-quarter line score are lookups rather than event scans.
+ *
+ * Team sides are "home"/"away".
+ */
+public class LineScore {
+
+    // Team fouls that put the opponent in the bonus for the rest of the quarter
+    public static final int BONUS_FOUL_LIMIT = 5;
+
+    private final Map<Integer, int[]> homeByQuarter = new HashMap<>(); // quarter -> {fouls, points}
+    private final Map<Integer, int[]> awayByQuarter = new HashMap<>();
+
+    // ========== LOOKUPS ==========
+
+    public int getFouls(String teamSide, int quarter) {
+        int[] totals = sideMap(teamSide).get(quarter);
+        return totals != null ? totals[0] : 0;
+    }
+
+    public int getPoints(String teamSide, int quarter) {
+        int[] totals = sideMap(teamSide).get(quarter);
+        return totals != null ? totals[1] : 0;
+    }
+
+    /**
+     * Points over all quarters (overtime included)
+     */
+    public int getTotalPoints(String teamSide) {
+        int points = 0;
+        for (int[] totals : sideMap(teamSide).values()) {
+            points += totals[1];
+        }
+        return points;
+    }
+
+    /**
+     * Check if a team has reached the foul limit for the quarter
+     */
+    public boolean isInBonus(String teamSide, int quarter) {
+        return getFouls(teamSide, quarter) >= BONUS_FOUL_LIMIT;
+    }
+
+    /**
+     * Last quarter with any fouls or points (at least 4 for regulation)
+     */
+    public int getQuarterCount() {
+        int quarters = 4;
+        for (Integer quarter : homeByQuarter.keySet()) quarters = Math.max(quarters, quarter);
+        for (Integer quarter : awayByQuarter.keySet()) quarters = Math.max(quarters, quarter);
+        return quarters;
+    }
+
+    /**
+     * One side's line: "8 12 10 15 - 45"
+     */
+    public String formatLine(String teamSide) {
+        StringBuilder line = new StringBuilder();
+        for (int quarter = 1; quarter <= getQuarterCount(); quarter++) {
+            line.append(getPoints(teamSide, quarter)).append(' ');
+        }
+        return line.append("- ").append(getTotalPoints(teamSide)).toString();
+    }
+
+    // ========== IN-MEMORY DELTAS ==========
+
+    /**
+     * Add (or with negative delta, remove) team fouls for a quarter
+     */
+    public void addFouls(String teamSide, int quarter, int delta) {
+        int[] totals = totalsFor(teamSide, quarter);
+        totals[0] = Math.max(0, totals[0] + delta);
+    }
+
+    /**
+     * Add (or with negative delta, remove) points for a quarter
+     */
+    public void addPoints(String teamSide, int quarter, int delta) {
+        int[] totals = totalsFor(teamSide, quarter);
+        totals[1] = Math.max(0, totals[1] + delta);
+    }
+
+    private int[] totalsFor(String teamSide, int quarter) {
+        Map<Integer, int[]> side = sideMap(teamSide);
+        int[] totals = side.get(quarter);
+        if (totals == null) {
+            totals = new int[2];
+            side.put(quarter, totals);
+        }
+        return totals;
+    }
+
+    private Map<Integer, int[]> sideMap(String teamSide) {
+        return "home".equals(teamSide) ? homeByQuarter : awayByQuarter;
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * Load a game's line score (one indexed read of at most 2 rows per quarter)
+     */
+    public static LineScore findByGameId(DatabaseHelper dbHelper, int gameId) {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        Cursor cursor = db.rawQuery("SELECT " + DatabaseHelper.TEAM_FOULS_COLUMN_TEAM_SIDE + ", " +
+                                    DatabaseHelper.TEAM_FOULS_COLUMN_QUARTER + ", " +
+                                    DatabaseHelper.TEAM_FOULS_COLUMN_FOUL_COUNT + ", " +
+                                    DatabaseHelper.TEAM_FOULS_COLUMN_POINTS + " FROM " +
+                                    DatabaseHelper.TABLE_TEAM_FOULS + " WHERE " +
+                                    DatabaseHelper.TEAM_FOULS_COLUMN_GAME_ID + " = ?",
+                                    new String[]{String.valueOf(gameId)});
+
+        LineScore lineScore = new LineScore();
+        try {
+            while (cursor.moveToNext()) {
+                int[] totals = lineScore.totalsFor(cursor.getString(0), cursor.getInt(1));
+                totals[0] = cursor.getInt(2);
+                totals[1] = cursor.getInt(3);
+            }
+        } finally {
+            cursor.close();
+        }
+        return lineScore;
+    }
+}
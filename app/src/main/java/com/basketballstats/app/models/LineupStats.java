@@ -0,0 +1,129 @@
+package com.basketballstats.app.models;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import com.basketballstats.app.data.DatabaseHelper;
+import com.basketballstats.app.data.RowReader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LineupStats - Time on court and points for/against of one five-man lineup in a game
+ *
+ * Read-only model over lineup_stats. GameActivity's StintTracker credits clock
+ * time to the lineup on court (written at lineup changes, pauses and quarter
+ * ends) and each scoring action adds its points to both lineups on court, all
+ * through GameMutation - nothing is rebuilt from the event log.
+ * - lineupKey is the sorted team player ids joined with "-" (StintTracker.lineupKey)
+ */
+public final class LineupStats {
+
+    private int gameId;
+    private String teamSide; // 'home' or 'away'
+    private String lineupKey;
+    private int secondsPlayed;
+    private int pointsFor;
+    private int pointsAgainst;
+
+    private LineupStats() {}
+
+    // ========== GETTERS ==========
+
+    public int getGameId() { return gameId; }
+    public String getTeamSide() { return teamSide; }
+    public String getLineupKey() { return lineupKey; }
+    public int getSecondsPlayed() { return secondsPlayed; }
+    public int getPointsFor() { return pointsFor; }
+    public int getPointsAgainst() { return pointsAgainst; }
+
+    // ========== DERIVED STATS ==========
+
+    public int getPlusMinus() { return pointsFor - pointsAgainst; }
+
+    /**
+     * Team player ids in this lineup
+     */
+    public List<Integer> getPlayerIds() {
+        List<Integer> playerIds = new ArrayList<>();
+        if (lineupKey == null || lineupKey.isEmpty()) {
+            return playerIds;
+        }
+        for (String playerId : lineupKey.split("-")) {
+            playerIds.add(Integer.parseInt(playerId));
+        }
+        return playerIds;
+    }
+
+    /**
+     * Net points scaled to a stretch of playing time, e.g. getNetRating(40) = per 40 minutes
+     * (0 with no recorded time)
+     */
+    public double getNetRating(int perMinutes) {
+        return secondsPlayed > 0 ? (double) getPlusMinus() * perMinutes * 60 / secondsPlayed : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [%s] %d:%02d, %d-%d", teamSide, lineupKey,
+            secondsPlayed / 60, secondsPlayed % 60, pointsFor, pointsAgainst);
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * Lineups used by one side in a game, most minutes first
+     */
+    public static List<LineupStats> findByGameAndSide(DatabaseHelper dbHelper, int gameId, String teamSide) {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        Cursor cursor = db.query(
+            DatabaseHelper.TABLE_LINEUP_STATS,
+            null,
+            DatabaseHelper.LINEUP_STATS_COLUMN_GAME_ID + " = ? AND " + DatabaseHelper.LINEUP_STATS_COLUMN_TEAM_SIDE + " = ?",
+            new String[]{String.valueOf(gameId), teamSide},
+            null,
+            null,
+            DatabaseHelper.LINEUP_STATS_COLUMN_SECONDS_PLAYED + " DESC"
+        );
+
+        List<LineupStats> lineups = new Reader(cursor).readAll();
+        cursor.close();
+        return lineups;
+    }
+
+    // ========== ROW READER ==========
+
+    private static final class Reader extends RowReader<LineupStats> {
+        private final int gameIdColumn;
+        private final int teamSideColumn;
+        private final int lineupKeyColumn;
+        private final int secondsPlayedColumn;
+        private final int pointsForColumn;
+        private final int pointsAgainstColumn;
+
+        Reader(Cursor cursor) {
+            super(cursor);
+            gameIdColumn = column(DatabaseHelper.LINEUP_STATS_COLUMN_GAME_ID);
+            teamSideColumn = column(DatabaseHelper.LINEUP_STATS_COLUMN_TEAM_SIDE);
+            lineupKeyColumn = column(DatabaseHelper.LINEUP_STATS_COLUMN_LINEUP_KEY);
+            secondsPlayedColumn = column(DatabaseHelper.LINEUP_STATS_COLUMN_SECONDS_PLAYED);
+            pointsForColumn = column(DatabaseHelper.LINEUP_STATS_COLUMN_POINTS_FOR);
+            pointsAgainstColumn = column(DatabaseHelper.LINEUP_STATS_COLUMN_POINTS_AGAINST);
+        }
+
+        @Override
+        public LineupStats read() {
+            LineupStats lineup = new LineupStats();
+
+            lineup.gameId = getInt(gameIdColumn);
+            lineup.teamSide = getString(teamSideColumn);
+            lineup.lineupKey = getString(lineupKeyColumn);
+            lineup.secondsPlayed = getInt(secondsPlayedColumn);
+            lineup.pointsFor = getInt(pointsForColumn);
+            lineup.pointsAgainst = getInt(pointsAgainstColumn);
+
+            return lineup;
+        }
+    }
+}
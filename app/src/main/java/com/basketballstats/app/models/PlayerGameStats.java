@@ -0,0 +1,217 @@
+package com.basketballstats.app.models;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import com.basketballstats.app.data.DatabaseHelper;
+import com.basketballstats.app.data.RowReader;
+import com.basketballstats.app.utils.AppLog;
+
+import java.util.List;
+
+/**
+ * PlayerGameStats - One player's box score line for one game
+ *
+ * Read-only model over player_game_stats, which DatabaseHelper triggers keep
+ * current inside every event insert, delete and edit (batch writes and
+ * cascades included). Box scores and player cards read one indexed row per
+ * player instead of re-aggregating the play-by-play.
+ * - FGM/FGA are split by shot value: 1 (free throws), 2 and 3
+ * - Repair: DatabaseHelper.rebuildPlayerGameStats(gameId) re-aggregates from events
+ */
+public final class PlayerGameStats {
+    private static final String TAG = "PlayerGameStats";
+
+    private int gameId;
+    private int playerId;
+    private String teamSide; // 'home' or 'away'
+    private int points;
+    private int fgm1, fga1;
+    private int fgm2, fga2;
+    private int fgm3, fga3;
+    private int offensiveRebounds;
+    private int defensiveRebounds;
+    private int assists;
+    private int steals;
+    private int blocks;
+    private int turnovers;
+    private int fouls;
+
+    private PlayerGameStats() {}
+
+    // ========== GETTERS ==========
+
+    public int getGameId() { return gameId; }
+    public int getPlayerId() { return playerId; }
+    public String getTeamSide() { return teamSide; }
+    public int getPoints() { return points; }
+    public int getFgm1() { return fgm1; }
+    public int getFga1() { return fga1; }
+    public int getFgm2() { return fgm2; }
+    public int getFga2() { return fga2; }
+    public int getFgm3() { return fgm3; }
+    public int getFga3() { return fga3; }
+    public int getOffensiveRebounds() { return offensiveRebounds; }
+    public int getDefensiveRebounds() { return defensiveRebounds; }
+    public int getAssists() { return assists; }
+    public int getSteals() { return steals; }
+    public int getBlocks() { return blocks; }
+    public int getTurnovers() { return turnovers; }
+    public int getFouls() { return fouls; }
+
+    // ========== DERIVED STATS ==========
+
+    public int getRebounds() { return offensiveRebounds + defensiveRebounds; }
+
+    /**
+     * Field goals made/attempted (2s and 3s - free throws excluded)
+     */
+    public int getFieldGoalsMade() { return fgm2 + fgm3; }
+    public int getFieldGoalsAttempted() { return fga2 + fga3; }
+
+    /**
+     * Box score line: "12 PTS, 5-9 FG, 2-3 3P, 0-2 FT, 4 REB, 3 AST"
+     */
+    public String getSummary() {
+        return points + " PTS, " + getFieldGoalsMade() + "-" + getFieldGoalsAttempted() + " FG, " +
+               fgm3 + "-" + fga3 + " 3P, " + fgm1 + "-" + fga1 + " FT, " +
+               getRebounds() + " REB, " + assists + " AST";
+    }
+
+    @Override
+    public String toString() {
+        return "Player " + playerId + " (" + teamSide + "): " + getSummary();
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * Box score for a game - home first, then points descending
+     */
+    public static List<PlayerGameStats> findByGameId(DatabaseHelper dbHelper, int gameId) {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        Cursor cursor = db.query(
+            DatabaseHelper.TABLE_PLAYER_GAME_STATS,
+            null,
+            DatabaseHelper.PLAYER_STATS_COLUMN_GAME_ID + " = ?",
+            new String[]{String.valueOf(gameId)},
+            null,
+            null,
+            DatabaseHelper.PLAYER_STATS_COLUMN_TEAM_SIDE + " DESC, " + DatabaseHelper.PLAYER_STATS_COLUMN_POINTS + " DESC"
+        );
+
+        List<PlayerGameStats> lines = new Reader(cursor).readAll();
+        cursor.close();
+
+        AppLog.d(TAG, "Loaded %s box score lines for game %s", lines.size(), gameId);
+        return lines;
+    }
+
+    /**
+     * One player's line for a game, null if they have no recorded stats
+     */
+    public static PlayerGameStats findByGameAndPlayer(DatabaseHelper dbHelper, int gameId, int playerId) {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        Cursor cursor = db.query(
+            DatabaseHelper.TABLE_PLAYER_GAME_STATS,
+            null,
+            DatabaseHelper.PLAYER_STATS_COLUMN_GAME_ID + " = ? AND " + DatabaseHelper.PLAYER_STATS_COLUMN_PLAYER_ID + " = ?",
+            new String[]{String.valueOf(gameId), String.valueOf(playerId)},
+            null,
+            null,
+            null
+        );
+
+        PlayerGameStats line = new Reader(cursor).readFirst();
+        cursor.close();
+        return line;
+    }
+
+    /**
+     * Every game line for a player (player card game log)
+     */
+    public static List<PlayerGameStats> findByPlayerId(DatabaseHelper dbHelper, int playerId) {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        Cursor cursor = db.query(
+            DatabaseHelper.TABLE_PLAYER_GAME_STATS,
+            null,
+            DatabaseHelper.PLAYER_STATS_COLUMN_PLAYER_ID + " = ?",
+            new String[]{String.valueOf(playerId)},
+            null,
+            null,
+            DatabaseHelper.PLAYER_STATS_COLUMN_GAME_ID + " ASC"
+        );
+
+        List<PlayerGameStats> lines = new Reader(cursor).readAll();
+        cursor.close();
+        return lines;
+    }
+
+    // ========== ROW READER ==========
+
+    private static final class Reader extends RowReader<PlayerGameStats> {
+        private final int gameIdColumn;
+        private final int playerIdColumn;
+        private final int teamSideColumn;
+        private final int pointsColumn;
+        private final int fgm1Column;
+        private final int fga1Column;
+        private final int fgm2Column;
+        private final int fga2Column;
+        private final int fgm3Column;
+        private final int fga3Column;
+        private final int offensiveReboundsColumn;
+        private final int defensiveReboundsColumn;
+        private final int assistsColumn;
+        private final int stealsColumn;
+        private final int blocksColumn;
+        private final int turnoversColumn;
+        private final int foulsColumn;
+
+        Reader(Cursor cursor) {
+            super(cursor);
+            gameIdColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_GAME_ID);
+            playerIdColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_PLAYER_ID);
+            teamSideColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_TEAM_SIDE);
+            pointsColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_POINTS);
+            fgm1Column = column(DatabaseHelper.PLAYER_STATS_COLUMN_FGM_1);
+            fga1Column = column(DatabaseHelper.PLAYER_STATS_COLUMN_FGA_1);
+            fgm2Column = column(DatabaseHelper.PLAYER_STATS_COLUMN_FGM_2);
+            fga2Column = column(DatabaseHelper.PLAYER_STATS_COLUMN_FGA_2);
+            fgm3Column = column(DatabaseHelper.PLAYER_STATS_COLUMN_FGM_3);
+            fga3Column = column(DatabaseHelper.PLAYER_STATS_COLUMN_FGA_3);
+            offensiveReboundsColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_OFFENSIVE_REBOUNDS);
+            defensiveReboundsColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_DEFENSIVE_REBOUNDS);
+            assistsColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_ASSISTS);
+            stealsColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_STEALS);
+            blocksColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_BLOCKS);
+            turnoversColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_TURNOVERS);
+            foulsColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_FOULS);
+        }
+
+        @Override
+        public PlayerGameStats read() {
+            PlayerGameStats line = new PlayerGameStats();
+
+            line.gameId = getInt(gameIdColumn);
+            line.playerId = getInt(playerIdColumn);
+            line.teamSide = getString(teamSideColumn);
+            line.points = getInt(pointsColumn);
+            line.fgm1 = getInt(fgm1Column);
+            line.fga1 = getInt(fga1Column);
+            line.fgm2 = getInt(fgm2Column);
+            line.fga2 = getInt(fga2Column);
+            line.fgm3 = getInt(fgm3Column);
+            line.fga3 = getInt(fga3Column);
+            line.offensiveRebounds = getInt(offensiveReboundsColumn);
+            line.defensiveRebounds = getInt(defensiveReboundsColumn);
+            line.assists = getInt(assistsColumn);
+            line.steals = getInt(stealsColumn);
+            line.blocks = getInt(blocksColumn);
+            line.turnovers = getInt(turnoversColumn);
+            line.fouls = getInt(foulsColumn);
+
+            return line;
+        }
+    }
+}
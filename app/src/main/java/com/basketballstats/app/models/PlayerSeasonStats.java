@@ -0,0 +1,265 @@
+package com.basketballstats.app.models;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import com.basketballstats.app.data.DatabaseHelper;
+import com.basketballstats.app.data.RowReader;
+import com.basketballstats.app.utils.AppLog;
+
+import java.util.List;
+
+/**
+ * PlayerSeasonStats - One player's totals over every done game
+ *
+ * Read-only model over player_season_stats. DatabaseHelper triggers add a
+ * game's box score lines when it moves to "done" (GameActivity.transitionToDone)
+ * and subtract them when it is reopened (LogActivity reset) or deleted, so
+ * league pages read one indexed row per player instead of scanning games or events.
+ * - Leaderboards rank per-game averages through an expression index per Category
+ * - Repair: DatabaseHelper.rebuildSeasonStats() re-aggregates from player_game_stats
+ */
+public final class PlayerSeasonStats {
+    private static final String TAG = "PlayerSeasonStats";
+
+    /**
+     * Leaderboard categories (per game played)
+     */
+    public enum Category {
+        POINTS("PPG", DatabaseHelper.SEASON_STAT_POINTS),
+        REBOUNDS("RPG", DatabaseHelper.SEASON_STAT_REBOUNDS),
+        ASSISTS("APG", DatabaseHelper.SEASON_STAT_ASSISTS),
+        STEALS("SPG", DatabaseHelper.SEASON_STAT_STEALS),
+        BLOCKS("BPG", DatabaseHelper.SEASON_STAT_BLOCKS);
+
+        private final String label;
+        private final String statSql;
+
+        Category(String label, String statSql) {
+            this.label = label;
+            this.statSql = statSql;
+        }
+
+        public String getLabel() { return label; }
+    }
+
+    private int playerId;
+    private int teamId;
+    private int gamesPlayed;
+    private int points;
+    private int fgm1, fga1;
+    private int fgm2, fga2;
+    private int fgm3, fga3;
+    private int offensiveRebounds;
+    private int defensiveRebounds;
+    private int assists;
+    private int steals;
+    private int blocks;
+    private int turnovers;
+    private int fouls;
+
+    private PlayerSeasonStats() {}
+
+    // ========== GETTERS ==========
+
+    public int getPlayerId() { return playerId; }
+    public int getTeamId() { return teamId; }
+    public int getGamesPlayed() { return gamesPlayed; }
+    public int getPoints() { return points; }
+    public int getFgm1() { return fgm1; }
+    public int getFga1() { return fga1; }
+    public int getFgm2() { return fgm2; }
+    public int getFga2() { return fga2; }
+    public int getFgm3() { return fgm3; }
+    public int getFga3() { return fga3; }
+    public int getOffensiveRebounds() { return offensiveRebounds; }
+    public int getDefensiveRebounds() { return defensiveRebounds; }
+    public int getAssists() { return assists; }
+    public int getSteals() { return steals; }
+    public int getBlocks() { return blocks; }
+    public int getTurnovers() { return turnovers; }
+    public int getFouls() { return fouls; }
+
+    // ========== DERIVED STATS ==========
+
+    public int getRebounds() { return offensiveRebounds + defensiveRebounds; }
+
+    /**
+     * Season total for a leaderboard category
+     */
+    public int getTotal(Category category) {
+        switch (category) {
+            case POINTS: return points;
+            case REBOUNDS: return getRebounds();
+            case ASSISTS: return assists;
+            case STEALS: return steals;
+            case BLOCKS: return blocks;
+            default: return 0;
+        }
+    }
+
+    /**
+     * Per-game average for a leaderboard category (0 before any game)
+     */
+    public double getPerGame(Category category) {
+        return gamesPlayed > 0 ? (double) getTotal(category) / gamesPlayed : 0;
+    }
+
+    /**
+     * Field goal percentage (2s and 3s), 0 with no attempts
+     */
+    public double getFieldGoalPercentage() {
+        int attempts = fga2 + fga3;
+        return attempts > 0 ? 100.0 * (fgm2 + fgm3) / attempts : 0;
+    }
+
+    /**
+     * Season line: "12 GP, 14.5 PPG, 6.2 RPG, 3.1 APG"
+     */
+    public String getSummary() {
+        return String.format("%d GP, %.1f PPG, %.1f RPG, %.1f APG", gamesPlayed,
+            getPerGame(Category.POINTS), getPerGame(Category.REBOUNDS), getPerGame(Category.ASSISTS));
+    }
+
+    @Override
+    public String toString() {
+        return "Player " + playerId + " (team " + teamId + "): " + getSummary();
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * Season totals for a player, null before their first done game
+     */
+    public static PlayerSeasonStats findByPlayerId(DatabaseHelper dbHelper, int playerId) {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        Cursor cursor = db.query(
+            DatabaseHelper.TABLE_PLAYER_SEASON_STATS,
+            null,
+            DatabaseHelper.PLAYER_SEASON_COLUMN_PLAYER_ID + " = ?",
+            new String[]{String.valueOf(playerId)},
+            null,
+            null,
+            null
+        );
+
+        PlayerSeasonStats stats = new Reader(cursor).readFirst();
+        cursor.close();
+        return stats;
+    }
+
+    /**
+     * Season totals for a team's players, best scorers first
+     */
+    public static List<PlayerSeasonStats> findByTeamId(DatabaseHelper dbHelper, int teamId) {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        Cursor cursor = db.query(
+            DatabaseHelper.TABLE_PLAYER_SEASON_STATS,
+            null,
+            DatabaseHelper.PLAYER_SEASON_COLUMN_TEAM_ID + " = ?",
+            new String[]{String.valueOf(teamId)},
+            null,
+            null,
+            DatabaseHelper.perGame(DatabaseHelper.SEASON_STAT_POINTS) + " DESC"
+        );
+
+        List<PlayerSeasonStats> players = new Reader(cursor).readAll();
+        cursor.close();
+        return players;
+    }
+
+    /**
+     * Top-k league leaders for a category, walked from the category's index
+     * @param minGamesPlayed players below this many games are skipped (1 = everyone)
+     */
+    public static List<PlayerSeasonStats> findLeaders(DatabaseHelper dbHelper, Category category,
+                                                      int minGamesPlayed, int limit) {
+        long startTime = System.currentTimeMillis();
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        Cursor cursor = db.query(
+            DatabaseHelper.TABLE_PLAYER_SEASON_STATS,
+            null,
+            DatabaseHelper.PLAYER_SEASON_COLUMN_GAMES_PLAYED + " >= ?",
+            new String[]{String.valueOf(minGamesPlayed)},
+            null,
+            null,
+            DatabaseHelper.perGame(category.statSql) + " DESC",
+            String.valueOf(limit)
+        );
+
+        List<PlayerSeasonStats> leaders = new Reader(cursor).readAll();
+        cursor.close();
+
+        AppLog.d(TAG, "Loaded top %s %s leaders in %dms", leaders.size(), category.getLabel(),
+            System.currentTimeMillis() - startTime);
+        return leaders;
+    }
+
+    // ========== ROW READER ==========
+
+    private static final class Reader extends RowReader<PlayerSeasonStats> {
+        private final int playerIdColumn;
+        private final int teamIdColumn;
+        private final int gamesPlayedColumn;
+        private final int pointsColumn;
+        private final int fgm1Column;
+        private final int fga1Column;
+        private final int fgm2Column;
+        private final int fga2Column;
+        private final int fgm3Column;
+        private final int fga3Column;
+        private final int offensiveReboundsColumn;
+        private final int defensiveReboundsColumn;
+        private final int assistsColumn;
+        private final int stealsColumn;
+        private final int blocksColumn;
+        private final int turnoversColumn;
+        private final int foulsColumn;
+
+        Reader(Cursor cursor) {
+            super(cursor);
+            playerIdColumn = column(DatabaseHelper.PLAYER_SEASON_COLUMN_PLAYER_ID);
+            teamIdColumn = column(DatabaseHelper.PLAYER_SEASON_COLUMN_TEAM_ID);
+            gamesPlayedColumn = column(DatabaseHelper.PLAYER_SEASON_COLUMN_GAMES_PLAYED);
+            pointsColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_POINTS);
+            fgm1Column = column(DatabaseHelper.PLAYER_STATS_COLUMN_FGM_1);
+            fga1Column = column(DatabaseHelper.PLAYER_STATS_COLUMN_FGA_1);
+            fgm2Column = column(DatabaseHelper.PLAYER_STATS_COLUMN_FGM_2);
+            fga2Column = column(DatabaseHelper.PLAYER_STATS_COLUMN_FGA_2);
+            fgm3Column = column(DatabaseHelper.PLAYER_STATS_COLUMN_FGM_3);
+            fga3Column = column(DatabaseHelper.PLAYER_STATS_COLUMN_FGA_3);
+            offensiveReboundsColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_OFFENSIVE_REBOUNDS);
+            defensiveReboundsColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_DEFENSIVE_REBOUNDS);
+            assistsColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_ASSISTS);
+            stealsColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_STEALS);
+            blocksColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_BLOCKS);
+            turnoversColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_TURNOVERS);
+            foulsColumn = column(DatabaseHelper.PLAYER_STATS_COLUMN_FOULS);
+        }
+
+        @Override
+        public PlayerSeasonStats read() {
+            PlayerSeasonStats stats = new PlayerSeasonStats();
+
+            stats.playerId = getInt(playerIdColumn);
+            stats.teamId = getInt(teamIdColumn);
+            stats.gamesPlayed = getInt(gamesPlayedColumn);
+            stats.points = getInt(pointsColumn);
+            stats.fgm1 = getInt(fgm1Column);
+            stats.fga1 = getInt(fga1Column);
+            stats.fgm2 = getInt(fgm2Column);
+            stats.fga2 = getInt(fga2Column);
+            stats.fgm3 = getInt(fgm3Column);
+            stats.fga3 = getInt(fga3Column);
+            stats.offensiveRebounds = getInt(offensiveReboundsColumn);
+            stats.defensiveRebounds = getInt(defensiveReboundsColumn);
+            stats.assists = getInt(assistsColumn);
+            stats.steals = getInt(stealsColumn);
+            stats.blocks = getInt(blocksColumn);
+            stats.turnovers = getInt(turnoversColumn);
+            stats.fouls = getInt(foulsColumn);
+
+            return stats;
+        }
+    }
+}
@@ -3,9 +3,11 @@ package com.basketballstats.app.models;
 import android.content.ContentValues;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
-import android.util.Log;
 
 import com.basketballstats.app.data.DatabaseHelper;
+import com.basketballstats.app.data.TableCounters;
+import com.basketballstats.app.data.RowReader;
+import com.basketballstats.app.utils.AppLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -206,17 +208,21 @@ public class SyncQueue {
             String whereClause = DatabaseHelper.COLUMN_ID + " = ?";
             String[] whereArgs = {String.valueOf(id)};
             result = db.update(DatabaseHelper.TABLE_SYNC_QUEUE, values, whereClause, whereArgs);
-            Log.d(TAG, "Updated sync queue item: " + toString() + " (ID: " + id + ")");
+            AppLog.d(TAG, "Updated sync queue item: %s (ID: %s)", this, id);
         } else {
             // INSERT new queue item
             values.put(DatabaseHelper.COLUMN_CREATED_AT, getCurrentTimestamp());
             result = db.insert(DatabaseHelper.TABLE_SYNC_QUEUE, null, values);
             if (result != -1) {
                 this.id = (int) result;
-                Log.d(TAG, "Created sync queue item: " + toString() + " (ID: " + id + ")");
+                AppLog.d(TAG, "Created sync queue item: %s (ID: %s)", this, id);
             }
         }
         
+        if (result > 0) {
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_SYNC_QUEUE);
+        }
+        
         return result;
     }
     
@@ -225,7 +231,7 @@ public class SyncQueue {
      */
     public boolean delete(DatabaseHelper dbHelper) {
         if (id <= 0) {
-            Log.w(TAG, "Cannot delete sync queue item with invalid ID: " + id);
+            AppLog.w(TAG, "Cannot delete sync queue item with invalid ID: %s", id);
             return false;
         }
         
@@ -237,9 +243,10 @@ public class SyncQueue {
         boolean success = rowsAffected > 0;
         
         if (success) {
-            Log.d(TAG, "Deleted sync queue item: " + toString() + " (ID: " + id + ")");
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_SYNC_QUEUE);
+            AppLog.d(TAG, "Deleted sync queue item: %s (ID: %s)", this, id);
         } else {
-            Log.w(TAG, "Failed to delete sync queue item: " + toString() + " (ID: " + id + ")");
+            AppLog.w(TAG, "Failed to delete sync queue item: %s (ID: %s)", this, id);
         }
         
         return success;
@@ -265,7 +272,7 @@ public class SyncQueue {
         
         SyncQueue queueItem = null;
         if (cursor.moveToFirst()) {
-            queueItem = fromCursor(cursor);
+            queueItem = new Reader(cursor).read();
         }
         cursor.close();
         
@@ -291,12 +298,13 @@ public class SyncQueue {
             DatabaseHelper.COLUMN_CREATED_AT + " ASC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            queueItems.add(fromCursor(cursor));
+            queueItems.add(reader.read());
         }
         cursor.close();
         
-        Log.d(TAG, "Found " + queueItems.size() + " pending sync queue items");
+        AppLog.d(TAG, "Found %s pending sync queue items", queueItems.size());
         return queueItems;
     }
     
@@ -319,8 +327,9 @@ public class SyncQueue {
             DatabaseHelper.SYNC_QUEUE_COLUMN_LAST_ATTEMPT + " DESC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            queueItems.add(fromCursor(cursor));
+            queueItems.add(reader.read());
         }
         cursor.close();
         
@@ -347,8 +356,9 @@ public class SyncQueue {
             DatabaseHelper.COLUMN_CREATED_AT + " ASC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            queueItems.add(fromCursor(cursor));
+            queueItems.add(reader.read());
         }
         cursor.close();
         
@@ -377,7 +387,7 @@ public class SyncQueue {
         
         SyncQueue queueItem = null;
         if (cursor.moveToFirst()) {
-            queueItem = fromCursor(cursor);
+            queueItem = new Reader(cursor).read();
         }
         cursor.close();
         
@@ -390,7 +400,7 @@ public class SyncQueue {
     public static void clearAll(DatabaseHelper dbHelper) {
         SQLiteDatabase db = dbHelper.getWritableDatabase();
         int rowsDeleted = db.delete(DatabaseHelper.TABLE_SYNC_QUEUE, null, null);
-        Log.d(TAG, "Cleared " + rowsDeleted + " sync queue items");
+        AppLog.d(TAG, "Cleared %s sync queue items", rowsDeleted);
     }
     
     /**
@@ -400,7 +410,7 @@ public class SyncQueue {
         SQLiteDatabase db = dbHelper.getWritableDatabase();
         String whereClause = DatabaseHelper.SYNC_QUEUE_COLUMN_RETRY_COUNT + " >= " + DatabaseHelper.SYNC_QUEUE_COLUMN_MAX_RETRIES;
         int rowsDeleted = db.delete(DatabaseHelper.TABLE_SYNC_QUEUE, whereClause, null);
-        Log.d(TAG, "Cleared " + rowsDeleted + " failed sync queue items");
+        AppLog.d(TAG, "Cleared %s failed sync queue items", rowsDeleted);
     }
     
     /**
@@ -417,12 +427,13 @@ public class SyncQueue {
         
         Cursor cursor = db.rawQuery(sql, null);
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            operations.add(fromCursor(cursor));
+            operations.add(reader.read());
         }
         cursor.close();
         
-        Log.d(TAG, "Found " + operations.size() + " pending sync operations");
+        AppLog.d(TAG, "Found %s pending sync operations", operations.size());
         return operations;
     }
     
@@ -440,12 +451,13 @@ public class SyncQueue {
         
         Cursor cursor = db.rawQuery(sql, null);
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            operations.add(fromCursor(cursor));
+            operations.add(reader.read());
         }
         cursor.close();
         
-        Log.d(TAG, "Found " + operations.size() + " failed sync operations");
+        AppLog.d(TAG, "Found %s failed sync operations", operations.size());
         return operations;
     }
     
@@ -466,12 +478,13 @@ public class SyncQueue {
             DatabaseHelper.COLUMN_CREATED_AT + " DESC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            operations.add(fromCursor(cursor));
+            operations.add(reader.read());
         }
         cursor.close();
         
-        Log.d(TAG, "Loaded " + operations.size() + " sync queue operations");
+        AppLog.d(TAG, "Loaded %s sync queue operations", operations.size());
         return operations;
     }
     
@@ -509,24 +522,54 @@ public class SyncQueue {
     // ========== UTILITY METHODS ==========
     
     /**
-     * Create SyncQueue object from database cursor
+     * Reads SyncQueue rows - column indexes resolved once per cursor
      */
-    private static SyncQueue fromCursor(Cursor cursor) {
-        SyncQueue queueItem = new SyncQueue();
-        
-        queueItem.id = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_ID));
-        queueItem.tableName = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.SYNC_QUEUE_COLUMN_TABLE_NAME));
-        queueItem.recordId = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.SYNC_QUEUE_COLUMN_RECORD_ID));
-        queueItem.operation = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.SYNC_QUEUE_COLUMN_OPERATION));
-        queueItem.firebaseId = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_FIREBASE_ID));
-        queueItem.dataJson = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.SYNC_QUEUE_COLUMN_DATA_JSON));
-        queueItem.retryCount = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.SYNC_QUEUE_COLUMN_RETRY_COUNT));
-        queueItem.maxRetries = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.SYNC_QUEUE_COLUMN_MAX_RETRIES));
-        queueItem.lastAttempt = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.SYNC_QUEUE_COLUMN_LAST_ATTEMPT));
-        queueItem.errorMessage = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.SYNC_QUEUE_COLUMN_ERROR_MESSAGE));
-        queueItem.createdAt = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_CREATED_AT));
+    private static final class Reader extends RowReader<SyncQueue> {
+        private final int idColumn;
+        private final int tableNameColumn;
+        private final int recordIdColumn;
+        private final int operationColumn;
+        private final int firebaseIdColumn;
+        private final int dataJsonColumn;
+        private final int retryCountColumn;
+        private final int maxRetriesColumn;
+        private final int lastAttemptColumn;
+        private final int errorMessageColumn;
+        private final int createdAtColumn;
+        
+        Reader(Cursor cursor) {
+            super(cursor);
+            idColumn = column(DatabaseHelper.COLUMN_ID);
+            tableNameColumn = column(DatabaseHelper.SYNC_QUEUE_COLUMN_TABLE_NAME);
+            recordIdColumn = column(DatabaseHelper.SYNC_QUEUE_COLUMN_RECORD_ID);
+            operationColumn = column(DatabaseHelper.SYNC_QUEUE_COLUMN_OPERATION);
+            firebaseIdColumn = column(DatabaseHelper.COLUMN_FIREBASE_ID);
+            dataJsonColumn = column(DatabaseHelper.SYNC_QUEUE_COLUMN_DATA_JSON);
+            retryCountColumn = column(DatabaseHelper.SYNC_QUEUE_COLUMN_RETRY_COUNT);
+            maxRetriesColumn = column(DatabaseHelper.SYNC_QUEUE_COLUMN_MAX_RETRIES);
+            lastAttemptColumn = column(DatabaseHelper.SYNC_QUEUE_COLUMN_LAST_ATTEMPT);
+            errorMessageColumn = column(DatabaseHelper.SYNC_QUEUE_COLUMN_ERROR_MESSAGE);
+            createdAtColumn = column(DatabaseHelper.COLUMN_CREATED_AT);
+        }
         
-        return queueItem;
+        @Override
+        public SyncQueue read() {
+            SyncQueue queueItem = new SyncQueue();
+            
+            queueItem.id = getInt(idColumn);
+            queueItem.tableName = getString(tableNameColumn);
+            queueItem.recordId = getInt(recordIdColumn);
+            queueItem.operation = getString(operationColumn);
+            queueItem.firebaseId = getString(firebaseIdColumn);
+            queueItem.dataJson = getString(dataJsonColumn);
+            queueItem.retryCount = getInt(retryCountColumn);
+            queueItem.maxRetries = getInt(maxRetriesColumn);
+            queueItem.lastAttempt = getString(lastAttemptColumn);
+            queueItem.errorMessage = getString(errorMessageColumn);
+            queueItem.createdAt = getString(createdAtColumn);
+            
+            return queueItem;
+        }
     }
     
     /**
@@ -540,30 +583,14 @@ public class SyncQueue {
      * Get sync queue count
      */
     public static int getCount(DatabaseHelper dbHelper) {
-        SQLiteDatabase db = dbHelper.getReadableDatabase();
-        Cursor cursor = db.rawQuery("SELECT COUNT(*) FROM " + DatabaseHelper.TABLE_SYNC_QUEUE, null);
-        int count = 0;
-        if (cursor.moveToFirst()) {
-            count = cursor.getInt(0);
-        }
-        cursor.close();
-        return count;
+        return TableCounters.getTableCount(dbHelper, DatabaseHelper.TABLE_SYNC_QUEUE);
     }
     
     /**
-     * Get pending sync queue count
+     * Get pending sync queue count (retry_count < max_retries, maintained counter)
      */
     public static int getPendingCount(DatabaseHelper dbHelper) {
-        SQLiteDatabase db = dbHelper.getReadableDatabase();
-        String query = "SELECT COUNT(*) FROM " + DatabaseHelper.TABLE_SYNC_QUEUE + 
-                      " WHERE " + DatabaseHelper.SYNC_QUEUE_COLUMN_RETRY_COUNT + " < " + DatabaseHelper.SYNC_QUEUE_COLUMN_MAX_RETRIES;
-        Cursor cursor = db.rawQuery(query, null);
-        int count = 0;
-        if (cursor.moveToFirst()) {
-            count = cursor.getInt(0);
-        }
-        cursor.close();
-        return count;
+        return TableCounters.getPendingSyncCount(dbHelper);
     }
     
     // ========== OBJECT METHODS ==========
@@ -3,9 +3,13 @@ package com.basketballstats.app.models;
 import android.content.ContentValues;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
-import android.util.Log;
 
 import com.basketballstats.app.data.DatabaseHelper;
+import com.basketballstats.app.data.TableCounters;
+import com.basketballstats.app.data.DirtyColumnTracker;
+import com.basketballstats.app.data.ModelCache;
+import com.basketballstats.app.data.RowReader;
+import com.basketballstats.app.utils.AppLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +35,9 @@ public class Team {
     private String syncStatus;
     private String lastSyncTimestamp;
     
+    // Column-level change tracking (snapshot of last loaded/saved values)
+    private final DirtyColumnTracker dirtyColumns = new DirtyColumnTracker();
+    
     // Constructors
     public Team() {
         this.players = new ArrayList<>();
@@ -148,40 +155,63 @@ public class Team {
      */
     public long save(DatabaseHelper dbHelper) {
         SQLiteDatabase db = dbHelper.getWritableDatabase();
-        ContentValues values = new ContentValues();
-        
-        values.put(DatabaseHelper.TEAMS_COLUMN_NAME, name);
-        values.put(DatabaseHelper.COLUMN_UPDATED_AT, getCurrentTimestamp());
-        values.put(DatabaseHelper.COLUMN_FIREBASE_ID, firebaseId);
-        values.put(DatabaseHelper.COLUMN_SYNC_STATUS, syncStatus);
-        values.put(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP, lastSyncTimestamp);
+        ContentValues values = toContentValues();
         
         long result;
         if (id > 0) {
-            // UPDATE existing team
+            // UPDATE existing team - only columns changed since load/last save
+            ContentValues changed = dirtyColumns.changedColumns(values);
+            if (changed.size() == 0) {
+                AppLog.d(TAG, "Team unchanged, skipping save (ID: %s)", id);
+                return 1; // Row already up to date
+            }
+            if (DirtyColumnTracker.hasDataChanges(changed)) {
+                changed.put(DatabaseHelper.COLUMN_UPDATED_AT, getCurrentTimestamp());
+            }
             String whereClause = DatabaseHelper.COLUMN_ID + " = ?";
             String[] whereArgs = {String.valueOf(id)};
-            result = db.update(DatabaseHelper.TABLE_TEAMS, values, whereClause, whereArgs);
-            Log.d(TAG, "Updated team: " + name + " (ID: " + id + ")");
+            result = db.update(DatabaseHelper.TABLE_TEAMS, changed, whereClause, whereArgs);
+            AppLog.d(TAG, "Updated team: %s (ID: %s)", name, id);
         } else {
             // INSERT new team
             values.put(DatabaseHelper.COLUMN_CREATED_AT, getCurrentTimestamp());
+            values.put(DatabaseHelper.COLUMN_UPDATED_AT, getCurrentTimestamp());
             result = db.insert(DatabaseHelper.TABLE_TEAMS, null, values);
             if (result != -1) {
                 this.id = (int) result;
-                Log.d(TAG, "Created team: " + name + " (ID: " + id + ")");
+                AppLog.d(TAG, "Created team: %s (ID: %s)", name, id);
             }
         }
         
+        if (result > 0) {
+            dirtyColumns.markPersisted(values);
+            ModelCache.teams().put(id, this);
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_TEAMS);
+        }
+        
         return result;
     }
     
+    /**
+     * Persistent column values (timestamps are added by save)
+     */
+    private ContentValues toContentValues() {
+        ContentValues values = new ContentValues();
+        
+        values.put(DatabaseHelper.TEAMS_COLUMN_NAME, name);
+        values.put(DatabaseHelper.COLUMN_FIREBASE_ID, firebaseId);
+        values.put(DatabaseHelper.COLUMN_SYNC_STATUS, syncStatus);
+        values.put(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP, lastSyncTimestamp);
+        
+        return values;
+    }
+    
     /**
      * Delete team from database
      */
     public boolean delete(DatabaseHelper dbHelper) {
         if (id <= 0) {
-            Log.w(TAG, "Cannot delete team with invalid ID: " + id);
+            AppLog.w(TAG, "Cannot delete team with invalid ID: %s", id);
             return false;
         }
         
@@ -192,10 +222,13 @@ public class Team {
         int rowsAffected = db.delete(DatabaseHelper.TABLE_TEAMS, whereClause, whereArgs);
         boolean success = rowsAffected > 0;
         
+        ModelCache.teams().invalidate(id);
+        ModelCache.invalidateTable(DatabaseHelper.TABLE_TEAM_PLAYERS); // Players cascade-deleted with the team
         if (success) {
-            Log.d(TAG, "Deleted team: " + name + " (ID: " + id + ")");
+            dbHelper.getInvalidationTracker().notifyTablesChanged(DatabaseHelper.TABLE_TEAMS, DatabaseHelper.TABLE_TEAM_PLAYERS);
+            AppLog.d(TAG, "Deleted team: %s (ID: %s)", name, id);
         } else {
-            Log.w(TAG, "Failed to delete team: " + name + " (ID: " + id + ")");
+            AppLog.w(TAG, "Failed to delete team: %s (ID: %s)", name, id);
         }
         
         return success;
@@ -205,6 +238,11 @@ public class Team {
      * Load team from database by ID
      */
     public static Team findById(DatabaseHelper dbHelper, int teamId) {
+        Team cached = ModelCache.teams().get(teamId);
+        if (cached != null) {
+            return cached;
+        }
+        
         SQLiteDatabase db = dbHelper.getReadableDatabase();
         String selection = DatabaseHelper.COLUMN_ID + " = ?";
         String[] selectionArgs = {String.valueOf(teamId)};
@@ -221,7 +259,7 @@ public class Team {
         
         Team team = null;
         if (cursor.moveToFirst()) {
-            team = fromCursor(cursor);
+            team = new Reader(cursor).read();
         }
         cursor.close();
         
@@ -248,7 +286,7 @@ public class Team {
         
         Team team = null;
         if (cursor.moveToFirst()) {
-            team = fromCursor(cursor);
+            team = new Reader(cursor).read();
         }
         cursor.close();
         
@@ -272,12 +310,13 @@ public class Team {
             DatabaseHelper.TEAMS_COLUMN_NAME + " ASC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            teams.add(fromCursor(cursor));
+            teams.add(reader.read());
         }
         cursor.close();
         
-        Log.d(TAG, "Loaded " + teams.size() + " teams from database");
+        AppLog.d(TAG, "Loaded %s teams from database", teams.size());
         return teams;
     }
     
@@ -301,8 +340,9 @@ public class Team {
             DatabaseHelper.COLUMN_UPDATED_AT + " ASC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            teams.add(fromCursor(cursor));
+            teams.add(reader.read());
         }
         cursor.close();
         
@@ -314,12 +354,12 @@ public class Team {
      */
     public void loadPlayers(DatabaseHelper dbHelper) {
         if (id <= 0) {
-            Log.w(TAG, "Cannot load players for team with invalid ID: " + id);
+            AppLog.w(TAG, "Cannot load players for team with invalid ID: %s", id);
             return;
         }
         
         this.players = TeamPlayer.findByTeamId(dbHelper, id);
-        Log.d(TAG, "Loaded " + players.size() + " players for team: " + name);
+        AppLog.d(TAG, "Loaded %s players for team: %s", players.size(), name);
     }
     
     /**
@@ -346,20 +386,52 @@ public class Team {
     // ========== UTILITY METHODS ==========
     
     /**
-     * Create Team object from database cursor
+     * Reads Team rows - column indexes resolved once per cursor
+     * Returns the cached instance when the row is already in the identity map
      */
-    private static Team fromCursor(Cursor cursor) {
-        Team team = new Team();
+    private static final class Reader extends RowReader<Team> {
+        private final int idColumn;
+        private final int nameColumn;
+        private final int createdAtColumn;
+        private final int updatedAtColumn;
+        private final int firebaseIdColumn;
+        private final int syncStatusColumn;
+        private final int lastSyncTimestampColumn;
         
-        team.id = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_ID));
-        team.name = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.TEAMS_COLUMN_NAME));
-        team.createdAt = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_CREATED_AT));
-        team.updatedAt = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_UPDATED_AT));
-        team.firebaseId = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_FIREBASE_ID));
-        team.syncStatus = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_SYNC_STATUS));
-        team.lastSyncTimestamp = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP));
+        Reader(Cursor cursor) {
+            super(cursor);
+            idColumn = column(DatabaseHelper.COLUMN_ID);
+            nameColumn = column(DatabaseHelper.TEAMS_COLUMN_NAME);
+            createdAtColumn = column(DatabaseHelper.COLUMN_CREATED_AT);
+            updatedAtColumn = column(DatabaseHelper.COLUMN_UPDATED_AT);
+            firebaseIdColumn = column(DatabaseHelper.COLUMN_FIREBASE_ID);
+            syncStatusColumn = column(DatabaseHelper.COLUMN_SYNC_STATUS);
+            lastSyncTimestampColumn = column(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP);
+        }
         
-        return team;
+        @Override
+        public Team read() {
+            int teamId = getInt(idColumn);
+            Team cached = ModelCache.teams().get(teamId);
+            if (cached != null) {
+                return cached;
+            }
+            
+            Team team = new Team();
+            
+            team.id = teamId;
+            team.name = getString(nameColumn);
+            team.createdAt = getString(createdAtColumn);
+            team.updatedAt = getString(updatedAtColumn);
+            team.firebaseId = getString(firebaseIdColumn);
+            team.syncStatus = getString(syncStatusColumn);
+            team.lastSyncTimestamp = getString(lastSyncTimestampColumn);
+            
+            team.dirtyColumns.markPersisted(team.toContentValues());
+            
+            ModelCache.teams().put(team.id, team);
+            return team;
+        }
     }
     
     /**
@@ -377,17 +449,10 @@ public class Team {
     }
     
     /**
-     * Get team count
+     * Get team count (maintained counter, no table scan)
      */
     public static int getCount(DatabaseHelper dbHelper) {
-        SQLiteDatabase db = dbHelper.getReadableDatabase();
-        Cursor cursor = db.rawQuery("SELECT COUNT(*) FROM " + DatabaseHelper.TABLE_TEAMS, null);
-        int count = 0;
-        if (cursor.moveToFirst()) {
-            count = cursor.getInt(0);
-        }
-        cursor.close();
-        return count;
+        return TableCounters.getTableCount(dbHelper, DatabaseHelper.TABLE_TEAMS);
     }
     
     /**
@@ -414,7 +479,7 @@ public class Team {
         
         Team team = null;
         if (cursor.moveToFirst()) {
-            team = fromCursor(cursor);
+            team = new Reader(cursor).read();
         }
         cursor.close();
         
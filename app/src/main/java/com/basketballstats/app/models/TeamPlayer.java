@@ -3,9 +3,13 @@ package com.basketballstats.app.models;
 import android.content.ContentValues;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
-import android.util.Log;
 
 import com.basketballstats.app.data.DatabaseHelper;
+import com.basketballstats.app.data.TableCounters;
+import com.basketballstats.app.data.DirtyColumnTracker;
+import com.basketballstats.app.data.ModelCache;
+import com.basketballstats.app.data.RowReader;
+import com.basketballstats.app.utils.AppLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -33,6 +37,9 @@ public class TeamPlayer {
     private String syncStatus;
     private String lastSyncTimestamp;
     
+    // Column-level change tracking (snapshot of last loaded/saved values)
+    private final DirtyColumnTracker dirtyColumns = new DirtyColumnTracker();
+    
     // Constructors
     public TeamPlayer() {
         this.isSelected = false;
@@ -123,42 +130,65 @@ public class TeamPlayer {
      */
     public long save(DatabaseHelper dbHelper) {
         SQLiteDatabase db = dbHelper.getWritableDatabase();
-        ContentValues values = new ContentValues();
-        
-        values.put(DatabaseHelper.TEAM_PLAYERS_COLUMN_TEAM_ID, teamId);
-        values.put(DatabaseHelper.TEAM_PLAYERS_COLUMN_JERSEY_NUMBER, jerseyNumber);
-        values.put(DatabaseHelper.TEAM_PLAYERS_COLUMN_NAME, name);
-        values.put(DatabaseHelper.COLUMN_UPDATED_AT, getCurrentTimestamp());
-        values.put(DatabaseHelper.COLUMN_FIREBASE_ID, firebaseId);
-        values.put(DatabaseHelper.COLUMN_SYNC_STATUS, syncStatus);
-        values.put(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP, lastSyncTimestamp);
+        ContentValues values = toContentValues();
         
         long result;
         if (id > 0) {
-            // UPDATE existing player
+            // UPDATE existing player - only columns changed since load/last save
+            ContentValues changed = dirtyColumns.changedColumns(values);
+            if (changed.size() == 0) {
+                AppLog.d(TAG, "Player unchanged, skipping save (ID: %s)", id);
+                return 1; // Row already up to date
+            }
+            if (DirtyColumnTracker.hasDataChanges(changed)) {
+                changed.put(DatabaseHelper.COLUMN_UPDATED_AT, getCurrentTimestamp());
+            }
             String whereClause = DatabaseHelper.COLUMN_ID + " = ?";
             String[] whereArgs = {String.valueOf(id)};
-            result = db.update(DatabaseHelper.TABLE_TEAM_PLAYERS, values, whereClause, whereArgs);
-            Log.d(TAG, "Updated player: " + name + " #" + jerseyNumber + " (ID: " + id + ")");
+            result = db.update(DatabaseHelper.TABLE_TEAM_PLAYERS, changed, whereClause, whereArgs);
+            AppLog.d(TAG, "Updated player: %s #%s (ID: %s)", name, jerseyNumber, id);
         } else {
             // INSERT new player
             values.put(DatabaseHelper.COLUMN_CREATED_AT, getCurrentTimestamp());
+            values.put(DatabaseHelper.COLUMN_UPDATED_AT, getCurrentTimestamp());
             result = db.insert(DatabaseHelper.TABLE_TEAM_PLAYERS, null, values);
             if (result != -1) {
                 this.id = (int) result;
-                Log.d(TAG, "Created player: " + name + " #" + jerseyNumber + " (ID: " + id + ")");
+                AppLog.d(TAG, "Created player: %s #%s (ID: %s)", name, jerseyNumber, id);
             }
         }
         
+        if (result > 0) {
+            dirtyColumns.markPersisted(values);
+            ModelCache.teamPlayers().put(id, this);
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_TEAM_PLAYERS);
+        }
+        
         return result;
     }
     
+    /**
+     * Persistent column values (timestamps are added by save)
+     */
+    private ContentValues toContentValues() {
+        ContentValues values = new ContentValues();
+        
+        values.put(DatabaseHelper.TEAM_PLAYERS_COLUMN_TEAM_ID, teamId);
+        values.put(DatabaseHelper.TEAM_PLAYERS_COLUMN_JERSEY_NUMBER, jerseyNumber);
+        values.put(DatabaseHelper.TEAM_PLAYERS_COLUMN_NAME, name);
+        values.put(DatabaseHelper.COLUMN_FIREBASE_ID, firebaseId);
+        values.put(DatabaseHelper.COLUMN_SYNC_STATUS, syncStatus);
+        values.put(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP, lastSyncTimestamp);
+        
+        return values;
+    }
+    
     /**
      * Delete player from database
      */
     public boolean delete(DatabaseHelper dbHelper) {
         if (id <= 0) {
-            Log.w(TAG, "Cannot delete player with invalid ID: " + id);
+            AppLog.w(TAG, "Cannot delete player with invalid ID: %s", id);
             return false;
         }
         
@@ -169,10 +199,12 @@ public class TeamPlayer {
         int rowsAffected = db.delete(DatabaseHelper.TABLE_TEAM_PLAYERS, whereClause, whereArgs);
         boolean success = rowsAffected > 0;
         
+        ModelCache.teamPlayers().invalidate(id);
         if (success) {
-            Log.d(TAG, "Deleted player: " + name + " #" + jerseyNumber + " (ID: " + id + ")");
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_TEAM_PLAYERS);
+            AppLog.d(TAG, "Deleted player: %s #%s (ID: %s)", name, jerseyNumber, id);
         } else {
-            Log.w(TAG, "Failed to delete player: " + name + " #" + jerseyNumber + " (ID: " + id + ")");
+            AppLog.w(TAG, "Failed to delete player: " + name + " #" + jerseyNumber + " (ID: " + id + ")");
         }
         
         return success;
@@ -182,6 +214,11 @@ public class TeamPlayer {
      * Load player from database by ID
      */
     public static TeamPlayer findById(DatabaseHelper dbHelper, int playerId) {
+        TeamPlayer cached = ModelCache.teamPlayers().get(playerId);
+        if (cached != null) {
+            return cached;
+        }
+        
         SQLiteDatabase db = dbHelper.getReadableDatabase();
         String selection = DatabaseHelper.COLUMN_ID + " = ?";
         String[] selectionArgs = {String.valueOf(playerId)};
@@ -198,7 +235,7 @@ public class TeamPlayer {
         
         TeamPlayer player = null;
         if (cursor.moveToFirst()) {
-            player = fromCursor(cursor);
+            player = new Reader(cursor).read();
         }
         cursor.close();
         
@@ -225,12 +262,49 @@ public class TeamPlayer {
             DatabaseHelper.TEAM_PLAYERS_COLUMN_JERSEY_NUMBER + " ASC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            players.add(fromCursor(cursor));
+            players.add(reader.read());
         }
         cursor.close();
         
-        Log.d(TAG, "Loaded " + players.size() + " players for team ID: " + teamId);
+        AppLog.d(TAG, "Loaded %s players for team ID: %s", players.size(), teamId);
+        return players;
+    }
+    
+    /**
+     * Get the rosters of several teams in one query (ordered by team, then jersey number)
+     */
+    public static List<TeamPlayer> findByTeamIds(DatabaseHelper dbHelper, int... teamIds) {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        List<TeamPlayer> players = new ArrayList<>();
+        if (teamIds.length == 0) return players;
+        
+        StringBuilder placeholders = new StringBuilder();
+        String[] selectionArgs = new String[teamIds.length];
+        for (int i = 0; i < teamIds.length; i++) {
+            placeholders.append(i == 0 ? "?" : ", ?");
+            selectionArgs[i] = String.valueOf(teamIds[i]);
+        }
+        
+        Cursor cursor = db.query(
+            DatabaseHelper.TABLE_TEAM_PLAYERS,
+            null,
+            DatabaseHelper.TEAM_PLAYERS_COLUMN_TEAM_ID + " IN (" + placeholders + ")",
+            selectionArgs,
+            null,
+            null,
+            DatabaseHelper.TEAM_PLAYERS_COLUMN_TEAM_ID + " ASC, " + 
+            DatabaseHelper.TEAM_PLAYERS_COLUMN_JERSEY_NUMBER + " ASC"
+        );
+        
+        try {
+            players = new Reader(cursor).readAll();
+        } finally {
+            cursor.close();
+        }
+        
+        AppLog.d(TAG, "Loaded %s players for %s teams", players.size(), teamIds.length);
         return players;
     }
     
@@ -254,8 +328,9 @@ public class TeamPlayer {
             DatabaseHelper.COLUMN_UPDATED_AT + " ASC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            players.add(fromCursor(cursor));
+            players.add(reader.read());
         }
         cursor.close();
         
@@ -316,23 +391,101 @@ public class TeamPlayer {
     
     // ========== UTILITY METHODS ==========
     
+    // ========== JOIN SUPPORT ==========
+    
+    private static final String[] COLUMNS = {
+        DatabaseHelper.COLUMN_ID,
+        DatabaseHelper.TEAM_PLAYERS_COLUMN_TEAM_ID,
+        DatabaseHelper.TEAM_PLAYERS_COLUMN_JERSEY_NUMBER,
+        DatabaseHelper.TEAM_PLAYERS_COLUMN_NAME,
+        DatabaseHelper.COLUMN_CREATED_AT,
+        DatabaseHelper.COLUMN_UPDATED_AT,
+        DatabaseHelper.COLUMN_FIREBASE_ID,
+        DatabaseHelper.COLUMN_SYNC_STATUS,
+        DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP
+    };
+    
+    /**
+     * Select list for a joined team_players alias, e.g. "p.id AS p_id, p.team_id AS p_team_id, ..."
+     */
+    static String joinedColumns(String alias, String prefix) {
+        StringBuilder sb = new StringBuilder();
+        for (String column : COLUMNS) {
+            if (sb.length() > 0) sb.append(", ");
+            sb.append(alias).append('.').append(column).append(" AS ").append(prefix).append(column);
+        }
+        return sb.toString();
+    }
+    
+    /**
+     * Reader for a joined (LEFT JOIN) team_players row by column prefix
+     * read() returns null when the join found no row
+     */
+    static RowReader<TeamPlayer> joinedReader(Cursor cursor, String prefix) {
+        return new Reader(cursor, prefix);
+    }
+    
     /**
-     * Create TeamPlayer object from database cursor
+     * Reads TeamPlayer rows - column indexes resolved once per cursor
+     * Returns the cached instance when the row is already in the identity map
      */
-    private static TeamPlayer fromCursor(Cursor cursor) {
-        TeamPlayer player = new TeamPlayer();
-        
-        player.id = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_ID));
-        player.teamId = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.TEAM_PLAYERS_COLUMN_TEAM_ID));
-        player.jerseyNumber = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.TEAM_PLAYERS_COLUMN_JERSEY_NUMBER));
-        player.name = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.TEAM_PLAYERS_COLUMN_NAME));
-        player.createdAt = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_CREATED_AT));
-        player.updatedAt = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_UPDATED_AT));
-        player.firebaseId = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_FIREBASE_ID));
-        player.syncStatus = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_SYNC_STATUS));
-        player.lastSyncTimestamp = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP));
+    private static final class Reader extends RowReader<TeamPlayer> {
+        private final int idColumn;
+        private final int teamIdColumn;
+        private final int jerseyNumberColumn;
+        private final int nameColumn;
+        private final int createdAtColumn;
+        private final int updatedAtColumn;
+        private final int firebaseIdColumn;
+        private final int syncStatusColumn;
+        private final int lastSyncTimestampColumn;
+        
+        Reader(Cursor cursor) {
+            this(cursor, "");
+        }
         
-        return player;
+        Reader(Cursor cursor, String prefix) {
+            super(cursor, prefix);
+            idColumn = column(DatabaseHelper.COLUMN_ID);
+            teamIdColumn = column(DatabaseHelper.TEAM_PLAYERS_COLUMN_TEAM_ID);
+            jerseyNumberColumn = column(DatabaseHelper.TEAM_PLAYERS_COLUMN_JERSEY_NUMBER);
+            nameColumn = column(DatabaseHelper.TEAM_PLAYERS_COLUMN_NAME);
+            createdAtColumn = column(DatabaseHelper.COLUMN_CREATED_AT);
+            updatedAtColumn = column(DatabaseHelper.COLUMN_UPDATED_AT);
+            firebaseIdColumn = column(DatabaseHelper.COLUMN_FIREBASE_ID);
+            syncStatusColumn = column(DatabaseHelper.COLUMN_SYNC_STATUS);
+            lastSyncTimestampColumn = column(DatabaseHelper.COLUMN_LAST_SYNC_TIMESTAMP);
+        }
+        
+        @Override
+        public TeamPlayer read() {
+            if (isNull(idColumn)) {
+                return null; // LEFT JOIN without a matching player
+            }
+            
+            int playerId = getInt(idColumn);
+            TeamPlayer cached = ModelCache.teamPlayers().get(playerId);
+            if (cached != null) {
+                return cached;
+            }
+            
+            TeamPlayer player = new TeamPlayer();
+            
+            player.id = playerId;
+            player.teamId = getInt(teamIdColumn);
+            player.jerseyNumber = getInt(jerseyNumberColumn);
+            player.name = getString(nameColumn);
+            player.createdAt = getString(createdAtColumn);
+            player.updatedAt = getString(updatedAtColumn);
+            player.firebaseId = getString(firebaseIdColumn);
+            player.syncStatus = getString(syncStatusColumn);
+            player.lastSyncTimestamp = getString(lastSyncTimestampColumn);
+            
+            player.dirtyColumns.markPersisted(player.toContentValues());
+            
+            ModelCache.teamPlayers().put(player.id, player);
+            return player;
+        }
     }
     
     /**
@@ -343,21 +496,10 @@ public class TeamPlayer {
     }
     
     /**
-     * Get player count for team
+     * Get player count for team (maintained counter, no table scan)
      */
     public static int getCountForTeam(DatabaseHelper dbHelper, int teamId) {
-        SQLiteDatabase db = dbHelper.getReadableDatabase();
-        String query = "SELECT COUNT(*) FROM " + DatabaseHelper.TABLE_TEAM_PLAYERS + 
-                      " WHERE " + DatabaseHelper.TEAM_PLAYERS_COLUMN_TEAM_ID + " = ?";
-        String[] selectionArgs = {String.valueOf(teamId)};
-        
-        Cursor cursor = db.rawQuery(query, selectionArgs);
-        int count = 0;
-        if (cursor.moveToFirst()) {
-            count = cursor.getInt(0);
-        }
-        cursor.close();
-        return count;
+        return TableCounters.getPlayerCountForTeam(dbHelper, teamId);
     }
     
     // ========== OBJECT METHODS ==========
@@ -400,12 +542,13 @@ public class TeamPlayer {
             DatabaseHelper.TEAM_PLAYERS_COLUMN_JERSEY_NUMBER + " ASC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            teamPlayers.add(fromCursor(cursor));
+            teamPlayers.add(reader.read());
         }
         cursor.close();
         
-        Log.d(TAG, "Loaded " + teamPlayers.size() + " team players");
+        AppLog.d(TAG, "Loaded %s team players", teamPlayers.size());
         return teamPlayers;
     }
     
@@ -413,15 +556,6 @@ public class TeamPlayer {
      * Get total count of all team players
      */
     public static int getTotalCount(DatabaseHelper dbHelper) {
-        SQLiteDatabase db = dbHelper.getReadableDatabase();
-        Cursor cursor = db.rawQuery("SELECT COUNT(*) FROM " + DatabaseHelper.TABLE_TEAM_PLAYERS, null);
-        
-        int count = 0;
-        if (cursor.moveToFirst()) {
-            count = cursor.getInt(0);
-        }
-        cursor.close();
-        
-        return count;
+        return TableCounters.getTableCount(dbHelper, DatabaseHelper.TABLE_TEAM_PLAYERS);
     }
 }
@@ -0,0 +1,149 @@
+package com.basketballstats.app.models;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import com.basketballstats.app.data.DatabaseHelper;
+import com.basketballstats.app.data.RowReader;
+import com.basketballstats.app.utils.AppLog;
+
+import java.util.List;
+
+/**
+ * TeamSeasonStats - One team's record and points over every done game
+ *
+ * Read-only model over team_season_stats, which DatabaseHelper triggers keep
+ * equal to the sum of done games (status changes, score edits after the final
+ * buzzer and deletes included). Standings are one index walk, not a games scan.
+ * - A tied final counts as a game played but neither a win nor a loss
+ */
+public final class TeamSeasonStats {
+    private static final String TAG = "TeamSeasonStats";
+
+    private int teamId;
+    private int gamesPlayed;
+    private int wins;
+    private int losses;
+    private int pointsFor;
+    private int pointsAgainst;
+
+    private TeamSeasonStats() {}
+
+    // ========== GETTERS ==========
+
+    public int getTeamId() { return teamId; }
+    public int getGamesPlayed() { return gamesPlayed; }
+    public int getWins() { return wins; }
+    public int getLosses() { return losses; }
+    public int getPointsFor() { return pointsFor; }
+    public int getPointsAgainst() { return pointsAgainst; }
+
+    // ========== DERIVED STATS ==========
+
+    public double getWinPercentage() {
+        return gamesPlayed > 0 ? (double) wins / gamesPlayed : 0;
+    }
+
+    public double getPointsPerGame() {
+        return gamesPlayed > 0 ? (double) pointsFor / gamesPlayed : 0;
+    }
+
+    public double getOpponentPointsPerGame() {
+        return gamesPlayed > 0 ? (double) pointsAgainst / gamesPlayed : 0;
+    }
+
+    public int getPointDifferential() { return pointsFor - pointsAgainst; }
+
+    /**
+     * Win-loss record: "12-3"
+     */
+    public String getRecord() {
+        return wins + "-" + losses;
+    }
+
+    @Override
+    public String toString() {
+        return "Team " + teamId + ": " + getRecord() + String.format(", %.1f PPG, %.1f OPP",
+            getPointsPerGame(), getOpponentPointsPerGame());
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * Season record for a team, null before its first done game
+     */
+    public static TeamSeasonStats findByTeamId(DatabaseHelper dbHelper, int teamId) {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        Cursor cursor = db.query(
+            DatabaseHelper.TABLE_TEAM_SEASON_STATS,
+            null,
+            DatabaseHelper.TEAM_SEASON_COLUMN_TEAM_ID + " = ?",
+            new String[]{String.valueOf(teamId)},
+            null,
+            null,
+            null
+        );
+
+        TeamSeasonStats stats = new Reader(cursor).readFirst();
+        cursor.close();
+        return stats;
+    }
+
+    /**
+     * League standings - win percentage, then point differential (teams without a done game omitted)
+     */
+    public static List<TeamSeasonStats> findStandings(DatabaseHelper dbHelper) {
+        long startTime = System.currentTimeMillis();
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        Cursor cursor = db.query(
+            DatabaseHelper.TABLE_TEAM_SEASON_STATS,
+            null,
+            null,
+            null,
+            null,
+            null,
+            DatabaseHelper.TEAM_SEASON_STANDINGS_ORDER
+        );
+
+        List<TeamSeasonStats> standings = new Reader(cursor).readAll();
+        cursor.close();
+
+        AppLog.d(TAG, "Loaded standings for %s teams in %dms", standings.size(), System.currentTimeMillis() - startTime);
+        return standings;
+    }
+
+    // ========== ROW READER ==========
+
+    private static final class Reader extends RowReader<TeamSeasonStats> {
+        private final int teamIdColumn;
+        private final int gamesPlayedColumn;
+        private final int winsColumn;
+        private final int lossesColumn;
+        private final int pointsForColumn;
+        private final int pointsAgainstColumn;
+
+        Reader(Cursor cursor) {
+            super(cursor);
+            teamIdColumn = column(DatabaseHelper.TEAM_SEASON_COLUMN_TEAM_ID);
+            gamesPlayedColumn = column(DatabaseHelper.TEAM_SEASON_COLUMN_GAMES_PLAYED);
+            winsColumn = column(DatabaseHelper.TEAM_SEASON_COLUMN_WINS);
+            lossesColumn = column(DatabaseHelper.TEAM_SEASON_COLUMN_LOSSES);
+            pointsForColumn = column(DatabaseHelper.TEAM_SEASON_COLUMN_POINTS_FOR);
+            pointsAgainstColumn = column(DatabaseHelper.TEAM_SEASON_COLUMN_POINTS_AGAINST);
+        }
+
+        @Override
+        public TeamSeasonStats read() {
+            TeamSeasonStats stats = new TeamSeasonStats();
+
+            stats.teamId = getInt(teamIdColumn);
+            stats.gamesPlayed = getInt(gamesPlayedColumn);
+            stats.wins = getInt(winsColumn);
+            stats.losses = getInt(lossesColumn);
+            stats.pointsFor = getInt(pointsForColumn);
+            stats.pointsAgainst = getInt(pointsAgainstColumn);
+
+            return stats;
+        }
+    }
+}
@@ -3,9 +3,11 @@ package com.basketballstats.app.models;
 import android.content.ContentValues;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
-import android.util.Log;
 
 import com.basketballstats.app.data.DatabaseHelper;
+import com.basketballstats.app.data.TableCounters;
+import com.basketballstats.app.data.RowReader;
+import com.basketballstats.app.utils.AppLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -176,17 +178,21 @@ public class UserProfile {
             String whereClause = DatabaseHelper.COLUMN_ID + " = ?";
             String[] whereArgs = {String.valueOf(id)};
             result = db.update(DatabaseHelper.TABLE_USER_PROFILE, values, whereClause, whereArgs);
-            Log.d(TAG, "Updated user profile: " + toString() + " (ID: " + id + ")");
+            AppLog.d(TAG, "Updated user profile: %s (ID: %s)", this, id);
         } else {
             // INSERT new user profile
             values.put(DatabaseHelper.COLUMN_CREATED_AT, getCurrentTimestamp());
             result = db.insert(DatabaseHelper.TABLE_USER_PROFILE, null, values);
             if (result != -1) {
                 this.id = (int) result;
-                Log.d(TAG, "Created user profile: " + toString() + " (ID: " + id + ")");
+                AppLog.d(TAG, "Created user profile: %s (ID: %s)", this, id);
             }
         }
         
+        if (result > 0) {
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_USER_PROFILE);
+        }
+        
         return result;
     }
     
@@ -195,7 +201,7 @@ public class UserProfile {
      */
     public boolean delete(DatabaseHelper dbHelper) {
         if (id <= 0) {
-            Log.w(TAG, "Cannot delete user profile with invalid ID: " + id);
+            AppLog.w(TAG, "Cannot delete user profile with invalid ID: %s", id);
             return false;
         }
         
@@ -207,9 +213,10 @@ public class UserProfile {
         boolean success = rowsAffected > 0;
         
         if (success) {
-            Log.d(TAG, "Deleted user profile: " + toString() + " (ID: " + id + ")");
+            dbHelper.notifyTableChanged(DatabaseHelper.TABLE_USER_PROFILE);
+            AppLog.d(TAG, "Deleted user profile: %s (ID: %s)", this, id);
         } else {
-            Log.w(TAG, "Failed to delete user profile: " + toString() + " (ID: " + id + ")");
+            AppLog.w(TAG, "Failed to delete user profile: %s (ID: %s)", this, id);
         }
         
         return success;
@@ -235,7 +242,7 @@ public class UserProfile {
         
         UserProfile userProfile = null;
         if (cursor.moveToFirst()) {
-            userProfile = fromCursor(cursor);
+            userProfile = new Reader(cursor).read();
         }
         cursor.close();
         
@@ -262,7 +269,7 @@ public class UserProfile {
         
         UserProfile userProfile = null;
         if (cursor.moveToFirst()) {
-            userProfile = fromCursor(cursor);
+            userProfile = new Reader(cursor).read();
         }
         cursor.close();
         
@@ -289,7 +296,7 @@ public class UserProfile {
         
         UserProfile userProfile = null;
         if (cursor.moveToFirst()) {
-            userProfile = fromCursor(cursor);
+            userProfile = new Reader(cursor).read();
         }
         cursor.close();
         
@@ -313,12 +320,13 @@ public class UserProfile {
             DatabaseHelper.USER_PROFILE_COLUMN_LAST_LOGIN + " DESC"
         );
         
+        Reader reader = new Reader(cursor);
         while (cursor.moveToNext()) {
-            userProfiles.add(fromCursor(cursor));
+            userProfiles.add(reader.read());
         }
         cursor.close();
         
-        Log.d(TAG, "Loaded " + userProfiles.size() + " user profiles from database");
+        AppLog.d(TAG, "Loaded %s user profiles from database", userProfiles.size());
         return userProfiles;
     }
     
@@ -340,7 +348,7 @@ public class UserProfile {
         
         UserProfile userProfile = null;
         if (cursor.moveToFirst()) {
-            userProfile = fromCursor(cursor);
+            userProfile = new Reader(cursor).read();
         }
         cursor.close();
         
@@ -370,21 +378,45 @@ public class UserProfile {
     // ========== UTILITY METHODS ==========
     
     /**
-     * Create UserProfile object from database cursor
+     * Reads UserProfile rows - column indexes resolved once per cursor
      */
-    private static UserProfile fromCursor(Cursor cursor) {
-        UserProfile userProfile = new UserProfile();
+    private static final class Reader extends RowReader<UserProfile> {
+        private final int idColumn;
+        private final int firebaseUidColumn;
+        private final int emailColumn;
+        private final int displayNameColumn;
+        private final int leagueNameColumn;
+        private final int lastLoginColumn;
+        private final int createdAtColumn;
+        private final int updatedAtColumn;
         
-        userProfile.id = cursor.getInt(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_ID));
-        userProfile.firebaseUid = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.USER_PROFILE_COLUMN_FIREBASE_UID));
-        userProfile.email = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.USER_PROFILE_COLUMN_EMAIL));
-        userProfile.displayName = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.USER_PROFILE_COLUMN_DISPLAY_NAME));
-        userProfile.leagueName = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.USER_PROFILE_COLUMN_LEAGUE_NAME));
-        userProfile.lastLogin = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.USER_PROFILE_COLUMN_LAST_LOGIN));
-        userProfile.createdAt = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_CREATED_AT));
-        userProfile.updatedAt = cursor.getString(cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_UPDATED_AT));
+        Reader(Cursor cursor) {
+            super(cursor);
+            idColumn = column(DatabaseHelper.COLUMN_ID);
+            firebaseUidColumn = column(DatabaseHelper.USER_PROFILE_COLUMN_FIREBASE_UID);
+            emailColumn = column(DatabaseHelper.USER_PROFILE_COLUMN_EMAIL);
+            displayNameColumn = column(DatabaseHelper.USER_PROFILE_COLUMN_DISPLAY_NAME);
+            leagueNameColumn = column(DatabaseHelper.USER_PROFILE_COLUMN_LEAGUE_NAME);
+            lastLoginColumn = column(DatabaseHelper.USER_PROFILE_COLUMN_LAST_LOGIN);
+            createdAtColumn = column(DatabaseHelper.COLUMN_CREATED_AT);
+            updatedAtColumn = column(DatabaseHelper.COLUMN_UPDATED_AT);
+        }
         
-        return userProfile;
+        @Override
+        public UserProfile read() {
+            UserProfile userProfile = new UserProfile();
+            
+            userProfile.id = getInt(idColumn);
+            userProfile.firebaseUid = getString(firebaseUidColumn);
+            userProfile.email = getString(emailColumn);
+            userProfile.displayName = getString(displayNameColumn);
+            userProfile.leagueName = getString(leagueNameColumn);
+            userProfile.lastLogin = getString(lastLoginColumn);
+            userProfile.createdAt = getString(createdAtColumn);
+            userProfile.updatedAt = getString(updatedAtColumn);
+            
+            return userProfile;
+        }
     }
     
     /**
@@ -405,14 +437,7 @@ public class UserProfile {
      * Get user profile count
      */
     public static int getCount(DatabaseHelper dbHelper) {
-        SQLiteDatabase db = dbHelper.getReadableDatabase();
-        Cursor cursor = db.rawQuery("SELECT COUNT(*) FROM " + DatabaseHelper.TABLE_USER_PROFILE, null);
-        int count = 0;
-        if (cursor.moveToFirst()) {
-            count = cursor.getInt(0);
-        }
-        cursor.close();
-        return count;
+        return TableCounters.getTableCount(dbHelper, DatabaseHelper.TABLE_USER_PROFILE);
     }
     
     /**
@@ -421,7 +446,7 @@ public class UserProfile {
     public static void clearAll(DatabaseHelper dbHelper) {
         SQLiteDatabase db = dbHelper.getWritableDatabase();
         int rowsDeleted = db.delete(DatabaseHelper.TABLE_USER_PROFILE, null, null);
-        Log.d(TAG, "Cleared " + rowsDeleted + " user profiles");
+        AppLog.d(TAG, "Cleared %s user profiles", rowsDeleted);
     }
     
     // ========== OBJECT METHODS ==========
@@ -361,8 +361,7 @@ public class NetworkManager {
      */
     private boolean shouldAutoSync() {
         try {
-            AppSettings setting = AppSettings.findByKey(dbController.getDatabaseHelper(), "auto_sync_enabled");
-            return setting != null ? Boolean.parseBoolean(setting.getSettingValue()) : true; // Default: enabled
+            return dbController.getSettings().getBoolean(AppSettings.KEY_AUTO_SYNC_ENABLED, true); // Default: enabled
         } catch (Exception e) {
             Log.e(TAG, "Error checking auto-sync preference", e);
             return true; // Default to enabled on error
@@ -374,8 +373,7 @@ public class NetworkManager {
      */
     private boolean shouldSyncOnWifi() {
         try {
-            AppSettings setting = AppSettings.findByKey(dbController.getDatabaseHelper(), "sync_on_wifi");
-            return setting != null ? Boolean.parseBoolean(setting.getSettingValue()) : true; // Default: enabled
+            return dbController.getSettings().getBoolean(AppSettings.KEY_SYNC_ON_WIFI, true); // Default: enabled
         } catch (Exception e) {
             Log.e(TAG, "Error checking WiFi sync preference", e);
             return true; // Default to enabled on error
@@ -387,8 +385,7 @@ public class NetworkManager {
      */
     private boolean shouldSyncOnMobile() {
         try {
-            AppSettings setting = AppSettings.findByKey(dbController.getDatabaseHelper(), "sync_on_mobile");
-            return setting != null ? Boolean.parseBoolean(setting.getSettingValue()) : false; // Default: disabled
+            return dbController.getSettings().getBoolean(AppSettings.KEY_SYNC_ON_MOBILE, false); // Default: disabled
         } catch (Exception e) {
             Log.e(TAG, "Error checking mobile sync preference", e);
             return false; // Default to disabled on error
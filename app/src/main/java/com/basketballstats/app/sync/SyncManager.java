@@ -2,6 +2,7 @@ package com.basketballstats.app.sync;
 
 import android.content.Context;
 import com.basketballstats.app.data.DatabaseController;
+import com.basketballstats.app.data.ModelCache;
 import com.basketballstats.app.auth.AuthController;
 import com.basketballstats.app.firebase.FirebaseManager;
 import com.basketballstats.app.network.NetworkManager;
@@ -10,6 +11,7 @@ import com.basketballstats.app.models.Team;
 import com.basketballstats.app.models.TeamPlayer;
 import com.basketballstats.app.models.Event;
 import com.basketballstats.app.models.AppSettings;
+import com.basketballstats.app.utils.AppLog;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -252,14 +254,15 @@ public class SyncManager {
                 }
             }
             
+            // Merged rows supersede cached Team instances - reload on next access
+            ModelCache.invalidateAll();
+            dbController.getInvalidationTracker().notifyAllChanged();
+            
             // Proceed to push phase
             callback.onSyncProgress("⬆️ Pushing local changes to Firebase...");
             
-            String mergeMessage = String.format(
-                "Merged %d teams, %d games. Resolved %d conflicts (user device wins)",
-                mergedTeams, mergedGames, conflictsResolved
-            );
-            android.util.Log.d("SyncManager", mergeMessage);
+            AppLog.d("SyncManager", "Merged %d teams, %d games. Resolved %d conflicts (user device wins)",
+                mergedTeams[0], mergedGames[0], conflictsResolved[0]);
             
             new android.os.Handler().postDelayed(() -> {
                 pushLocalChangesToFirebase(callback, mergedTeams[0], mergedGames[0], conflictsResolved[0]);
@@ -544,6 +547,10 @@ public class SyncManager {
                 }
             }
             
+            // Merged rows supersede cached Team instances - reload on next access
+            ModelCache.invalidateAll();
+            dbController.getInvalidationTracker().notifyAllChanged();
+            
             // Proceed to incremental push
             callback.onSyncProgress("⬆️ Pushing incremental changes...");
             
@@ -680,14 +687,11 @@ public class SyncManager {
      */
     private long getLastSyncTimestamp() {
         try {
-            AppSettings lastSyncSetting = AppSettings.findByKey(dbController.getDatabaseHelper(), "last_sync_timestamp");
-            if (lastSyncSetting != null) {
-                return Long.parseLong(lastSyncSetting.getSettingValue());
-            }
+            // Default to 0 (sync everything) if no previous sync
+            return dbController.getSettings().getLong(AppSettings.KEY_LAST_SYNC_TIMESTAMP, 0L);
         } catch (Exception e) {
-            android.util.Log.w("SyncManager", "Could not get last sync timestamp", e);
+            AppLog.w("SyncManager", "Could not get last sync timestamp", e);
         }
-        // Default to 0 (sync everything) if no previous sync
         return 0L;
     }
     
@@ -698,19 +702,11 @@ public class SyncManager {
         try {
             long currentTimestamp = System.currentTimeMillis();
             
-            AppSettings lastSyncSetting = AppSettings.findByKey(dbController.getDatabaseHelper(), "last_sync_timestamp");
-            if (lastSyncSetting == null) {
-                // Create new setting
-                lastSyncSetting = new AppSettings();
-                lastSyncSetting.setSettingKey("last_sync_timestamp");
-            }
-            
-            lastSyncSetting.setSettingValue(String.valueOf(currentTimestamp));
-            lastSyncSetting.save(dbController.getDatabaseHelper());
+            dbController.getSettings().setLong(AppSettings.KEY_LAST_SYNC_TIMESTAMP, currentTimestamp);
             
-            android.util.Log.d("SyncManager", "Updated last sync timestamp: " + currentTimestamp);
+            AppLog.d("SyncManager", "Updated last sync timestamp: %s", currentTimestamp);
         } catch (Exception e) {
-            android.util.Log.e("SyncManager", "Failed to update last sync timestamp", e);
+            AppLog.e("SyncManager", "Failed to update last sync timestamp", e);
         }
     }
     
@@ -767,10 +763,10 @@ public class SyncManager {
                 );
             }
             
-            android.util.Log.d("SyncManager", "Queued " + (teams.size() + games.size() + events.size()) + " failed operations for retry");
+            AppLog.d("SyncManager", "Queued %s failed operations for retry", (teams.size() + games.size() + events.size()));
             
         } catch (Exception e) {
-            android.util.Log.e("SyncManager", "Error queueing failed operations", e);
+            AppLog.e("SyncManager", "Error queueing failed operations", e);
         }
     }
     
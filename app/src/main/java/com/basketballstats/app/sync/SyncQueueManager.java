@@ -462,13 +462,14 @@ public class SyncQueueManager {
      */
     public QueueStatistics getQueueStatistics() {
         try {
-            List<SyncQueue> allOperations = SyncQueue.findAll(dbController.getDatabaseHelper());
-            List<SyncQueue> pendingOperations = SyncQueue.findPendingOperations(dbController.getDatabaseHelper());
+            // Maintained counters - no queue rows loaded
+            int totalOperations = SyncQueue.getCount(dbController.getDatabaseHelper());
+            int pendingOperations = SyncQueue.getPendingCount(dbController.getDatabaseHelper());
             
             return new QueueStatistics(
-                allOperations.size(),
-                pendingOperations.size(),
-                allOperations.size() - pendingOperations.size()
+                totalOperations,
+                pendingOperations,
+                totalOperations - pendingOperations
             );
         } catch (Exception e) {
             Log.e(TAG, "Error getting queue statistics", e);
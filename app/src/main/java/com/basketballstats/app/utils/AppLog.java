@@ -0,0 +1,196 @@
+package com.basketballstats.app.utils;
+
+import android.util.Log;
+
+import com.basketballstats.app.BuildConfig;
+
+/**
+ * AppLog - Level-gated logging facade for hot paths
+ *
+ * - Messages use printf-style templates ("%s", "%d", "%b") and are only
+ *   formatted when the level is enabled - disabled calls cost one branch.
+ * - Fixed-arity overloads avoid varargs array allocation at call sites.
+ * - Simple specifiers are formatted into a reused per-thread StringBuilder;
+ *   anything else (e.g. "%02d") falls back to String.format.
+ * - VERBOSE/DEBUG/INFO are compiled out of release builds (DEBUG_ENABLED is a
+ *   compile-time constant). WARN/ERROR stay on.
+ * - Optional RingLogSink keeps recent lines in memory for field diagnostics.
+ */
+public final class AppLog {
+
+    /** Compile-time constant - debug logging bodies are removed from release builds */
+    public static final boolean DEBUG_ENABLED = BuildConfig.DEBUG;
+
+    private static volatile int minLevel = Log.DEBUG;
+    private static volatile RingLogSink ringSink;
+
+    private static final ThreadLocal<StringBuilder> BUILDER = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(128);
+        }
+    };
+
+    private AppLog() {}
+
+    // ========== CONFIGURATION ==========
+
+    /**
+     * Set minimum level (android.util.Log constants)
+     */
+    public static void setMinLevel(int level) {
+        minLevel = level;
+    }
+
+    /**
+     * Install (or remove with null) an in-memory ring sink
+     */
+    public static void setRingSink(RingLogSink sink) {
+        ringSink = sink;
+    }
+
+    public static RingLogSink getRingSink() {
+        return ringSink;
+    }
+
+    /**
+     * Check if a level would be logged (use to guard expensive argument computation)
+     */
+    public static boolean isLoggable(int level) {
+        if (level < Log.WARN && !DEBUG_ENABLED) return false;
+        return level >= minLevel;
+    }
+
+    public static boolean isDebugEnabled() {
+        return DEBUG_ENABLED && minLevel <= Log.DEBUG;
+    }
+
+    // ========== VERBOSE / DEBUG / INFO (compiled out of release) ==========
+
+    public static void v(String tag, String message) {
+        if (DEBUG_ENABLED && minLevel <= Log.VERBOSE) write(Log.VERBOSE, tag, message, null);
+    }
+
+    public static void d(String tag, String message) {
+        if (DEBUG_ENABLED && minLevel <= Log.DEBUG) write(Log.DEBUG, tag, message, null);
+    }
+
+    public static void d(String tag, String format, Object a1) {
+        if (DEBUG_ENABLED && minLevel <= Log.DEBUG) write(Log.DEBUG, tag, format(format, 1, a1, null, null, null), null);
+    }
+
+    public static void d(String tag, String format, Object a1, Object a2) {
+        if (DEBUG_ENABLED && minLevel <= Log.DEBUG) write(Log.DEBUG, tag, format(format, 2, a1, a2, null, null), null);
+    }
+
+    public static void d(String tag, String format, Object a1, Object a2, Object a3) {
+        if (DEBUG_ENABLED && minLevel <= Log.DEBUG) write(Log.DEBUG, tag, format(format, 3, a1, a2, a3, null), null);
+    }
+
+    public static void d(String tag, String format, Object a1, Object a2, Object a3, Object a4) {
+        if (DEBUG_ENABLED && minLevel <= Log.DEBUG) write(Log.DEBUG, tag, format(format, 4, a1, a2, a3, a4), null);
+    }
+
+    public static void i(String tag, String message) {
+        if (DEBUG_ENABLED && minLevel <= Log.INFO) write(Log.INFO, tag, message, null);
+    }
+
+    public static void i(String tag, String format, Object a1) {
+        if (DEBUG_ENABLED && minLevel <= Log.INFO) write(Log.INFO, tag, format(format, 1, a1, null, null, null), null);
+    }
+
+    public static void i(String tag, String format, Object a1, Object a2) {
+        if (DEBUG_ENABLED && minLevel <= Log.INFO) write(Log.INFO, tag, format(format, 2, a1, a2, null, null), null);
+    }
+
+    // ========== WARN / ERROR (always on) ==========
+
+    public static void w(String tag, String message) {
+        if (minLevel <= Log.WARN) write(Log.WARN, tag, message, null);
+    }
+
+    public static void w(String tag, String message, Throwable error) {
+        if (minLevel <= Log.WARN) write(Log.WARN, tag, message, error);
+    }
+
+    public static void w(String tag, String format, Object a1) {
+        if (minLevel <= Log.WARN) write(Log.WARN, tag, format(format, 1, a1, null, null, null), null);
+    }
+
+    public static void w(String tag, String format, Object a1, Object a2) {
+        if (minLevel <= Log.WARN) write(Log.WARN, tag, format(format, 2, a1, a2, null, null), null);
+    }
+
+    public static void w(String tag, String format, Object a1, Object a2, Object a3) {
+        if (minLevel <= Log.WARN) write(Log.WARN, tag, format(format, 3, a1, a2, a3, null), null);
+    }
+
+    public static void w(String tag, String format, Object a1, Object a2, Object a3, Object a4) {
+        if (minLevel <= Log.WARN) write(Log.WARN, tag, format(format, 4, a1, a2, a3, a4), null);
+    }
+
+    public static void e(String tag, String message) {
+        write(Log.ERROR, tag, message, null);
+    }
+
+    public static void e(String tag, String message, Throwable error) {
+        write(Log.ERROR, tag, message, error);
+    }
+
+    // ========== INTERNALS ==========
+
+    private static void write(int level, String tag, String message, Throwable error) {
+        switch (level) {
+            case Log.VERBOSE: Log.v(tag, message); break;
+            case Log.DEBUG: Log.d(tag, message); break;
+            case Log.INFO: Log.i(tag, message); break;
+            case Log.WARN:
+                if (error != null) Log.w(tag, message, error); else Log.w(tag, message);
+                break;
+            default:
+                if (error != null) Log.e(tag, message, error); else Log.e(tag, message);
+                break;
+        }
+
+        RingLogSink sink = ringSink;
+        if (sink != null) {
+            sink.append("??VDIWEA".charAt(Math.min(level, 7)), tag,
+                        error != null ? message + " - " + error : message);
+        }
+    }
+
+    /**
+     * Format "%s"/"%d"/"%b"/"%%" into a reused builder; other specifiers use String.format
+     */
+    private static String format(String format, int count, Object a1, Object a2, Object a3, Object a4) {
+        StringBuilder sb = BUILDER.get();
+        sb.setLength(0);
+
+        int argIndex = 0;
+        int length = format.length();
+        for (int i = 0; i < length; i++) {
+            char c = format.charAt(i);
+            if (c != '%' || i + 1 >= length) {
+                sb.append(c);
+                continue;
+            }
+
+            char spec = format.charAt(i + 1);
+            if (spec == '%') {
+                sb.append('%');
+            } else if ((spec == 's' || spec == 'd' || spec == 'b') && argIndex < count) {
+                Object arg = argIndex == 0 ? a1 : argIndex == 1 ? a2 : argIndex == 2 ? a3 : a4;
+                sb.append(arg);
+                argIndex++;
+            } else {
+                // Width/precision or other conversions - let the JDK formatter handle the template
+                Object[] args = {a1, a2, a3, a4};
+                Object[] used = new Object[count];
+                System.arraycopy(args, 0, used, 0, count);
+                return String.format(format, used);
+            }
+            i++;
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,88 @@
+package com.basketballstats.app.utils;
+
+import android.view.Choreographer;
+
+/**
+ * DisplayRefreshScheduler - Frame-coalesced UI refresh for GameActivity
+ *
+ * Callers mark display regions dirty instead of redrawing them directly. All
+ * regions marked before the next vsync are rendered together in a single
+ * Choreographer frame callback, so a burst of taps, an undo or a quarter
+ * transition costs one layout pass instead of several.
+ *
+ * Main thread only (Choreographer is bound to the calling looper).
+ */
+public class DisplayRefreshScheduler implements Choreographer.FrameCallback {
+
+    // Display regions (bit flags)
+    public static final int REGION_SCORE = 1;
+    public static final int REGION_CLOCK = 1 << 1;
+    public static final int REGION_TEAM_FOULS = 1 << 2;
+    public static final int REGION_PLAYER_BUTTONS = 1 << 3;
+    public static final int REGION_LIVE_FEED = 1 << 4;
+    public static final int REGION_CONTROLS = 1 << 5; // Clock toggle, override, event button states
+    public static final int REGION_ALL = REGION_SCORE | REGION_CLOCK | REGION_TEAM_FOULS |
+                                         REGION_PLAYER_BUTTONS | REGION_LIVE_FEED | REGION_CONTROLS;
+
+    /**
+     * Renders the regions that were marked dirty since the last frame
+     */
+    public interface Renderer {
+        void render(int dirtyRegions);
+    }
+
+    private final Choreographer choreographer;
+    private final Renderer renderer;
+    private int dirtyRegions = 0;
+    private boolean framePosted = false;
+
+    public DisplayRefreshScheduler(Renderer renderer) {
+        this.choreographer = Choreographer.getInstance();
+        this.renderer = renderer;
+    }
+
+    /**
+     * Mark regions dirty - rendered once on the next frame
+     */
+    public void invalidate(int regions) {
+        dirtyRegions |= regions;
+        if (!framePosted) {
+            framePosted = true;
+            choreographer.postFrameCallback(this);
+        }
+    }
+
+    /**
+     * Render pending regions immediately (e.g. before measuring views)
+     */
+    public void flushNow() {
+        if (framePosted) {
+            choreographer.removeFrameCallback(this);
+            framePosted = false;
+        }
+        renderPending();
+    }
+
+    /**
+     * Drop pending work (activity destroyed)
+     */
+    public void cancel() {
+        choreographer.removeFrameCallback(this);
+        framePosted = false;
+        dirtyRegions = 0;
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        framePosted = false;
+        renderPending();
+    }
+
+    private void renderPending() {
+        int regions = dirtyRegions;
+        dirtyRegions = 0;
+        if (regions != 0) {
+            renderer.render(regions);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.basketballstats.app.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * GameClock - Drift-free quarter clock driven by SystemClock.elapsedRealtime()
+ *
+ * Remaining time is always derived from the anchor (remaining time + monotonic
+ * timestamp at the last start/adjust), never by decrementing a counter, so
+ * Handler latency cannot accumulate. Ticks are scheduled on the next display
+ * boundary: whole seconds above one minute, tenths of a second in the last minute.
+ *
+ * Persistence only needs the anchor pair (remaining millis + wall-clock start
+ * time), which changes on state transitions only - no periodic writes.
+ */
+public class GameClock {
+
+    public static final long QUARTER_LENGTH_MILLIS = 600_000L; // 10:00
+    private static final long TENTHS_THRESHOLD_MILLIS = 60_000L; // Show 0.1s in the last minute
+
+    /**
+     * Tick listener - called on the main thread
+     */
+    public interface TickListener {
+        void onTick(long remainingMillis);
+        void onExpired();
+    }
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final List<TickListener> listeners = new ArrayList<>();
+
+    private boolean running = false;
+    private long anchorRemainingMillis = QUARTER_LENGTH_MILLIS; // Remaining time at the anchor
+    private long anchorElapsedMillis = 0;   // elapsedRealtime() at the anchor (running only)
+    private long anchorWallMillis = 0;      // System.currentTimeMillis() at the anchor (running only)
+
+    private final Runnable tickRunnable = new Runnable() {
+        @Override
+        public void run() {
+            onTickDue();
+        }
+    };
+
+    // ========== CONTROL ==========
+
+    /**
+     * Start (or resume) counting down from the current remaining time
+     */
+    public void start() {
+        if (running || anchorRemainingMillis <= 0) return;
+        running = true;
+        anchorElapsedMillis = SystemClock.elapsedRealtime();
+        anchorWallMillis = System.currentTimeMillis();
+        notifyTick(anchorRemainingMillis);
+        scheduleNextTick(anchorRemainingMillis);
+    }
+
+    /**
+     * Pause and freeze the remaining time (exact to the millisecond)
+     */
+    public void pause() {
+        if (!running) return;
+        anchorRemainingMillis = getRemainingMillis();
+        running = false;
+        anchorElapsedMillis = 0;
+        anchorWallMillis = 0;
+        handler.removeCallbacks(tickRunnable);
+    }
+
+    /**
+     * Add (positive) or remove (negative) time, e.g. official clock corrections
+     */
+    public void adjust(long deltaMillis) {
+        setRemainingMillis(getRemainingMillis() + deltaMillis);
+    }
+
+    /**
+     * Set remaining time (keeps running state)
+     */
+    public void setRemainingMillis(long remainingMillis) {
+        anchorRemainingMillis = Math.max(0, remainingMillis);
+        if (running) {
+            anchorElapsedMillis = SystemClock.elapsedRealtime();
+            anchorWallMillis = System.currentTimeMillis();
+            handler.removeCallbacks(tickRunnable);
+            scheduleNextTick(anchorRemainingMillis);
+        }
+        notifyTick(anchorRemainingMillis);
+    }
+
+    /**
+     * Stop and reset to a full quarter
+     */
+    public void reset() {
+        pause();
+        setRemainingMillis(QUARTER_LENGTH_MILLIS);
+    }
+
+    /**
+     * Restore persisted state (paused) - a clock that was running when persisted has
+     * the wall-clock time since its start subtracted, so a killed process resumes exactly
+     * Returns true if the clock was running when persisted
+     */
+    public boolean restore(long remainingMillis, long startedAtWallMillis) {
+        pause();
+        long remaining = remainingMillis;
+        boolean wasRunning = startedAtWallMillis > 0;
+        if (wasRunning) {
+            long elapsed = Math.max(0, System.currentTimeMillis() - startedAtWallMillis);
+            remaining -= elapsed;
+        }
+        anchorRemainingMillis = Math.max(0, remaining);
+        return wasRunning;
+    }
+
+    /**
+     * Stop ticking and drop listeners (activity destroyed)
+     */
+    public void release() {
+        handler.removeCallbacks(tickRunnable);
+        listeners.clear();
+    }
+
+    // ========== STATE ==========
+
+    public long getRemainingMillis() {
+        if (!running) return anchorRemainingMillis;
+        long elapsed = SystemClock.elapsedRealtime() - anchorElapsedMillis;
+        return Math.max(0, anchorRemainingMillis - elapsed);
+    }
+
+    /**
+     * Remaining whole seconds, rounded up (10:00 shows until a full second has elapsed)
+     */
+    public int getRemainingSeconds() {
+        return (int) ((getRemainingMillis() + 999) / 1000);
+    }
+
+    public boolean isRunning() { return running; }
+
+    /**
+     * Remaining time at the last transition (persisted as clock_remaining_ms)
+     */
+    public long getAnchorRemainingMillis() { return anchorRemainingMillis; }
+
+    /**
+     * Wall-clock time of the last start, 0 when paused (persisted as clock_started_at)
+     */
+    public long getAnchorWallMillis() { return anchorWallMillis; }
+
+    // ========== LISTENERS ==========
+
+    public void addTickListener(TickListener listener) {
+        if (!listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    public void removeTickListener(TickListener listener) {
+        listeners.remove(listener);
+    }
+
+    // ========== FORMATTING ==========
+
+    /**
+     * Format remaining time - "M:SS" above one minute, "SS.t" in the last minute
+     */
+    public static String format(long remainingMillis) {
+        if (remainingMillis > 0 && remainingMillis < TENTHS_THRESHOLD_MILLIS) {
+            long tenths = remainingMillis / 100;
+            return String.format(Locale.US, "%d.%d", tenths / 10, tenths % 10);
+        }
+        long seconds = (remainingMillis + 999) / 1000;
+        return String.format(Locale.US, "%d:%02d", seconds / 60, seconds % 60);
+    }
+
+    // ========== TICK SCHEDULING ==========
+
+    private void onTickDue() {
+        if (!running) return;
+
+        long remaining = getRemainingMillis();
+        if (remaining <= 0) {
+            anchorRemainingMillis = 0;
+            running = false;
+            anchorElapsedMillis = 0;
+            anchorWallMillis = 0;
+            notifyTick(0);
+            notifyExpired();
+            return;
+        }
+
+        notifyTick(remaining);
+        scheduleNextTick(remaining);
+    }
+
+    /**
+     * Schedule the next tick on the next display boundary (second or tenth)
+     */
+    private void scheduleNextTick(long remainingMillis) {
+        long unit = remainingMillis <= TENTHS_THRESHOLD_MILLIS ? 100 : 1000;
+        long delay = remainingMillis % unit;
+        if (delay == 0) {
+            delay = unit;
+        }
+        handler.postDelayed(tickRunnable, delay);
+    }
+
+    private void notifyTick(long remainingMillis) {
+        for (TickListener listener : new ArrayList<>(listeners)) {
+            listener.onTick(remainingMillis);
+        }
+    }
+
+    private void notifyExpired() {
+        for (TickListener listener : new ArrayList<>(listeners)) {
+            listener.onExpired();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.basketballstats.app.utils;
+
+import com.basketballstats.app.models.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LiveEventFeedBuffer - Bounded ring buffer of recent formatted events
+ *
+ * Backs the GameActivity live feed. The write path pushes each recorded event
+ * with its display line, undo/delete removes it again, and the feed renders the
+ * newest entries straight from memory - so refresh cost stays constant no matter
+ * how many events the game has. The database is only read on cold load.
+ */
+public class LiveEventFeedBuffer {
+
+    private final Event[] events;
+    private final String[] lines;
+    private int head = 0; // Index of the next write slot
+    private int size = 0;
+
+    public LiveEventFeedBuffer(int capacity) {
+        this.events = new Event[capacity];
+        this.lines = new String[capacity];
+    }
+
+    /**
+     * Push newest event (overwrites the oldest entry when full)
+     */
+    public void push(Event event, String line) {
+        events[head] = event;
+        lines[head] = line;
+        head = (head + 1) % events.length;
+        if (size < events.length) {
+            size++;
+        }
+    }
+
+    /**
+     * Push older event behind the current entries (used for backfill after undo)
+     * Ignored when the buffer is full
+     */
+    public void pushOldest(Event event, String line) {
+        if (size == events.length) return;
+        int tail = (head - size - 1 + events.length) % events.length;
+        events[tail] = event;
+        lines[tail] = line;
+        size++;
+    }
+
+    /**
+     * Remove event by identity (undo, delete)
+     * Returns true if the event was in the buffer
+     */
+    public boolean remove(Event event) {
+        for (int i = 0; i < size; i++) {
+            int index = indexFromNewest(i);
+            if (events[index] == event) {
+                // Shift newer entries back by one to close the gap
+                for (int j = i; j > 0; j--) {
+                    int to = indexFromNewest(j);
+                    int from = indexFromNewest(j - 1);
+                    events[to] = events[from];
+                    lines[to] = lines[from];
+                }
+                head = (head - 1 + events.length) % events.length;
+                events[head] = null;
+                lines[head] = null;
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if event is in the buffer
+     */
+    public boolean contains(Event event) {
+        for (int i = 0; i < size; i++) {
+            if (events[indexFromNewest(i)] == event) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get up to count display lines, newest first
+     */
+    public List<String> getNewestLines(int count) {
+        int n = Math.min(count, size);
+        List<String> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            result.add(lines[indexFromNewest(i)]);
+        }
+        return result;
+    }
+
+    public void clear() {
+        for (int i = 0; i < events.length; i++) {
+            events[i] = null;
+            lines[i] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return events.length;
+    }
+
+    private int indexFromNewest(int offset) {
+        return (head - 1 - offset + 2 * events.length) % events.length;
+    }
+}
@@ -0,0 +1,54 @@
+package com.basketballstats.app.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RingLogSink - Bounded in-memory copy of recent log lines for field diagnostics
+ *
+ * Keeps the last N formatted lines (oldest overwritten) so a problem seen on a
+ * device can be inspected without logcat. Thread-safe; installed via
+ * AppLog.setRingSink().
+ */
+public class RingLogSink {
+
+    private final String[] lines;
+    private int head = 0; // Index of the next write slot
+    private int size = 0;
+
+    public RingLogSink(int capacity) {
+        this.lines = new String[capacity];
+    }
+
+    public synchronized void append(char level, String tag, String message) {
+        lines[head] = System.currentTimeMillis() + " " + level + "/" + tag + ": " + message;
+        head = (head + 1) % lines.length;
+        if (size < lines.length) {
+            size++;
+        }
+    }
+
+    /**
+     * Get recorded lines, oldest first
+     */
+    public synchronized List<String> getLines() {
+        List<String> result = new ArrayList<>(size);
+        int start = (head - size + lines.length) % lines.length;
+        for (int i = 0; i < size; i++) {
+            result.add(lines[(start + i) % lines.length]);
+        }
+        return result;
+    }
+
+    public synchronized void clear() {
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+}
@@ -0,0 +1,188 @@
+package com.basketballstats.app.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.basketballstats.app.models.Event;
+import com.basketballstats.app.models.Player;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * GameAction forward/inverse deltas - an undo must cancel its action exactly
+ */
+public class GameActionTest {
+
+    private static final int GAME_ID = 7;
+    private static final List<Integer> HOME_FIVE = Arrays.asList(1, 2, 3, 4, 5);
+    private static final List<Integer> AWAY_FIVE = Arrays.asList(11, 12, 13, 14, 15);
+
+    @Test
+    public void scoringEventInverseCancelsScorePlusMinusAndLineupPoints() {
+        Event event = new Event(GAME_ID, 3, "Lakers", 2, 412, Event.TYPE_3P);
+        GameAction action = GameAction.forEvent(event, "home", HOME_FIVE, AWAY_FIVE);
+
+        GameMutation forward = action.toMutation(GAME_ID);
+        GameMutation inverse = action.toInverseMutation(GAME_ID);
+
+        assertEquals(3, forward.getHomeScoreDelta());
+        assertEquals(0, forward.getAwayScoreDelta());
+        assertEquals(0, forward.getHomeScoreDelta() + inverse.getHomeScoreDelta());
+        assertEquals(0, forward.getAwayScoreDelta() + inverse.getAwayScoreDelta());
+
+        for (Integer playerId : HOME_FIVE) {
+            assertEquals(3, forward.getPlusMinusDelta(playerId));
+            assertEquals(0, forward.getPlusMinusDelta(playerId) + inverse.getPlusMinusDelta(playerId));
+        }
+        for (Integer playerId : AWAY_FIVE) {
+            assertEquals(-3, forward.getPlusMinusDelta(playerId));
+            assertEquals(0, forward.getPlusMinusDelta(playerId) + inverse.getPlusMinusDelta(playerId));
+        }
+
+        String homeKey = StintTracker.lineupKey(HOME_FIVE);
+        String awayKey = StintTracker.lineupKey(AWAY_FIVE);
+        assertArrayEquals(new int[]{0, 3, 0}, forward.getLineupDelta("home", homeKey));
+        assertArrayEquals(new int[]{0, 0, 3}, forward.getLineupDelta("away", awayKey));
+        assertArrayEquals(new int[]{0, -3, 0}, inverse.getLineupDelta("home", homeKey));
+        assertArrayEquals(new int[]{0, 0, -3}, inverse.getLineupDelta("away", awayKey));
+    }
+
+    @Test
+    public void forwardInsertsAndInverseDeletesTheEventRow() {
+        Event event = new Event(GAME_ID, 3, "Lakers", 1, 590, Event.TYPE_2P);
+        GameAction action = GameAction.forEvent(event, "home");
+
+        GameMutation forward = action.toMutation(GAME_ID);
+        GameMutation inverse = action.toInverseMutation(GAME_ID);
+
+        assertEquals(1, forward.getInsertedEvents().size());
+        assertSame(event, forward.getInsertedEvents().get(0));
+        assertTrue(forward.getDeletedEvents().isEmpty());
+
+        assertTrue(inverse.getInsertedEvents().isEmpty());
+        assertEquals(1, inverse.getDeletedEvents().size());
+        assertSame(event, inverse.getDeletedEvents().get(0));
+    }
+
+    @Test
+    public void savedEventWithoutLineupsHasNoPlusMinus() {
+        Event event = new Event(GAME_ID, 12, "Warriors", 1, 300, Event.TYPE_2P);
+        GameMutation forward = GameAction.forEvent(event, "away").toMutation(GAME_ID);
+
+        assertEquals(0, forward.getHomeScoreDelta());
+        assertEquals(2, forward.getAwayScoreDelta());
+        assertEquals(0, forward.getPlusMinusDelta(12));
+        assertArrayEquals(new int[]{0, 0, 0}, forward.getLineupDelta("away", StintTracker.lineupKey(AWAY_FIVE)));
+    }
+
+    @Test
+    public void foulInverseRemovesThePersonalFoul() {
+        Event event = new Event(GAME_ID, 13, "Warriors", 3, 120, Event.TYPE_FOUL);
+        GameAction action = GameAction.forEvent(event, "away", HOME_FIVE, AWAY_FIVE);
+
+        assertTrue(action.hasFoul());
+        assertEquals("away", action.getFoulSide());
+
+        GameMutation forward = action.toMutation(GAME_ID);
+        GameMutation inverse = action.toInverseMutation(GAME_ID);
+
+        assertEquals(1, forward.getFoulDelta(13));
+        assertEquals(-1, inverse.getFoulDelta(13));
+        assertEquals(0, forward.getHomeScoreDelta());
+        assertEquals(0, forward.getAwayScoreDelta());
+        assertEquals(0, forward.getPlusMinusDelta(1));
+    }
+
+    @Test
+    public void missHasNoScoreOrFoulDelta() {
+        Event event = new Event(GAME_ID, 4, "Lakers", 1, 500, Event.TYPE_3M);
+        GameMutation forward = GameAction.forEvent(event, "home", HOME_FIVE, AWAY_FIVE).toMutation(GAME_ID);
+
+        assertEquals(0, forward.getHomeScoreDelta());
+        assertEquals(0, forward.getFoulDelta(4));
+        assertEquals(0, forward.getPlusMinusDelta(4));
+        assertEquals(1, forward.getInsertedEvents().size());
+    }
+
+    @Test
+    public void lineupChangeInverseSwapsPlayersBack() {
+        List<Player> before = players(1, 2, 3, 4, 5);
+        List<Player> after = players(1, 2, 3, 4, 6);
+        GameAction action = GameAction.forLineupChange("home", before, after, Collections.<Event>emptyList());
+
+        GameMutation forward = action.toMutation(GAME_ID);
+        GameMutation inverse = action.toInverseMutation(GAME_ID);
+
+        assertEquals(Boolean.FALSE, forward.getOnCourt(5));
+        assertEquals(Boolean.TRUE, forward.getOnCourt(6));
+        assertNull(forward.getOnCourt(1));
+
+        assertEquals(Boolean.TRUE, inverse.getOnCourt(5));
+        assertEquals(Boolean.FALSE, inverse.getOnCourt(6));
+        assertNull(inverse.getOnCourt(1));
+
+        assertTrue(forward.getInsertedEvents().isEmpty());
+        assertTrue(inverse.getDeletedEvents().isEmpty());
+    }
+
+    @Test
+    public void lineupChangeKeepsLogEntriesInMemoryOnly() {
+        Event subOut = new Event(GAME_ID, 5, "home", 2, 200, Event.TYPE_SUB_OUT);
+        Event subIn = new Event(GAME_ID, 6, "home", 2, 200, Event.TYPE_SUB_IN);
+        GameAction action = GameAction.forLineupChange("home", players(5), players(6), Arrays.asList(subOut, subIn));
+
+        assertEquals(Arrays.asList(subOut, subIn), action.getTransientEvents());
+        assertTrue(action.getPersistedEvents().isEmpty());
+        assertTrue(action.toMutation(GAME_ID).getInsertedEvents().isEmpty());
+    }
+
+    @Test
+    public void redoCopyUsesFreshRowsWithTheSameDeltas() {
+        Event event = new Event(GAME_ID, 2, "Lakers", 4, 35, Event.TYPE_2P);
+        event.setId(91);
+        event.setEventSequence(40);
+        GameAction action = GameAction.forEvent(event, "home", HOME_FIVE, AWAY_FIVE);
+
+        GameAction redo = action.copyForRedo();
+        Event copy = redo.getPersistedEvents().get(0);
+
+        assertNotSame(event, copy);
+        assertEquals(0, copy.getId());
+        assertEquals(0, copy.getEventSequence());
+        assertEquals(event.getEventType(), copy.getEventType());
+        assertEquals(event.getPointsValue(), copy.getPointsValue());
+        assertEquals(event.getQuarter(), copy.getQuarter());
+
+        GameMutation original = action.toMutation(GAME_ID);
+        GameMutation redone = redo.toMutation(GAME_ID);
+        assertEquals(original.getHomeScoreDelta(), redone.getHomeScoreDelta());
+        assertEquals(original.getPlusMinusDelta(11), redone.getPlusMinusDelta(11));
+    }
+
+    @Test
+    public void emptyMutationOnlyForActionsWithoutChanges() {
+        GameAction noChange = GameAction.forLineupChange("away", players(11), players(11), Collections.<Event>emptyList());
+        assertTrue(noChange.toMutation(GAME_ID).isEmpty());
+
+        Event event = new Event(GAME_ID, 11, "Warriors", 1, 10, Event.TYPE_AST);
+        assertFalse(GameAction.forEvent(event, "away").toMutation(GAME_ID).isEmpty());
+    }
+
+    private static List<Player> players(int... ids) {
+        List<Player> players = new ArrayList<>();
+        for (int id : ids) {
+            players.add(new Player(id, GAME_ID, "home", id, "Player " + id));
+        }
+        return players;
+    }
+}
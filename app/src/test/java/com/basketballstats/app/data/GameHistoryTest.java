@@ -0,0 +1,91 @@
+package com.basketballstats.app.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.basketballstats.app.models.Event;
+
+import org.junit.Test;
+
+/**
+ * GameHistory undo/redo stack order
+ */
+public class GameHistoryTest {
+
+    private static final int GAME_ID = 7;
+
+    @Test
+    public void undoPopsNewestFirstAndRedoReplaysInOrder() {
+        GameHistory history = new GameHistory();
+        GameAction first = action(Event.TYPE_2P);
+        GameAction second = action(Event.TYPE_3P);
+        history.record(first);
+        history.record(second);
+
+        assertSame(second, history.popUndo());
+        assertSame(first, history.popUndo());
+        assertNull(history.popUndo());
+        assertEquals(2, history.getRedoDepth());
+
+        GameAction redo = history.popRedo();
+        assertSame(first, redo);
+        history.pushRedone(redo);
+        assertSame(second, history.popRedo());
+        assertNull(history.popRedo());
+        assertEquals(1, history.getUndoDepth());
+    }
+
+    @Test
+    public void recordingClearsRedo() {
+        GameHistory history = new GameHistory();
+        history.record(action(Event.TYPE_2P));
+        history.popUndo();
+        assertTrue(history.canRedo());
+
+        history.record(action(Event.TYPE_FOUL));
+        assertFalse(history.canRedo());
+        assertEquals(1, history.getUndoDepth());
+    }
+
+    @Test
+    public void redoKeepsRemainingRedoHistory() {
+        GameHistory history = new GameHistory();
+        history.record(action(Event.TYPE_1P));
+        history.record(action(Event.TYPE_2P));
+        history.popUndo();
+        history.popUndo();
+
+        history.pushRedone(history.popRedo());
+        assertTrue(history.canRedo());
+        assertEquals(1, history.getRedoDepth());
+    }
+
+    @Test
+    public void undoOfLoadedActionCanBeRedone() {
+        GameHistory history = new GameHistory();
+        GameAction loaded = action(Event.TYPE_3P);
+
+        history.pushUndone(loaded);
+        assertFalse(history.canUndo());
+        assertSame(loaded, history.popRedo());
+    }
+
+    @Test
+    public void clearDropsBothStacks() {
+        GameHistory history = new GameHistory();
+        history.record(action(Event.TYPE_2P));
+        history.record(action(Event.TYPE_2P));
+        history.popUndo();
+
+        history.clear();
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    private static GameAction action(String eventType) {
+        return GameAction.forEvent(new Event(GAME_ID, 1, "home", 1, 600, eventType), "home");
+    }
+}
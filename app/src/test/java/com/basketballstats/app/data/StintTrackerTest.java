@@ -0,0 +1,155 @@
+package com.basketballstats.app.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * StintTracker clock crediting and drain arithmetic
+ */
+public class StintTrackerTest {
+
+    private static final int GAME_ID = 7;
+    private static final long QUARTER_MILLIS = 10 * 60 * 1000L;
+    private static final List<Integer> HOME_FIVE = Arrays.asList(5, 1, 4, 2, 3);
+    private static final List<Integer> AWAY_FIVE = Arrays.asList(11, 12, 13, 14, 15);
+
+    private StintTracker tracker;
+
+    @Before
+    public void setUp() {
+        tracker = new StintTracker();
+        tracker.setLineup("home", HOME_FIVE, QUARTER_MILLIS);
+        tracker.setLineup("away", AWAY_FIVE, QUARTER_MILLIS);
+    }
+
+    @Test
+    public void lineupKeyIsSortedAndStable() {
+        assertEquals("1-2-3-4-5", StintTracker.lineupKey(HOME_FIVE));
+        assertEquals(StintTracker.lineupKey(Arrays.asList(15, 14, 13, 12, 11)), StintTracker.lineupKey(AWAY_FIVE));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), tracker.getOnCourt("home"));
+    }
+
+    @Test
+    public void countdownIsCreditedToEveryoneOnCourt() {
+        tracker.advance(QUARTER_MILLIS - 42_000);
+
+        GameMutation mutation = new GameMutation(GAME_ID);
+        assertTrue(tracker.drainInto(mutation));
+
+        for (Integer playerId : HOME_FIVE) {
+            assertEquals(42, mutation.getSecondsDelta(playerId));
+        }
+        for (Integer playerId : AWAY_FIVE) {
+            assertEquals(42, mutation.getSecondsDelta(playerId));
+        }
+        assertArrayEquals(new int[]{42, 0, 0}, mutation.getLineupDelta("home", "1-2-3-4-5"));
+        assertArrayEquals(new int[]{42, 0, 0}, mutation.getLineupDelta("away", "11-12-13-14-15"));
+    }
+
+    @Test
+    public void drainingTwiceDoesNotCreditTwice() {
+        tracker.advance(QUARTER_MILLIS - 10_000);
+        tracker.drainInto(new GameMutation(GAME_ID));
+
+        GameMutation second = new GameMutation(GAME_ID);
+        assertFalse(tracker.drainInto(second));
+        assertTrue(second.isEmpty());
+    }
+
+    @Test
+    public void subSecondRemainderCarriesOver() {
+        tracker.advance(QUARTER_MILLIS - 1_600);
+
+        GameMutation first = new GameMutation(GAME_ID);
+        tracker.drainInto(first);
+        assertEquals(1, first.getSecondsDelta(1));
+
+        tracker.advance(QUARTER_MILLIS - 2_100);
+
+        GameMutation second = new GameMutation(GAME_ID);
+        tracker.drainInto(second);
+        assertEquals(1, second.getSecondsDelta(1));
+        assertArrayEquals(new int[]{1, 0, 0}, second.getLineupDelta("home", "1-2-3-4-5"));
+
+        GameMutation third = new GameMutation(GAME_ID);
+        assertFalse(tracker.drainInto(third));
+        assertEquals(0, third.getSecondsDelta(1));
+    }
+
+    @Test
+    public void pausedClockCreditsNothing() {
+        tracker.advance(QUARTER_MILLIS - 5_000);
+        tracker.advance(QUARTER_MILLIS - 5_000);
+        tracker.advance(QUARTER_MILLIS - 5_000);
+
+        GameMutation mutation = new GameMutation(GAME_ID);
+        tracker.drainInto(mutation);
+        assertEquals(5, mutation.getSecondsDelta(3));
+    }
+
+    @Test
+    public void quarterResetOnlyResyncsTheSample() {
+        tracker.advance(0);
+        GameMutation firstQuarter = new GameMutation(GAME_ID);
+        tracker.drainInto(firstQuarter);
+        assertEquals(600, firstQuarter.getSecondsDelta(12));
+
+        tracker.advance(QUARTER_MILLIS);
+        tracker.advance(QUARTER_MILLIS - 4_000);
+
+        GameMutation mutation = new GameMutation(GAME_ID);
+        tracker.drainInto(mutation);
+        assertEquals(4, mutation.getSecondsDelta(12));
+    }
+
+    @Test
+    public void substitutionCreditsTheOutgoingLineup() {
+        tracker.advance(QUARTER_MILLIS - 30_000);
+        tracker.setLineup("home", Arrays.asList(1, 2, 3, 4, 6), QUARTER_MILLIS - 50_000);
+        tracker.advance(QUARTER_MILLIS - 65_000);
+
+        GameMutation mutation = new GameMutation(GAME_ID);
+        tracker.drainInto(mutation);
+
+        assertEquals(50, mutation.getSecondsDelta(5));
+        assertEquals(15, mutation.getSecondsDelta(6));
+        assertEquals(65, mutation.getSecondsDelta(1));
+        assertArrayEquals(new int[]{50, 0, 0}, mutation.getLineupDelta("home", "1-2-3-4-5"));
+        assertArrayEquals(new int[]{15, 0, 0}, mutation.getLineupDelta("home", "1-2-3-4-6"));
+        assertArrayEquals(new int[]{65, 0, 0}, mutation.getLineupDelta("away", "11-12-13-14-15"));
+    }
+
+    @Test
+    public void timeBeforeTheFirstLineupIsNotCredited() {
+        StintTracker fresh = new StintTracker();
+        fresh.advance(QUARTER_MILLIS);
+        fresh.advance(QUARTER_MILLIS - 20_000);
+        fresh.setLineup("home", HOME_FIVE, QUARTER_MILLIS - 20_000);
+        fresh.advance(QUARTER_MILLIS - 25_000);
+
+        GameMutation mutation = new GameMutation(GAME_ID);
+        fresh.drainInto(mutation);
+        assertEquals(5, mutation.getSecondsDelta(1));
+    }
+
+    @Test
+    public void clearDropsLineupsAndPendingTime() {
+        tracker.advance(QUARTER_MILLIS - 9_000);
+        tracker.clear();
+
+        assertTrue(tracker.getOnCourt("home").isEmpty());
+        GameMutation mutation = new GameMutation(GAME_ID);
+        assertFalse(tracker.drainInto(mutation));
+
+        tracker.advance(QUARTER_MILLIS - 20_000);
+        assertFalse(tracker.drainInto(mutation));
+    }
+}
@@ -0,0 +1,131 @@
+package com.basketballstats.app.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * GameState replay - a checkpoint plus the remaining events must equal a full replay
+ */
+public class GameStateTest {
+
+    private static final int GAME_ID = 7;
+    private static final String[] TYPES = {
+        Event.TYPE_2P, Event.TYPE_FOUL, Event.TYPE_3P, Event.TYPE_2M, Event.TYPE_1P,
+        Event.TYPE_DR, Event.TYPE_FOUL, Event.TYPE_3M, Event.TYPE_AST, Event.TYPE_1M, Event.TYPE_TO
+    };
+
+    @Test
+    public void applyAddsScoreFoulsAndPlayerLines() {
+        GameState state = GameState.start(GAME_ID);
+        state.apply(event(1, 4, 2, 300, Event.TYPE_3P), "home");
+        state.apply(event(2, 12, 2, 280, Event.TYPE_FOUL), "away");
+        state.apply(event(3, 12, 2, 260, Event.TYPE_2M), "away");
+
+        assertEquals(3, state.getEventSequence());
+        assertEquals(3, state.getEventCount());
+        assertEquals(2, state.getQuarter());
+        assertEquals(260, state.getGameTimeSeconds());
+        assertEquals(3, state.getHomeScore());
+        assertEquals(0, state.getAwayScore());
+        assertEquals(1, state.getTeamFouls("away"));
+        assertEquals(3, state.getPlayerPoints(4));
+        assertEquals(1, state.getPlayerFouls(12));
+        assertEquals(Collections.singletonList(12), state.getPlayerIds("away"));
+    }
+
+    @Test
+    public void bonusAfterFiveTeamFoulsInAQuarter() {
+        GameState state = GameState.start(GAME_ID);
+        for (int i = 1; i <= LineScore.BONUS_FOUL_LIMIT; i++) {
+            assertFalse(state.isInBonus("home"));
+            state.apply(event(i, i, 3, 500 - i, Event.TYPE_FOUL), "home");
+        }
+        assertTrue(state.isInBonus("home"));
+
+        state.apply(event(6, 11, 4, 600, Event.TYPE_DR), "away");
+        assertFalse(state.isInBonus("home"));
+    }
+
+    @Test
+    public void checkpointPlusRemainingEventsEqualsFullReplay() {
+        List<Event> events = game(120);
+        GameState full = replay(GameState.start(GAME_ID), events, 0, events.size());
+
+        for (int split = 0; split <= events.size(); split++) {
+            GameState prefix = replay(GameState.start(GAME_ID), events, 0, split);
+            GameState restored = GameState.restore(GAME_ID, prefix.getEventSequence(), prefix.getEventCount(),
+                prefix.getQuarter(), prefix.getGameTimeSeconds(),
+                prefix.encodeTeamQuarters(), prefix.encodePlayerLines());
+            assertSameState(prefix, restored);
+
+            assertSameState(full, replay(restored, events, split, events.size()));
+        }
+    }
+
+    @Test
+    public void emptyCheckpointRestoresTheStartState() {
+        GameState restored = GameState.restore(GAME_ID, 0, 0, 1, 600, "", "");
+        assertSameState(GameState.start(GAME_ID), restored);
+        assertEquals("", restored.encodeTeamQuarters());
+        assertEquals("", restored.encodePlayerLines());
+    }
+
+    // ========== HELPERS ==========
+
+    // Sequences with gaps (deleted events keep theirs), four quarters, both sides
+    private static List<Event> game(int count) {
+        List<Event> events = new ArrayList<>();
+        int sequence = 0;
+        for (int i = 0; i < count; i++) {
+            sequence += i % 7 == 3 ? 2 : 1;
+            int quarter = 1 + i * 4 / count;
+            int playerId = i % 2 == 0 ? 1 + i % 5 : 11 + i % 5;
+            events.add(event(sequence, playerId, quarter, 600 - (i * 17) % 600, TYPES[i % TYPES.length]));
+        }
+        return events;
+    }
+
+    private static GameState replay(GameState state, List<Event> events, int from, int to) {
+        for (Event event : events.subList(from, to)) {
+            state.apply(event, event.getPlayerId() > 10 ? "away" : "home");
+        }
+        return state;
+    }
+
+    private static Event event(int sequence, int playerId, int quarter, int gameTimeSeconds, String type) {
+        Event event = new Event(GAME_ID, playerId, playerId > 10 ? "Warriors" : "Lakers", quarter,
+                                gameTimeSeconds, type);
+        event.setEventSequence(sequence);
+        return event;
+    }
+
+    private static void assertSameState(GameState expected, GameState actual) {
+        assertEquals(expected.getEventSequence(), actual.getEventSequence());
+        assertEquals(expected.getEventCount(), actual.getEventCount());
+        assertEquals(expected.getQuarter(), actual.getQuarter());
+        assertEquals(expected.getGameTimeSeconds(), actual.getGameTimeSeconds());
+        for (String side : new String[]{"home", "away"}) {
+            assertEquals(expected.getLineScore().formatLine(side), actual.getLineScore().formatLine(side));
+            assertEquals(expected.getLineScore().getTotalPoints(side), actual.getLineScore().getTotalPoints(side));
+            for (int q = 1; q <= 4; q++) {
+                assertEquals(expected.getLineScore().getFouls(side, q), actual.getLineScore().getFouls(side, q));
+            }
+            List<Integer> expectedIds = new ArrayList<>(expected.getPlayerIds(side));
+            List<Integer> actualIds = new ArrayList<>(actual.getPlayerIds(side));
+            Collections.sort(expectedIds);
+            Collections.sort(actualIds);
+            assertEquals(expectedIds, actualIds);
+            for (Integer playerId : expectedIds) {
+                assertEquals(expected.getPlayerPoints(playerId), actual.getPlayerPoints(playerId));
+                assertEquals(expected.getPlayerFouls(playerId), actual.getPlayerFouls(playerId));
+            }
+        }
+    }
+}